@@ -0,0 +1,24 @@
+package com.example.common.messaging;
+
+import java.util.UUID;
+
+/**
+ * Message exchanged over the {@link MessageBroker}.
+ *
+ * Commands carry the destination replies must be sent to; replies echo the command's correlation id.
+ */
+public record BrokerMessage(
+        String messageId,
+        String correlationId,
+        String type,
+        String replyTo,
+        String payload
+) {
+    public static BrokerMessage command(String correlationId, String type, String replyTo, String payload) {
+        return new BrokerMessage(UUID.randomUUID().toString(), correlationId, type, replyTo, payload);
+    }
+
+    public BrokerMessage reply(String type, String payload) {
+        return new BrokerMessage(UUID.randomUUID().toString(), correlationId, type, null, payload);
+    }
+}
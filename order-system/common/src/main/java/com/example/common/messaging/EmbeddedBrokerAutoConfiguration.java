@@ -0,0 +1,32 @@
+package com.example.common.messaging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jms.artemis.ArtemisAutoConfiguration;
+import org.springframework.boot.autoconfigure.jms.artemis.ArtemisConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Exposes an embedded Artemis broker over TCP so services in other processes can exchange
+ * SAGA commands and replies with the service hosting it (messaging profile of the order service).
+ */
+@AutoConfiguration(before = ArtemisAutoConfiguration.class)
+@ConditionalOnClass(name = "org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ")
+@ConditionalOnProperty(name = "spring.artemis.embedded.enabled", havingValue = "true")
+public class EmbeddedBrokerAutoConfiguration {
+
+    @Bean
+    public ArtemisConfigurationCustomizer tcpAcceptorCustomizer(
+            @Value("${messaging.embedded.tcp-acceptor:tcp://0.0.0.0:61616}") String acceptorUrl
+    ) {
+        return configuration -> {
+            try {
+                configuration.addAcceptorConfiguration("tcp", acceptorUrl);
+            } catch (Exception e) {
+                throw new IllegalStateException("Invalid Artemis acceptor URL: " + acceptorUrl, e);
+            }
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.common.messaging;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * In-process broker stand-in for tests and single-JVM runs, enabled with messaging.broker=in-memory.
+ *
+ * Messages are delivered asynchronously on a dedicated pool, round-robin across a destination's
+ * subscribers. Messages sent before anyone subscribes are queued and delivered on the first subscribe.
+ * Nothing leaves the JVM, so services running in separate processes cannot reach each other through it.
+ */
+public class InMemoryMessageBroker implements MessageBroker {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryMessageBroker.class);
+
+    private final Map<String, Destination> destinations = new ConcurrentHashMap<>();
+    private final ExecutorService deliveryExecutor;
+
+    public InMemoryMessageBroker(int deliveryThreads) {
+        this(Executors.newFixedThreadPool(deliveryThreads, namedThreads()));
+    }
+
+    public InMemoryMessageBroker(ExecutorService deliveryExecutor) {
+        this.deliveryExecutor = deliveryExecutor;
+    }
+
+    @Override
+    public void send(String destination, BrokerMessage message) {
+        Consumer<BrokerMessage> handler = destination(destination).nextHandlerOrEnqueue(message);
+        if (handler != null) {
+            deliver(destination, handler, message);
+        }
+    }
+
+    @Override
+    public void subscribe(String destination, Consumer<BrokerMessage> handler) {
+        for (BrokerMessage pending : destination(destination).addHandler(handler)) {
+            deliver(destination, handler, pending);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deliveryExecutor.shutdown();
+    }
+
+    private Destination destination(String name) {
+        return destinations.computeIfAbsent(name, n -> new Destination());
+    }
+
+    private void deliver(String destination, Consumer<BrokerMessage> handler, BrokerMessage message) {
+        deliveryExecutor.execute(() -> {
+            try {
+                handler.accept(message);
+            } catch (Exception e) {
+                log.error("Handler for {} failed on message {}", destination, message.messageId(), e);
+            }
+        });
+    }
+
+    private static ThreadFactory namedThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "broker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Destination {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<Consumer<BrokerMessage>> handlers = new ArrayList<>();
+        private final Deque<BrokerMessage> pending = new ArrayDeque<>();
+        private int next;
+
+        Consumer<BrokerMessage> nextHandlerOrEnqueue(BrokerMessage message) {
+            lock.lock();
+            try {
+                if (handlers.isEmpty()) {
+                    pending.add(message);
+                    return null;
+                }
+                return handlers.get(next++ % handlers.size());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<BrokerMessage> addHandler(Consumer<BrokerMessage> handler) {
+            lock.lock();
+            try {
+                handlers.add(handler);
+                List<BrokerMessage> drained = new ArrayList<>(pending);
+                pending.clear();
+                return drained;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
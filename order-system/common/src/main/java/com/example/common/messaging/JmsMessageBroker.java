@@ -0,0 +1,89 @@
+package com.example.common.messaging;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageListener;
+import jakarta.jms.TextMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * JMS (ActiveMQ Artemis) broker adapter, the default broker of the messaging SAGA transport.
+ *
+ * Destinations are queues; each subscription gets its own listener container.
+ */
+public class JmsMessageBroker implements MessageBroker {
+
+    static final String TYPE_PROPERTY = "messageType";
+    static final String REPLY_TO_PROPERTY = "replyDestination";
+
+    private static final Logger log = LoggerFactory.getLogger(JmsMessageBroker.class);
+
+    private final JmsTemplate jmsTemplate;
+    private final ConnectionFactory connectionFactory;
+    private final String concurrency;
+    private final List<DefaultMessageListenerContainer> containers = new CopyOnWriteArrayList<>();
+
+    public JmsMessageBroker(
+            JmsTemplate jmsTemplate,
+            ConnectionFactory connectionFactory,
+            String concurrency
+    ) {
+        this.jmsTemplate = jmsTemplate;
+        this.connectionFactory = connectionFactory;
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public void send(String destination, BrokerMessage message) {
+        jmsTemplate.send(destination, session -> {
+            TextMessage jmsMessage = session.createTextMessage(message.payload());
+            jmsMessage.setJMSCorrelationID(message.correlationId());
+            jmsMessage.setStringProperty(TYPE_PROPERTY, message.type());
+            if (message.replyTo() != null) {
+                jmsMessage.setStringProperty(REPLY_TO_PROPERTY, message.replyTo());
+            }
+            return jmsMessage;
+        });
+    }
+
+    @Override
+    public void subscribe(String destination, Consumer<BrokerMessage> handler) {
+        DefaultMessageListenerContainer container = new DefaultMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setDestinationName(destination);
+        container.setConcurrency(concurrency);
+        container.setMessageListener((MessageListener) message -> handler.accept(toBrokerMessage(message)));
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+        log.info("Subscribed to JMS destination: {}", destination);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        containers.forEach(DefaultMessageListenerContainer::shutdown);
+    }
+
+    static BrokerMessage toBrokerMessage(Message message) {
+        try {
+            return new BrokerMessage(
+                    message.getJMSMessageID(),
+                    message.getJMSCorrelationID(),
+                    message.getStringProperty(TYPE_PROPERTY),
+                    message.getStringProperty(REPLY_TO_PROPERTY),
+                    message.getBody(String.class)
+            );
+        } catch (JMSException e) {
+            throw new IllegalStateException("Unreadable JMS message", e);
+        }
+    }
+}
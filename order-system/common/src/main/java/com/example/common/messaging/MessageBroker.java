@@ -0,0 +1,21 @@
+package com.example.common.messaging;
+
+import java.util.function.Consumer;
+
+/**
+ * Point-to-point message transport used for SAGA commands and replies.
+ *
+ * Each message sent to a destination is delivered to exactly one of its subscribers.
+ */
+public interface MessageBroker {
+
+    /**
+     * Send a message to a destination.
+     */
+    void send(String destination, BrokerMessage message);
+
+    /**
+     * Register a handler for messages sent to a destination.
+     */
+    void subscribe(String destination, Consumer<BrokerMessage> handler);
+}
@@ -0,0 +1,54 @@
+package com.example.common.messaging;
+
+import jakarta.jms.ConnectionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jms.JmsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jms.artemis.ArtemisAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.core.JmsTemplate;
+
+/**
+ * {@link MessageBroker} for services taking part in the messaging SAGA transport (saga.transport=messaging).
+ *
+ * The broker defaults to JMS, the only one that reaches services in other processes;
+ * messaging.broker=in-memory is meant for tests and single-JVM runs.
+ */
+@AutoConfiguration(after = {ArtemisAutoConfiguration.class, JmsAutoConfiguration.class})
+@ConditionalOnProperty(name = "saga.transport", havingValue = "messaging")
+public class MessagingAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(MessagingAutoConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean(MessageBroker.class)
+    @ConditionalOnProperty(name = "messaging.broker", havingValue = "in-memory")
+    public InMemoryMessageBroker inMemoryMessageBroker(
+            @Value("${messaging.in-memory.delivery-threads:4}") int deliveryThreads
+    ) {
+        log.warn("Using the in-memory message broker: SAGA messages only reach subscribers in this JVM");
+        return new InMemoryMessageBroker(deliveryThreads);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(JmsTemplate.class)
+    @ConditionalOnProperty(name = "messaging.broker", havingValue = "jms", matchIfMissing = true)
+    static class JmsBrokerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(MessageBroker.class)
+        public JmsMessageBroker jmsMessageBroker(
+                JmsTemplate jmsTemplate,
+                ConnectionFactory connectionFactory,
+                @Value("${messaging.jms.concurrency:1-8}") String concurrency
+        ) {
+            return new JmsMessageBroker(jmsTemplate, connectionFactory, concurrency);
+        }
+    }
+}
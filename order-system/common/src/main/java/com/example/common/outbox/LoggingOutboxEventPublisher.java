@@ -0,0 +1,18 @@
+package com.example.common.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default publisher that only logs relayed events, until a message broker is configured.
+ */
+public class LoggingOutboxEventPublisher implements OutboxEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingOutboxEventPublisher.class);
+
+    @Override
+    public void publish(OutboxEvent event) {
+        log.info("Outbox event {} for {} {}: {}",
+                event.eventType(), event.aggregateType(), event.aggregateId(), event.payload());
+    }
+}
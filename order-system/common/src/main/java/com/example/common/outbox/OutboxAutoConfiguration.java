@@ -0,0 +1,69 @@
+package com.example.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Transactional outbox for every service with a {@link JdbcTemplate}: the writer used inside aggregate
+ * transactions, the relay (outbox.relay.*) and the retention purge (outbox.retention.*).
+ */
+@AutoConfiguration(after = {JdbcTemplateAutoConfiguration.class, JacksonAutoConfiguration.class})
+@ConditionalOnBean(JdbcTemplate.class)
+public class OutboxAutoConfiguration {
+
+    @Bean
+    public OutboxEventWriter outboxEventWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        return new OutboxEventWriter(jdbcTemplate, objectMapper);
+    }
+
+    @Bean
+    public OutboxEventStore outboxEventStore(JdbcTemplate jdbcTemplate) {
+        return new OutboxEventStore(jdbcTemplate);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxEventPublisher.class)
+    @ConditionalOnProperty(name = "outbox.publisher", havingValue = "log", matchIfMissing = true)
+    public LoggingOutboxEventPublisher loggingOutboxEventPublisher() {
+        return new LoggingOutboxEventPublisher();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(
+            OutboxEventStore store,
+            OutboxEventPublisher publisher,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.instance-id:#{null}}") String instanceId,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.relay.max-batches-per-poll:10}") int maxBatchesPerPoll,
+            @Value("${outbox.relay.claim-timeout:30s}") Duration claimTimeout
+    ) {
+        return new OutboxRelay(store, publisher, meterRegistry,
+                instanceId != null ? instanceId : UUID.randomUUID().toString(),
+                batchSize, maxBatchesPerPoll, claimTimeout);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.retention.enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRetention outboxRetention(
+            OutboxEventStore store,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.retention.published-ttl:7d}") Duration publishedTtl,
+            @Value("${outbox.retention.batch-size:1000}") int batchSize
+    ) {
+        return new OutboxRetention(store, meterRegistry, publishedTtl, batchSize);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.common.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * A domain event read from the outbox, ready to be published.
+ * Consumers should de-duplicate on {@code eventId}: delivery is at-least-once.
+ */
+public record OutboxEvent(
+        String eventId,
+        String aggregateType,
+        String aggregateId,
+        String eventType,
+        String payload,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,12 @@
+package com.example.common.outbox;
+
+/**
+ * Destination for events drained from the outbox by {@link OutboxRelay}.
+ */
+public interface OutboxEventPublisher {
+
+    /**
+     * Publish a single event. Throwing stops the current batch; the event is retried on the next poll.
+     */
+    void publish(OutboxEvent event);
+}
@@ -0,0 +1,92 @@
+package com.example.common.outbox;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Relay-side access to the outbox table.
+ *
+ * Unpublished rows are claimed by setting {@code claimed_by}/{@code claimed_until} with a conditional
+ * UPDATE, so relays on several instances never publish the same row; a claim left by a crashed
+ * instance expires and the row is claimed again.
+ */
+public class OutboxEventStore {
+
+    private static final String CLAIM_SQL = "UPDATE outbox_events SET claimed_by = ?, claimed_until = ? "
+            + "WHERE id IN (SELECT id FROM outbox_events "
+            + "WHERE published_at IS NULL AND (claimed_until IS NULL OR claimed_until < ?) "
+            + "ORDER BY id LIMIT ?) "
+            + "AND published_at IS NULL AND (claimed_until IS NULL OR claimed_until < ?)";
+    private static final String SELECT_CLAIMED_SQL = "SELECT id, event_id, aggregate_type, aggregate_id, "
+            + "event_type, payload, created_at FROM outbox_events "
+            + "WHERE claimed_by = ? AND published_at IS NULL ORDER BY id";
+    private static final String MARK_PUBLISHED_SQL = "UPDATE outbox_events "
+            + "SET published_at = ?, claimed_by = NULL, claimed_until = NULL WHERE id = ?";
+    private static final String RELEASE_SQL = "UPDATE outbox_events SET claimed_by = NULL, claimed_until = NULL "
+            + "WHERE claimed_by = ? AND published_at IS NULL";
+    private static final String DELETE_PUBLISHED_SQL = "DELETE FROM outbox_events WHERE id IN "
+            + "(SELECT id FROM outbox_events WHERE published_at < ? ORDER BY id LIMIT ?)";
+
+    private static final RowMapper<ClaimedEvent> CLAIMED_EVENT_MAPPER = (rs, rowNum) -> new ClaimedEvent(
+            rs.getLong("id"),
+            new OutboxEvent(
+                    rs.getString("event_id"),
+                    rs.getString("aggregate_type"),
+                    rs.getString("aggregate_id"),
+                    rs.getString("event_type"),
+                    rs.getString("payload"),
+                    rs.getTimestamp("created_at").toLocalDateTime()
+            )
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxEventStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * An outbox row claimed by a relay.
+     */
+    public record ClaimedEvent(long id, OutboxEvent event) {}
+
+    /**
+     * Claim up to {@code limit} of the oldest unpublished, unclaimed rows for {@code owner} until
+     * {@code claimedUntil}, and return the rows the owner holds, in id order.
+     */
+    public List<ClaimedEvent> claim(String owner, int limit, LocalDateTime now, LocalDateTime claimedUntil) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+        int claimed = jdbcTemplate.update(CLAIM_SQL, owner, Timestamp.valueOf(claimedUntil), nowTs, limit, nowTs);
+        if (claimed == 0) {
+            return Collections.emptyList();
+        }
+        return jdbcTemplate.query(SELECT_CLAIMED_SQL, CLAIMED_EVENT_MAPPER, owner);
+    }
+
+    public void markPublished(List<Long> ids, LocalDateTime publishedAt) {
+        Timestamp publishedAtTs = Timestamp.valueOf(publishedAt);
+        jdbcTemplate.batchUpdate(MARK_PUBLISHED_SQL, ids.stream()
+                .map(id -> new Object[]{publishedAtTs, id})
+                .toList());
+    }
+
+    /**
+     * Give back the owner's unpublished rows so the next poll can claim them again.
+     */
+    public void release(String owner) {
+        jdbcTemplate.update(RELEASE_SQL, owner);
+    }
+
+    /**
+     * Delete up to {@code limit} rows published before {@code cutoff}.
+     * @return number of rows deleted
+     */
+    public int deletePublishedBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(DELETE_PUBLISHED_SQL, Timestamp.valueOf(cutoff), limit);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Appends domain events to the outbox table.
+ * Must be called inside the transaction that saves the aggregate, so events and state commit together.
+ */
+public class OutboxEventWriter {
+
+    static final String INSERT_SQL = "INSERT INTO outbox_events "
+            + "(event_id, aggregate_type, aggregate_id, event_type, payload, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void append(String aggregateType, String aggregateId, List<?> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = events.stream()
+                .map(event -> new Object[]{
+                        UUID.randomUUID().toString(),
+                        aggregateType,
+                        aggregateId,
+                        event.getClass().getSimpleName(),
+                        serialize(event),
+                        createdAt
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize domain event: " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drains the outbox table in id order and hands each event to the {@link OutboxEventPublisher}.
+ *
+ * Each poll relays up to {@code max-batches-per-poll} batches of {@code batch-size} events. A batch is
+ * claimed for this instance for {@code claim-timeout} before publishing, so other instances skip it.
+ * A failed publish stops the batch so ordering is kept; the rest of the batch is released and
+ * retried on the next poll.
+ */
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventStore store;
+    private final OutboxEventPublisher publisher;
+    private final String instanceId;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration claimTimeout;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+
+    public OutboxRelay(
+            OutboxEventStore store,
+            OutboxEventPublisher publisher,
+            MeterRegistry meterRegistry,
+            String instanceId,
+            int batchSize,
+            int maxBatchesPerPoll,
+            Duration claimTimeout
+    ) {
+        this.store = store;
+        this.publisher = publisher;
+        this.instanceId = instanceId;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.claimTimeout = claimTimeout;
+        this.publishedCounter = Counter.builder("outbox.relay.published")
+                .description("Outbox events published by the relay")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay.failed")
+                .description("Outbox publish attempts that failed and will be retried")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:1000}")
+    public void poll() {
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            if (relayBatch() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Relay one batch.
+     * @return number of events published
+     */
+    int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEventStore.ClaimedEvent> batch = store.claim(instanceId, batchSize, now, now.plus(claimTimeout));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> publishedIds = new ArrayList<>(batch.size());
+        boolean failed = false;
+        for (OutboxEventStore.ClaimedEvent claimed : batch) {
+            try {
+                publisher.publish(claimed.event());
+                publishedIds.add(claimed.id());
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.warn("Failed to publish outbox event {}, will retry: {}", claimed.event().eventId(), e.getMessage());
+                failed = true;
+                break;
+            }
+        }
+
+        if (!publishedIds.isEmpty()) {
+            store.markPublished(publishedIds, LocalDateTime.now());
+            publishedCounter.increment(publishedIds.size());
+        }
+        if (failed) {
+            store.release(instanceId);
+        }
+        return publishedIds.size();
+    }
+}
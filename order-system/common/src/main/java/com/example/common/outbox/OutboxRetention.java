@@ -0,0 +1,49 @@
+package com.example.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Deletes outbox rows published more than {@code published-ttl} ago, in chunks of {@code batch-size},
+ * so the table only holds unpublished events and a short replay window.
+ */
+public class OutboxRetention {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRetention.class);
+
+    private final OutboxEventStore store;
+    private final Duration publishedTtl;
+    private final int batchSize;
+    private final Counter deletedCounter;
+
+    public OutboxRetention(OutboxEventStore store, MeterRegistry meterRegistry, Duration publishedTtl, int batchSize) {
+        this.store = store;
+        this.publishedTtl = publishedTtl;
+        this.batchSize = batchSize;
+        this.deletedCounter = Counter.builder("outbox.retention.deleted")
+                .description("Published outbox events deleted after the retention period")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.retention.cleanup-interval-ms:600000}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(publishedTtl);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = store.deletePublishedBefore(cutoff, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            deletedCounter.increment(total);
+            log.info("Deleted {} outbox events published before {}", total, cutoff);
+        }
+    }
+}
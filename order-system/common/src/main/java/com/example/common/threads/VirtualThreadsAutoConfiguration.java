@@ -0,0 +1,24 @@
+package com.example.common.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Pinning monitor for services running with spring.threads.virtual.enabled=true.
+ */
+@AutoConfiguration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsAutoConfiguration {
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${threads.virtual.pinned-threshold-ms:20}") long thresholdMs
+    ) {
+        return new VirtualThreadPinningMonitor(meterRegistry, thresholdMs);
+    }
+}
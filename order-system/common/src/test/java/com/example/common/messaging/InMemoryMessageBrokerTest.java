@@ -0,0 +1,93 @@
+package com.example.common.messaging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryMessageBroker 測試")
+class InMemoryMessageBrokerTest {
+
+    private InMemoryMessageBroker broker;
+
+    @BeforeEach
+    void setUp() {
+        broker = new InMemoryMessageBroker(Executors.newFixedThreadPool(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.shutdown();
+    }
+
+    @Test
+    @DisplayName("訊息應非同步送達訂閱者")
+    void send_shouldDeliverToSubscriber() throws InterruptedException {
+        // Arrange
+        CountDownLatch delivered = new CountDownLatch(1);
+        List<BrokerMessage> received = new CopyOnWriteArrayList<>();
+        broker.subscribe("payment.commands", message -> {
+            received.add(message);
+            delivered.countDown();
+        });
+        BrokerMessage command = BrokerMessage.command("ORD-00000001:AuthorizePayment", "AuthorizePayment",
+                "order.saga.replies", "{}");
+
+        // Act
+        broker.send("payment.commands", command);
+
+        // Assert
+        assertTrue(delivered.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(command), received);
+    }
+
+    @Test
+    @DisplayName("訂閱前送出的訊息應在訂閱時送達")
+    void subscribe_shouldDeliverMessagesSentBeforeSubscription() throws InterruptedException {
+        // Arrange
+        CountDownLatch delivered = new CountDownLatch(2);
+        broker.send("inventory.commands", BrokerMessage.command("a", "DeductStock", null, "{}"));
+        broker.send("inventory.commands", BrokerMessage.command("b", "DeductStock", null, "{}"));
+
+        // Act
+        broker.subscribe("inventory.commands", message -> delivered.countDown());
+
+        // Assert
+        assertTrue(delivered.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("每則訊息只應送達一個訂閱者")
+    void send_multipleSubscribers_shouldDeliverEachMessageOnce() throws InterruptedException {
+        // Arrange
+        CountDownLatch delivered = new CountDownLatch(4);
+        List<String> first = new CopyOnWriteArrayList<>();
+        List<String> second = new CopyOnWriteArrayList<>();
+        broker.subscribe("payment.commands", message -> {
+            first.add(message.correlationId());
+            delivered.countDown();
+        });
+        broker.subscribe("payment.commands", message -> {
+            second.add(message.correlationId());
+            delivered.countDown();
+        });
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            broker.send("payment.commands", BrokerMessage.command("c" + i, "CapturePayment", null, "{}"));
+        }
+
+        // Assert
+        assertTrue(delivered.await(2, TimeUnit.SECONDS));
+        assertEquals(2, first.size());
+        assertEquals(2, second.size());
+    }
+}
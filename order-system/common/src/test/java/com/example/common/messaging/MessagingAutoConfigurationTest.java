@@ -0,0 +1,42 @@
+package com.example.common.messaging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jms.JmsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jms.artemis.ArtemisAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MessagingAutoConfiguration 測試")
+class MessagingAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ArtemisAutoConfiguration.class, JmsAutoConfiguration.class, MessagingAutoConfiguration.class));
+
+    @Test
+    @DisplayName("未使用訊息傳輸時不應建立 broker")
+    void httpTransport_shouldNotCreateBroker() {
+        contextRunner
+                .withPropertyValues("saga.transport=http")
+                .run(context -> assertThat(context).doesNotHaveBean(MessageBroker.class));
+    }
+
+    @Test
+    @DisplayName("訊息傳輸預設應使用可跨行程的 JMS broker")
+    void messagingTransport_shouldDefaultToJms() {
+        contextRunner
+                .withPropertyValues("saga.transport=messaging")
+                .run(context -> assertThat(context).getBean(MessageBroker.class).isInstanceOf(JmsMessageBroker.class));
+    }
+
+    @Test
+    @DisplayName("明確指定 in-memory 時應使用行程內 broker")
+    void inMemoryBroker_shouldBeOptIn() {
+        contextRunner
+                .withPropertyValues("saga.transport=messaging", "messaging.broker=in-memory")
+                .run(context -> assertThat(context).getBean(MessageBroker.class).isInstanceOf(InMemoryMessageBroker.class));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.common.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OutboxEventStore 測試")
+class OutboxEventStoreTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private OutboxEventStore store;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("outbox-schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        store = new OutboxEventStore(jdbcTemplate);
+        for (int i = 1; i <= 5; i++) {
+            jdbcTemplate.update(OutboxEventWriter.INSERT_SQL,
+                    "EVT-" + i, "Order", "ORD-" + i, "OrderCompleted", "{}", NOW.minusMinutes(10));
+        }
+    }
+
+    @Test
+    @DisplayName("兩個實例認領時不應取得相同的事件")
+    void claim_twoInstances_shouldNotShareRows() {
+        // Act
+        List<OutboxEventStore.ClaimedEvent> first = store.claim("node-a", 3, NOW, NOW.plusSeconds(30));
+        List<OutboxEventStore.ClaimedEvent> second = store.claim("node-b", 3, NOW, NOW.plusSeconds(30));
+
+        // Assert
+        assertEquals(List.of("EVT-1", "EVT-2", "EVT-3"), eventIds(first));
+        assertEquals(List.of("EVT-4", "EVT-5"), eventIds(second));
+        assertTrue(store.claim("node-c", 3, NOW, NOW.plusSeconds(30)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("認領逾期後其他實例應可重新認領")
+    void claim_expiredClaim_shouldBeReclaimed() {
+        store.claim("node-a", 2, NOW, NOW.plusSeconds(30));
+
+        List<OutboxEventStore.ClaimedEvent> reclaimed = store.claim("node-b", 2, NOW.plusSeconds(31), NOW.plusSeconds(61));
+
+        assertEquals(List.of("EVT-1", "EVT-2"), eventIds(reclaimed));
+    }
+
+    @Test
+    @DisplayName("已發布的事件不應再被認領，釋放的事件可再認領")
+    void markPublishedAndRelease_shouldControlReclaim() {
+        // Arrange
+        List<OutboxEventStore.ClaimedEvent> claimed = store.claim("node-a", 2, NOW, NOW.plusSeconds(30));
+
+        // Act
+        store.markPublished(List.of(claimed.get(0).id()), NOW);
+        store.release("node-a");
+
+        // Assert
+        assertEquals(List.of("EVT-2", "EVT-3"), eventIds(store.claim("node-b", 2, NOW, NOW.plusSeconds(30))));
+    }
+
+    @Test
+    @DisplayName("應只刪除保留期限之前已發布的事件")
+    void deletePublishedBefore_shouldDeleteOnlyOldPublishedRows() {
+        // Arrange
+        List<OutboxEventStore.ClaimedEvent> claimed = store.claim("node-a", 3, NOW, NOW.plusSeconds(30));
+        store.markPublished(List.of(claimed.get(0).id(), claimed.get(1).id()), NOW.minusDays(8));
+        store.markPublished(List.of(claimed.get(2).id()), NOW);
+
+        // Act
+        int deleted = store.deletePublishedBefore(NOW.minusDays(7), 100);
+
+        // Assert
+        assertEquals(2, deleted);
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class));
+    }
+
+    private static List<String> eventIds(List<OutboxEventStore.ClaimedEvent> claimed) {
+        return claimed.stream().map(c -> c.event().eventId()).toList();
+    }
+}
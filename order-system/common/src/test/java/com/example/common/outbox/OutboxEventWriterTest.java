@@ -0,0 +1,65 @@
+package com.example.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxEventWriter 測試")
+class OutboxEventWriterTest {
+
+    record OrderCompleted(String orderId) {}
+
+    record OrderFailed(String orderId, String reason) {}
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private OutboxEventWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new OutboxEventWriter(jdbcTemplate, new ObjectMapper());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("應以單一批次將每個領域事件寫入 outbox")
+    void append_shouldInsertOneRowPerEventInOneBatch() {
+        // Act
+        writer.append("Order", "ORD-00000001",
+                List.of(new OrderCompleted("ORD-00000001"), new OrderFailed("ORD-00000001", "declined")));
+
+        // Assert
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(OutboxEventWriter.INSERT_SQL), captor.capture());
+        List<Object[]> rows = captor.getValue();
+        assertEquals(2, rows.size());
+        assertEquals("Order", rows.get(0)[1]);
+        assertEquals("ORD-00000001", rows.get(0)[2]);
+        assertEquals("OrderCompleted", rows.get(0)[3]);
+        assertEquals("OrderFailed", rows.get(1)[3]);
+        assertNotEquals(rows.get(0)[0], rows.get(1)[0]);
+        assertTrue(((String) rows.get(1)[4]).contains("declined"));
+    }
+
+    @Test
+    @DisplayName("沒有領域事件時不應寫入")
+    void append_noEvents_shouldNotInsert() {
+        writer.append("Order", "ORD-00000001", List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.common.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 測試")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventStore store;
+    @Mock
+    private OutboxEventPublisher publisher;
+
+    private SimpleMeterRegistry registry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(store, publisher, registry, "node-a", 2, 3, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("應以本實例認領批次、依序發布並標記已發布")
+    void relayBatch_shouldClaimPublishAndMarkBatch() {
+        // Arrange
+        when(store.claim(eq("node-a"), eq(2), any(), any())).thenReturn(events(1, 2));
+
+        // Act
+        int published = relay.relayBatch();
+
+        // Assert
+        assertEquals(2, published);
+        verify(publisher, times(2)).publish(any(OutboxEvent.class));
+        verify(store).markPublished(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(store, never()).release(any());
+        assertEquals(2.0, registry.get("outbox.relay.published").counter().count());
+    }
+
+    @Test
+    @DisplayName("發布失敗應停止該批次，只標記已成功的事件並釋放其餘認領")
+    void relayBatch_publishFails_shouldStopMarkPublishedAndRelease() {
+        // Arrange
+        when(store.claim(any(), anyInt(), any(), any())).thenReturn(events(1, 2));
+        doNothing().doThrow(new IllegalStateException("broker down")).when(publisher).publish(any());
+
+        // Act
+        int published = relay.relayBatch();
+
+        // Assert
+        assertEquals(1, published);
+        verify(store).markPublished(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(store).release("node-a");
+        assertEquals(1.0, registry.get("outbox.relay.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("沒有可認領的事件時不應發布或更新")
+    void relayBatch_empty_shouldDoNothing() {
+        // Arrange
+        when(store.claim(any(), anyInt(), any(), any())).thenReturn(List.of());
+
+        // Act
+        int published = relay.relayBatch();
+
+        // Assert
+        assertEquals(0, published);
+        verifyNoInteractions(publisher);
+        verify(store, never()).markPublished(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("每次輪詢最多處理設定的批次數")
+    void poll_shouldDrainUpToMaxBatches() {
+        // Arrange
+        when(store.claim(any(), anyInt(), any(), any()))
+                .thenReturn(events(1, 2))
+                .thenReturn(events(3, 4))
+                .thenReturn(events(5, 6))
+                .thenReturn(events(7, 8));
+
+        // Act
+        relay.poll();
+
+        // Assert
+        verify(store, times(3)).claim(any(), anyInt(), any(), any());
+        verify(publisher, times(6)).publish(any());
+    }
+
+    @Test
+    @DisplayName("批次未滿時應結束本次輪詢")
+    void poll_partialBatch_shouldStop() {
+        // Arrange
+        when(store.claim(any(), anyInt(), any(), any())).thenReturn(events(1, 1));
+
+        // Act
+        relay.poll();
+
+        // Assert
+        verify(store, times(1)).claim(any(), anyInt(), any(), any());
+    }
+
+    private static List<OutboxEventStore.ClaimedEvent> events(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new OutboxEventStore.ClaimedEvent(id, new OutboxEvent(
+                        "EVT-" + id, "Order", "ORD-" + id, "OrderCompleted", "{}", LocalDateTime.now())))
+                .toList();
+    }
+}
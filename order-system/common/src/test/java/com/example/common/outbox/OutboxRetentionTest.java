@@ -0,0 +1,38 @@
+package com.example.common.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRetention 測試")
+class OutboxRetentionTest {
+
+    @Mock
+    private OutboxEventStore store;
+
+    @Test
+    @DisplayName("應分批刪除直到不足一批並計數")
+    void purge_shouldDeleteInChunksUntilDrained() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OutboxRetention retention = new OutboxRetention(store, registry, Duration.ofDays(7), 100);
+        when(store.deletePublishedBefore(any(), eq(100))).thenReturn(100, 100, 40);
+
+        // Act
+        retention.purge();
+
+        // Assert
+        verify(store, times(3)).deletePublishedBefore(any(), eq(100));
+        assertEquals(240.0, registry.get("outbox.retention.deleted").counter().count());
+    }
+}
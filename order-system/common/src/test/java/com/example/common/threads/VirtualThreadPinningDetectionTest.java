@@ -0,0 +1,58 @@
+package com.example.common.threads;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs only on Java 21 ({@code gradle :common:testJava21}); the build itself targets Java 17.
+ */
+@DisplayName("VirtualThreadPinningMonitor Java 21 測試")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningDetectionTest {
+
+    @Test
+    @DisplayName("virtual thread 在 synchronized 區塊內阻塞應被計為 pinned")
+    void blockingInsideSynchronized_shouldBeCountedAsPinned() throws Exception {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(registry, 10);
+        monitor.start();
+        Object lock = new Object();
+
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        try {
+            // Act
+            executor.submit(() -> {
+                synchronized (lock) {
+                    Thread.sleep(50);
+                }
+                return null;
+            }).get(5, TimeUnit.SECONDS);
+
+            // Assert
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (registry.get(VirtualThreadPinningMonitor.PINNED_METRIC).counter().count() == 0
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+            assertTrue(registry.get(VirtualThreadPinningMonitor.PINNED_METRIC).counter().count() >= 1);
+        } finally {
+            executor.shutdownNow();
+            monitor.stop();
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+        // Compiled for Java 17, so the Java 21 factory is looked up reflectively
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+}
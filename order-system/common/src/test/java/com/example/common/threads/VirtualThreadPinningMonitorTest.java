@@ -0,0 +1,47 @@
+package com.example.common.threads;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("VirtualThreadPinningMonitor 測試")
+class VirtualThreadPinningMonitorTest {
+
+    private SimpleMeterRegistry registry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(registry, 20);
+    }
+
+    @Test
+    @DisplayName("建立時應註冊 pinned 計數器且初始為 0")
+    void constructor_shouldRegisterCounter() {
+        assertEquals(0.0, registry.get(VirtualThreadPinningMonitor.PINNED_METRIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("收到 pinned 事件應累加計數器")
+    void onPinned_shouldIncrementCounter() {
+        // Arrange
+        RecordedEvent event = mock(RecordedEvent.class);
+        when(event.getDuration()).thenReturn(Duration.ofMillis(35));
+        when(event.getStackTrace()).thenReturn(null);
+
+        // Act
+        monitor.onPinned(event);
+        monitor.onPinned(event);
+
+        // Assert
+        assertEquals(2.0, registry.get(VirtualThreadPinningMonitor.PINNED_METRIC).counter().count());
+    }
+}
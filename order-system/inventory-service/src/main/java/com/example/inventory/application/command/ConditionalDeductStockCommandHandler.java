@@ -0,0 +1,68 @@
+package com.example.inventory.application.command;
+
+import com.example.inventory.application.port.inbound.DeductStockUseCase;
+import com.example.inventory.application.port.outbound.HotStockStore;
+import com.example.inventory.application.port.outbound.InventoryLogRepository;
+import com.example.inventory.application.port.outbound.ProductRepository;
+import com.example.inventory.domain.model.valueobject.ProductId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Command handler for deducting stock with a single conditional UPDATE.
+ *
+ * The row is never read or locked before the write; the database applies
+ * {@code stock = stock - quantity} only while {@code stock >= quantity}, so hot SKUs are held
+ * locked for one statement instead of a whole read-modify-write cycle.
+ * The deduction is recorded for the order in the same transaction (see {@link StockLedger}); one that
+ * lost a race with the order's rollback is undone by throwing.
+ * Enabled with inventory.deduction.strategy=conditional-update. Hot products go to the {@link HotStockStore}.
+ */
+@Service
+@Transactional
+@ConditionalOnProperty(name = "inventory.deduction.strategy", havingValue = "conditional-update")
+public class ConditionalDeductStockCommandHandler implements DeductStockUseCase {
+
+    private final ProductRepository productRepository;
+    private final HotStockStore hotStockStore;
+    private final StockLedger stockLedger;
+
+    public ConditionalDeductStockCommandHandler(ProductRepository productRepository, HotStockStore hotStockStore,
+            InventoryLogRepository inventoryLogRepository) {
+        this.productRepository = productRepository;
+        this.hotStockStore = hotStockStore;
+        this.stockLedger = new StockLedger(inventoryLogRepository);
+    }
+
+    @Override
+    public DeductResult execute(DeductStockCommand command) {
+        ProductId productId = ProductId.of(command.productId());
+        if (hotStockStore.manages(productId)) {
+            return StockDeductionResults.toDeductResult(command,
+                    hotStockStore.tryDeduct(productId, command.orderId(), command.quantity()));
+        }
+
+        if (stockLedger.isRecorded(command.orderId(), command.productId())) {
+            int currentStock = productRepository.findById(productId)
+                    .orElseThrow(() -> new IllegalArgumentException("Product not found: " + command.productId()))
+                    .getCurrentStock();
+            return new DeductResult(command.productId(), stockLedger.holds(command.orderId(), command.productId()),
+                    stockLedger.repeatedDeductionMessage(command.orderId(), command.productId()), currentStock);
+        }
+
+        ProductRepository.StockDeduction deduction = productRepository
+                .deductIfAvailable(productId, command.orderId(), command.quantity())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Product not found: " + command.productId()));
+        if (deduction.deducted()) {
+            // The UPDATE now holds the row lock, so a rollback that raced the check above is visible here
+            if (stockLedger.isRolledBack(command.orderId(), command.productId())) {
+                throw new IllegalStateException(StockLedger.ALREADY_ROLLED_BACK + command.orderId());
+            }
+            // A concurrent repeat of the same deduction fails here on the log's unique key and rolls back
+            stockLedger.recordDeduction(command.orderId(), command.productId(), command.quantity());
+        }
+        return StockDeductionResults.toDeductResult(command, deduction);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.inventory.application.command;
+
+import java.util.List;
+
+/**
+ * Command to deduct stock for many order lines in one transaction.
+ */
+public record DeductStockBatchCommand(
+        List<DeductStockCommand> lines
+) {}
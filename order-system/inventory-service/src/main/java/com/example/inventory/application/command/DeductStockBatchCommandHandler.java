@@ -0,0 +1,100 @@
+package com.example.inventory.application.command;
+
+import com.example.inventory.application.port.inbound.DeductStockBatchUseCase;
+import com.example.inventory.application.port.inbound.DeductStockUseCase.DeductResult;
+import com.example.inventory.application.port.outbound.HotStockStore;
+import com.example.inventory.application.port.outbound.InventoryLogRepository;
+import com.example.inventory.application.port.outbound.ProductRepository;
+import com.example.inventory.domain.exception.InsufficientStockException;
+import com.example.inventory.domain.model.aggregate.Product;
+import com.example.inventory.domain.model.valueobject.ProductId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Command handler for batch stock deduction.
+ *
+ * All products of the batch are locked with one query in product id order, every line is applied
+ * in request order, and each touched product is saved once. A line that cannot be deducted fails on
+ * its own; the other lines still commit. Each deduction is recorded for its order, and a repeated one
+ * is answered from the record (see {@link StockLedger}). Lines for hot products go to the {@link HotStockStore} and
+ * are released again if the transaction rolls back.
+ */
+@Service
+@Transactional
+public class DeductStockBatchCommandHandler implements DeductStockBatchUseCase {
+
+    private final ProductRepository productRepository;
+    private final HotStockStore hotStockStore;
+    private final StockLedger stockLedger;
+
+    public DeductStockBatchCommandHandler(ProductRepository productRepository, HotStockStore hotStockStore,
+            InventoryLogRepository inventoryLogRepository) {
+        this.productRepository = productRepository;
+        this.hotStockStore = hotStockStore;
+        this.stockLedger = new StockLedger(inventoryLogRepository);
+    }
+
+    @Override
+    public BatchDeductResult execute(DeductStockBatchCommand command) {
+        Map<String, Product> products = lockProducts(command.lines().stream()
+                .map(line -> ProductId.of(line.productId()))
+                .filter(productId -> !hotStockStore.manages(productId))
+                .toList());
+
+        Map<String, Product> touched = new LinkedHashMap<>();
+        HeldHotStock heldHotStock = HeldHotStock.releasedOnRollback(hotStockStore);
+        List<LineResult> results = new ArrayList<>(command.lines().size());
+        for (DeductStockCommand line : command.lines()) {
+            ProductId productId = ProductId.of(line.productId());
+            if (hotStockStore.manages(productId)) {
+                DeductResult result = StockDeductionResults.toDeductResult(line,
+                        hotStockStore.tryDeduct(productId, line.orderId(), line.quantity()));
+                if (result.success()) {
+                    heldHotStock.add(productId, line.orderId(), line.quantity());
+                }
+                results.add(new LineResult(line.orderId(), line.productId(), result.success(),
+                        result.message(), result.remainingStock()));
+                continue;
+            }
+            Product product = products.get(line.productId());
+            if (product == null) {
+                results.add(new LineResult(line.orderId(), line.productId(), false,
+                        "Product not found: " + line.productId(), 0));
+                continue;
+            }
+            if (stockLedger.isRecorded(line.orderId(), line.productId())) {
+                results.add(new LineResult(line.orderId(), line.productId(),
+                        stockLedger.holds(line.orderId(), line.productId()),
+                        stockLedger.repeatedDeductionMessage(line.orderId(), line.productId()),
+                        product.getCurrentStock()));
+                continue;
+            }
+            try {
+                product.deductStock(line.orderId(), line.quantity());
+                stockLedger.recordDeduction(line.orderId(), line.productId(), line.quantity());
+                touched.put(line.productId(), product);
+                results.add(new LineResult(line.orderId(), line.productId(), true,
+                        "Stock deducted successfully", product.getCurrentStock()));
+            } catch (InsufficientStockException e) {
+                results.add(new LineResult(line.orderId(), line.productId(), false,
+                        e.getMessage(), product.getCurrentStock()));
+            }
+        }
+
+        touched.values().forEach(productRepository::save);
+        return new BatchDeductResult(results);
+    }
+
+    private Map<String, Product> lockProducts(List<ProductId> productIds) {
+        return productRepository.findAllByIdsForUpdate(productIds).stream()
+                .collect(Collectors.toMap(product -> product.getProductId().value(), Function.identity()));
+    }
+}
@@ -1,37 +1,58 @@
 package com.example.inventory.application.command;
 
 import com.example.inventory.application.port.inbound.DeductStockUseCase;
+import com.example.inventory.application.port.outbound.HotStockStore;
+import com.example.inventory.application.port.outbound.InventoryLogRepository;
 import com.example.inventory.application.port.outbound.ProductRepository;
 import com.example.inventory.domain.exception.InsufficientStockException;
 import com.example.inventory.domain.model.aggregate.Product;
 import com.example.inventory.domain.model.valueobject.ProductId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for deducting stock.
+ * Locks the product row (SELECT ... FOR UPDATE) and applies the deduction through the aggregate,
+ * recording it for the order; a repeated deduction is answered from the record (see {@link StockLedger}).
+ * Hot products go to the {@link HotStockStore}.
  */
 @Service
 @Transactional
+@ConditionalOnProperty(name = "inventory.deduction.strategy", havingValue = "pessimistic", matchIfMissing = true)
 public class DeductStockCommandHandler implements DeductStockUseCase {
 
     private final ProductRepository productRepository;
+    private final HotStockStore hotStockStore;
+    private final StockLedger stockLedger;
 
-    public DeductStockCommandHandler(ProductRepository productRepository) {
+    public DeductStockCommandHandler(ProductRepository productRepository, HotStockStore hotStockStore,
+            InventoryLogRepository inventoryLogRepository) {
         this.productRepository = productRepository;
+        this.hotStockStore = hotStockStore;
+        this.stockLedger = new StockLedger(inventoryLogRepository);
     }
 
     @Override
     public DeductResult execute(DeductStockCommand command) {
         ProductId productId = ProductId.of(command.productId());
+        if (hotStockStore.manages(productId)) {
+            return StockDeductionResults.toDeductResult(command,
+                    hotStockStore.tryDeduct(productId, command.orderId(), command.quantity()));
+        }
 
         Product product = productRepository.findByIdForUpdate(productId)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Product not found: " + command.productId()));
 
+        if (stockLedger.isRecorded(command.orderId(), command.productId())) {
+            return repeatedDeduction(command, product.getCurrentStock());
+        }
+
         try {
             product.deductStock(command.orderId(), command.quantity());
             productRepository.save(product);
+            stockLedger.recordDeduction(command.orderId(), command.productId(), command.quantity());
             return new DeductResult(
                     command.productId(),
                     true,
@@ -47,4 +68,9 @@ public class DeductStockCommandHandler implements DeductStockUseCase {
             );
         }
     }
+
+    private DeductResult repeatedDeduction(DeductStockCommand command, int currentStock) {
+        return new DeductResult(command.productId(), stockLedger.holds(command.orderId(), command.productId()),
+                stockLedger.repeatedDeductionMessage(command.orderId(), command.productId()), currentStock);
+    }
 }
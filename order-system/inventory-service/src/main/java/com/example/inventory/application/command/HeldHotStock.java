@@ -0,0 +1,58 @@
+package com.example.inventory.application.command;
+
+import com.example.inventory.application.port.outbound.HotStockStore;
+import com.example.inventory.domain.model.valueobject.ProductId;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hot-product lines deducted from the {@link HotStockStore} during one transaction.
+ *
+ * The store's deductions do not take part in the database transaction, so the lines are released
+ * again when it rolls back, e.g. because saving the other products of the order failed.
+ */
+final class HeldHotStock {
+
+    private record Line(ProductId productId, String orderId, int quantity) {
+    }
+
+    private final HotStockStore hotStockStore;
+    private final List<Line> lines = new ArrayList<>();
+
+    private HeldHotStock(HotStockStore hotStockStore) {
+        this.hotStockStore = hotStockStore;
+    }
+
+    /**
+     * Start holding lines; they are released if the current transaction rolls back.
+     */
+    static HeldHotStock releasedOnRollback(HotStockStore hotStockStore) {
+        HeldHotStock held = new HeldHotStock(hotStockStore);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        held.releaseAll();
+                    }
+                }
+            });
+        }
+        return held;
+    }
+
+    void add(ProductId productId, String orderId, int quantity) {
+        lines.add(new Line(productId, orderId, quantity));
+    }
+
+    /**
+     * Give every held line back to the store.
+     */
+    void releaseAll() {
+        lines.forEach(line -> hotStockStore.release(line.productId(), line.orderId(), line.quantity()));
+        lines.clear();
+    }
+}
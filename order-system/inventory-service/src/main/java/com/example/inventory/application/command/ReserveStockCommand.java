@@ -0,0 +1,16 @@
+package com.example.inventory.application.command;
+
+import java.util.List;
+
+/**
+ * Command to reserve stock for every line of one order, all or nothing.
+ */
+public record ReserveStockCommand(
+        String orderId,
+        List<Line> lines
+) {
+    public record Line(
+            String productId,
+            int quantity
+    ) {}
+}
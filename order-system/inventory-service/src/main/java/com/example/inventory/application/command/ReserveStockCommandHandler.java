@@ -0,0 +1,113 @@
+package com.example.inventory.application.command;
+
+import com.example.inventory.application.port.inbound.ReserveStockUseCase;
+import com.example.inventory.application.port.outbound.HotStockStore;
+import com.example.inventory.application.port.outbound.InventoryLogRepository;
+import com.example.inventory.application.port.outbound.ProductRepository;
+import com.example.inventory.domain.exception.InsufficientStockException;
+import com.example.inventory.domain.model.aggregate.Product;
+import com.example.inventory.domain.model.valueobject.ProductId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Command handler for reserving stock for a whole order.
+ *
+ * All products of the order are locked with one query in product id order and the lines are applied
+ * in request order. The first line that cannot be deducted stops the reservation: products are only
+ * saved once every line has succeeded, and lines already taken from the {@link HotStockStore} are
+ * released, so a failed reservation leaves stock unchanged. They are also released when the
+ * transaction rolls back after they were taken. The deductions are recorded for the order once every
+ * line has succeeded, so a repeated reservation is answered from the record (see {@link StockLedger}).
+ */
+@Service
+@Transactional
+public class ReserveStockCommandHandler implements ReserveStockUseCase {
+
+    private final ProductRepository productRepository;
+    private final HotStockStore hotStockStore;
+    private final StockLedger stockLedger;
+
+    public ReserveStockCommandHandler(ProductRepository productRepository, HotStockStore hotStockStore,
+            InventoryLogRepository inventoryLogRepository) {
+        this.productRepository = productRepository;
+        this.hotStockStore = hotStockStore;
+        this.stockLedger = new StockLedger(inventoryLogRepository);
+    }
+
+    @Override
+    public ReserveResult execute(ReserveStockCommand command) {
+        Map<String, Product> products = lockProducts(command.lines().stream()
+                .map(line -> ProductId.of(line.productId()))
+                .filter(productId -> !hotStockStore.manages(productId))
+                .toList());
+
+        Map<String, Product> touched = new LinkedHashMap<>();
+        Map<String, Integer> deducted = new LinkedHashMap<>();
+        HeldHotStock heldHotStock = HeldHotStock.releasedOnRollback(hotStockStore);
+        List<LineResult> results = new ArrayList<>(command.lines().size());
+        for (ReserveStockCommand.Line line : command.lines()) {
+            String failure = reserve(command.orderId(), line, products, touched, deducted, heldHotStock, results);
+            if (failure != null) {
+                heldHotStock.releaseAll();
+                return ReserveResult.failure(command.orderId(), failure);
+            }
+        }
+
+        touched.values().forEach(productRepository::save);
+        deducted.forEach((productId, quantity) -> stockLedger.recordDeduction(command.orderId(), productId, quantity));
+        return new ReserveResult(command.orderId(), true, "Stock reserved successfully", results);
+    }
+
+    /**
+     * Apply one line.
+     * @return null on success, otherwise the reason the line could not be deducted
+     */
+    private String reserve(String orderId, ReserveStockCommand.Line line, Map<String, Product> products,
+                           Map<String, Product> touched, Map<String, Integer> deducted,
+                           HeldHotStock heldHotStock, List<LineResult> results) {
+        ProductId productId = ProductId.of(line.productId());
+        if (hotStockStore.manages(productId)) {
+            ProductRepository.StockDeduction deduction = hotStockStore.tryDeduct(productId, orderId, line.quantity());
+            if (!deduction.deducted()) {
+                return new InsufficientStockException(
+                        line.productId(), line.quantity(), deduction.currentStock()).getMessage();
+            }
+            heldHotStock.add(productId, orderId, line.quantity());
+            results.add(new LineResult(line.productId(), deduction.currentStock()));
+            return null;
+        }
+        Product product = products.get(line.productId());
+        if (product == null) {
+            return "Product not found: " + line.productId();
+        }
+        if (stockLedger.isRecorded(orderId, line.productId())) {
+            if (!stockLedger.holds(orderId, line.productId())) {
+                return StockLedger.ALREADY_ROLLED_BACK + orderId;
+            }
+            results.add(new LineResult(line.productId(), product.getCurrentStock()));
+            return null;
+        }
+        try {
+            product.deductStock(orderId, line.quantity());
+        } catch (InsufficientStockException e) {
+            return e.getMessage();
+        }
+        touched.put(line.productId(), product);
+        deducted.merge(line.productId(), line.quantity(), Integer::sum);
+        results.add(new LineResult(line.productId(), product.getCurrentStock()));
+        return null;
+    }
+
+    private Map<String, Product> lockProducts(List<ProductId> productIds) {
+        return productRepository.findAllByIdsForUpdate(productIds).stream()
+                .collect(Collectors.toMap(product -> product.getProductId().value(), Function.identity()));
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.inventory.application.command;
+
+import java.util.List;
+
+/**
+ * Command to roll back stock for many order lines in one transaction.
+ */
+public record RollbackStockBatchCommand(
+        List<RollbackStockCommand> lines
+) {}
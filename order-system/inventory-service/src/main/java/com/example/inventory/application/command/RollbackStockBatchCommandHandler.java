@@ -0,0 +1,87 @@
+package com.example.inventory.application.command;
+
+import com.example.inventory.application.port.inbound.RollbackStockBatchUseCase;
+import com.example.inventory.application.port.outbound.HotStockStore;
+import com.example.inventory.application.port.outbound.InventoryLogRepository;
+import com.example.inventory.application.port.outbound.ProductRepository;
+import com.example.inventory.domain.model.aggregate.Product;
+import com.example.inventory.domain.model.valueobject.ProductId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Command handler for batch stock rollback.
+ *
+ * Locks the batch's products in product id order with one query and saves each touched product once.
+ * A line returns only what the order's recorded deduction took, once (see {@link StockLedger}).
+ * Lines for hot products go to the {@link HotStockStore}.
+ */
+@Service
+@Transactional
+public class RollbackStockBatchCommandHandler implements RollbackStockBatchUseCase {
+
+    private final ProductRepository productRepository;
+    private final HotStockStore hotStockStore;
+    private final StockLedger stockLedger;
+
+    public RollbackStockBatchCommandHandler(ProductRepository productRepository, HotStockStore hotStockStore,
+            InventoryLogRepository inventoryLogRepository) {
+        this.productRepository = productRepository;
+        this.hotStockStore = hotStockStore;
+        this.stockLedger = new StockLedger(inventoryLogRepository);
+    }
+
+    @Override
+    public BatchRollbackResult execute(RollbackStockBatchCommand command) {
+        Map<String, Product> products = lockProducts(command.lines().stream()
+                .map(line -> ProductId.of(line.productId()))
+                .filter(productId -> !hotStockStore.manages(productId))
+                .toList());
+
+        Map<String, Product> touched = new LinkedHashMap<>();
+        List<LineResult> results = new ArrayList<>(command.lines().size());
+        for (RollbackStockCommand line : command.lines()) {
+            ProductId productId = ProductId.of(line.productId());
+            if (hotStockStore.manages(productId)) {
+                results.add(new LineResult(line.orderId(), line.productId(), true,
+                        "Stock rolled back successfully",
+                        hotStockStore.release(productId, line.orderId(), line.quantity())));
+                continue;
+            }
+            Product product = products.get(line.productId());
+            if (product == null) {
+                results.add(new LineResult(line.orderId(), line.productId(), false,
+                        "Product not found: " + line.productId(), 0));
+                continue;
+            }
+            OptionalInt quantity = stockLedger.toRollBack(line.orderId(), line.productId());
+            if (quantity.isEmpty()) {
+                stockLedger.recordNothingRolledBack(line.orderId(), line.productId());
+                results.add(new LineResult(line.orderId(), line.productId(), true,
+                        StockLedger.NOTHING_TO_ROLL_BACK, product.getCurrentStock()));
+                continue;
+            }
+            product.rollbackStock(line.orderId(), quantity.getAsInt());
+            stockLedger.recordRollback(line.orderId(), line.productId(), quantity.getAsInt());
+            touched.put(line.productId(), product);
+            results.add(new LineResult(line.orderId(), line.productId(), true,
+                    "Stock rolled back successfully", product.getCurrentStock()));
+        }
+
+        touched.values().forEach(productRepository::save);
+        return new BatchRollbackResult(results);
+    }
+
+    private Map<String, Product> lockProducts(List<ProductId> productIds) {
+        return productRepository.findAllByIdsForUpdate(productIds).stream()
+                .collect(Collectors.toMap(product -> product.getProductId().value(), Function.identity()));
+    }
+}
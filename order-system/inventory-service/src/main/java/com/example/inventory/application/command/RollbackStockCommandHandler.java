@@ -1,35 +1,66 @@
 package com.example.inventory.application.command;
 
 import com.example.inventory.application.port.inbound.RollbackStockUseCase;
+import com.example.inventory.application.port.outbound.HotStockStore;
+import com.example.inventory.application.port.outbound.InventoryLogRepository;
 import com.example.inventory.application.port.outbound.ProductRepository;
 import com.example.inventory.domain.model.aggregate.Product;
 import com.example.inventory.domain.model.valueobject.ProductId;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.OptionalInt;
+
 /**
  * Command handler for rolling back stock.
+ * Returns only the quantity the order's recorded deduction took, once; an order without a recorded
+ * deduction of the product has nothing to roll back, and a deduction for it arriving later is refused.
  */
 @Service
 @Transactional
 public class RollbackStockCommandHandler implements RollbackStockUseCase {
 
     private final ProductRepository productRepository;
+    private final HotStockStore hotStockStore;
+    private final StockLedger stockLedger;
 
-    public RollbackStockCommandHandler(ProductRepository productRepository) {
+    public RollbackStockCommandHandler(ProductRepository productRepository, HotStockStore hotStockStore,
+            InventoryLogRepository inventoryLogRepository) {
         this.productRepository = productRepository;
+        this.hotStockStore = hotStockStore;
+        this.stockLedger = new StockLedger(inventoryLogRepository);
     }
 
     @Override
     public RollbackResult execute(RollbackStockCommand command) {
         ProductId productId = ProductId.of(command.productId());
+        if (hotStockStore.manages(productId)) {
+            return new RollbackResult(
+                    command.productId(),
+                    true,
+                    "Stock rolled back successfully",
+                    hotStockStore.release(productId, command.orderId(), command.quantity())
+            );
+        }
 
         Product product = productRepository.findByIdForUpdate(productId)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Product not found: " + command.productId()));
 
-        product.rollbackStock(command.orderId(), command.quantity());
+        OptionalInt quantity = stockLedger.toRollBack(command.orderId(), command.productId());
+        if (quantity.isEmpty()) {
+            stockLedger.recordNothingRolledBack(command.orderId(), command.productId());
+            return new RollbackResult(
+                    command.productId(),
+                    true,
+                    StockLedger.NOTHING_TO_ROLL_BACK,
+                    product.getCurrentStock()
+            );
+        }
+
+        product.rollbackStock(command.orderId(), quantity.getAsInt());
         productRepository.save(product);
+        stockLedger.recordRollback(command.orderId(), command.productId(), quantity.getAsInt());
 
         return new RollbackResult(
                 command.productId(),
@@ -0,0 +1,33 @@
+package com.example.inventory.application.command;
+
+import com.example.inventory.application.port.inbound.DeductStockUseCase;
+import com.example.inventory.application.port.outbound.ProductRepository;
+import com.example.inventory.domain.exception.InsufficientStockException;
+
+/**
+ * Maps deductions that bypass the Product aggregate to use case results.
+ */
+final class StockDeductionResults {
+
+    private StockDeductionResults() {
+    }
+
+    static DeductStockUseCase.DeductResult toDeductResult(
+            DeductStockCommand command, ProductRepository.StockDeduction deduction) {
+        if (!deduction.deducted()) {
+            return new DeductStockUseCase.DeductResult(
+                    command.productId(),
+                    false,
+                    new InsufficientStockException(
+                            command.productId(), command.quantity(), deduction.currentStock()).getMessage(),
+                    deduction.currentStock()
+            );
+        }
+        return new DeductStockUseCase.DeductResult(
+                command.productId(),
+                true,
+                "Stock deducted successfully",
+                deduction.currentStock()
+        );
+    }
+}
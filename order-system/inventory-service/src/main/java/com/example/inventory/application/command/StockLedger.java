@@ -0,0 +1,98 @@
+package com.example.inventory.application.command;
+
+import com.example.inventory.application.port.outbound.InventoryLogRepository;
+import com.example.inventory.application.port.outbound.InventoryLogRepository.InventoryLogEntry;
+import com.example.inventory.domain.model.valueobject.InventoryOperation;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * An order's stock changes on products held in the products table, as recorded in the inventory log.
+ *
+ * A deduction is recorded in the transaction that applies it, so a repeated deduction is answered
+ * from the record instead of deducting again, and a rollback returns only what a recorded deduction
+ * took, once. A rollback that finds no deduction is recorded with quantity 0, so a deduction arriving
+ * after it (a request the order service gave up on) is refused instead of holding stock nobody will
+ * return. Callers hold the product's row lock, which orders a deduction and a rollback of the same
+ * order. Hot products keep the same record through the {@code HotStockStore}'s journal.
+ */
+final class StockLedger {
+
+    static final String ALREADY_DEDUCTED = "Stock already deducted";
+    static final String ALREADY_ROLLED_BACK = "Stock already rolled back for order ";
+    static final String NOTHING_TO_ROLL_BACK = "No recorded deduction to roll back";
+
+    private final InventoryLogRepository inventoryLogRepository;
+
+    StockLedger(InventoryLogRepository inventoryLogRepository) {
+        this.inventoryLogRepository = inventoryLogRepository;
+    }
+
+    /**
+     * Whether the order already has a deduction or a rollback of the product on record, in which case
+     * a deduction must not run again; {@link #holds} then tells whether the order still has the stock.
+     */
+    boolean isRecorded(String orderId, String productId) {
+        return deduction(orderId, productId).isPresent() || isRolledBack(orderId, productId);
+    }
+
+    /**
+     * Whether the order holds a recorded deduction of the product that was not rolled back.
+     */
+    boolean holds(String orderId, String productId) {
+        return deduction(orderId, productId).isPresent() && !isRolledBack(orderId, productId);
+    }
+
+    /**
+     * Answer to a deduction the order already has on record.
+     */
+    String repeatedDeductionMessage(String orderId, String productId) {
+        return holds(orderId, productId) ? ALREADY_DEDUCTED : ALREADY_ROLLED_BACK + orderId;
+    }
+
+    /**
+     * Whether a rollback of the product is already recorded for the order.
+     */
+    boolean isRolledBack(String orderId, String productId) {
+        return inventoryLogRepository
+                .findByOrderAndProductAndOperation(orderId, productId, InventoryOperation.ROLLBACK)
+                .isPresent();
+    }
+
+    /**
+     * Quantity the order's recorded deduction took and has not yet returned; empty if there is none.
+     */
+    OptionalInt toRollBack(String orderId, String productId) {
+        Optional<InventoryLogEntry> deduction = deduction(orderId, productId);
+        if (deduction.isEmpty() || isRolledBack(orderId, productId)) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(deduction.get().quantity());
+    }
+
+    void recordDeduction(String orderId, String productId, int quantity) {
+        inventoryLogRepository.save(
+                InventoryLogEntry.success(orderId, productId, InventoryOperation.DEDUCT, quantity));
+    }
+
+    void recordRollback(String orderId, String productId, int quantity) {
+        inventoryLogRepository.save(
+                InventoryLogEntry.success(orderId, productId, InventoryOperation.ROLLBACK, quantity));
+    }
+
+    /**
+     * Record a rollback that had nothing to return, unless the order already has one on record.
+     */
+    void recordNothingRolledBack(String orderId, String productId) {
+        if (!isRolledBack(orderId, productId)) {
+            recordRollback(orderId, productId, 0);
+        }
+    }
+
+    private Optional<InventoryLogEntry> deduction(String orderId, String productId) {
+        return inventoryLogRepository
+                .findByOrderAndProductAndOperation(orderId, productId, InventoryOperation.DEDUCT)
+                .filter(entry -> "SUCCESS".equals(entry.status()));
+    }
+}
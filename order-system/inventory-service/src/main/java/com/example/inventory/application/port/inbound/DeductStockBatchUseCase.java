@@ -0,0 +1,30 @@
+package com.example.inventory.application.port.inbound;
+
+import com.example.inventory.application.command.DeductStockBatchCommand;
+
+import java.util.List;
+
+/**
+ * Use case for deducting stock for many order lines at once.
+ */
+public interface DeductStockBatchUseCase {
+
+    /**
+     * Deduct stock for every line of the batch.
+     * @param command The batch command
+     * @return One result per line, in request order
+     */
+    BatchDeductResult execute(DeductStockBatchCommand command);
+
+    record BatchDeductResult(
+            List<LineResult> lines
+    ) {}
+
+    record LineResult(
+            String orderId,
+            String productId,
+            boolean success,
+            String message,
+            int remainingStock
+    ) {}
+}
@@ -0,0 +1,34 @@
+package com.example.inventory.application.port.inbound;
+
+import com.example.inventory.application.command.ReserveStockCommand;
+
+import java.util.List;
+
+/**
+ * Use case for reserving stock for a multi-line order in one call.
+ */
+public interface ReserveStockUseCase {
+
+    /**
+     * Deduct stock for every line of the order, or for none of them.
+     * @param command The reserve stock command
+     * @return The reservation result; on success one line result per requested line, in request order
+     */
+    ReserveResult execute(ReserveStockCommand command);
+
+    record ReserveResult(
+            String orderId,
+            boolean success,
+            String message,
+            List<LineResult> lines
+    ) {
+        public static ReserveResult failure(String orderId, String message) {
+            return new ReserveResult(orderId, false, message, List.of());
+        }
+    }
+
+    record LineResult(
+            String productId,
+            int remainingStock
+    ) {}
+}
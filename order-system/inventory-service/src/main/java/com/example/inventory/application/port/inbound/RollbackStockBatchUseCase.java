@@ -0,0 +1,30 @@
+package com.example.inventory.application.port.inbound;
+
+import com.example.inventory.application.command.RollbackStockBatchCommand;
+
+import java.util.List;
+
+/**
+ * Use case for rolling back stock for many order lines at once.
+ */
+public interface RollbackStockBatchUseCase {
+
+    /**
+     * Roll back stock for every line of the batch.
+     * @param command The batch command
+     * @return One result per line, in request order
+     */
+    BatchRollbackResult execute(RollbackStockBatchCommand command);
+
+    record BatchRollbackResult(
+            List<LineResult> lines
+    ) {}
+
+    record LineResult(
+            String orderId,
+            String productId,
+            boolean success,
+            String message,
+            int currentStock
+    ) {}
+}
@@ -0,0 +1,28 @@
+package com.example.inventory.application.port.outbound;
+
+import com.example.inventory.domain.model.valueobject.ProductId;
+
+/**
+ * Port for stock of designated hot products that is held outside the products table.
+ *
+ * While a product is managed here, every deduction and rollback for it must go through this port;
+ * the products table is updated behind it.
+ */
+public interface HotStockStore {
+
+    /**
+     * Whether stock for this product is held by the store.
+     */
+    boolean manages(ProductId productId);
+
+    /**
+     * Deduct stock if enough is available.
+     */
+    ProductRepository.StockDeduction tryDeduct(ProductId productId, String orderId, int quantity);
+
+    /**
+     * Return stock for a failed order.
+     * @return the stock after the rollback
+     */
+    int release(ProductId productId, String orderId, int quantity);
+}
@@ -3,6 +3,8 @@ package com.example.inventory.application.port.outbound;
 import com.example.inventory.domain.model.aggregate.Product;
 import com.example.inventory.domain.model.valueobject.ProductId;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -10,6 +12,14 @@ import java.util.Optional;
  */
 public interface ProductRepository {
 
+    /**
+     * Outcome of a conditional stock deduction.
+     */
+    record StockDeduction(
+            boolean deducted,
+            int currentStock
+    ) {}
+
     /**
      * Save a product.
      */
@@ -24,4 +34,17 @@ public interface ProductRepository {
      * Find a product by its ID with pessimistic lock for stock operations.
      */
     Optional<Product> findByIdForUpdate(ProductId productId);
+
+    /**
+     * Find and pessimistically lock several products in one query.
+     * Rows are locked in product id order so concurrent batches cannot deadlock on each other.
+     */
+    List<Product> findAllByIdsForUpdate(Collection<ProductId> productIds);
+
+    /**
+     * Deduct stock with a single conditional UPDATE, without reading or locking the row first.
+     * Records the StockDeducted event when the deduction is applied.
+     * @return the outcome, or empty if the product does not exist
+     */
+    Optional<StockDeduction> deductIfAvailable(ProductId productId, String orderId, int quantity);
 }
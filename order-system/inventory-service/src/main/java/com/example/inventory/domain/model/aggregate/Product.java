@@ -19,6 +19,7 @@ public class Product {
     private StockQuantity stockQuantity;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long version;
     private final List<DomainEvent> domainEvents = new ArrayList<>();
 
     // Private constructor for factory method
@@ -50,7 +51,8 @@ public class Product {
             String productName,
             StockQuantity stockQuantity,
             LocalDateTime createdAt,
-            LocalDateTime updatedAt
+            LocalDateTime updatedAt,
+            long version
     ) {
         Product product = new Product();
         product.productId = productId;
@@ -58,6 +60,7 @@ public class Product {
         product.stockQuantity = stockQuantity;
         product.createdAt = createdAt;
         product.updatedAt = updatedAt;
+        product.version = version;
         return product;
     }
 
@@ -118,6 +121,20 @@ public class Product {
         return updatedAt;
     }
 
+    /**
+     * Version of the stored row; 0 until the product is first saved.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Record the version written by the repository.
+     */
+    public void markPersisted(long version) {
+        this.version = version;
+    }
+
     public List<DomainEvent> getDomainEvents() {
         return Collections.unmodifiableList(domainEvents);
     }
@@ -0,0 +1,221 @@
+package com.example.inventory.infrastructure.adapter.inbound.messaging;
+
+import com.example.common.messaging.BrokerMessage;
+import com.example.common.messaging.MessageBroker;
+import com.example.inventory.application.command.DeductStockCommand;
+import com.example.inventory.application.command.ReserveStockCommand;
+import com.example.inventory.application.command.RollbackStockBatchCommand;
+import com.example.inventory.application.command.RollbackStockCommand;
+import com.example.inventory.application.port.inbound.DeductStockUseCase;
+import com.example.inventory.application.port.inbound.ReserveStockUseCase;
+import com.example.inventory.application.port.inbound.RollbackStockBatchUseCase;
+import com.example.inventory.application.port.inbound.RollbackStockUseCase;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Messaging entry point for SAGA inventory commands (the REST controller's counterpart).
+ *
+ * Every command gets exactly one reply on the command's reply destination, carrying the command's
+ * correlation id; a command that throws is answered with a failed reply. Enabled with
+ * saga.transport=messaging, matching the order service's transport.
+ */
+@Component
+@ConditionalOnProperty(name = "saga.transport", havingValue = "messaging")
+public class InventoryCommandListener {
+
+    static final String DEDUCT = "DeductStock";
+    static final String ROLLBACK = "RollbackStock";
+    static final String RESERVE = "ReserveStock";
+    static final String ROLLBACK_BATCH = "RollbackStockBatch";
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryCommandListener.class);
+
+    private final MessageBroker messageBroker;
+    private final ObjectMapper objectMapper;
+    private final DeductStockUseCase deductStockUseCase;
+    private final RollbackStockUseCase rollbackStockUseCase;
+    private final ReserveStockUseCase reserveStockUseCase;
+    private final RollbackStockBatchUseCase rollbackStockBatchUseCase;
+    private final String commandDestination;
+
+    public InventoryCommandListener(
+            MessageBroker messageBroker,
+            ObjectMapper objectMapper,
+            DeductStockUseCase deductStockUseCase,
+            RollbackStockUseCase rollbackStockUseCase,
+            ReserveStockUseCase reserveStockUseCase,
+            RollbackStockBatchUseCase rollbackStockBatchUseCase,
+            @Value("${saga.messaging.command-destination:inventory.commands}") String commandDestination
+    ) {
+        this.messageBroker = messageBroker;
+        this.objectMapper = objectMapper;
+        this.deductStockUseCase = deductStockUseCase;
+        this.rollbackStockUseCase = rollbackStockUseCase;
+        this.reserveStockUseCase = reserveStockUseCase;
+        this.rollbackStockBatchUseCase = rollbackStockBatchUseCase;
+        this.commandDestination = commandDestination;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        messageBroker.subscribe(commandDestination, this::onCommand);
+    }
+
+    void onCommand(BrokerMessage command) {
+        log.info("Received {} command: {}", command.type(), command.correlationId());
+
+        Object reply;
+        try {
+            reply = switch (command.type()) {
+                case DEDUCT -> deduct(read(command, StockCommand.class));
+                case ROLLBACK -> rollback(read(command, StockCommand.class));
+                case RESERVE -> reserve(read(command, ReserveCommand.class));
+                case ROLLBACK_BATCH -> rollbackBatch(read(command, RollbackBatchCommand.class));
+                default -> throw new IllegalArgumentException("Unknown command type: " + command.type());
+            };
+        } catch (RuntimeException e) {
+            log.warn("{} command failed: {}", command.type(), e.getMessage());
+            reply = failedReply(command.type(), e.getMessage());
+        }
+
+        if (command.replyTo() == null) {
+            log.warn("No reply destination on {} command: {}", command.type(), command.correlationId());
+            return;
+        }
+        messageBroker.send(command.replyTo(), command.reply(command.type() + "Reply", write(reply)));
+    }
+
+    private DeductReply deduct(StockCommand request) {
+        DeductStockUseCase.DeductResult result = deductStockUseCase.execute(new DeductStockCommand(
+                request.orderId(),
+                request.productId(),
+                request.quantity()
+        ));
+        return new DeductReply(request.productId(), result.success(), result.message(), result.remainingStock());
+    }
+
+    private RollbackReply rollback(StockCommand request) {
+        RollbackStockUseCase.RollbackResult result = rollbackStockUseCase.execute(new RollbackStockCommand(
+                request.orderId(),
+                request.productId(),
+                request.quantity()
+        ));
+        return new RollbackReply(request.productId(), result.success(), result.message(), result.currentStock());
+    }
+
+    private ReserveReply reserve(ReserveCommand request) {
+        ReserveStockUseCase.ReserveResult result = reserveStockUseCase.execute(new ReserveStockCommand(
+                request.orderId(),
+                request.lines().stream()
+                        .map(line -> new ReserveStockCommand.Line(line.productId(), line.quantity()))
+                        .toList()
+        ));
+        return new ReserveReply(result.orderId(), result.success(), result.message(), result.lines().stream()
+                .map(line -> new ReserveLineReply(line.productId(), line.remainingStock()))
+                .toList());
+    }
+
+    private RollbackBatchReply rollbackBatch(RollbackBatchCommand request) {
+        RollbackStockBatchUseCase.BatchRollbackResult result = rollbackStockBatchUseCase.execute(
+                new RollbackStockBatchCommand(request.lines().stream()
+                        .map(line -> new RollbackStockCommand(line.orderId(), line.productId(), line.quantity()))
+                        .toList()));
+        return new RollbackBatchReply(result.lines().stream()
+                .map(line -> new RollbackLineReply(
+                        line.orderId(), line.productId(), line.success(), line.message(), line.currentStock()))
+                .toList());
+    }
+
+    private static Object failedReply(String type, String message) {
+        return switch (type) {
+            case ROLLBACK -> new RollbackReply(null, false, message, 0);
+            case RESERVE -> new ReserveReply(null, false, message, List.of());
+            case ROLLBACK_BATCH -> new RollbackBatchReply(List.of(new RollbackLineReply(null, null, false, message, 0)));
+            default -> new DeductReply(null, false, message, 0);
+        };
+    }
+
+    private <T> T read(BrokerMessage message, Class<T> type) {
+        try {
+            return objectMapper.readValue(message.payload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed " + message.type() + " payload", e);
+        }
+    }
+
+    private String write(Object reply) {
+        try {
+            return objectMapper.writeValueAsString(reply);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize reply", e);
+        }
+    }
+
+    // Command/Reply DTOs (same shapes as the REST API)
+    record StockCommand(
+            String orderId,
+            String productId,
+            int quantity
+    ) {}
+
+    record DeductReply(
+            String productId,
+            boolean success,
+            String message,
+            int remainingStock
+    ) {}
+
+    record RollbackReply(
+            String productId,
+            boolean success,
+            String message,
+            int currentStock
+    ) {}
+
+    record ReserveCommand(
+            String orderId,
+            List<ReserveLine> lines
+    ) {}
+
+    record ReserveLine(
+            String productId,
+            int quantity
+    ) {}
+
+    record ReserveReply(
+            String orderId,
+            boolean success,
+            String message,
+            List<ReserveLineReply> lines
+    ) {}
+
+    record ReserveLineReply(
+            String productId,
+            int remainingStock
+    ) {}
+
+    record RollbackBatchCommand(
+            List<StockCommand> lines
+    ) {}
+
+    record RollbackBatchReply(
+            List<RollbackLineReply> results
+    ) {}
+
+    record RollbackLineReply(
+            String orderId,
+            String productId,
+            boolean success,
+            String message,
+            int currentStock
+    ) {}
+}
@@ -1,8 +1,14 @@
 package com.example.inventory.infrastructure.adapter.inbound.rest;
 
+import com.example.inventory.application.command.DeductStockBatchCommand;
 import com.example.inventory.application.command.DeductStockCommand;
+import com.example.inventory.application.command.ReserveStockCommand;
+import com.example.inventory.application.command.RollbackStockBatchCommand;
 import com.example.inventory.application.command.RollbackStockCommand;
+import com.example.inventory.application.port.inbound.DeductStockBatchUseCase;
 import com.example.inventory.application.port.inbound.DeductStockUseCase;
+import com.example.inventory.application.port.inbound.ReserveStockUseCase;
+import com.example.inventory.application.port.inbound.RollbackStockBatchUseCase;
 import com.example.inventory.application.port.inbound.RollbackStockUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,12 +16,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * REST controller for inventory commands.
  */
@@ -26,15 +36,26 @@ public class InventoryCommandController {
 
     private static final Logger log = LoggerFactory.getLogger(InventoryCommandController.class);
 
+    static final int MAX_BATCH_LINES = 1000;
+
     private final DeductStockUseCase deductStockUseCase;
     private final RollbackStockUseCase rollbackStockUseCase;
+    private final DeductStockBatchUseCase deductStockBatchUseCase;
+    private final RollbackStockBatchUseCase rollbackStockBatchUseCase;
+    private final ReserveStockUseCase reserveStockUseCase;
 
     public InventoryCommandController(
             DeductStockUseCase deductStockUseCase,
-            RollbackStockUseCase rollbackStockUseCase
+            RollbackStockUseCase rollbackStockUseCase,
+            DeductStockBatchUseCase deductStockBatchUseCase,
+            RollbackStockBatchUseCase rollbackStockBatchUseCase,
+            ReserveStockUseCase reserveStockUseCase
     ) {
         this.deductStockUseCase = deductStockUseCase;
         this.rollbackStockUseCase = rollbackStockUseCase;
+        this.deductStockBatchUseCase = deductStockBatchUseCase;
+        this.rollbackStockBatchUseCase = rollbackStockBatchUseCase;
+        this.reserveStockUseCase = reserveStockUseCase;
     }
 
     @PostMapping("/deduct")
@@ -89,6 +110,86 @@ public class InventoryCommandController {
         ));
     }
 
+    @PostMapping("/deduct-batch")
+    @Operation(summary = "Deduct stock in batch",
+            description = "Deducts stock for many order lines in one transaction; returns one result per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed"),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+    })
+    public ResponseEntity<DeductBatchResponse> deductStockBatch(@Valid @RequestBody BatchRequest request) {
+        log.info("Received deduct batch request: {} lines", request.lines().size());
+
+        DeductStockBatchCommand command = new DeductStockBatchCommand(request.lines().stream()
+                .map(line -> new DeductStockCommand(line.orderId(), line.productId(), line.quantity()))
+                .toList());
+
+        DeductStockBatchUseCase.BatchDeductResult result = deductStockBatchUseCase.execute(command);
+
+        return ResponseEntity.ok(new DeductBatchResponse(result.lines().stream()
+                .map(line -> new DeductLineResponse(
+                        line.orderId(),
+                        line.productId(),
+                        line.success(),
+                        line.message(),
+                        line.remainingStock()
+                ))
+                .toList()));
+    }
+
+    @PostMapping("/rollback-batch")
+    @Operation(summary = "Rollback stock in batch",
+            description = "Rolls back stock for many order lines in one transaction; returns one result per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed"),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+    })
+    public ResponseEntity<RollbackBatchResponse> rollbackStockBatch(@Valid @RequestBody BatchRequest request) {
+        log.info("Received rollback batch request: {} lines", request.lines().size());
+
+        RollbackStockBatchCommand command = new RollbackStockBatchCommand(request.lines().stream()
+                .map(line -> new RollbackStockCommand(line.orderId(), line.productId(), line.quantity()))
+                .toList());
+
+        RollbackStockBatchUseCase.BatchRollbackResult result = rollbackStockBatchUseCase.execute(command);
+
+        return ResponseEntity.ok(new RollbackBatchResponse(result.lines().stream()
+                .map(line -> new RollbackLineResponse(
+                        line.orderId(),
+                        line.productId(),
+                        line.success(),
+                        line.message(),
+                        line.currentStock()
+                ))
+                .toList()));
+    }
+
+    @PostMapping("/reserve")
+    @Operation(summary = "Reserve stock for an order",
+            description = "Deducts stock for every line of one order in one transaction, or for none of them")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservation processed"),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+    })
+    public ResponseEntity<ReserveResponse> reserveStock(@Valid @RequestBody ReserveRequest request) {
+        log.info("Received reserve request: orderId={}, {} lines", request.orderId(), request.lines().size());
+
+        ReserveStockCommand command = new ReserveStockCommand(request.orderId(), request.lines().stream()
+                .map(line -> new ReserveStockCommand.Line(line.productId(), line.quantity()))
+                .toList());
+
+        ReserveStockUseCase.ReserveResult result = reserveStockUseCase.execute(command);
+
+        return ResponseEntity.ok(new ReserveResponse(
+                result.orderId(),
+                result.success(),
+                result.message(),
+                result.lines().stream()
+                        .map(line -> new ReserveLineResponse(line.productId(), line.remainingStock()))
+                        .toList()
+        ));
+    }
+
     // Request/Response DTOs
     public record DeductRequest(
             @NotBlank String orderId,
@@ -115,4 +216,60 @@ public class InventoryCommandController {
             String message,
             int currentStock
     ) {}
+
+    public record BatchRequest(
+            @NotEmpty @Size(max = MAX_BATCH_LINES) List<@Valid BatchLine> lines
+    ) {}
+
+    public record BatchLine(
+            @NotBlank String orderId,
+            @NotBlank String productId,
+            @Positive int quantity
+    ) {}
+
+    public record DeductBatchResponse(
+            List<DeductLineResponse> results
+    ) {}
+
+    public record DeductLineResponse(
+            String orderId,
+            String productId,
+            boolean success,
+            String message,
+            int remainingStock
+    ) {}
+
+    public record RollbackBatchResponse(
+            List<RollbackLineResponse> results
+    ) {}
+
+    public record ReserveRequest(
+            @NotBlank String orderId,
+            @NotEmpty @Size(max = MAX_BATCH_LINES) List<@Valid ReserveLine> lines
+    ) {}
+
+    public record ReserveLine(
+            @NotBlank String productId,
+            @Positive int quantity
+    ) {}
+
+    public record ReserveResponse(
+            String orderId,
+            boolean success,
+            String message,
+            List<ReserveLineResponse> lines
+    ) {}
+
+    public record ReserveLineResponse(
+            String productId,
+            int remainingStock
+    ) {}
+
+    public record RollbackLineResponse(
+            String orderId,
+            String productId,
+            boolean success,
+            String message,
+            int currentStock
+    ) {}
 }
@@ -0,0 +1,30 @@
+package com.example.inventory.infrastructure.adapter.outbound.memory;
+
+import com.example.inventory.application.port.outbound.HotStockStore;
+import com.example.inventory.application.port.outbound.ProductRepository;
+import com.example.inventory.domain.model.valueobject.ProductId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default store when no products are held in memory: all stock stays in the database.
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.hot-stock.enabled", havingValue = "false", matchIfMissing = true)
+public class DisabledHotStockStore implements HotStockStore {
+
+    @Override
+    public boolean manages(ProductId productId) {
+        return false;
+    }
+
+    @Override
+    public ProductRepository.StockDeduction tryDeduct(ProductId productId, String orderId, int quantity) {
+        throw new IllegalStateException("Hot stock is disabled");
+    }
+
+    @Override
+    public int release(ProductId productId, String orderId, int quantity) {
+        throw new IllegalStateException("Hot stock is disabled");
+    }
+}
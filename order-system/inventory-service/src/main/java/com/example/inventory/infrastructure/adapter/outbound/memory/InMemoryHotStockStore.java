@@ -0,0 +1,283 @@
+package com.example.inventory.infrastructure.adapter.outbound.memory;
+
+import com.example.inventory.application.port.outbound.HotStockStore;
+import com.example.inventory.application.port.outbound.ProductRepository;
+import com.example.inventory.domain.model.valueobject.InventoryOperation;
+import com.example.inventory.domain.model.valueobject.ProductId;
+import com.example.inventory.infrastructure.adapter.outbound.persistence.HotStockLease;
+import com.example.inventory.infrastructure.adapter.outbound.persistence.StockDelta;
+import com.example.inventory.infrastructure.adapter.outbound.persistence.StockDeltaWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds stock for the configured hot products in {@link StripedStockCounter}s, enabled with
+ * inventory.hot-stock.enabled=true.
+ *
+ * Every deduction and rollback is journaled by {@link StockDeltaWriter} before it is acknowledged,
+ * then queued and written behind in batches; a failed batch is retried first on the next flush. A
+ * change the order already has for the product is not applied again: a repeated deduction reports
+ * whether the order still holds the first one, a rollback only returns stock the order's recorded
+ * deduction took, and a deduction arriving after the order's rollback is refused. At startup the counters are loaded from the products table plus the journaled
+ * changes never written behind, which are queued again, so a crash loses no acknowledged change.
+ *
+ * Only one instance may hold the counters: each hot product is leased through {@link HotStockLease}
+ * at startup, which fails while another instance holds it, and the flush renews the lease.
+ * A product is rejected while its lease has expired locally, and until restart once it was lost.
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.hot-stock.enabled", havingValue = "true")
+public class InMemoryHotStockStore implements HotStockStore {
+
+    public static final String PENDING_METRIC = "inventory.hot-stock.pending";
+    public static final String FLUSHED_METRIC = "inventory.hot-stock.flushed";
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryHotStockStore.class);
+    private static final int ORDER_LOCK_STRIPES = 64;
+
+    private final ProductRepository productRepository;
+    private final StockDeltaWriter deltaWriter;
+    private final HotStockLease lease;
+    private final List<String> hotProductIds;
+    private final int stripes;
+    private final int batchSize;
+    private final Duration leaseTtl;
+    private final String owner = UUID.randomUUID().toString();
+    private final Set<String> lostLeases = ConcurrentHashMap.newKeySet();
+    private volatile long leaseRenewAt;
+    private volatile long leaseValidUntil;
+    private final Map<String, StripedStockCounter> counters = new ConcurrentHashMap<>();
+    private final Queue<StockDelta> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final List<StockDelta> retry = new ArrayList<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // Serialize journaling of one order's deduction and rollback, so each sees the other's record
+    private final ReentrantLock[] orderLocks = new ReentrantLock[ORDER_LOCK_STRIPES];
+    private final Counter flushedCounter;
+
+    public InMemoryHotStockStore(
+            ProductRepository productRepository,
+            StockDeltaWriter deltaWriter,
+            HotStockLease lease,
+            MeterRegistry meterRegistry,
+            @Value("${inventory.hot-stock.products:}") List<String> hotProductIds,
+            @Value("${inventory.hot-stock.stripes:8}") int stripes,
+            @Value("${inventory.hot-stock.flush-batch-size:500}") int batchSize,
+            @Value("${inventory.hot-stock.lease-ttl:10s}") Duration leaseTtl
+    ) {
+        this.productRepository = productRepository;
+        this.deltaWriter = deltaWriter;
+        this.lease = lease;
+        this.hotProductIds = hotProductIds;
+        this.stripes = stripes;
+        this.batchSize = batchSize;
+        this.leaseTtl = leaseTtl;
+        for (int i = 0; i < orderLocks.length; i++) {
+            orderLocks[i] = new ReentrantLock();
+        }
+        this.flushedCounter = Counter.builder(FLUSHED_METRIC)
+                .description("Hot-product stock changes written to the database")
+                .register(meterRegistry);
+        Gauge.builder(PENDING_METRIC, pendingCount, AtomicInteger::get)
+                .description("Hot-product stock changes waiting to be written to the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Lease the hot products and load their counters from the products table and the journal.
+     */
+    @PostConstruct
+    public void rebuild() {
+        long leasedAt = System.nanoTime();
+        for (String productId : hotProductIds) {
+            productRepository.findById(ProductId.of(productId)).ifPresentOrElse(
+                    product -> load(productId, product.getCurrentStock()),
+                    () -> log.warn("Hot product not found, left in the database: {}", productId));
+        }
+        leased(leasedAt);
+    }
+
+    @Override
+    public boolean manages(ProductId productId) {
+        return counters.containsKey(productId.value());
+    }
+
+    @Override
+    public ProductRepository.StockDeduction tryDeduct(ProductId productId, String orderId, int quantity) {
+        StripedStockCounter counter = counter(productId);
+        if (!counter.tryDeduct(quantity)) {
+            return new ProductRepository.StockDeduction(false, (int) counter.available());
+        }
+        StockDelta delta = new StockDelta(
+                productId.value(), orderId, InventoryOperation.DEDUCT, quantity, (int) counter.available());
+        boolean journaled;
+        try {
+            journaled = journal(delta);
+        } catch (RuntimeException e) {
+            counter.release(quantity);
+            throw e;
+        }
+        if (!journaled) {
+            counter.release(quantity);
+            boolean held = deltaWriter.holdsDeduction(productId.value(), orderId);
+            log.info("Hot stock deduction already recorded for order {}: {} (held: {})",
+                    orderId, productId.value(), held);
+            return new ProductRepository.StockDeduction(held, (int) counter.available());
+        }
+        enqueue(delta);
+        return new ProductRepository.StockDeduction(true, delta.stockAfter());
+    }
+
+    @Override
+    public int release(ProductId productId, String orderId, int quantity) {
+        StripedStockCounter counter = counter(productId);
+        StockDelta delta = new StockDelta(
+                productId.value(), orderId, InventoryOperation.ROLLBACK, quantity, (int) counter.available() + quantity);
+        if (!journal(delta)) {
+            log.info("No hot stock deduction to roll back for order {}: {}", orderId, productId.value());
+            return (int) counter.available();
+        }
+        counter.release(quantity);
+        enqueue(delta);
+        return delta.stockAfter();
+    }
+
+    /**
+     * Write queued changes to the database in batches.
+     */
+    @Scheduled(fixedDelayString = "${inventory.hot-stock.flush-interval-ms:200}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            renewLeases();
+            while (true) {
+                List<StockDelta> batch = nextBatch();
+                if (batch.isEmpty()) {
+                    return;
+                }
+                try {
+                    deltaWriter.write(batch);
+                } catch (RuntimeException e) {
+                    log.error("Hot stock write-behind failed for {} changes, will retry", batch.size(), e);
+                    retry.addAll(batch);
+                    return;
+                }
+                pendingCount.addAndGet(-batch.size());
+                flushedCounter.increment(batch.size());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        if (pendingCount.get() > 0) {
+            log.error("{} hot stock changes could not be written before shutdown", pendingCount.get());
+        }
+    }
+
+    int pendingCount() {
+        return pendingCount.get();
+    }
+
+    private void load(String productId, int storedStock) {
+        if (!lease.acquire(productId, owner, leaseTtl)) {
+            throw new IllegalStateException("Hot product " + productId + " is held by another inventory instance;"
+                    + " inventory.hot-stock supports a single instance");
+        }
+        List<StockDelta> unapplied = deltaWriter.unapplied(productId, storedStock);
+        int stock = unapplied.isEmpty() ? storedStock : unapplied.get(unapplied.size() - 1).stockAfter();
+        counters.put(productId, new StripedStockCounter(stripes, stock));
+        unapplied.forEach(this::enqueue);
+        log.info("Hot stock loaded: {} = {} across {} stripes, {} journaled changes to write",
+                productId, stock, stripes, unapplied.size());
+    }
+
+    private void renewLeases() {
+        long renewedAt = System.nanoTime();
+        if (renewedAt - leaseRenewAt < 0) {
+            return;
+        }
+        for (String productId : counters.keySet()) {
+            if (lostLeases.contains(productId)) {
+                continue;
+            }
+            boolean renewed;
+            try {
+                renewed = lease.acquire(productId, owner, leaseTtl);
+            } catch (RuntimeException e) {
+                log.warn("Hot stock lease renewal failed for {}, will retry", productId, e);
+                return;
+            }
+            if (!renewed) {
+                lostLeases.add(productId);
+                log.error("Hot stock lease lost for {}, rejecting its deductions until restart", productId);
+            }
+        }
+        leased(renewedAt);
+    }
+
+    private void leased(long leasedAt) {
+        leaseValidUntil = leasedAt + leaseTtl.toNanos();
+        leaseRenewAt = leasedAt + leaseTtl.toNanos() / 3;
+    }
+
+    private StripedStockCounter counter(ProductId productId) {
+        StripedStockCounter counter = counters.get(productId.value());
+        if (counter == null) {
+            throw new IllegalArgumentException("Not a hot product: " + productId.value());
+        }
+        if (lostLeases.contains(productId.value()) || System.nanoTime() - leaseValidUntil > 0) {
+            throw new IllegalStateException("Hot stock lease not held: " + productId.value());
+        }
+        return counter;
+    }
+
+    private boolean journal(StockDelta delta) {
+        ReentrantLock orderLock = orderLocks[Math.floorMod(delta.orderId().hashCode(), orderLocks.length)];
+        orderLock.lock();
+        try {
+            return deltaWriter.journal(delta);
+        } finally {
+            orderLock.unlock();
+        }
+    }
+
+    private void enqueue(StockDelta delta) {
+        pending.add(delta);
+        pendingCount.incrementAndGet();
+    }
+
+    private List<StockDelta> nextBatch() {
+        List<StockDelta> batch = new ArrayList<>(retry);
+        retry.clear();
+        StockDelta delta;
+        while (batch.size() < batchSize && (delta = pending.poll()) != null) {
+            batch.add(delta);
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.inventory.infrastructure.adapter.outbound.memory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stock counter split across independent stripes so concurrent deductions rarely touch the same
+ * cache line.
+ *
+ * A deduction takes the whole quantity from one stripe with a CAS, starting at a random stripe and
+ * probing the others. Only when no single stripe can cover it does it take the rebalance lock, drain
+ * every stripe, decide against the exact total and spread the remainder back. Units are moved, never
+ * copied, so the stripes can never sell more than the total stock.
+ */
+final class StripedStockCounter {
+
+    /** Longs per 64-byte cache line: stripe i lives at index i * PADDING. */
+    private static final int PADDING = 8;
+
+    private final int stripes;
+    private final AtomicLongArray cells;
+    private final ReentrantLock rebalanceLock = new ReentrantLock();
+
+    StripedStockCounter(int stripes, long initialStock) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Stripes must be positive: " + stripes);
+        }
+        this.stripes = stripes;
+        this.cells = new AtomicLongArray(stripes * PADDING);
+        spread(initialStock);
+    }
+
+    /**
+     * Deduct the quantity if the counter holds at least that much in total.
+     */
+    boolean tryDeduct(int quantity) {
+        int home = ThreadLocalRandom.current().nextInt(stripes);
+        for (int i = 0; i < stripes; i++) {
+            if (tryTake((home + i) % stripes, quantity)) {
+                return true;
+            }
+        }
+        return rebalanceAndDeduct(quantity);
+    }
+
+    /**
+     * Add the quantity back, e.g. on rollback.
+     */
+    void release(int quantity) {
+        cells.addAndGet(ThreadLocalRandom.current().nextInt(stripes) * PADDING, quantity);
+    }
+
+    /**
+     * Total stock across stripes; a snapshot while deductions are in flight.
+     */
+    long available() {
+        long total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += cells.get(i * PADDING);
+        }
+        return total;
+    }
+
+    int stripes() {
+        return stripes;
+    }
+
+    private boolean tryTake(int stripe, int quantity) {
+        int index = stripe * PADDING;
+        long current;
+        do {
+            current = cells.get(index);
+            if (current < quantity) {
+                return false;
+            }
+        } while (!cells.compareAndSet(index, current, current - quantity));
+        return true;
+    }
+
+    private boolean rebalanceAndDeduct(int quantity) {
+        rebalanceLock.lock();
+        try {
+            long total = 0;
+            for (int i = 0; i < stripes; i++) {
+                total += cells.getAndSet(i * PADDING, 0);
+            }
+            boolean deducted = total >= quantity;
+            spread(deducted ? total - quantity : total);
+            return deducted;
+        } finally {
+            rebalanceLock.unlock();
+        }
+    }
+
+    private void spread(long stock) {
+        long share = stock / stripes;
+        long remainder = stock % stripes;
+        for (int i = 0; i < stripes; i++) {
+            cells.addAndGet(i * PADDING, share + (i < remainder ? 1 : 0));
+        }
+    }
+}
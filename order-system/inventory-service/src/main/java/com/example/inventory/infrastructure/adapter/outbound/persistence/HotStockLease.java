@@ -0,0 +1,48 @@
+package com.example.inventory.infrastructure.adapter.outbound.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Lease in hot_stock_leases that lets one inventory instance at a time hold a hot product's stock
+ * in memory. A lease that is not renewed expires and can then be taken over.
+ */
+@Component
+public class HotStockLease {
+
+    static final String RENEW_SQL = """
+            UPDATE hot_stock_leases SET owner = ?, lease_until = ?
+            WHERE product_id = ? AND (owner = ? OR lease_until < ?)
+            """;
+
+    static final String CLAIM_SQL = """
+            INSERT INTO hot_stock_leases (product_id, owner, lease_until)
+            VALUES (?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public HotStockLease(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Take or renew the lease for a product.
+     * @return false if another owner holds an unexpired lease
+     */
+    @Transactional
+    public boolean acquire(String productId, String owner, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp leaseUntil = Timestamp.valueOf(now.plus(ttl));
+        if (jdbcTemplate.update(RENEW_SQL, owner, leaseUntil, productId, owner, Timestamp.valueOf(now)) == 1) {
+            return true;
+        }
+        return jdbcTemplate.update(CLAIM_SQL, productId, owner, leaseUntil) == 1;
+    }
+}
@@ -1,41 +1,54 @@
 package com.example.inventory.infrastructure.adapter.outbound.persistence;
 
+import com.example.common.outbox.OutboxEventWriter;
 import com.example.inventory.application.port.outbound.ProductRepository;
+import com.example.inventory.domain.event.StockDeducted;
 import com.example.inventory.domain.model.aggregate.Product;
 import com.example.inventory.domain.model.valueobject.ProductId;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * JPA implementation of ProductRepository port.
+ * Pending domain events are written to the outbox in the same transaction as the product.
+ * A new product is inserted; later saves are a single UPDATE of the stock level guarded by the
+ * product's version, with no read before the write and no re-mapping of the result.
  */
 @Component
 public class JpaProductRepository implements ProductRepository {
 
+    static final String AGGREGATE_TYPE = "Product";
+    static final long INITIAL_VERSION = 1;
+
     private final SpringDataProductRepository springDataRepository;
     private final ProductMapper mapper;
+    private final OutboxEventWriter outboxEventWriter;
 
-    public JpaProductRepository(SpringDataProductRepository springDataRepository, ProductMapper mapper) {
+    public JpaProductRepository(
+            SpringDataProductRepository springDataRepository,
+            ProductMapper mapper,
+            OutboxEventWriter outboxEventWriter
+    ) {
         this.springDataRepository = springDataRepository;
         this.mapper = mapper;
+        this.outboxEventWriter = outboxEventWriter;
     }
 
     @Override
+    @Transactional
     public Product save(Product product) {
-        Optional<ProductJpaEntity> existingEntity = springDataRepository
-                .findByProductId(product.getProductId().value());
-
-        ProductJpaEntity entity;
-        if (existingEntity.isPresent()) {
-            entity = existingEntity.get();
-            mapper.updateEntity(entity, product);
-        } else {
-            entity = mapper.toEntity(product);
-        }
-
-        ProductJpaEntity savedEntity = springDataRepository.save(entity);
-        return mapper.toDomain(savedEntity);
+        long version = product.getVersion() == 0 ? insert(product) : update(product);
+        outboxEventWriter.append(AGGREGATE_TYPE, product.getProductId().value(),
+                List.copyOf(product.getDomainEvents()));
+        product.clearDomainEvents();
+        product.markPersisted(version);
+        return product;
     }
 
     @Override
@@ -49,4 +62,48 @@ public class JpaProductRepository implements ProductRepository {
         return springDataRepository.findByProductIdForUpdate(productId.value())
                 .map(mapper::toDomain);
     }
+
+    @Override
+    public List<Product> findAllByIdsForUpdate(Collection<ProductId> productIds) {
+        List<String> ids = productIds.stream().map(ProductId::value).distinct().toList();
+        return springDataRepository.findAllByProductIdInForUpdate(ids).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public Optional<StockDeduction> deductIfAvailable(ProductId productId, String orderId, int quantity) {
+        int updated = springDataRepository.deductStockIfAvailable(productId.value(), quantity, LocalDateTime.now());
+        // Row is already locked by our UPDATE (or untouched), so this read is consistent
+        Optional<Integer> currentStock = springDataRepository.findStockQuantityByProductId(productId.value());
+        if (updated == 0) {
+            return currentStock.map(stock -> new StockDeduction(false, stock));
+        }
+
+        int remaining = currentStock.orElseThrow();
+        outboxEventWriter.append(AGGREGATE_TYPE, productId.value(),
+                List.of(StockDeducted.of(productId, orderId, quantity, remaining)));
+        return Optional.of(new StockDeduction(true, remaining));
+    }
+
+    private long insert(Product product) {
+        springDataRepository.save(mapper.toEntity(product));
+        return INITIAL_VERSION;
+    }
+
+    private long update(Product product) {
+        int updated = springDataRepository.updateStock(
+                product.getProductId().value(),
+                product.getVersion(),
+                product.getCurrentStock(),
+                product.getUpdatedAt()
+        );
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException(
+                    "Product " + product.getProductId().value() + " was modified concurrently (expected version "
+                            + product.getVersion() + ")");
+        }
+        return product.getVersion() + 1;
+    }
 }
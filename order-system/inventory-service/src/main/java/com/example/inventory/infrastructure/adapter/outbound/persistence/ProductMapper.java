@@ -20,6 +20,7 @@ public class ProductMapper {
         entity.setStockQuantity(product.getCurrentStock());
         entity.setCreatedAt(product.getCreatedAt());
         entity.setUpdatedAt(product.getUpdatedAt());
+        entity.setVersion(JpaProductRepository.INITIAL_VERSION);
         return entity;
     }
 
@@ -32,15 +33,9 @@ public class ProductMapper {
                 entity.getProductName(),
                 StockQuantity.of(entity.getStockQuantity()),
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                entity.getVersion()
         );
     }
 
-    /**
-     * Update existing entity from domain Product.
-     */
-    public void updateEntity(ProductJpaEntity entity, Product product) {
-        entity.setStockQuantity(product.getCurrentStock());
-        entity.setUpdatedAt(product.getUpdatedAt());
-    }
 }
@@ -3,10 +3,14 @@ package com.example.inventory.infrastructure.adapter.outbound.persistence;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,4 +21,37 @@ public interface SpringDataProductRepository extends JpaRepository<ProductJpaEnt
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM ProductJpaEntity p WHERE p.productId = :productId")
     Optional<ProductJpaEntity> findByProductIdForUpdate(@Param("productId") String productId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM ProductJpaEntity p WHERE p.productId IN :productIds ORDER BY p.productId")
+    List<ProductJpaEntity> findAllByProductIdInForUpdate(@Param("productIds") Collection<String> productIds);
+
+    /**
+     * Write the stock level if the row still has the expected version.
+     * @return 1 if updated, 0 if the version no longer matches
+     */
+    @Modifying
+    @Query("UPDATE ProductJpaEntity p SET p.stockQuantity = :stockQuantity, p.updatedAt = :updatedAt, "
+            + "p.version = p.version + 1 WHERE p.productId = :productId AND p.version = :version")
+    int updateStock(@Param("productId") String productId,
+                    @Param("version") long version,
+                    @Param("stockQuantity") int stockQuantity,
+                    @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("UPDATE ProductJpaEntity p SET p.stockQuantity = p.stockQuantity - :quantity, p.updatedAt = :updatedAt, "
+            + "p.version = p.version + 1 WHERE p.productId = :productId AND p.stockQuantity >= :quantity")
+    int deductStockIfAvailable(@Param("productId") String productId,
+                               @Param("quantity") int quantity,
+                               @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT p.stockQuantity FROM ProductJpaEntity p WHERE p.productId = :productId")
+    Optional<Integer> findStockQuantityByProductId(@Param("productId") String productId);
+
+    @Modifying
+    @Query("UPDATE ProductJpaEntity p SET p.stockQuantity = p.stockQuantity + :delta, p.updatedAt = :updatedAt, "
+            + "p.version = p.version + 1 WHERE p.productId = :productId")
+    int adjustStock(@Param("productId") String productId,
+                    @Param("delta") int delta,
+                    @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,21 @@
+package com.example.inventory.infrastructure.adapter.outbound.persistence;
+
+import com.example.inventory.domain.model.valueobject.InventoryOperation;
+
+/**
+ * A stock change applied in memory that still has to be written to the database.
+ */
+public record StockDelta(
+        String productId,
+        String orderId,
+        InventoryOperation operation,
+        int quantity,
+        int stockAfter
+) {
+    /**
+     * Signed change to the stored stock quantity.
+     */
+    public int signedQuantity() {
+        return operation == InventoryOperation.DEDUCT ? -quantity : quantity;
+    }
+}
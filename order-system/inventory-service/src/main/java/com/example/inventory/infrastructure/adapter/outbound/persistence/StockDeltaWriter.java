@@ -0,0 +1,186 @@
+package com.example.inventory.infrastructure.adapter.outbound.persistence;
+
+import com.example.common.outbox.OutboxEventWriter;
+import com.example.inventory.domain.event.DomainEvent;
+import com.example.inventory.domain.event.StockDeducted;
+import com.example.inventory.domain.event.StockRolledBack;
+import com.example.inventory.domain.model.valueobject.InventoryOperation;
+import com.example.inventory.domain.model.valueobject.ProductId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Journals in-memory stock changes and writes them behind to the products table.
+ *
+ * Every change is first inserted into inventory_logs with applied = FALSE in its own transaction,
+ * before it is acknowledged. A batch is then written in one transaction: the journal rows are flipped
+ * to applied, and only the rows actually flipped count towards one UPDATE per product with the net
+ * delta and the matching events in the outbox, so a batch written twice is applied once.
+ */
+@Component
+public class StockDeltaWriter {
+
+    static final String INSERT_DEDUCT_JOURNAL_SQL = """
+            INSERT INTO inventory_logs (order_id, product_id, operation_type, quantity, status, created_at, applied)
+            SELECT ?, ?, 'DEDUCT', CAST(? AS INT), 'SUCCESS', CAST(? AS TIMESTAMP), FALSE
+            WHERE NOT EXISTS (SELECT 1 FROM inventory_logs l WHERE l.order_id = ? AND l.product_id = ?)
+            """;
+
+    static final String INSERT_ROLLBACK_JOURNAL_SQL = """
+            INSERT INTO inventory_logs (order_id, product_id, operation_type, quantity, status, created_at, applied)
+            SELECT d.order_id, d.product_id, 'ROLLBACK', CAST(? AS INT), 'SUCCESS', CAST(? AS TIMESTAMP), FALSE
+            FROM inventory_logs d
+            WHERE d.order_id = ? AND d.product_id = ? AND d.operation_type = 'DEDUCT' AND d.status = 'SUCCESS'
+              AND NOT EXISTS (SELECT 1 FROM inventory_logs r
+                              WHERE r.order_id = d.order_id AND r.product_id = d.product_id
+                                AND r.operation_type = 'ROLLBACK')
+            """;
+
+    static final String INSERT_EMPTY_ROLLBACK_SQL = """
+            INSERT INTO inventory_logs (order_id, product_id, operation_type, quantity, status, created_at, applied)
+            SELECT ?, ?, 'ROLLBACK', 0, 'SUCCESS', CAST(? AS TIMESTAMP), TRUE
+            WHERE NOT EXISTS (SELECT 1 FROM inventory_logs l WHERE l.order_id = ? AND l.product_id = ?)
+            """;
+
+    static final String HELD_DEDUCTION_SQL = """
+            SELECT COUNT(*) FROM inventory_logs d
+            WHERE d.order_id = ? AND d.product_id = ? AND d.operation_type = 'DEDUCT' AND d.status = 'SUCCESS'
+              AND NOT EXISTS (SELECT 1 FROM inventory_logs r
+                              WHERE r.order_id = d.order_id AND r.product_id = d.product_id
+                                AND r.operation_type = 'ROLLBACK')
+            """;
+
+    static final String MARK_APPLIED_SQL = """
+            UPDATE inventory_logs SET applied = TRUE
+            WHERE order_id = ? AND product_id = ? AND operation_type = ? AND applied = FALSE
+            """;
+
+    static final String SELECT_UNAPPLIED_SQL = """
+            SELECT order_id, operation_type, quantity FROM inventory_logs
+            WHERE product_id = ? AND applied = FALSE
+            ORDER BY id
+            """;
+
+    private final SpringDataProductRepository productRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxEventWriter outboxEventWriter;
+
+    public StockDeltaWriter(
+            SpringDataProductRepository productRepository,
+            JdbcTemplate jdbcTemplate,
+            OutboxEventWriter outboxEventWriter
+    ) {
+        this.productRepository = productRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxEventWriter = outboxEventWriter;
+    }
+
+    /**
+     * Record a change that is not yet applied to the products table. A deduction is only recorded
+     * while the order has nothing on record for the product, and a rollback only against a recorded
+     * deduction; a rollback without one is recorded as an applied rollback of 0, so a deduction
+     * arriving after it is refused.
+     * @return false if the order already has this operation for the product, a deduction comes after
+     *         its rollback, or a rollback has no deduction to return
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean journal(StockDelta delta) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (delta.operation() == InventoryOperation.ROLLBACK) {
+            if (jdbcTemplate.update(INSERT_ROLLBACK_JOURNAL_SQL,
+                    delta.quantity(), now, delta.orderId(), delta.productId()) == 1) {
+                return true;
+            }
+            jdbcTemplate.update(INSERT_EMPTY_ROLLBACK_SQL,
+                    delta.orderId(), delta.productId(), now, delta.orderId(), delta.productId());
+            return false;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_DEDUCT_JOURNAL_SQL, delta.orderId(), delta.productId(),
+                    delta.quantity(), now, delta.orderId(), delta.productId()) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Whether the order holds a recorded deduction of the product that was not rolled back.
+     */
+    @Transactional(readOnly = true)
+    public boolean holdsDeduction(String productId, String orderId) {
+        Integer count = jdbcTemplate.queryForObject(HELD_DEDUCTION_SQL, Integer.class, orderId, productId);
+        return count != null && count > 0;
+    }
+
+    /**
+     * Journaled changes for a product that were never written behind, in journal order.
+     * The stock after each change is counted from the given stored stock.
+     */
+    @Transactional(readOnly = true)
+    public List<StockDelta> unapplied(String productId, int storedStock) {
+        List<StockDelta> deltas = new ArrayList<>();
+        jdbcTemplate.query(SELECT_UNAPPLIED_SQL, rs -> {
+            InventoryOperation operation = InventoryOperation.valueOf(rs.getString("operation_type"));
+            int quantity = rs.getInt("quantity");
+            int stockAfter = (deltas.isEmpty() ? storedStock : deltas.get(deltas.size() - 1).stockAfter())
+                    + (operation == InventoryOperation.DEDUCT ? -quantity : quantity);
+            deltas.add(new StockDelta(productId, rs.getString("order_id"), operation, quantity, stockAfter));
+        }, productId);
+        return deltas;
+    }
+
+    @Transactional
+    public void write(List<StockDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(MARK_APPLIED_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setString(1, delta.orderId());
+            ps.setString(2, delta.productId());
+            ps.setString(3, delta.operation().name());
+        });
+        List<StockDelta> applied = new ArrayList<>(deltas.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count != 0) {
+                    applied.add(deltas.get(index));
+                }
+                index++;
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Integer> netByProduct = applied.stream().collect(Collectors.groupingBy(
+                StockDelta::productId, LinkedHashMap::new, Collectors.summingInt(StockDelta::signedQuantity)));
+        netByProduct.forEach((productId, net) -> {
+            if (net != 0) {
+                productRepository.adjustStock(productId, net, now);
+            }
+        });
+
+        applied.stream()
+                .collect(Collectors.groupingBy(StockDelta::productId, LinkedHashMap::new, Collectors.toList()))
+                .forEach((productId, productDeltas) -> outboxEventWriter.append(
+                        JpaProductRepository.AGGREGATE_TYPE, productId,
+                        productDeltas.stream().map(StockDeltaWriter::toEvent).toList()));
+    }
+
+    private static DomainEvent toEvent(StockDelta delta) {
+        ProductId productId = ProductId.of(delta.productId());
+        return delta.operation() == InventoryOperation.DEDUCT
+                ? StockDeducted.of(productId, delta.orderId(), delta.quantity(), delta.stockAfter())
+                : StockRolledBack.of(productId, delta.orderId(), delta.quantity(), delta.stockAfter());
+    }
+}
@@ -6,7 +6,8 @@ CREATE TABLE IF NOT EXISTS products (
     product_name VARCHAR(200) NOT NULL,
     stock_quantity INT NOT NULL DEFAULT 0,
     created_at TIMESTAMP NOT NULL,
-    updated_at TIMESTAMP NOT NULL
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL DEFAULT 1
 );
 
 CREATE TABLE IF NOT EXISTS inventory_logs (
@@ -17,7 +18,37 @@ CREATE TABLE IF NOT EXISTS inventory_logs (
     quantity INT NOT NULL,
     status VARCHAR(20) NOT NULL,
     created_at TIMESTAMP NOT NULL,
+    applied BOOLEAN NOT NULL DEFAULT TRUE,
     UNIQUE (order_id, product_id, operation_type)
 );
 
+-- Hot-product changes are journaled with applied = FALSE until written to products
+ALTER TABLE inventory_logs ADD COLUMN IF NOT EXISTS applied BOOLEAN NOT NULL DEFAULT TRUE;
+
 CREATE INDEX IF NOT EXISTS idx_inventory_logs_product ON inventory_logs(product_id);
+
+-- One inventory instance at a time may hold a hot product's stock in memory
+CREATE TABLE IF NOT EXISTS hot_stock_leases (
+    product_id VARCHAR(50) PRIMARY KEY,
+    owner VARCHAR(64) NOT NULL,
+    lease_until TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id VARCHAR(36) UNIQUE NOT NULL,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(50) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    published_at TIMESTAMP,
+    claimed_by VARCHAR(64),
+    claimed_until TIMESTAMP
+);
+
+-- Outbox rows are claimed by one relay instance at a time
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(64);
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_unpublished ON outbox_events(published_at, id);
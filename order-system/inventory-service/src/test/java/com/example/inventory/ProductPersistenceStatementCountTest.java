@@ -0,0 +1,84 @@
+package com.example.inventory;
+
+import com.example.inventory.application.port.outbound.ProductRepository;
+import com.example.inventory.domain.model.aggregate.Product;
+import com.example.inventory.domain.model.valueobject.ProductId;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the JDBC statements of a pessimistic stock deduction.
+ *
+ * The locked read is followed by a single versioned UPDATE and the StockDeducted outbox row; the
+ * save must not read the product again.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "outbox.relay.enabled=false"
+        }
+)
+@DisplayName("商品持久化 SQL 語句數量測試")
+class ProductPersistenceStatementCountTest {
+
+    /** SELECT ... FOR UPDATE, 1 versioned UPDATE, 1 outbox INSERT. */
+    static final long STATEMENTS_PER_DEDUCTION = 3;
+
+    private static final Logger log = LoggerFactory.getLogger(ProductPersistenceStatementCountTest.class);
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("鎖定扣減應只執行一次讀取與一條 UPDATE 語句")
+    void lockedDeduction_shouldNotReadBeforeWrite() {
+        // Arrange
+        ProductId productId = ProductId.of("STMT-COUNT");
+        productRepository.save(Product.create("STMT-COUNT", "Statement count SKU", 10));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Product product = productRepository.findByIdForUpdate(productId).orElseThrow();
+            product.deductStock("ORD-STMT0001", 3);
+            productRepository.save(product);
+        });
+
+        // Assert
+        long statements = statistics.getPrepareStatementCount() + outboxInserts("STMT-COUNT");
+        log.info("Statements per locked deduction: {}", statements);
+        assertEquals(STATEMENTS_PER_DEDUCTION, statements);
+        assertEquals(7, productRepository.findById(productId).orElseThrow().getCurrentStock());
+    }
+
+    /**
+     * Outbox rows are written with JDBC, outside Hibernate's statistics; each transition appends one.
+     */
+    private long outboxInserts(String aggregateId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ?", Long.class, aggregateId);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.inventory;
+
+import com.example.inventory.application.command.ConditionalDeductStockCommandHandler;
+import com.example.inventory.application.command.DeductStockCommand;
+import com.example.inventory.application.command.DeductStockCommandHandler;
+import com.example.inventory.application.port.inbound.DeductStockUseCase;
+import com.example.inventory.application.port.outbound.InventoryLogRepository;
+import com.example.inventory.application.port.outbound.ProductRepository;
+import com.example.inventory.domain.model.aggregate.Product;
+import com.example.inventory.domain.model.valueobject.ProductId;
+import com.example.inventory.infrastructure.adapter.outbound.memory.DisabledHotStockStore;
+import com.example.inventory.infrastructure.adapter.outbound.memory.InMemoryHotStockStore;
+import com.example.inventory.infrastructure.adapter.outbound.persistence.HotStockLease;
+import com.example.inventory.infrastructure.adapter.outbound.persistence.StockDeltaWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Contention benchmark for the stock deduction strategies.
+ *
+ * {@value #THREADS} threads deduct one unit at a time from a single hot SKU holding
+ * {@value #INITIAL_STOCK} units, with more attempts than stock. Every strategy must sell exactly
+ * the available stock; the log reports throughput so they can be compared.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:benchdb;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+                "spring.jpa.show-sql=false",
+                "outbox.relay.enabled=false"
+        }
+)
+@DisplayName("庫存扣減競爭基準測試")
+class StockDeductionContentionBenchmarkTest {
+
+    static final int THREADS = 8;
+    static final int INITIAL_STOCK = 400;
+    private static final int ATTEMPTS_PER_THREAD = 60;
+
+    private static final Logger log = LoggerFactory.getLogger(StockDeductionContentionBenchmarkTest.class);
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private InventoryLogRepository inventoryLogRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private StockDeltaWriter stockDeltaWriter;
+    @Autowired
+    private HotStockLease hotStockLease;
+
+    @Test
+    @DisplayName("悲觀鎖策略不應超賣")
+    void pessimisticLock_shouldSellExactlyAvailableStock() throws Exception {
+        createSku("BENCH-PESSIMISTIC");
+        run("pessimistic", "BENCH-PESSIMISTIC",
+                new DeductStockCommandHandler(productRepository, new DisabledHotStockStore(),
+                        inventoryLogRepository), () -> { });
+    }
+
+    @Test
+    @DisplayName("條件更新策略不應超賣")
+    void conditionalUpdate_shouldSellExactlyAvailableStock() throws Exception {
+        createSku("BENCH-CONDITIONAL");
+        run("conditional-update", "BENCH-CONDITIONAL",
+                new ConditionalDeductStockCommandHandler(productRepository, new DisabledHotStockStore(),
+                        inventoryLogRepository), () -> { });
+    }
+
+    @Test
+    @DisplayName("記憶體分段計數器策略不應超賣且寫回後資料庫一致")
+    void inMemoryHotStock_shouldSellExactlyAvailableStock() throws Exception {
+        createSku("BENCH-HOT");
+        InMemoryHotStockStore hotStockStore = new InMemoryHotStockStore(productRepository, stockDeltaWriter,
+                hotStockLease, new SimpleMeterRegistry(), List.of("BENCH-HOT"), THREADS, 500, Duration.ofMinutes(1));
+        hotStockStore.rebuild();
+        run("in-memory", "BENCH-HOT",
+                new DeductStockCommandHandler(productRepository, hotStockStore,
+                        inventoryLogRepository), hotStockStore::flush);
+    }
+
+    private void createSku(String sku) {
+        productRepository.save(Product.create(sku, "Benchmark SKU", INITIAL_STOCK));
+    }
+
+    private void run(String strategy, String sku, DeductStockUseCase handler, Runnable drain) throws Exception {
+        // Arrange
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        AtomicInteger deducted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+
+        // Act
+        long start = System.nanoTime();
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            workers.add(pool.submit(() -> {
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    DeductStockCommand command = new DeductStockCommand("ORD-" + thread + "-" + i, sku, 1);
+                    DeductStockUseCase.DeductResult result = transaction.execute(status -> handler.execute(command));
+                    (result.success() ? deducted : rejected).incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        pool.shutdown();
+        drain.run();
+
+        // Assert
+        int attempts = THREADS * ATTEMPTS_PER_THREAD;
+        log.info("Deduction strategy {}: {} attempts in {}ms ({} ops/s), {} deducted, {} rejected",
+                strategy, attempts, elapsedMs, attempts * 1000L / elapsedMs, deducted.get(), rejected.get());
+        assertEquals(INITIAL_STOCK, deducted.get());
+        assertEquals(attempts - INITIAL_STOCK, rejected.get());
+        assertEquals(0, productRepository.findById(ProductId.of(sku)).orElseThrow().getCurrentStock());
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.inventory.application.command;
+
+import com.example.inventory.application.port.inbound.DeductStockUseCase;
+import com.example.inventory.application.port.outbound.HotStockStore;
+import com.example.inventory.application.port.outbound.InventoryLogRepository;
+import com.example.inventory.application.port.outbound.InventoryLogRepository.InventoryLogEntry;
+import com.example.inventory.application.port.outbound.ProductRepository;
+import com.example.inventory.domain.model.valueobject.InventoryOperation;
+import com.example.inventory.domain.model.valueobject.ProductId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConditionalDeductStockCommandHandler 測試")
+class ConditionalDeductStockCommandHandlerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private HotStockStore hotStockStore;
+    @Mock
+    private InventoryLogRepository inventoryLogRepository;
+
+    private ConditionalDeductStockCommandHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new ConditionalDeductStockCommandHandler(productRepository, hotStockStore, inventoryLogRepository);
+    }
+
+    @Test
+    @DisplayName("條件更新成功應返回剩餘庫存且不鎖定讀取")
+    void execute_shouldDeductWithConditionalUpdate() {
+        // Arrange
+        when(productRepository.deductIfAvailable(ProductId.of("IPHONE-17"), "ORD-001", 3))
+                .thenReturn(Optional.of(new ProductRepository.StockDeduction(true, 7)));
+
+        // Act
+        DeductStockUseCase.DeductResult result = handler.execute(new DeductStockCommand("ORD-001", "IPHONE-17", 3));
+
+        // Assert
+        assertTrue(result.success());
+        assertEquals(7, result.remainingStock());
+        verify(productRepository, never()).findByIdForUpdate(any());
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("條件更新期間訂單已被回滾時應拋出例外以撤銷扣減")
+    void execute_rolledBackDuringUpdate_shouldThrowToUndoDeduction() {
+        // Arrange: the order's rollback commits between the check and the UPDATE
+        lenient().when(inventoryLogRepository.findByOrderAndProductAndOperation("ORD-001", "IPHONE-17", InventoryOperation.ROLLBACK))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(InventoryLogEntry.success("ORD-001", "IPHONE-17", InventoryOperation.ROLLBACK, 0)));
+        when(productRepository.deductIfAvailable(ProductId.of("IPHONE-17"), "ORD-001", 3))
+                .thenReturn(Optional.of(new ProductRepository.StockDeduction(true, 7)));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> handler.execute(new DeductStockCommand("ORD-001", "IPHONE-17", 3)));
+        verify(inventoryLogRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("庫存不足應返回失敗")
+    void execute_insufficientStock_shouldReturnFailure() {
+        // Arrange
+        when(productRepository.deductIfAvailable(any(), anyString(), anyInt()))
+                .thenReturn(Optional.of(new ProductRepository.StockDeduction(false, 5)));
+
+        // Act
+        DeductStockUseCase.DeductResult result = handler.execute(new DeductStockCommand("ORD-001", "IPHONE-17", 10));
+
+        // Assert
+        assertFalse(result.success());
+        assertEquals(5, result.remainingStock());
+        assertTrue(result.message().contains("Insufficient"));
+    }
+
+    @Test
+    @DisplayName("商品不存在應拋出例外")
+    void execute_unknownProduct_shouldThrow() {
+        // Arrange
+        when(productRepository.deductIfAvailable(any(), anyString(), anyInt())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> handler.execute(new DeductStockCommand("ORD-001", "NOT-EXIST", 1)));
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.inventory.application.command;
+
+import com.example.inventory.application.port.inbound.DeductStockBatchUseCase;
+import com.example.inventory.application.port.outbound.HotStockStore;
+import com.example.inventory.application.port.outbound.InventoryLogRepository;
+import com.example.inventory.application.port.outbound.ProductRepository;
+import com.example.inventory.domain.model.aggregate.Product;
+import com.example.inventory.domain.model.valueobject.ProductId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeductStockBatchCommandHandler 測試")
+class DeductStockBatchCommandHandlerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private HotStockStore hotStockStore;
+    @Mock
+    private InventoryLogRepository inventoryLogRepository;
+
+    private DeductStockBatchCommandHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new DeductStockBatchCommandHandler(productRepository, hotStockStore, inventoryLogRepository);
+    }
+
+    @Test
+    @DisplayName("應以單一查詢鎖定商品並逐行扣減")
+    void execute_shouldLockOnceAndDeductEveryLine() {
+        // Arrange
+        Product iphone = Product.create("IPHONE-17", "iPhone 17 Pro Max", 10);
+        Product ipad = Product.create("IPAD-PRO", "iPad Pro", 5);
+        when(productRepository.findAllByIdsForUpdate(anyCollection())).thenReturn(List.of(ipad, iphone));
+
+        DeductStockBatchCommand command = new DeductStockBatchCommand(List.of(
+                new DeductStockCommand("ORD-001", "IPHONE-17", 3),
+                new DeductStockCommand("ORD-002", "IPAD-PRO", 1),
+                new DeductStockCommand("ORD-003", "IPHONE-17", 2)
+        ));
+
+        // Act
+        DeductStockBatchUseCase.BatchDeductResult result = handler.execute(command);
+
+        // Assert
+        assertEquals(3, result.lines().size());
+        assertTrue(result.lines().stream().allMatch(DeductStockBatchUseCase.LineResult::success));
+        assertEquals(7, result.lines().get(0).remainingStock());
+        assertEquals(4, result.lines().get(1).remainingStock());
+        assertEquals(5, result.lines().get(2).remainingStock());
+        verify(productRepository, times(1)).findAllByIdsForUpdate(anyCollection());
+        verify(productRepository, times(2)).save(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("庫存不足的行應單獨失敗，其餘行仍成功")
+    void execute_insufficientStock_shouldFailOnlyThatLine() {
+        // Arrange
+        Product iphone = Product.create("IPHONE-17", "iPhone 17 Pro Max", 4);
+        when(productRepository.findAllByIdsForUpdate(anyCollection())).thenReturn(List.of(iphone));
+
+        DeductStockBatchCommand command = new DeductStockBatchCommand(List.of(
+                new DeductStockCommand("ORD-001", "IPHONE-17", 3),
+                new DeductStockCommand("ORD-002", "IPHONE-17", 3),
+                new DeductStockCommand("ORD-003", "IPHONE-17", 1)
+        ));
+
+        // Act
+        DeductStockBatchUseCase.BatchDeductResult result = handler.execute(command);
+
+        // Assert
+        assertTrue(result.lines().get(0).success());
+        assertFalse(result.lines().get(1).success());
+        assertTrue(result.lines().get(1).message().contains("Insufficient"));
+        assertTrue(result.lines().get(2).success());
+        assertEquals(0, result.lines().get(2).remainingStock());
+        verify(productRepository).save(iphone);
+    }
+
+    @Test
+    @DisplayName("商品不存在的行應返回失敗")
+    void execute_unknownProduct_shouldFailLine() {
+        // Arrange
+        when(productRepository.findAllByIdsForUpdate(anyCollection())).thenReturn(List.of());
+
+        DeductStockBatchCommand command = new DeductStockBatchCommand(List.of(
+                new DeductStockCommand("ORD-001", "NOT-EXIST", 1)
+        ));
+
+        // Act
+        DeductStockBatchUseCase.BatchDeductResult result = handler.execute(command);
+
+        // Assert
+        assertFalse(result.lines().get(0).success());
+        assertEquals("Product not found: NOT-EXIST", result.lines().get(0).message());
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("應傳入批次中的所有商品編號")
+    void execute_shouldRequestAllProductIds() {
+        // Arrange
+        when(productRepository.findAllByIdsForUpdate(anyCollection())).thenReturn(List.of());
+
+        // Act
+        handler.execute(new DeductStockBatchCommand(List.of(
+                new DeductStockCommand("ORD-001", "B-SKU", 1),
+                new DeductStockCommand("ORD-002", "A-SKU", 1)
+        )));
+
+        // Assert
+        verify(productRepository).findAllByIdsForUpdate(
+                argThat(ids -> ids.containsAll(List.of(ProductId.of("A-SKU"), ProductId.of("B-SKU")))));
+    }
+
+    @Test
+    @DisplayName("熱門商品行應由記憶體庫存扣減且不被鎖定")
+    void execute_shouldRouteHotProductLinesToHotStockStore() {
+        // Arrange
+        Product ipad = Product.create("IPAD-PRO", "iPad Pro", 5);
+        when(hotStockStore.manages(any(ProductId.class)))
+                .thenAnswer(invocation -> invocation.<ProductId>getArgument(0).value().equals("IPHONE-17"));
+        when(hotStockStore.tryDeduct(ProductId.of("IPHONE-17"), "ORD-001", 3))
+                .thenReturn(new ProductRepository.StockDeduction(true, 7));
+        when(productRepository.findAllByIdsForUpdate(List.of(ProductId.of("IPAD-PRO")))).thenReturn(List.of(ipad));
+
+        DeductStockBatchCommand command = new DeductStockBatchCommand(List.of(
+                new DeductStockCommand("ORD-001", "IPHONE-17", 3),
+                new DeductStockCommand("ORD-002", "IPAD-PRO", 1)
+        ));
+
+        // Act
+        DeductStockBatchUseCase.BatchDeductResult result = handler.execute(command);
+
+        // Assert
+        assertTrue(result.lines().stream().allMatch(DeductStockBatchUseCase.LineResult::success));
+        assertEquals(7, result.lines().get(0).remainingStock());
+        assertEquals(4, result.lines().get(1).remainingStock());
+        verify(productRepository).save(ipad);
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.inventory.application.command;
 
 import com.example.inventory.application.port.inbound.DeductStockUseCase;
+import com.example.inventory.application.port.outbound.HotStockStore;
+import com.example.inventory.application.port.outbound.InventoryLogRepository;
+import com.example.inventory.application.port.outbound.InventoryLogRepository.InventoryLogEntry;
 import com.example.inventory.application.port.outbound.ProductRepository;
 import com.example.inventory.domain.model.aggregate.Product;
+import com.example.inventory.domain.model.valueobject.InventoryOperation;
 import com.example.inventory.domain.model.valueobject.ProductId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,12 +27,16 @@ class DeductStockCommandHandlerTest {
 
     @Mock
     private ProductRepository productRepository;
+    @Mock
+    private HotStockStore hotStockStore;
+    @Mock
+    private InventoryLogRepository inventoryLogRepository;
 
     private DeductStockCommandHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new DeductStockCommandHandler(productRepository);
+        handler = new DeductStockCommandHandler(productRepository, hotStockStore, inventoryLogRepository);
     }
 
     @Test
@@ -49,6 +57,46 @@ class DeductStockCommandHandlerTest {
         assertTrue(result.success());
         assertEquals(7, result.remainingStock());
         verify(productRepository).save(any(Product.class));
+        verify(inventoryLogRepository).save(
+                InventoryLogEntry.success("ORD-001", "IPHONE-17", InventoryOperation.DEDUCT, 3));
+    }
+
+    @Test
+    @DisplayName("已記錄扣減的訂單重送時不應再次扣減")
+    void execute_alreadyDeducted_shouldNotDeductAgain() {
+        // Arrange
+        Product product = Product.create("IPHONE-17", "iPhone 17 Pro Max", 7);
+        when(productRepository.findByIdForUpdate(any(ProductId.class))).thenReturn(Optional.of(product));
+        when(inventoryLogRepository.findByOrderAndProductAndOperation("ORD-001", "IPHONE-17", InventoryOperation.DEDUCT))
+                .thenReturn(Optional.of(InventoryLogEntry.success("ORD-001", "IPHONE-17", InventoryOperation.DEDUCT, 3)));
+
+        // Act
+        DeductStockUseCase.DeductResult result = handler.execute(new DeductStockCommand("ORD-001", "IPHONE-17", 3));
+
+        // Assert
+        assertTrue(result.success());
+        assertEquals(StockLedger.ALREADY_DEDUCTED, result.message());
+        assertEquals(7, result.remainingStock());
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("訂單已回滾後才到達的扣減應被拒絕")
+    void execute_afterRollback_shouldRefuseDeduction() {
+        // Arrange
+        Product product = Product.create("IPHONE-17", "iPhone 17 Pro Max", 10);
+        when(productRepository.findByIdForUpdate(any(ProductId.class))).thenReturn(Optional.of(product));
+        lenient().when(inventoryLogRepository.findByOrderAndProductAndOperation("ORD-001", "IPHONE-17", InventoryOperation.ROLLBACK))
+                .thenReturn(Optional.of(InventoryLogEntry.success("ORD-001", "IPHONE-17", InventoryOperation.ROLLBACK, 0)));
+
+        // Act
+        DeductStockUseCase.DeductResult result = handler.execute(new DeductStockCommand("ORD-001", "IPHONE-17", 3));
+
+        // Assert
+        assertFalse(result.success());
+        assertEquals(StockLedger.ALREADY_ROLLED_BACK + "ORD-001", result.message());
+        assertEquals(10, result.remainingStock());
+        verify(productRepository, never()).save(any());
     }
 
     @Test
@@ -81,4 +129,42 @@ class DeductStockCommandHandlerTest {
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> handler.execute(command));
     }
+
+    @Test
+    @DisplayName("熱門商品應由記憶體庫存扣減而不鎖定資料列")
+    void execute_shouldDeductHotProductFromHotStockStore() {
+        // Arrange
+        when(hotStockStore.manages(ProductId.of("IPHONE-17"))).thenReturn(true);
+        when(hotStockStore.tryDeduct(ProductId.of("IPHONE-17"), "ORD-001", 3))
+                .thenReturn(new ProductRepository.StockDeduction(true, 7));
+
+        DeductStockCommand command = new DeductStockCommand("ORD-001", "IPHONE-17", 3);
+
+        // Act
+        DeductStockUseCase.DeductResult result = handler.execute(command);
+
+        // Assert
+        assertTrue(result.success());
+        assertEquals(7, result.remainingStock());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("熱門商品庫存不足應返回失敗")
+    void execute_shouldReturnFailureWhenHotProductStockInsufficient() {
+        // Arrange
+        when(hotStockStore.manages(ProductId.of("IPHONE-17"))).thenReturn(true);
+        when(hotStockStore.tryDeduct(ProductId.of("IPHONE-17"), "ORD-001", 10))
+                .thenReturn(new ProductRepository.StockDeduction(false, 5));
+
+        DeductStockCommand command = new DeductStockCommand("ORD-001", "IPHONE-17", 10);
+
+        // Act
+        DeductStockUseCase.DeductResult result = handler.execute(command);
+
+        // Assert
+        assertFalse(result.success());
+        assertTrue(result.message().contains("Insufficient"));
+        assertEquals(5, result.remainingStock());
+    }
 }
@@ -0,0 +1,153 @@
+package com.example.inventory.application.command;
+
+import com.example.inventory.application.port.inbound.ReserveStockUseCase;
+import com.example.inventory.application.port.outbound.HotStockStore;
+import com.example.inventory.application.port.outbound.InventoryLogRepository;
+import com.example.inventory.application.port.outbound.ProductRepository;
+import com.example.inventory.domain.model.aggregate.Product;
+import com.example.inventory.domain.model.valueobject.ProductId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReserveStockCommandHandler 測試")
+class ReserveStockCommandHandlerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private HotStockStore hotStockStore;
+    @Mock
+    private InventoryLogRepository inventoryLogRepository;
+
+    private ReserveStockCommandHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new ReserveStockCommandHandler(productRepository, hotStockStore, inventoryLogRepository);
+    }
+
+    @Test
+    @DisplayName("所有品項庫存足夠時應以單一查詢鎖定並全部扣減")
+    void execute_shouldLockOnceAndReserveEveryLine() {
+        // Arrange
+        Product iphone = Product.create("IPHONE-17", "iPhone 17 Pro Max", 10);
+        Product ipad = Product.create("IPAD-PRO", "iPad Pro", 5);
+        when(productRepository.findAllByIdsForUpdate(anyCollection())).thenReturn(List.of(ipad, iphone));
+
+        // Act
+        ReserveStockUseCase.ReserveResult result = handler.execute(new ReserveStockCommand("ORD-001", List.of(
+                new ReserveStockCommand.Line("IPHONE-17", 3),
+                new ReserveStockCommand.Line("IPAD-PRO", 1)
+        )));
+
+        // Assert
+        assertTrue(result.success());
+        assertEquals(List.of(
+                new ReserveStockUseCase.LineResult("IPHONE-17", 7),
+                new ReserveStockUseCase.LineResult("IPAD-PRO", 4)
+        ), result.lines());
+        verify(productRepository, times(1)).findAllByIdsForUpdate(anyCollection());
+        verify(productRepository).save(iphone);
+        verify(productRepository).save(ipad);
+    }
+
+    @Test
+    @DisplayName("任一品項庫存不足時應全部不扣減")
+    void execute_insufficientStock_shouldReserveNothing() {
+        // Arrange
+        Product iphone = Product.create("IPHONE-17", "iPhone 17 Pro Max", 10);
+        Product ipad = Product.create("IPAD-PRO", "iPad Pro", 1);
+        when(productRepository.findAllByIdsForUpdate(anyCollection())).thenReturn(List.of(ipad, iphone));
+
+        // Act
+        ReserveStockUseCase.ReserveResult result = handler.execute(new ReserveStockCommand("ORD-001", List.of(
+                new ReserveStockCommand.Line("IPHONE-17", 3),
+                new ReserveStockCommand.Line("IPAD-PRO", 2)
+        )));
+
+        // Assert
+        assertFalse(result.success());
+        assertTrue(result.message().contains("IPAD-PRO"));
+        assertTrue(result.lines().isEmpty());
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("商品不存在時應失敗且不扣減")
+    void execute_unknownProduct_shouldFail() {
+        // Arrange
+        when(productRepository.findAllByIdsForUpdate(anyCollection())).thenReturn(List.of());
+
+        // Act
+        ReserveStockUseCase.ReserveResult result = handler.execute(new ReserveStockCommand("ORD-001", List.of(
+                new ReserveStockCommand.Line("NOT-EXIST", 1)
+        )));
+
+        // Assert
+        assertFalse(result.success());
+        assertEquals("Product not found: NOT-EXIST", result.message());
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("後續品項失敗時應釋放已由記憶體庫存扣減的熱門商品")
+    void execute_laterLineFails_shouldReleaseHotProductLines() {
+        // Arrange
+        when(hotStockStore.manages(any(ProductId.class)))
+                .thenAnswer(invocation -> invocation.<ProductId>getArgument(0).value().equals("IPHONE-17"));
+        when(hotStockStore.tryDeduct(ProductId.of("IPHONE-17"), "ORD-001", 3))
+                .thenReturn(new ProductRepository.StockDeduction(true, 7));
+        when(productRepository.findAllByIdsForUpdate(List.of(ProductId.of("IPAD-PRO"))))
+                .thenReturn(List.of(Product.create("IPAD-PRO", "iPad Pro", 0)));
+
+        // Act
+        ReserveStockUseCase.ReserveResult result = handler.execute(new ReserveStockCommand("ORD-001", List.of(
+                new ReserveStockCommand.Line("IPHONE-17", 3),
+                new ReserveStockCommand.Line("IPAD-PRO", 1)
+        )));
+
+        // Assert
+        assertFalse(result.success());
+        verify(hotStockStore).release(ProductId.of("IPHONE-17"), "ORD-001", 3);
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("儲存失敗導致交易回滾時應釋放已扣減的熱門商品")
+    void execute_transactionRolledBack_shouldReleaseHotProductLines() {
+        // Arrange
+        when(hotStockStore.manages(any(ProductId.class)))
+                .thenAnswer(invocation -> invocation.<ProductId>getArgument(0).value().equals("IPHONE-17"));
+        when(hotStockStore.tryDeduct(ProductId.of("IPHONE-17"), "ORD-001", 3))
+                .thenReturn(new ProductRepository.StockDeduction(true, 7));
+        when(productRepository.findAllByIdsForUpdate(List.of(ProductId.of("IPAD-PRO"))))
+                .thenReturn(List.of(Product.create("IPAD-PRO", "iPad Pro", 5)));
+        doThrow(new IllegalStateException("db down")).when(productRepository).save(any());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            assertThrows(IllegalStateException.class, () -> handler.execute(new ReserveStockCommand("ORD-001",
+                    List.of(new ReserveStockCommand.Line("IPHONE-17", 3), new ReserveStockCommand.Line("IPAD-PRO", 1)))));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Assert
+            verify(hotStockStore).release(ProductId.of("IPHONE-17"), "ORD-001", 3);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
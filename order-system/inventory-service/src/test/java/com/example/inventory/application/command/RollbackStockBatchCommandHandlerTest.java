@@ -0,0 +1,94 @@
+package com.example.inventory.application.command;
+
+import com.example.inventory.application.port.inbound.RollbackStockBatchUseCase;
+import com.example.inventory.application.port.outbound.HotStockStore;
+import com.example.inventory.application.port.outbound.InventoryLogRepository;
+import com.example.inventory.application.port.outbound.InventoryLogRepository.InventoryLogEntry;
+import com.example.inventory.application.port.outbound.ProductRepository;
+import com.example.inventory.domain.model.aggregate.Product;
+import com.example.inventory.domain.model.valueobject.InventoryOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RollbackStockBatchCommandHandler 測試")
+class RollbackStockBatchCommandHandlerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private HotStockStore hotStockStore;
+    @Mock
+    private InventoryLogRepository inventoryLogRepository;
+
+    private RollbackStockBatchCommandHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new RollbackStockBatchCommandHandler(productRepository, hotStockStore, inventoryLogRepository);
+    }
+
+    @Test
+    @DisplayName("應逐行回滾並每個商品只儲存一次")
+    void execute_shouldRollbackEveryLine() {
+        // Arrange
+        Product iphone = Product.create("IPHONE-17", "iPhone 17 Pro Max", 5);
+        when(productRepository.findAllByIdsForUpdate(anyCollection())).thenReturn(List.of(iphone));
+        recordDeduction("ORD-001", "IPHONE-17", 2);
+        recordDeduction("ORD-002", "IPHONE-17", 3);
+
+        RollbackStockBatchCommand command = new RollbackStockBatchCommand(List.of(
+                new RollbackStockCommand("ORD-001", "IPHONE-17", 2),
+                new RollbackStockCommand("ORD-002", "IPHONE-17", 3),
+                new RollbackStockCommand("ORD-003", "NOT-EXIST", 1)
+        ));
+
+        // Act
+        RollbackStockBatchUseCase.BatchRollbackResult result = handler.execute(command);
+
+        // Assert
+        assertEquals(7, result.lines().get(0).currentStock());
+        assertEquals(10, result.lines().get(1).currentStock());
+        assertFalse(result.lines().get(2).success());
+        verify(productRepository, times(1)).save(iphone);
+    }
+
+    @Test
+    @DisplayName("沒有扣減紀錄的訂單行不應歸還庫存")
+    void execute_lineWithoutRecordedDeduction_shouldLeaveStockUnchanged() {
+        // Arrange
+        Product iphone = Product.create("IPHONE-17", "iPhone 17 Pro Max", 5);
+        when(productRepository.findAllByIdsForUpdate(anyCollection())).thenReturn(List.of(iphone));
+        recordDeduction("ORD-001", "IPHONE-17", 2);
+
+        RollbackStockBatchCommand command = new RollbackStockBatchCommand(List.of(
+                new RollbackStockCommand("ORD-001", "IPHONE-17", 2),
+                new RollbackStockCommand("ORD-002", "IPHONE-17", 3)
+        ));
+
+        // Act
+        RollbackStockBatchUseCase.BatchRollbackResult result = handler.execute(command);
+
+        // Assert
+        assertEquals(7, result.lines().get(0).currentStock());
+        assertTrue(result.lines().get(1).success());
+        assertEquals(StockLedger.NOTHING_TO_ROLL_BACK, result.lines().get(1).message());
+        assertEquals(7, iphone.getCurrentStock());
+    }
+
+    private void recordDeduction(String orderId, String productId, int quantity) {
+        lenient().when(inventoryLogRepository.findByOrderAndProductAndOperation(orderId, productId, InventoryOperation.DEDUCT))
+                .thenReturn(Optional.of(InventoryLogEntry.success(orderId, productId, InventoryOperation.DEDUCT, quantity)));
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.inventory.application.command;
 
 import com.example.inventory.application.port.inbound.RollbackStockUseCase;
+import com.example.inventory.application.port.outbound.HotStockStore;
+import com.example.inventory.application.port.outbound.InventoryLogRepository;
+import com.example.inventory.application.port.outbound.InventoryLogRepository.InventoryLogEntry;
 import com.example.inventory.application.port.outbound.ProductRepository;
 import com.example.inventory.domain.model.aggregate.Product;
+import com.example.inventory.domain.model.valueobject.InventoryOperation;
 import com.example.inventory.domain.model.valueobject.ProductId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,12 +27,16 @@ class RollbackStockCommandHandlerTest {
 
     @Mock
     private ProductRepository productRepository;
+    @Mock
+    private HotStockStore hotStockStore;
+    @Mock
+    private InventoryLogRepository inventoryLogRepository;
 
     private RollbackStockCommandHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new RollbackStockCommandHandler(productRepository);
+        handler = new RollbackStockCommandHandler(productRepository, hotStockStore, inventoryLogRepository);
     }
 
     @Test
@@ -39,6 +47,8 @@ class RollbackStockCommandHandlerTest {
         when(productRepository.findByIdForUpdate(any(ProductId.class)))
                 .thenReturn(Optional.of(product));
         when(productRepository.save(any(Product.class))).thenReturn(product);
+        when(inventoryLogRepository.findByOrderAndProductAndOperation("ORD-001", "IPHONE-17", InventoryOperation.DEDUCT))
+                .thenReturn(Optional.of(InventoryLogEntry.success("ORD-001", "IPHONE-17", InventoryOperation.DEDUCT, 3)));
 
         RollbackStockCommand command = new RollbackStockCommand("ORD-001", "IPHONE-17", 3);
 
@@ -49,6 +59,49 @@ class RollbackStockCommandHandlerTest {
         assertTrue(result.success());
         assertEquals(10, result.currentStock());
         verify(productRepository).save(any(Product.class));
+        verify(inventoryLogRepository).save(
+                InventoryLogEntry.success("ORD-001", "IPHONE-17", InventoryOperation.ROLLBACK, 3));
+    }
+
+    @Test
+    @DisplayName("訂單沒有扣減紀錄時回滾不應改變庫存，並記下 0 件回滾")
+    void execute_withoutRecordedDeduction_shouldLeaveStockUnchanged() {
+        // Arrange
+        Product product = Product.create("IPHONE-17", "iPhone 17 Pro Max", 7);
+        when(productRepository.findByIdForUpdate(any(ProductId.class))).thenReturn(Optional.of(product));
+
+        // Act
+        RollbackStockUseCase.RollbackResult result = handler.execute(
+                new RollbackStockCommand("ORD-001", "IPHONE-17", 3));
+
+        // Assert
+        assertTrue(result.success());
+        assertEquals(StockLedger.NOTHING_TO_ROLL_BACK, result.message());
+        assertEquals(7, result.currentStock());
+        verify(productRepository, never()).save(any());
+        verify(inventoryLogRepository).save(
+                InventoryLogEntry.success("ORD-001", "IPHONE-17", InventoryOperation.ROLLBACK, 0));
+    }
+
+    @Test
+    @DisplayName("重複回滾只應歸還一次")
+    void execute_alreadyRolledBack_shouldNotReturnStockAgain() {
+        // Arrange
+        Product product = Product.create("IPHONE-17", "iPhone 17 Pro Max", 10);
+        when(productRepository.findByIdForUpdate(any(ProductId.class))).thenReturn(Optional.of(product));
+        when(inventoryLogRepository.findByOrderAndProductAndOperation("ORD-001", "IPHONE-17", InventoryOperation.DEDUCT))
+                .thenReturn(Optional.of(InventoryLogEntry.success("ORD-001", "IPHONE-17", InventoryOperation.DEDUCT, 3)));
+        when(inventoryLogRepository.findByOrderAndProductAndOperation("ORD-001", "IPHONE-17", InventoryOperation.ROLLBACK))
+                .thenReturn(Optional.of(InventoryLogEntry.success("ORD-001", "IPHONE-17", InventoryOperation.ROLLBACK, 3)));
+
+        // Act
+        RollbackStockUseCase.RollbackResult result = handler.execute(
+                new RollbackStockCommand("ORD-001", "IPHONE-17", 3));
+
+        // Assert
+        assertTrue(result.success());
+        assertEquals(10, result.currentStock());
+        verify(productRepository, never()).save(any());
     }
 
     @Test
@@ -63,4 +116,22 @@ class RollbackStockCommandHandlerTest {
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> handler.execute(command));
     }
+
+    @Test
+    @DisplayName("熱門商品應歸還至記憶體庫存")
+    void execute_shouldReleaseHotProductToHotStockStore() {
+        // Arrange
+        when(hotStockStore.manages(ProductId.of("IPHONE-17"))).thenReturn(true);
+        when(hotStockStore.release(ProductId.of("IPHONE-17"), "ORD-001", 3)).thenReturn(10);
+
+        RollbackStockCommand command = new RollbackStockCommand("ORD-001", "IPHONE-17", 3);
+
+        // Act
+        RollbackStockUseCase.RollbackResult result = handler.execute(command);
+
+        // Assert
+        assertTrue(result.success());
+        assertEquals(10, result.currentStock());
+        verifyNoInteractions(productRepository);
+    }
 }
@@ -68,6 +68,17 @@ class ProductTest {
         assertEquals(10, product.getCurrentStock());
     }
 
+    @Test
+    @DisplayName("新產品版本應為 0，儲存後記錄版本")
+    void markPersisted_shouldRecordVersion() {
+        Product product = Product.create("IPHONE-17", "iPhone 17 Pro Max", 10);
+        assertEquals(0, product.getVersion());
+
+        product.markPersisted(1);
+
+        assertEquals(1, product.getVersion());
+    }
+
     @Test
     @DisplayName("回滾庫存應產生 StockRolledBack 事件")
     void rollbackStock_shouldRaiseStockRolledBackEvent() {
@@ -113,10 +124,11 @@ class ProductTest {
         StockQuantity stockQuantity = StockQuantity.of(10);
         LocalDateTime now = LocalDateTime.now();
 
-        Product product = Product.reconstitute(productId, "iPhone 17 Pro Max", stockQuantity, now, now);
+        Product product = Product.reconstitute(productId, "iPhone 17 Pro Max", stockQuantity, now, now, 2);
 
         assertEquals("IPHONE-17", product.getProductId().value());
         assertEquals(10, product.getCurrentStock());
+        assertEquals(2, product.getVersion());
     }
 
     @Test
@@ -0,0 +1,147 @@
+package com.example.inventory.infrastructure.adapter.inbound.messaging;
+
+import com.example.common.messaging.BrokerMessage;
+import com.example.common.messaging.MessageBroker;
+import com.example.inventory.application.command.DeductStockCommand;
+import com.example.inventory.application.command.ReserveStockCommand;
+import com.example.inventory.application.command.RollbackStockCommand;
+import com.example.inventory.application.port.inbound.DeductStockUseCase;
+import com.example.inventory.application.port.inbound.ReserveStockUseCase;
+import com.example.inventory.application.port.inbound.RollbackStockBatchUseCase;
+import com.example.inventory.application.port.inbound.RollbackStockUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryCommandListener 測試")
+class InventoryCommandListenerTest {
+
+    private static final String STOCK_COMMAND =
+            "{\"orderId\":\"ORD-00000001\",\"productId\":\"IPHONE-17-PRO-MAX\",\"quantity\":1}";
+
+    @Mock
+    private MessageBroker messageBroker;
+    @Mock
+    private DeductStockUseCase deductStockUseCase;
+    @Mock
+    private RollbackStockUseCase rollbackStockUseCase;
+    @Mock
+    private ReserveStockUseCase reserveStockUseCase;
+    @Mock
+    private RollbackStockBatchUseCase rollbackStockBatchUseCase;
+
+    private InventoryCommandListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new InventoryCommandListener(messageBroker, new ObjectMapper(),
+                deductStockUseCase, rollbackStockUseCase, reserveStockUseCase, rollbackStockBatchUseCase,
+                "inventory.commands");
+    }
+
+    @Test
+    @DisplayName("扣減命令應執行扣減並以相同關聯鍵回覆")
+    void onCommand_deduct_shouldReplyWithCorrelationId() {
+        // Arrange
+        when(deductStockUseCase.execute(new DeductStockCommand("ORD-00000001", "IPHONE-17-PRO-MAX", 1)))
+                .thenReturn(new DeductStockUseCase.DeductResult("IPHONE-17-PRO-MAX", true, "Stock deducted", 9));
+
+        // Act
+        listener.onCommand(BrokerMessage.command("ORD-00000001:DeductStock", "DeductStock",
+                "order.saga.replies", STOCK_COMMAND));
+
+        // Assert
+        BrokerMessage reply = sentReply();
+        assertEquals("ORD-00000001:DeductStock", reply.correlationId());
+        assertEquals("DeductStockReply", reply.type());
+        assertTrue(reply.payload().contains("\"remainingStock\":9"));
+    }
+
+    @Test
+    @DisplayName("回滾命令應執行回滾")
+    void onCommand_rollback_shouldRollbackStock() {
+        // Arrange
+        when(rollbackStockUseCase.execute(new RollbackStockCommand("ORD-00000001", "IPHONE-17-PRO-MAX", 1)))
+                .thenReturn(new RollbackStockUseCase.RollbackResult("IPHONE-17-PRO-MAX", true, "Stock rolled back", 10));
+
+        // Act
+        listener.onCommand(BrokerMessage.command("ORD-00000001:RollbackStock", "RollbackStock",
+                "order.saga.replies", STOCK_COMMAND));
+
+        // Assert
+        assertTrue(sentReply().payload().contains("\"currentStock\":10"));
+    }
+
+    @Test
+    @DisplayName("命令執行失敗應回覆失敗結果")
+    void onCommand_useCaseThrows_shouldReplyFailure() {
+        // Arrange
+        when(deductStockUseCase.execute(any())).thenThrow(new IllegalArgumentException("Product not found"));
+
+        // Act
+        listener.onCommand(BrokerMessage.command("ORD-00000001:DeductStock", "DeductStock",
+                "order.saga.replies", STOCK_COMMAND));
+
+        // Assert
+        BrokerMessage reply = sentReply();
+        assertTrue(reply.payload().contains("\"success\":false"));
+        assertTrue(reply.payload().contains("Product not found"));
+    }
+
+    @Test
+    @DisplayName("預留命令應一次預留訂單所有品項")
+    void onCommand_reserve_shouldReserveAllLines() {
+        // Arrange
+        when(reserveStockUseCase.execute(new ReserveStockCommand("ORD-00000001", List.of(
+                new ReserveStockCommand.Line("IPHONE-17-PRO-MAX", 1),
+                new ReserveStockCommand.Line("AIRPODS-PRO", 2)))))
+                .thenReturn(new ReserveStockUseCase.ReserveResult("ORD-00000001", true, "Stock reserved", List.of(
+                        new ReserveStockUseCase.LineResult("IPHONE-17-PRO-MAX", 9),
+                        new ReserveStockUseCase.LineResult("AIRPODS-PRO", 48))));
+
+        // Act
+        listener.onCommand(BrokerMessage.command("ORD-00000001:ReserveStock", "ReserveStock", "order.saga.replies",
+                "{\"orderId\":\"ORD-00000001\",\"lines\":[{\"productId\":\"IPHONE-17-PRO-MAX\",\"quantity\":1},"
+                        + "{\"productId\":\"AIRPODS-PRO\",\"quantity\":2}]}"));
+
+        // Assert
+        BrokerMessage reply = sentReply();
+        assertEquals("ReserveStockReply", reply.type());
+        assertTrue(reply.payload().contains("\"success\":true"));
+        assertTrue(reply.payload().contains("\"remainingStock\":48"));
+    }
+
+    @Test
+    @DisplayName("預留命令執行失敗應回覆失敗結果")
+    void onCommand_reserveThrows_shouldReplyFailure() {
+        // Arrange
+        when(reserveStockUseCase.execute(any())).thenThrow(new IllegalArgumentException("Product not found"));
+
+        // Act
+        listener.onCommand(BrokerMessage.command("ORD-00000001:ReserveStock", "ReserveStock", "order.saga.replies",
+                "{\"orderId\":\"ORD-00000001\",\"lines\":[{\"productId\":\"X\",\"quantity\":1}]}"));
+
+        // Assert
+        BrokerMessage reply = sentReply();
+        assertTrue(reply.payload().contains("\"success\":false"));
+        assertTrue(reply.payload().contains("\"lines\":[]"));
+    }
+
+    private BrokerMessage sentReply() {
+        ArgumentCaptor<BrokerMessage> captor = ArgumentCaptor.forClass(BrokerMessage.class);
+        verify(messageBroker).send(eq("order.saga.replies"), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -2,7 +2,13 @@ package com.example.inventory.infrastructure.adapter.inbound.rest;
 
 import com.example.inventory.application.command.DeductStockCommand;
 import com.example.inventory.application.command.RollbackStockCommand;
+import com.example.inventory.application.command.DeductStockBatchCommand;
+import com.example.inventory.application.command.ReserveStockCommand;
+import com.example.inventory.application.command.RollbackStockBatchCommand;
+import com.example.inventory.application.port.inbound.DeductStockBatchUseCase;
 import com.example.inventory.application.port.inbound.DeductStockUseCase;
+import com.example.inventory.application.port.inbound.ReserveStockUseCase;
+import com.example.inventory.application.port.inbound.RollbackStockBatchUseCase;
 import com.example.inventory.application.port.inbound.RollbackStockUseCase;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +21,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -30,13 +38,23 @@ class InventoryCommandControllerTest {
     @Mock
     private RollbackStockUseCase rollbackStockUseCase;
 
+    @Mock
+    private DeductStockBatchUseCase deductStockBatchUseCase;
+
+    @Mock
+    private RollbackStockBatchUseCase rollbackStockBatchUseCase;
+
+    @Mock
+    private ReserveStockUseCase reserveStockUseCase;
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
         InventoryCommandController controller = new InventoryCommandController(
-                deductStockUseCase, rollbackStockUseCase);
+                deductStockUseCase, rollbackStockUseCase, deductStockBatchUseCase, rollbackStockBatchUseCase,
+                reserveStockUseCase);
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
@@ -129,4 +147,114 @@ class InventoryCommandControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(false));
     }
+
+    @Test
+    @DisplayName("批次扣減應返回每一行的結果")
+    void deductStockBatch_shouldReturnPerLineResults() throws Exception {
+        when(deductStockBatchUseCase.execute(any(DeductStockBatchCommand.class)))
+                .thenReturn(new DeductStockBatchUseCase.BatchDeductResult(List.of(
+                        new DeductStockBatchUseCase.LineResult("ORD-001", "PROD-001", true, "Stock deducted", 9),
+                        new DeductStockBatchUseCase.LineResult("ORD-002", "PROD-001", false, "Insufficient stock", 9)
+                )));
+
+        String request = """
+            {
+                "lines": [
+                    {"orderId": "ORD-001", "productId": "PROD-001", "quantity": 1},
+                    {"orderId": "ORD-002", "productId": "PROD-001", "quantity": 50}
+                ]
+            }
+            """;
+
+        mockMvc.perform(post("/api/v1/inventory/deduct-batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(2))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[1].orderId").value("ORD-002"))
+                .andExpect(jsonPath("$.results[1].success").value(false));
+    }
+
+    @Test
+    @DisplayName("批次回滾應返回每一行的結果")
+    void rollbackStockBatch_shouldReturnPerLineResults() throws Exception {
+        when(rollbackStockBatchUseCase.execute(any(RollbackStockBatchCommand.class)))
+                .thenReturn(new RollbackStockBatchUseCase.BatchRollbackResult(List.of(
+                        new RollbackStockBatchUseCase.LineResult("ORD-001", "PROD-001", true, "Stock rolled back", 10)
+                )));
+
+        String request = """
+            {"lines": [{"orderId": "ORD-001", "productId": "PROD-001", "quantity": 1}]}
+            """;
+
+        mockMvc.perform(post("/api/v1/inventory/rollback-batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].currentStock").value(10));
+    }
+
+    @Test
+    @DisplayName("批次中有無效行應返回 400")
+    void deductStockBatch_invalidLine_shouldReturn400() throws Exception {
+        String request = """
+            {"lines": [{"orderId": "ORD-001", "productId": "", "quantity": 0}]}
+            """;
+
+        mockMvc.perform(post("/api/v1/inventory/deduct-batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("空批次應返回 400")
+    void deductStockBatch_emptyLines_shouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/v1/inventory/deduct-batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"lines\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("預留訂單庫存應返回每個品項的剩餘庫存")
+    void reserveStock_shouldReturnRemainingStockPerLine() throws Exception {
+        when(reserveStockUseCase.execute(any(ReserveStockCommand.class)))
+                .thenReturn(new ReserveStockUseCase.ReserveResult("ORD-001", true, "Stock reserved", List.of(
+                        new ReserveStockUseCase.LineResult("PROD-001", 9),
+                        new ReserveStockUseCase.LineResult("PROD-002", 3)
+                )));
+
+        String request = """
+            {
+                "orderId": "ORD-001",
+                "lines": [
+                    {"productId": "PROD-001", "quantity": 1},
+                    {"productId": "PROD-002", "quantity": 2}
+                ]
+            }
+            """;
+
+        mockMvc.perform(post("/api/v1/inventory/reserve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.lines.length()").value(2))
+                .andExpect(jsonPath("$.lines[1].remainingStock").value(3));
+    }
+
+    @Test
+    @DisplayName("預留時缺少訂單編號或品項應返回 400")
+    void reserveStock_invalidRequest_shouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/v1/inventory/reserve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orderId\": \"ORD-001\", \"lines\": []}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/v1/inventory/reserve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"lines\": [{\"productId\": \"PROD-001\", \"quantity\": 1}]}"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,282 @@
+package com.example.inventory.infrastructure.adapter.outbound.memory;
+
+import com.example.inventory.application.port.outbound.ProductRepository;
+import com.example.inventory.domain.model.aggregate.Product;
+import com.example.inventory.domain.model.valueobject.InventoryOperation;
+import com.example.inventory.domain.model.valueobject.ProductId;
+import com.example.inventory.infrastructure.adapter.outbound.persistence.HotStockLease;
+import com.example.inventory.infrastructure.adapter.outbound.persistence.StockDelta;
+import com.example.inventory.infrastructure.adapter.outbound.persistence.StockDeltaWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryHotStockStore 測試")
+class InMemoryHotStockStoreTest {
+
+    private static final ProductId HOT = ProductId.of("IPHONE-17");
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private StockDeltaWriter deltaWriter;
+    @Mock
+    private HotStockLease lease;
+
+    private MeterRegistry meterRegistry;
+    private InMemoryHotStockStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(productRepository.findById(HOT))
+                .thenReturn(Optional.of(Product.create("IPHONE-17", "iPhone 17 Pro Max", 10)));
+        when(productRepository.findById(ProductId.of("MISSING"))).thenReturn(Optional.empty());
+        when(lease.acquire(eq("IPHONE-17"), anyString(), any(Duration.class))).thenReturn(true);
+        lenient().when(deltaWriter.journal(any(StockDelta.class))).thenReturn(true);
+        store = newStore();
+        store.rebuild();
+    }
+
+    private InMemoryHotStockStore newStore() {
+        return new InMemoryHotStockStore(productRepository, deltaWriter, lease, meterRegistry,
+                List.of("IPHONE-17", "MISSING"), 4, 2, Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("啟動時應只接管資料庫中存在的熱門商品")
+    void rebuild_shouldManageExistingHotProductsOnly() {
+        assertTrue(store.manages(HOT));
+        assertFalse(store.manages(ProductId.of("MISSING")));
+        assertFalse(store.manages(ProductId.of("IPAD-PRO")));
+    }
+
+    @Test
+    @DisplayName("扣減成功應返回剩餘庫存並排入寫回佇列")
+    void tryDeduct_shouldDeductAndQueueDelta() {
+        // Act
+        ProductRepository.StockDeduction deduction = store.tryDeduct(HOT, "ORD-001", 3);
+
+        // Assert
+        assertTrue(deduction.deducted());
+        assertEquals(7, deduction.currentStock());
+        assertEquals(1, store.pendingCount());
+        assertEquals(1.0, meterRegistry.get(InMemoryHotStockStore.PENDING_METRIC).gauge().value());
+        verify(deltaWriter).journal(new StockDelta("IPHONE-17", "ORD-001", InventoryOperation.DEDUCT, 3, 7));
+        verify(deltaWriter, never()).write(anyList());
+    }
+
+    @Test
+    @DisplayName("同一訂單重複扣減不應再次扣減庫存")
+    void tryDeduct_shouldNotDeductTwiceForSameOrder() {
+        // Arrange
+        store.tryDeduct(HOT, "ORD-001", 3);
+        when(deltaWriter.journal(any(StockDelta.class))).thenReturn(false);
+        when(deltaWriter.holdsDeduction("IPHONE-17", "ORD-001")).thenReturn(true);
+
+        // Act
+        ProductRepository.StockDeduction deduction = store.tryDeduct(HOT, "ORD-001", 3);
+
+        // Assert
+        assertTrue(deduction.deducted());
+        assertEquals(7, deduction.currentStock());
+        assertEquals(1, store.pendingCount());
+    }
+
+    @Test
+    @DisplayName("重複扣減時原扣減已歸還應回報未扣減")
+    void tryDeduct_repeatAfterRollback_shouldReportOriginalOutcome() {
+        // Arrange
+        store.tryDeduct(HOT, "ORD-001", 3);
+        store.release(HOT, "ORD-001", 3);
+        when(deltaWriter.journal(any(StockDelta.class))).thenReturn(false);
+        when(deltaWriter.holdsDeduction("IPHONE-17", "ORD-001")).thenReturn(false);
+
+        // Act
+        ProductRepository.StockDeduction deduction = store.tryDeduct(HOT, "ORD-001", 3);
+
+        // Assert
+        assertFalse(deduction.deducted());
+        assertEquals(10, deduction.currentStock());
+        assertEquals(2, store.pendingCount());
+    }
+
+    @Test
+    @DisplayName("日誌寫入失敗應歸還扣減並拋出例外")
+    void tryDeduct_shouldReturnStockWhenJournalFails() {
+        // Arrange
+        when(deltaWriter.journal(any(StockDelta.class))).thenThrow(new IllegalStateException("db down"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> store.tryDeduct(HOT, "ORD-001", 3));
+        when(deltaWriter.journal(any(StockDelta.class))).thenReturn(true);
+        assertEquals(0, store.tryDeduct(HOT, "ORD-002", 10).currentStock());
+        assertEquals(1, store.pendingCount());
+    }
+
+    @Test
+    @DisplayName("庫存不足應拒絕且不排入寫回佇列")
+    void tryDeduct_shouldRejectWithoutQueueing() {
+        // Act
+        ProductRepository.StockDeduction deduction = store.tryDeduct(HOT, "ORD-001", 11);
+
+        // Assert
+        assertFalse(deduction.deducted());
+        assertEquals(10, deduction.currentStock());
+        assertEquals(0, store.pendingCount());
+    }
+
+    @Test
+    @DisplayName("非熱門商品應拋出例外")
+    void tryDeduct_shouldRejectUnmanagedProduct() {
+        assertThrows(IllegalArgumentException.class,
+                () -> store.tryDeduct(ProductId.of("IPAD-PRO"), "ORD-001", 1));
+    }
+
+    @Test
+    @DisplayName("歸還應增加庫存並排入寫回佇列")
+    void release_shouldReturnStockAndQueueDelta() {
+        // Arrange
+        store.tryDeduct(HOT, "ORD-001", 3);
+
+        // Act
+        int stock = store.release(HOT, "ORD-001", 3);
+
+        // Assert
+        assertEquals(10, stock);
+        assertEquals(2, store.pendingCount());
+    }
+
+    @Test
+    @DisplayName("訂單沒有扣減紀錄時歸還不應增加庫存")
+    void release_withoutRecordedDeduction_shouldNotReturnStock() {
+        // Arrange
+        when(deltaWriter.journal(any(StockDelta.class))).thenReturn(false);
+
+        // Act
+        int stock = store.release(HOT, "ORD-001", 3);
+
+        // Assert
+        assertEquals(10, stock);
+        assertEquals(0, store.pendingCount());
+    }
+
+    @Test
+    @DisplayName("同一訂單重複歸還不應再次增加庫存")
+    void release_shouldNotReturnTwiceForSameOrder() {
+        // Arrange
+        store.tryDeduct(HOT, "ORD-001", 3);
+        store.release(HOT, "ORD-001", 3);
+        when(deltaWriter.journal(any(StockDelta.class))).thenReturn(false);
+
+        // Act
+        int stock = store.release(HOT, "ORD-001", 3);
+
+        // Assert
+        assertEquals(10, stock);
+        assertEquals(2, store.pendingCount());
+    }
+
+    @Test
+    @DisplayName("重啟時應計入尚未寫回的日誌並重新排入寫回佇列")
+    void rebuild_shouldApplyAndQueueUnappliedJournal() {
+        // Arrange
+        when(deltaWriter.unapplied("IPHONE-17", 10)).thenReturn(List.of(
+                new StockDelta("IPHONE-17", "ORD-001", InventoryOperation.DEDUCT, 3, 7),
+                new StockDelta("IPHONE-17", "ORD-002", InventoryOperation.DEDUCT, 2, 5)));
+        InMemoryHotStockStore restarted = newStore();
+
+        // Act
+        restarted.rebuild();
+
+        // Assert
+        assertEquals(2, restarted.pendingCount());
+        assertFalse(restarted.tryDeduct(HOT, "ORD-003", 6).deducted());
+        assertEquals(0, restarted.tryDeduct(HOT, "ORD-003", 5).currentStock());
+    }
+
+    @Test
+    @DisplayName("熱門商品由其他實例持有時應拒絕啟動")
+    void rebuild_shouldFailWhenAnotherInstanceHoldsLease() {
+        // Arrange
+        when(lease.acquire(eq("IPHONE-17"), anyString(), any(Duration.class))).thenReturn(false);
+        InMemoryHotStockStore second = newStore();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, second::rebuild);
+    }
+
+    @Test
+    @DisplayName("租約遺失後應拒絕該商品的扣減")
+    void flush_shouldRejectDeductionsAfterLeaseLost() {
+        // Arrange
+        when(lease.acquire(eq("IPHONE-17"), anyString(), any(Duration.class))).thenReturn(true, false);
+        InMemoryHotStockStore expiring = new InMemoryHotStockStore(productRepository, deltaWriter, lease,
+                meterRegistry, List.of("IPHONE-17"), 4, 2, Duration.ZERO);
+        expiring.rebuild();
+
+        // Act
+        expiring.flush();
+
+        // Assert
+        assertThrows(IllegalStateException.class, () -> expiring.tryDeduct(HOT, "ORD-001", 1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("寫回應依批次大小分批寫入資料庫")
+    void flush_shouldWriteQueuedDeltasInBatches() {
+        // Arrange
+        store.tryDeduct(HOT, "ORD-001", 1);
+        store.tryDeduct(HOT, "ORD-002", 1);
+        store.release(HOT, "ORD-001", 1);
+
+        // Act
+        store.flush();
+
+        // Assert
+        ArgumentCaptor<List<StockDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(deltaWriter, times(2)).write(captor.capture());
+        assertEquals(2, captor.getAllValues().get(0).size());
+        assertEquals(1, captor.getAllValues().get(1).size());
+        assertEquals(InventoryOperation.ROLLBACK, captor.getAllValues().get(1).get(0).operation());
+        assertEquals(0, store.pendingCount());
+        assertEquals(3.0, meterRegistry.get(InMemoryHotStockStore.FLUSHED_METRIC).counter().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("寫回失敗應保留變更並於下次優先重試")
+    void flush_shouldRetryFailedBatchFirst() {
+        // Arrange
+        store.tryDeduct(HOT, "ORD-001", 1);
+        doThrow(new IllegalStateException("db down")).doNothing().when(deltaWriter).write(anyList());
+        store.flush();
+        store.tryDeduct(HOT, "ORD-002", 1);
+
+        // Act
+        store.flush();
+
+        // Assert
+        ArgumentCaptor<List<StockDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(deltaWriter, times(2)).write(captor.capture());
+        List<StockDelta> retried = captor.getAllValues().get(1);
+        assertEquals(List.of("ORD-001", "ORD-002"), retried.stream().map(StockDelta::orderId).toList());
+        assertEquals(0, store.pendingCount());
+    }
+}
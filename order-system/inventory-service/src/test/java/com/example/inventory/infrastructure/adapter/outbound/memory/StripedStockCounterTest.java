@@ -0,0 +1,110 @@
+package com.example.inventory.infrastructure.adapter.outbound.memory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StripedStockCounter 測試")
+class StripedStockCounterTest {
+
+    @Test
+    @DisplayName("初始庫存應平均分散到各分段")
+    void constructor_shouldSpreadInitialStock() {
+        // Act
+        StripedStockCounter counter = new StripedStockCounter(4, 10);
+
+        // Assert
+        assertEquals(10, counter.available());
+        assertEquals(4, counter.stripes());
+    }
+
+    @Test
+    @DisplayName("單一分段不足時應重新平衡後扣減")
+    void tryDeduct_shouldRebalanceWhenNoStripeCoversQuantity() {
+        // Arrange
+        StripedStockCounter counter = new StripedStockCounter(4, 10);
+
+        // Act
+        boolean deducted = counter.tryDeduct(9);
+
+        // Assert
+        assertTrue(deducted);
+        assertEquals(1, counter.available());
+    }
+
+    @Test
+    @DisplayName("總庫存不足應拒絕且不改變庫存")
+    void tryDeduct_shouldRejectWhenTotalInsufficient() {
+        // Arrange
+        StripedStockCounter counter = new StripedStockCounter(4, 10);
+
+        // Act
+        boolean deducted = counter.tryDeduct(11);
+
+        // Assert
+        assertFalse(deducted);
+        assertEquals(10, counter.available());
+    }
+
+    @Test
+    @DisplayName("歸還後應可再次扣減")
+    void release_shouldMakeStockAvailableAgain() {
+        // Arrange
+        StripedStockCounter counter = new StripedStockCounter(4, 2);
+        assertTrue(counter.tryDeduct(2));
+
+        // Act
+        counter.release(2);
+
+        // Assert
+        assertEquals(2, counter.available());
+        assertTrue(counter.tryDeduct(2));
+    }
+
+    @Test
+    @DisplayName("分段數必須為正數")
+    void constructor_shouldRejectNonPositiveStripes() {
+        assertThrows(IllegalArgumentException.class, () -> new StripedStockCounter(0, 10));
+    }
+
+    @Test
+    @DisplayName("並行扣減不應超賣")
+    void tryDeduct_shouldNeverOversellUnderContention() throws Exception {
+        // Arrange
+        int stock = 1_000;
+        int threads = 8;
+        int attemptsPerThread = 400;
+        StripedStockCounter counter = new StripedStockCounter(8, stock);
+        AtomicInteger sold = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        // Act
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(pool.submit(() -> {
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    int quantity = 1 + i % 3;
+                    if (counter.tryDeduct(quantity)) {
+                        sold.addAndGet(quantity);
+                    }
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        pool.shutdown();
+
+        // Assert
+        assertEquals(stock, sold.get() + counter.available());
+        assertTrue(counter.available() < 3, "left over: " + counter.available());
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.inventory.infrastructure.adapter.outbound.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HotStockLease 測試")
+class HotStockLeaseTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private HotStockLease lease;
+
+    @BeforeEach
+    void setUp() {
+        lease = new HotStockLease(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("續約成功時不應再新增租約")
+    void acquire_shouldRenewOwnOrExpiredLease() {
+        // Arrange
+        when(jdbcTemplate.update(eq(HotStockLease.RENEW_SQL), any(Object[].class))).thenReturn(1);
+
+        // Act & Assert
+        assertTrue(lease.acquire("IPHONE-17", "owner-1", Duration.ofSeconds(10)));
+        verify(jdbcTemplate, never()).update(eq(HotStockLease.CLAIM_SQL), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("無租約時應新增，由他人持有時應失敗")
+    void acquire_shouldClaimFreeLeaseOnly() {
+        // Arrange
+        when(jdbcTemplate.update(eq(HotStockLease.RENEW_SQL), any(Object[].class))).thenReturn(0);
+        when(jdbcTemplate.update(eq(HotStockLease.CLAIM_SQL), any(Object[].class))).thenReturn(1, 0);
+
+        // Act & Assert
+        assertTrue(lease.acquire("IPHONE-17", "owner-1", Duration.ofSeconds(10)));
+        assertFalse(lease.acquire("IPHONE-17", "owner-2", Duration.ofSeconds(10)));
+    }
+}
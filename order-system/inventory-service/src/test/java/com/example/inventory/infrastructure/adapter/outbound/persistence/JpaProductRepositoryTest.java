@@ -1,5 +1,8 @@
 package com.example.inventory.infrastructure.adapter.outbound.persistence;
 
+import com.example.common.outbox.OutboxEventWriter;
+import com.example.inventory.application.port.outbound.ProductRepository;
+import com.example.inventory.domain.event.StockDeducted;
 import com.example.inventory.domain.model.aggregate.Product;
 import com.example.inventory.domain.model.valueobject.ProductId;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,12 +11,16 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,66 +33,76 @@ class JpaProductRepositoryTest {
     @Mock
     private ProductMapper mapper;
 
+    @Mock
+    private OutboxEventWriter outboxEventWriter;
+
     private JpaProductRepository repository;
 
     @BeforeEach
     void setUp() {
-        repository = new JpaProductRepository(springDataRepository, mapper);
+        repository = new JpaProductRepository(springDataRepository, mapper, outboxEventWriter);
     }
 
     @Test
-    @DisplayName("儲存新產品應建立新實體")
-    void save_newProduct_shouldCreateNewEntity() {
+    @DisplayName("儲存新產品應插入實體且不先查詢")
+    void save_newProduct_shouldInsertWithoutRead() {
         Product product = Product.create("PROD-001", "iPhone 17", 100);
-
         ProductJpaEntity newEntity = new ProductJpaEntity();
-        newEntity.setId(1L);
-        newEntity.setProductId("PROD-001");
-        newEntity.setProductName("iPhone 17");
-        newEntity.setStockQuantity(100);
-        newEntity.setCreatedAt(LocalDateTime.now());
-        newEntity.setUpdatedAt(LocalDateTime.now());
-
-        when(springDataRepository.findByProductId("PROD-001")).thenReturn(Optional.empty());
         when(mapper.toEntity(product)).thenReturn(newEntity);
-        when(springDataRepository.save(newEntity)).thenReturn(newEntity);
-        when(mapper.toDomain(newEntity)).thenReturn(product);
 
         Product result = repository.save(product);
 
-        assertNotNull(result);
-        verify(springDataRepository).findByProductId("PROD-001");
-        verify(mapper).toEntity(product);
+        assertSame(product, result);
+        assertEquals(1, result.getVersion());
         verify(springDataRepository).save(newEntity);
-        verify(mapper).toDomain(newEntity);
+        verify(springDataRepository, never()).findByProductId(any());
+        verify(mapper, never()).toDomain(any());
     }
 
     @Test
-    @DisplayName("儲存已存在產品應更新實體")
-    void save_existingProduct_shouldUpdateEntity() {
-        Product product = Product.create("PROD-001", "iPhone 17", 90);
-
-        ProductJpaEntity existingEntity = new ProductJpaEntity();
-        existingEntity.setId(1L);
-        existingEntity.setProductId("PROD-001");
-        existingEntity.setProductName("iPhone 17");
-        existingEntity.setStockQuantity(100);
-        existingEntity.setCreatedAt(LocalDateTime.now());
-        existingEntity.setUpdatedAt(LocalDateTime.now());
-
-        when(springDataRepository.findByProductId("PROD-001")).thenReturn(Optional.of(existingEntity));
-        when(springDataRepository.save(existingEntity)).thenReturn(existingEntity);
-        when(mapper.toDomain(existingEntity)).thenReturn(product);
+    @DisplayName("儲存已存在產品應以版本條件直接更新")
+    void save_existingProduct_shouldUpdateByVersion() {
+        Product product = Product.create("PROD-001", "iPhone 17", 100);
+        product.markPersisted(3);
+        product.deductStock("ORD-001", 10);
+        when(springDataRepository.updateStock("PROD-001", 3, 90, product.getUpdatedAt())).thenReturn(1);
 
         Product result = repository.save(product);
 
-        assertNotNull(result);
-        verify(springDataRepository).findByProductId("PROD-001");
-        verify(mapper).updateEntity(existingEntity, product);
-        verify(springDataRepository).save(existingEntity);
+        assertSame(product, result);
+        assertEquals(4, result.getVersion());
+        verify(springDataRepository, never()).findByProductId(any());
+        verify(springDataRepository, never()).save(any());
         verify(mapper, never()).toEntity(any());
     }
 
+    @Test
+    @DisplayName("版本不符時應拋出樂觀鎖例外")
+    void save_staleVersion_shouldThrowOptimisticLockingFailure() {
+        Product product = Product.create("PROD-001", "iPhone 17", 100);
+        product.markPersisted(3);
+        when(springDataRepository.updateStock(eq("PROD-001"), eq(3L), eq(100), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> repository.save(product));
+        assertEquals(3, product.getVersion());
+        verify(outboxEventWriter, never()).append(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("儲存產品應將領域事件寫入 outbox 並清除")
+    void save_withDomainEvents_shouldAppendToOutboxAndClear() {
+        Product product = Product.create("PROD-001", "iPhone 17", 100);
+        product.deductStock("ORD-001", 1);
+        when(mapper.toEntity(product)).thenReturn(new ProductJpaEntity());
+
+        repository.save(product);
+
+        verify(outboxEventWriter).append(eq("Product"), eq("PROD-001"),
+                argThat(events -> events.size() == 1 && events.get(0) instanceof StockDeducted));
+        assertTrue(product.getDomainEvents().isEmpty());
+    }
+
     @Test
     @DisplayName("依 ID 查詢產品存在時應返回產品")
     void findById_whenExists_shouldReturnProduct() {
@@ -147,4 +164,51 @@ class JpaProductRepositoryTest {
         assertTrue(result.isEmpty());
         verify(mapper, never()).toDomain(any());
     }
+
+    @Test
+    @DisplayName("批次悲觀鎖查詢應以不重複的商品編號查詢一次")
+    void findAllByIdsForUpdate_shouldQueryDistinctIdsOnce() {
+        ProductJpaEntity entity = new ProductJpaEntity();
+        entity.setProductId("PROD-001");
+        Product expectedProduct = Product.create("PROD-001", "iPhone 17", 100);
+
+        when(springDataRepository.findAllByProductIdInForUpdate(List.of("PROD-001", "PROD-002")))
+                .thenReturn(List.of(entity));
+        when(mapper.toDomain(entity)).thenReturn(expectedProduct);
+
+        List<Product> result = repository.findAllByIdsForUpdate(List.of(
+                ProductId.of("PROD-001"), ProductId.of("PROD-002"), ProductId.of("PROD-001")));
+
+        assertEquals(List.of(expectedProduct), result);
+        verify(springDataRepository, times(1)).findAllByProductIdInForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("條件扣減成功應寫入 StockDeducted 事件")
+    void deductIfAvailable_updated_shouldAppendEvent() {
+        when(springDataRepository.deductStockIfAvailable(eq("PROD-001"), eq(3), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(springDataRepository.findStockQuantityByProductId("PROD-001")).thenReturn(Optional.of(97));
+
+        Optional<ProductRepository.StockDeduction> result =
+                repository.deductIfAvailable(ProductId.of("PROD-001"), "ORD-001", 3);
+
+        assertEquals(Optional.of(new ProductRepository.StockDeduction(true, 97)), result);
+        verify(outboxEventWriter).append(eq("Product"), eq("PROD-001"),
+                argThat(events -> events.size() == 1 && events.get(0) instanceof StockDeducted));
+    }
+
+    @Test
+    @DisplayName("條件扣減未更新時應返回目前庫存且不寫入事件")
+    void deductIfAvailable_notUpdated_shouldReturnCurrentStock() {
+        when(springDataRepository.deductStockIfAvailable(eq("PROD-001"), eq(300), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(springDataRepository.findStockQuantityByProductId("PROD-001")).thenReturn(Optional.of(100));
+
+        Optional<ProductRepository.StockDeduction> result =
+                repository.deductIfAvailable(ProductId.of("PROD-001"), "ORD-001", 300);
+
+        assertEquals(Optional.of(new ProductRepository.StockDeduction(false, 100)), result);
+        verify(outboxEventWriter, never()).append(any(), any(), any());
+    }
 }
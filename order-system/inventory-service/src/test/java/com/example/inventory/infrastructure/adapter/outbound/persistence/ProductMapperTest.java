@@ -1,8 +1,6 @@
 package com.example.inventory.infrastructure.adapter.outbound.persistence;
 
 import com.example.inventory.domain.model.aggregate.Product;
-import com.example.inventory.domain.model.valueobject.ProductId;
-import com.example.inventory.domain.model.valueobject.StockQuantity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -33,6 +31,7 @@ class ProductMapperTest {
         assertEquals(100, entity.getStockQuantity());
         assertNotNull(entity.getCreatedAt());
         assertNotNull(entity.getUpdatedAt());
+        assertEquals(1L, entity.getVersion());
     }
 
     @Test
@@ -44,34 +43,13 @@ class ProductMapperTest {
         entity.setStockQuantity(100);
         entity.setCreatedAt(LocalDateTime.now());
         entity.setUpdatedAt(LocalDateTime.now());
+        entity.setVersion(2L);
 
         Product product = mapper.toDomain(entity);
 
         assertEquals("PROD-001", product.getProductId().value());
         assertEquals("iPhone 17", product.getProductName());
         assertEquals(100, product.getCurrentStock());
-    }
-
-    @Test
-    @DisplayName("updateEntity 應正確更新 Entity")
-    void updateEntity_shouldUpdateEntityFromProduct() {
-        ProductJpaEntity entity = new ProductJpaEntity();
-        entity.setProductId("PROD-001");
-        entity.setProductName("iPhone 17");
-        entity.setStockQuantity(100);
-        entity.setCreatedAt(LocalDateTime.now());
-        entity.setUpdatedAt(LocalDateTime.now());
-
-        Product product = Product.reconstitute(
-                ProductId.of("PROD-001"),
-                "iPhone 17",
-                StockQuantity.of(80),
-                LocalDateTime.now(),
-                LocalDateTime.now()
-        );
-
-        mapper.updateEntity(entity, product);
-
-        assertEquals(80, entity.getStockQuantity());
+        assertEquals(2L, product.getVersion());
     }
 }
@@ -0,0 +1,72 @@
+package com.example.inventory.infrastructure.adapter.outbound.persistence;
+
+import com.example.common.outbox.OutboxEventWriter;
+import com.example.inventory.domain.model.valueobject.InventoryOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs the journal statements against the schema, where the conditions live in SQL. Uses the
+ * configured database, which runs in PostgreSQL mode.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("StockDeltaWriter 日誌 SQL 測試")
+class StockDeltaJournalSqlTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private StockDeltaWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new StockDeltaWriter(mock(SpringDataProductRepository.class), jdbcTemplate,
+                mock(OutboxEventWriter.class));
+    }
+
+    @Test
+    @DisplayName("扣減後只可歸還一次")
+    void journal_rollbackOnlyOnceAfterRecordedDeduction() {
+        // Arrange
+        StockDelta deduct = new StockDelta("IPHONE-17", "ORD-001", InventoryOperation.DEDUCT, 2, 8);
+        StockDelta rollback = new StockDelta("IPHONE-17", "ORD-001", InventoryOperation.ROLLBACK, 2, 10);
+
+        // Act & Assert
+        assertFalse(writer.holdsDeduction("IPHONE-17", "ORD-001"));
+        assertTrue(writer.journal(deduct));
+        assertFalse(writer.journal(deduct));
+        assertTrue(writer.holdsDeduction("IPHONE-17", "ORD-001"));
+        assertTrue(writer.journal(rollback));
+        assertFalse(writer.journal(rollback));
+        assertFalse(writer.holdsDeduction("IPHONE-17", "ORD-001"));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM inventory_logs WHERE order_id = 'ORD-001' AND applied = FALSE", Integer.class));
+    }
+
+    @Test
+    @DisplayName("沒有扣減紀錄的歸還應記為已套用的 0 件歸還，之後到達的扣減應被拒絕")
+    void journal_rollbackBeforeDeduction_shouldRefuseLateDeduction() {
+        // Arrange
+        StockDelta rollback = new StockDelta("IPHONE-17", "ORD-002", InventoryOperation.ROLLBACK, 2, 10);
+        StockDelta deduct = new StockDelta("IPHONE-17", "ORD-002", InventoryOperation.DEDUCT, 2, 8);
+
+        // Act & Assert
+        assertFalse(writer.journal(rollback));
+        assertFalse(writer.journal(rollback));
+        assertFalse(writer.journal(deduct));
+        assertFalse(writer.holdsDeduction("IPHONE-17", "ORD-002"));
+        assertEquals(Map.of("OPERATION_TYPE", "ROLLBACK", "QUANTITY", 0, "APPLIED", true), jdbcTemplate.queryForMap(
+                "SELECT operation_type, quantity, applied FROM inventory_logs WHERE order_id = 'ORD-002'"));
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.inventory.infrastructure.adapter.outbound.persistence;
+
+import com.example.common.outbox.OutboxEventWriter;
+import com.example.inventory.domain.event.DomainEvent;
+import com.example.inventory.domain.model.valueobject.InventoryOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockDeltaWriter 測試")
+class StockDeltaWriterTest {
+
+    @Mock
+    private SpringDataProductRepository productRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private OutboxEventWriter outboxEventWriter;
+
+    private StockDeltaWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new StockDeltaWriter(productRepository, jdbcTemplate, outboxEventWriter);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("應以每商品一次淨額更新、一次批次日誌寫入並寫入 outbox")
+    void write_shouldApplyNetDeltaPerProductAndBatchLogs() {
+        // Arrange
+        List<StockDelta> deltas = List.of(
+                new StockDelta("IPHONE-17", "ORD-001", InventoryOperation.DEDUCT, 2, 8),
+                new StockDelta("IPHONE-17", "ORD-002", InventoryOperation.DEDUCT, 1, 7),
+                new StockDelta("IPAD-PRO", "ORD-003", InventoryOperation.DEDUCT, 1, 4),
+                new StockDelta("IPHONE-17", "ORD-001", InventoryOperation.ROLLBACK, 2, 9)
+        );
+
+        markApplied(deltas, 1, 1, 1, 1);
+
+        // Act
+        writer.write(deltas);
+
+        // Assert
+        verify(productRepository).adjustStock(eq("IPHONE-17"), eq(-1), any(LocalDateTime.class));
+        verify(productRepository).adjustStock(eq("IPAD-PRO"), eq(-1), any(LocalDateTime.class));
+        ArgumentCaptor<List<DomainEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventWriter).append(eq(JpaProductRepository.AGGREGATE_TYPE), eq("IPHONE-17"), events.capture());
+        assertEquals(List.of("StockDeducted", "StockDeducted", "StockRolledBack"),
+                events.getValue().stream().map(event -> event.getClass().getSimpleName()).toList());
+        verify(outboxEventWriter).append(eq(JpaProductRepository.AGGREGATE_TYPE), eq("IPAD-PRO"), anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("淨額為零的商品不應更新庫存")
+    void write_shouldSkipUpdateWhenNetDeltaIsZero() {
+        // Arrange
+        List<StockDelta> deltas = List.of(
+                new StockDelta("IPHONE-17", "ORD-001", InventoryOperation.DEDUCT, 2, 8),
+                new StockDelta("IPHONE-17", "ORD-001", InventoryOperation.ROLLBACK, 2, 10)
+        );
+
+        markApplied(deltas, 1, 1);
+
+        // Act
+        writer.write(deltas);
+
+        // Assert
+        verify(productRepository, never()).adjustStock(anyString(), anyInt(), any());
+        verify(outboxEventWriter).append(eq(JpaProductRepository.AGGREGATE_TYPE), eq("IPHONE-17"), anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("已寫回的日誌不應再次計入庫存")
+    void write_shouldSkipDeltasAlreadyApplied() {
+        // Arrange
+        List<StockDelta> deltas = List.of(
+                new StockDelta("IPHONE-17", "ORD-001", InventoryOperation.DEDUCT, 2, 8),
+                new StockDelta("IPHONE-17", "ORD-002", InventoryOperation.DEDUCT, 1, 7)
+        );
+        markApplied(deltas, 0, 1);
+
+        // Act
+        writer.write(deltas);
+
+        // Assert
+        verify(productRepository).adjustStock(eq("IPHONE-17"), eq(-1), any(LocalDateTime.class));
+        ArgumentCaptor<List<DomainEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventWriter).append(eq(JpaProductRepository.AGGREGATE_TYPE), eq("IPHONE-17"), events.capture());
+        assertEquals(1, events.getValue().size());
+    }
+
+    @Test
+    @DisplayName("日誌僅在首次寫入時視為新變更")
+    void journal_shouldReportWhetherRowWasInserted() {
+        // Arrange
+        StockDelta delta = new StockDelta("IPHONE-17", "ORD-001", InventoryOperation.DEDUCT, 2, 8);
+        when(jdbcTemplate.update(eq(StockDeltaWriter.INSERT_DEDUCT_JOURNAL_SQL), any(Object[].class)))
+                .thenReturn(1, 0);
+
+        // Act & Assert
+        assertTrue(writer.journal(delta));
+        assertFalse(writer.journal(delta));
+    }
+
+    @Test
+    @DisplayName("歸還日誌應以訂單的扣減紀錄為條件寫入")
+    void journal_rollback_shouldBeConditionalOnRecordedDeduction() {
+        // Arrange
+        StockDelta delta = new StockDelta("IPHONE-17", "ORD-001", InventoryOperation.ROLLBACK, 2, 10);
+        when(jdbcTemplate.update(eq(StockDeltaWriter.INSERT_ROLLBACK_JOURNAL_SQL), any(Object[].class)))
+                .thenReturn(0);
+
+        // Act & Assert
+        assertFalse(writer.journal(delta));
+        verify(jdbcTemplate, never()).update(eq(StockDeltaWriter.INSERT_DEDUCT_JOURNAL_SQL), any(Object[].class));
+        verify(jdbcTemplate).update(eq(StockDeltaWriter.INSERT_EMPTY_ROLLBACK_SQL), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("並行重複扣減撞到唯一鍵時應視為已記錄")
+    void journal_duplicateKey_shouldReportAlreadyRecorded() {
+        // Arrange
+        StockDelta delta = new StockDelta("IPHONE-17", "ORD-001", InventoryOperation.DEDUCT, 2, 8);
+        when(jdbcTemplate.update(eq(StockDeltaWriter.INSERT_DEDUCT_JOURNAL_SQL), any(Object[].class)))
+                .thenThrow(new DuplicateKeyException("uk_inventory_logs"));
+
+        // Act & Assert
+        assertFalse(writer.journal(delta));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void markApplied(List<StockDelta> deltas, int... counts) {
+        when(jdbcTemplate.batchUpdate(eq(StockDeltaWriter.MARK_APPLIED_SQL), eq(deltas), eq(deltas.size()),
+                any(ParameterizedPreparedStatementSetter.class))).thenReturn(new int[][] {counts});
+    }
+
+    @Test
+    @DisplayName("空批次不應存取資料庫")
+    void write_shouldDoNothingForEmptyBatch() {
+        // Act
+        writer.write(List.of());
+
+        // Assert
+        verifyNoInteractions(productRepository, jdbcTemplate, outboxEventWriter);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.order.application.command;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * Command to create a new order.
@@ -9,9 +10,7 @@ public record CreateOrderCommand(
         String idempotencyKey,
         String buyerName,
         String buyerEmail,
-        String productId,
-        String productName,
-        int quantity,
+        List<Item> items,
         BigDecimal amount,
         String currency,
         String paymentMethod,
@@ -24,4 +23,21 @@ public record CreateOrderCommand(
             throw new IllegalArgumentException("Idempotency key is required");
         }
     }
+
+    /**
+     * One line of the order; {@code unitPrice} is null when the client did not send one.
+     */
+    public record Item(
+            String productId,
+            String productName,
+            int quantity,
+            BigDecimal unitPrice
+    ) {
+        /**
+         * Line without a unit price.
+         */
+        public Item(String productId, String productName, int quantity) {
+            this(productId, productName, quantity, null);
+        }
+    }
 }
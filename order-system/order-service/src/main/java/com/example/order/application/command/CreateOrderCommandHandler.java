@@ -1,66 +1,109 @@
 package com.example.order.application.command;
 
 import com.example.order.application.dto.CreateOrderResponse;
+import com.example.order.application.exception.IdempotencyKeyConflictException;
 import com.example.order.application.port.inbound.CreateOrderUseCase;
+import com.example.order.application.port.outbound.IdempotencyCache;
 import com.example.order.application.port.outbound.OrderRepository;
+import com.example.order.application.port.outbound.SagaConcurrencyLimit;
+import com.example.order.application.saga.AsyncSagaLauncher;
 import com.example.order.application.saga.CreateOrderSaga;
 import com.example.order.domain.model.aggregate.Order;
 import com.example.order.domain.model.valueobject.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Command handler for creating orders.
  * Implements idempotency check and delegates to SAGA orchestrator.
+ * The idempotency cache skips the orders lookup for keys that were never used and replays
+ * responses of finished orders.
+ * Concurrent requests with the same key on this node wait for the first one's response instead of
+ * starting a second SAGA; across nodes, the order insert claims the key before any remote call.
+ * In async saga mode a SAGA slot is reserved before the order is persisted as CREATED, and the
+ * SAGA runs on the saga executor holding that slot until it finishes.
+ * The payment amount must equal the total of the lines' unit prices; only a one-line order may
+ * omit the price, which is then the payment amount.
+ * No transaction spans the command; each repository call commits on its own.
  */
 @Service
-@Transactional
 public class CreateOrderCommandHandler implements CreateOrderUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(CreateOrderCommandHandler.class);
 
     private final OrderRepository orderRepository;
     private final CreateOrderSaga createOrderSaga;
+    private final AsyncSagaLauncher asyncSagaLauncher;
+    private final IdempotencyCache idempotencyCache;
+    private final long inFlightWaitTimeoutMs;
+    private final Map<String, CompletableFuture<CreateOrderResponse>> inFlight = new ConcurrentHashMap<>();
 
     public CreateOrderCommandHandler(
             OrderRepository orderRepository,
-            CreateOrderSaga createOrderSaga
+            CreateOrderSaga createOrderSaga,
+            AsyncSagaLauncher asyncSagaLauncher,
+            IdempotencyCache idempotencyCache,
+            @Value("${orders.idempotency.in-flight-wait-timeout-ms:30000}") long inFlightWaitTimeoutMs
     ) {
         this.orderRepository = orderRepository;
         this.createOrderSaga = createOrderSaga;
+        this.asyncSagaLauncher = asyncSagaLauncher;
+        this.idempotencyCache = idempotencyCache;
+        this.inFlightWaitTimeoutMs = inFlightWaitTimeoutMs;
     }
 
     @Override
     public CreateOrderResponse execute(CreateOrderCommand command) {
+        CompletableFuture<CreateOrderResponse> claim = new CompletableFuture<>();
+        CompletableFuture<CreateOrderResponse> leader = inFlight.putIfAbsent(command.idempotencyKey(), claim);
+        if (leader != null) {
+            return awaitInFlight(command.idempotencyKey(), leader);
+        }
+        try {
+            CreateOrderResponse response = create(command);
+            claim.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            claim.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(command.idempotencyKey(), claim);
+        }
+    }
+
+    private CreateOrderResponse create(CreateOrderCommand command) {
         log.info("Processing create order command with idempotency key: {}",
                 command.idempotencyKey());
 
         // Check for idempotency - return existing order if found
-        Optional<Order> existingOrder = orderRepository.findByIdempotencyKey(
-                command.idempotencyKey());
+        Optional<CreateOrderResponse> existingResponse = idempotencyCache.find(
+                command.idempotencyKey(), this::findExisting);
 
-        if (existingOrder.isPresent()) {
-            Order order = existingOrder.get();
+        if (existingResponse.isPresent()) {
             log.info("Found existing order for idempotency key: {}, orderId: {}",
-                    command.idempotencyKey(), order.getOrderId().value());
-            return CreateOrderResponse.fromExisting(
-                    order.getOrderId().value(),
-                    order.getStatus().name(),
-                    order.getCreatedAt()
-            );
+                    command.idempotencyKey(), existingResponse.get().orderId());
+            return existingResponse.get();
         }
 
+        validateAmount(command);
+
         // Create domain value objects
         Buyer buyer = Buyer.of(command.buyerName(), command.buyerEmail());
-        OrderItem orderItem = OrderItem.of(
-                command.productId(),
-                command.productName(),
-                command.quantity()
-        );
+        List<OrderItem> orderItems = command.items().stream()
+                .map(item -> OrderItem.of(item.productId(), item.productName(), item.quantity()))
+                .toList();
         Money money = Money.of(command.amount(), command.currency());
         PaymentInfo paymentInfo = PaymentInfo.of(
                 command.paymentMethod(),
@@ -73,18 +116,45 @@ public class CreateOrderCommandHandler implements CreateOrderUseCase {
         Order order = Order.create(
                 command.idempotencyKey(),
                 buyer,
-                orderItem,
+                orderItems,
                 money,
                 paymentInfo
         );
 
+        // Async mode: shed load before persisting an order whose SAGA could not be run
+        SagaConcurrencyLimit.Slot sagaSlot = asyncSagaLauncher.isEnabled()
+                ? asyncSagaLauncher.admit()
+                : SagaConcurrencyLimit.Slot.UNLIMITED;
+
         // Save initial order state
-        orderRepository.save(order);
+        idempotencyCache.register(command.idempotencyKey());
+        try {
+            orderRepository.save(order);
+        } catch (IdempotencyKeyConflictException e) {
+            sagaSlot.release(false);
+            // Another node claimed the key first: report its order instead of running a second SAGA
+            log.info("Idempotency key {} already claimed, returning existing order", command.idempotencyKey());
+            return findExisting(command.idempotencyKey()).orElseThrow(() -> e);
+        } catch (RuntimeException e) {
+            sagaSlot.release(false);
+            throw e;
+        }
         log.info("Created new order: {}", order.getOrderId().value());
 
+        // Async mode: hand the SAGA to the saga executor and report progress via queries
+        if (asyncSagaLauncher.isEnabled()) {
+            asyncSagaLauncher.launch(order, sagaSlot);
+            return CreateOrderResponse.accepted(
+                    order.getOrderId().value(),
+                    order.getCreatedAt()
+            );
+        }
+
         // Execute SAGA
         CreateOrderSaga.SagaResult result = createOrderSaga.execute(order);
 
+        rememberIfFinished(order);
+
         // Return appropriate response based on SAGA result
         return switch (result.status()) {
             case COMPLETED -> CreateOrderResponse.success(
@@ -105,4 +175,62 @@ public class CreateOrderCommandHandler implements CreateOrderUseCase {
             );
         };
     }
+
+    private static void validateAmount(CreateOrderCommand command) {
+        List<CreateOrderCommand.Item> items = command.items();
+        long priced = items.stream().filter(item -> item.unitPrice() != null).count();
+        if (priced == 0 && items.size() == 1) {
+            return;
+        }
+        if (priced != items.size()) {
+            throw new IllegalArgumentException("Every line of a multi-line order requires a unit price");
+        }
+        BigDecimal total = items.stream()
+                .map(item -> item.unitPrice().multiply(BigDecimal.valueOf(item.quantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (command.amount() == null || total.compareTo(command.amount()) != 0) {
+            throw new IllegalArgumentException(
+                    "Payment amount " + command.amount() + " does not match the order lines total " + total);
+        }
+    }
+
+    private CreateOrderResponse awaitInFlight(String idempotencyKey, CompletableFuture<CreateOrderResponse> leader) {
+        log.info("Waiting for in-flight request with idempotency key: {}", idempotencyKey);
+        try {
+            return leader.get(inFlightWaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return findExisting(idempotencyKey).orElseThrow(() -> new IdempotencyKeyConflictException(
+                    idempotencyKey, "Request with idempotency key is still in progress: " + idempotencyKey, e));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyConflictException(idempotencyKey,
+                    "Interrupted waiting for idempotency key: " + idempotencyKey, e);
+        }
+    }
+
+    private Optional<CreateOrderResponse> findExisting(String idempotencyKey) {
+        return orderRepository.findByIdempotencyKey(idempotencyKey).map(order -> {
+            rememberIfFinished(order);
+            return toExistingResponse(order);
+        });
+    }
+
+    private void rememberIfFinished(Order order) {
+        if (order.getStatus().isTerminal()) {
+            idempotencyCache.remember(order.getIdempotencyKey(), toExistingResponse(order));
+        }
+    }
+
+    private static CreateOrderResponse toExistingResponse(Order order) {
+        return CreateOrderResponse.fromExisting(
+                order.getOrderId().value(),
+                order.getStatus().name(),
+                order.getCreatedAt()
+        );
+    }
 }
@@ -1,17 +1,46 @@
 package com.example.order.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * Request DTO for creating an order.
+ *
+ * Line items go in {@code orderItems}; the single {@code orderItem} of earlier clients is still
+ * accepted as a one-line order. Exactly one of the two must be given. Lines of a multi-line order
+ * carry a {@code unitPrice}, and the payment amount must equal their total.
  */
 public record CreateOrderRequest(
         @Valid @NotNull BuyerDto buyer,
-        @Valid @NotNull OrderItemDto orderItem,
+        @Valid OrderItemDto orderItem,
+        @Size(min = 1, max = MAX_ORDER_ITEMS) List<@Valid @NotNull OrderItemDto> orderItems,
         @Valid @NotNull PaymentDto payment
 ) {
+    public static final int MAX_ORDER_ITEMS = 100;
+
+    /**
+     * Legacy single-item request.
+     */
+    public CreateOrderRequest(BuyerDto buyer, OrderItemDto orderItem, PaymentDto payment) {
+        this(buyer, orderItem, null, payment);
+    }
+
+    /**
+     * The order's line items, whichever field they were sent in.
+     */
+    public List<OrderItemDto> items() {
+        return orderItems != null ? orderItems : orderItem != null ? List.of(orderItem) : List.of();
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "exactly one of orderItem or orderItems is required")
+    public boolean isItemsPresent() {
+        return (orderItem == null) != (orderItems == null);
+    }
+
     public record BuyerDto(
             @NotBlank String name,
             @Email @NotBlank String email
@@ -20,8 +49,16 @@ public record CreateOrderRequest(
     public record OrderItemDto(
             @NotBlank String productId,
             @NotBlank String productName,
-            @Positive int quantity
-    ) {}
+            @Positive int quantity,
+            @DecimalMin("0") BigDecimal unitPrice
+    ) {
+        /**
+         * Line without a unit price.
+         */
+        public OrderItemDto(String productId, String productName, int quantity) {
+            this(productId, productName, quantity, null);
+        }
+    }
 
     public record PaymentDto(
             @NotBlank String method,
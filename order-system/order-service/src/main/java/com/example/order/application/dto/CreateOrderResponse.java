@@ -27,6 +27,10 @@ public record CreateOrderResponse(
         return new CreateOrderResponse(orderId, "ROLLBACK_COMPLETED", "支付確認失敗", createdAt);
     }
 
+    public static CreateOrderResponse accepted(String orderId, LocalDateTime createdAt) {
+        return new CreateOrderResponse(orderId, "CREATED", "訂單處理中", createdAt);
+    }
+
     public static CreateOrderResponse fromExisting(String orderId, String status, LocalDateTime createdAt) {
         String message = switch (status) {
             case "COMPLETED" -> "訂購成功";
@@ -0,0 +1,18 @@
+package com.example.order.application.exception;
+
+/**
+ * Exception thrown when another request already holds an idempotency key.
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    private final String idempotencyKey;
+
+    public IdempotencyKeyConflictException(String idempotencyKey, String message, Throwable cause) {
+        super(message, cause);
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.order.application.exception;
+
+/**
+ * Exception thrown when an order is refused because too many asynchronous SAGAs are in flight.
+ */
+public class SagaCapacityExceededException extends RuntimeException {
+
+    private final String limiter;
+    private final long retryAfterSeconds;
+
+    public SagaCapacityExceededException(String limiter, int limit, long retryAfterSeconds) {
+        super("Too many orders in progress (" + limiter + " limit " + limit + "), retry later");
+        this.limiter = limiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getLimiter() {
+        return limiter;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.order.application.port.inbound;
+
+import com.example.order.application.query.ExportOrdersQuery;
+import com.example.order.application.query.OrderSummary;
+
+import java.util.function.Consumer;
+
+/**
+ * Use case for exporting orders in bulk.
+ */
+public interface ExportOrdersUseCase {
+
+    /**
+     * Pass every order matching the query to the sink, one at a time, without collecting them.
+     * @param query Filters for the export
+     * @param sink Receives each order summary as it is read
+     */
+    void execute(ExportOrdersQuery query, Consumer<OrderSummary> sink);
+}
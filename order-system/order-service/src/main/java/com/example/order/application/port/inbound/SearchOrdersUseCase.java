@@ -0,0 +1,17 @@
+package com.example.order.application.port.inbound;
+
+import com.example.order.application.query.OrderPage;
+import com.example.order.application.query.SearchOrdersQuery;
+
+/**
+ * Use case for listing and searching orders.
+ */
+public interface SearchOrdersUseCase {
+
+    /**
+     * List the orders matching the query, one page at a time.
+     * @param query Filters, page cursor and page size
+     * @return The page of order summaries
+     */
+    OrderPage execute(SearchOrdersQuery query);
+}
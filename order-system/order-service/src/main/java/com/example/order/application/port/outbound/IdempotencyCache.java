@@ -0,0 +1,27 @@
+package com.example.order.application.port.outbound;
+
+import com.example.order.application.dto.CreateOrderResponse;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Port for the idempotency fast path in front of the orders table.
+ */
+public interface IdempotencyCache {
+
+    /**
+     * Find the response for an idempotency key, calling the loader only when the key may have been used.
+     */
+    Optional<CreateOrderResponse> find(String idempotencyKey, Function<String, Optional<CreateOrderResponse>> loader);
+
+    /**
+     * Record that an order is about to be stored under this key.
+     */
+    void register(String idempotencyKey);
+
+    /**
+     * Cache the response for an order in a terminal state so retries skip the database.
+     */
+    void remember(String idempotencyKey, CreateOrderResponse response);
+}
@@ -1,24 +1,35 @@
 package com.example.order.application.port.outbound;
 
+import com.example.order.domain.model.valueobject.OrderItem;
+
+import java.util.List;
+
 /**
  * Port for inventory service operations.
+ *
+ * Each call covers every line of an order, so a multi-line order costs one round trip per step.
  */
 public interface InventoryServicePort {
 
     /**
-     * Result of a stock deduction.
+     * Result of a stock deduction. An in-doubt deduction did not confirm, but may still have been
+     * applied by the inventory service.
      */
     record DeductionResult(
-            boolean success,
-            int remainingStock,
+            boolean succeeded,
+            boolean inDoubt,
             String message
     ) {
-        public static DeductionResult success(int remainingStock) {
-            return new DeductionResult(true, remainingStock, "Stock deducted");
+        public static DeductionResult success() {
+            return new DeductionResult(true, false, "Stock deducted");
         }
 
         public static DeductionResult failure(String message) {
-            return new DeductionResult(false, 0, message);
+            return new DeductionResult(false, false, message);
+        }
+
+        public static DeductionResult inDoubt(String message) {
+            return new DeductionResult(false, true, message);
         }
     }
 
@@ -26,26 +37,25 @@ public interface InventoryServicePort {
      * Result of a stock rollback.
      */
     record RollbackResult(
-            boolean success,
-            int newStock,
+            boolean succeeded,
             String message
     ) {
-        public static RollbackResult success(int newStock) {
-            return new RollbackResult(true, newStock, "Stock rolled back");
+        public static RollbackResult success() {
+            return new RollbackResult(true, "Stock rolled back");
         }
 
         public static RollbackResult failure(String message) {
-            return new RollbackResult(false, 0, message);
+            return new RollbackResult(false, message);
         }
     }
 
     /**
-     * Deduct stock for an order.
+     * Deduct stock for every line of an order; either all lines are deducted or none are.
      */
-    DeductionResult deductStock(String orderId, String productId, int quantity);
+    DeductionResult deductStock(String orderId, List<OrderItem> items);
 
     /**
-     * Rollback stock for a failed order.
+     * Rollback stock for every line of a failed order.
      */
-    RollbackResult rollbackStock(String orderId, String productId, int quantity);
+    RollbackResult rollbackStock(String orderId, List<OrderItem> items);
 }
@@ -0,0 +1,22 @@
+package com.example.order.application.port.outbound;
+
+import com.example.order.application.query.OrderReadModel;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Port for the cache of order read models served to status polls.
+ */
+public interface OrderReadModelCache {
+
+    /**
+     * Find the read model for an order, calling the loader only when it is not cached.
+     */
+    Optional<OrderReadModel> find(String orderId, Function<String, Optional<OrderReadModel>> loader);
+
+    /**
+     * Store the read model produced by an order state change, unless a newer one is already cached.
+     */
+    void update(OrderReadModel readModel);
+}
@@ -3,7 +3,10 @@ package com.example.order.application.port.outbound;
 import com.example.order.domain.model.aggregate.Order;
 import com.example.order.domain.model.valueobject.OrderId;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Port for order persistence operations.
@@ -24,4 +27,15 @@ public interface OrderRepository {
      * Find an order by idempotency key.
      */
     Optional<Order> findByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * Find up to {@code limit} orders still in a non-terminal state whose status has not changed since
+     * the cutoff, oldest first.
+     */
+    List<Order> findInProgressUpdatedBefore(LocalDateTime cutoff, int limit);
+
+    /**
+     * Stream every stored idempotency key to the action, without loading the orders.
+     */
+    void forEachIdempotencyKey(Consumer<String> action);
 }
@@ -0,0 +1,25 @@
+package com.example.order.application.port.outbound;
+
+import com.example.order.application.query.ExportOrdersQuery;
+import com.example.order.application.query.OrderPage;
+import com.example.order.application.query.OrderSummary;
+import com.example.order.application.query.SearchOrdersQuery;
+
+import java.util.function.Consumer;
+
+/**
+ * Port for the order list/search and export read paths.
+ */
+public interface OrderSearchRepository {
+
+    /**
+     * Find one page of order summaries, seeking past the query's cursor.
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    OrderPage search(SearchOrdersQuery query);
+
+    /**
+     * Stream every order summary matching the query to the action, oldest first, holding one row at a time.
+     */
+    void forEach(ExportOrdersQuery query, Consumer<OrderSummary> action);
+}
@@ -70,12 +70,12 @@ public interface PaymentServicePort {
     );
 
     /**
-     * Capture an authorized payment.
+     * Capture an authorized payment. The orderId correlates the call with the SAGA instance.
      */
-    CaptureResult capture(String paymentId);
+    CaptureResult capture(String orderId, String paymentId);
 
     /**
-     * Void an authorized payment.
+     * Void an authorized payment. The orderId correlates the call with the SAGA instance.
      */
-    VoidResult voidPayment(String paymentId);
+    VoidResult voidPayment(String orderId, String paymentId);
 }
@@ -0,0 +1,31 @@
+package com.example.order.application.port.outbound;
+
+/**
+ * Port bounding how many asynchronously launched SAGAs may be in flight at once.
+ */
+@FunctionalInterface
+public interface SagaConcurrencyLimit {
+
+    /**
+     * Reserve a slot for one more SAGA.
+     * @throws com.example.order.application.exception.SagaCapacityExceededException if the limit is reached
+     */
+    Slot acquire();
+
+    /**
+     * A reserved SAGA slot, released once the SAGA has finished.
+     */
+    @FunctionalInterface
+    interface Slot {
+
+        /**
+         * Slot used when no limit is configured.
+         */
+        Slot UNLIMITED = failed -> { };
+
+        /**
+         * Free the slot; {@code failed} counts as overload.
+         */
+        void release(boolean failed);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.order.application.query;
+
+import com.example.order.domain.model.valueobject.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query to export every order matching optional filters, oldest first.
+ */
+public record ExportOrdersQuery(
+        OrderStatus status,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo
+) {
+    public ExportOrdersQuery {
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.order.application.query;
+
+import com.example.order.application.port.inbound.ExportOrdersUseCase;
+import com.example.order.application.port.outbound.OrderSearchRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+/**
+ * Query handler for bulk order exports.
+ */
+@Service
+public class ExportOrdersQueryHandler implements ExportOrdersUseCase {
+
+    private final OrderSearchRepository orderSearchRepository;
+
+    public ExportOrdersQueryHandler(OrderSearchRepository orderSearchRepository) {
+        this.orderSearchRepository = orderSearchRepository;
+    }
+
+    @Override
+    public void execute(ExportOrdersQuery query, Consumer<OrderSummary> sink) {
+        orderSearchRepository.forEach(query, sink);
+    }
+}
@@ -1,55 +1,33 @@
 package com.example.order.application.query;
 
 import com.example.order.application.port.inbound.GetOrderUseCase;
+import com.example.order.application.port.outbound.OrderReadModelCache;
 import com.example.order.application.port.outbound.OrderRepository;
-import com.example.order.domain.model.aggregate.Order;
 import com.example.order.domain.model.valueobject.OrderId;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 /**
  * Query handler for getting order details.
+ * Served from the read model cache; not transactional, so a cache hit never borrows a connection.
  */
 @Service
-@Transactional(readOnly = true)
 public class GetOrderQueryHandler implements GetOrderUseCase {
 
     private final OrderRepository orderRepository;
+    private final OrderReadModelCache readModelCache;
 
-    public GetOrderQueryHandler(OrderRepository orderRepository) {
+    public GetOrderQueryHandler(OrderRepository orderRepository, OrderReadModelCache readModelCache) {
         this.orderRepository = orderRepository;
+        this.readModelCache = readModelCache;
     }
 
     @Override
     public Optional<OrderReadModel> execute(GetOrderQuery query) {
         OrderId orderId = OrderId.of(query.orderId());
 
-        return orderRepository.findById(orderId)
-                .map(this::toReadModel);
-    }
-
-    private OrderReadModel toReadModel(Order order) {
-        return new OrderReadModel(
-                order.getOrderId().value(),
-                order.getStatus().name(),
-                new OrderReadModel.BuyerInfo(
-                        order.getBuyer().name(),
-                        order.getBuyer().email()
-                ),
-                new OrderReadModel.OrderItemInfo(
-                        order.getOrderItem().productId(),
-                        order.getOrderItem().productName(),
-                        order.getOrderItem().quantity()
-                ),
-                new OrderReadModel.MoneyInfo(
-                        order.getMoney().amount(),
-                        order.getMoney().currency()
-                ),
-                order.getPaymentId(),
-                order.getCreatedAt(),
-                order.getUpdatedAt()
-        );
+        return readModelCache.find(orderId.value(), id -> orderRepository.findById(orderId)
+                .map(OrderReadModel::from));
     }
 }
@@ -0,0 +1,11 @@
+package com.example.order.application.query;
+
+import java.util.List;
+
+/**
+ * One page of order summaries. {@code nextCursor} is null on the last page.
+ */
+public record OrderPage(
+        List<OrderSummary> orders,
+        String nextCursor
+) {}
@@ -1,21 +1,48 @@
 package com.example.order.application.query;
 
+import com.example.order.domain.model.aggregate.Order;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Read model for order queries.
+ * {@code processing} is true while the SAGA is still advancing the order.
  */
 public record OrderReadModel(
         String orderId,
         String status,
+        boolean processing,
         BuyerInfo buyer,
-        OrderItemInfo orderItem,
+        List<OrderItemInfo> orderItems,
         MoneyInfo totalAmount,
         String paymentId,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
+    public static OrderReadModel from(Order order) {
+        return new OrderReadModel(
+                order.getOrderId().value(),
+                order.getStatus().name(),
+                !order.getStatus().isTerminal(),
+                new BuyerInfo(
+                        order.getBuyer().name(),
+                        order.getBuyer().email()
+                ),
+                order.getOrderItems().stream()
+                        .map(item -> new OrderItemInfo(item.productId(), item.productName(), item.quantity()))
+                        .toList(),
+                new MoneyInfo(
+                        order.getMoney().amount(),
+                        order.getMoney().currency()
+                ),
+                order.getPaymentId(),
+                order.getCreatedAt(),
+                order.getUpdatedAt()
+        );
+    }
+
     public record BuyerInfo(
             String name,
             String email
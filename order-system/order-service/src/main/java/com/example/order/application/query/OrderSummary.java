@@ -0,0 +1,18 @@
+package com.example.order.application.query;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Projection of an order for list views; read straight from the orders table without loading the aggregate.
+ */
+public record OrderSummary(
+        String orderId,
+        String status,
+        String buyerEmail,
+        int itemCount,
+        int totalQuantity,
+        BigDecimal amount,
+        String currency,
+        LocalDateTime createdAt
+) {}
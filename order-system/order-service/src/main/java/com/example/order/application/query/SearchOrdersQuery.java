@@ -0,0 +1,31 @@
+package com.example.order.application.query;
+
+import com.example.order.domain.model.valueobject.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query to list orders matching optional filters, newest first.
+ * {@code cursor} is the {@code nextCursor} of the previous page, or null for the first page.
+ */
+public record SearchOrdersQuery(
+        OrderStatus status,
+        String productId,
+        String buyerEmail,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        String cursor,
+        int limit
+) {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    public SearchOrdersQuery {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.order.application.query;
+
+import com.example.order.application.port.inbound.SearchOrdersUseCase;
+import com.example.order.application.port.outbound.OrderSearchRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * Query handler for listing orders.
+ */
+@Service
+public class SearchOrdersQueryHandler implements SearchOrdersUseCase {
+
+    private final OrderSearchRepository orderSearchRepository;
+
+    public SearchOrdersQueryHandler(OrderSearchRepository orderSearchRepository) {
+        this.orderSearchRepository = orderSearchRepository;
+    }
+
+    @Override
+    public OrderPage execute(SearchOrdersQuery query) {
+        return orderSearchRepository.search(query);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.order.application.saga;
+
+import com.example.order.application.port.outbound.SagaConcurrencyLimit;
+import com.example.order.domain.model.aggregate.Order;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * Launches the CreateOrderSaga on the bounded saga executor instead of the request thread.
+ *
+ * Enabled with {@code saga.mode=async}. A slot is reserved from the {@link SagaConcurrencyLimit}
+ * before the order is persisted and held until the SAGA finishes, so the limit bounds in-flight
+ * SAGAs rather than accepted requests. When called inside a transaction the saga is only
+ * submitted after commit, so the saga thread never sees an uncommitted CREATED order; on rollback
+ * the slot is freed. The SAGA compensates its own failures; if even that throws, the order is left
+ * to the order recovery.
+ */
+@Component
+public class AsyncSagaLauncher {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncSagaLauncher.class);
+
+    private final CreateOrderSaga createOrderSaga;
+    private final Executor sagaExecutor;
+    private final Optional<SagaConcurrencyLimit> sagaConcurrencyLimit;
+    private final boolean enabled;
+
+    public AsyncSagaLauncher(
+            CreateOrderSaga createOrderSaga,
+            @Qualifier("sagaExecutor") Executor sagaExecutor,
+            Optional<SagaConcurrencyLimit> sagaConcurrencyLimit,
+            @Value("${saga.mode:sync}") String sagaMode
+    ) {
+        this.createOrderSaga = createOrderSaga;
+        this.sagaExecutor = sagaExecutor;
+        this.sagaConcurrencyLimit = sagaConcurrencyLimit;
+        this.enabled = "async".equalsIgnoreCase(sagaMode);
+    }
+
+    /**
+     * Whether orders should be accepted and processed asynchronously.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Reserve a slot for a SAGA about to be launched.
+     * @throws com.example.order.application.exception.SagaCapacityExceededException if the limit is reached
+     */
+    public SagaConcurrencyLimit.Slot admit() {
+        return sagaConcurrencyLimit.map(SagaConcurrencyLimit::acquire).orElse(SagaConcurrencyLimit.Slot.UNLIMITED);
+    }
+
+    /**
+     * Submit the SAGA for an already persisted order, releasing the slot when it finishes.
+     */
+    public void launch(Order order, SagaConcurrencyLimit.Slot slot) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        submit(order, slot);
+                    } else {
+                        slot.release(false);
+                    }
+                }
+            });
+        } else {
+            submit(order, slot);
+        }
+    }
+
+    private void submit(Order order, SagaConcurrencyLimit.Slot slot) {
+        try {
+            sagaExecutor.execute(() -> run(order, slot));
+        } catch (RuntimeException e) {
+            slot.release(true);
+            throw e;
+        }
+        log.info("Submitted CreateOrderSaga for order: {}", order.getOrderId().value());
+    }
+
+    private void run(Order order, SagaConcurrencyLimit.Slot slot) {
+        boolean failed = false;
+        try {
+            CreateOrderSaga.SagaResult result = createOrderSaga.execute(order);
+            log.info("Async CreateOrderSaga finished for order: {}, status: {}",
+                    order.getOrderId().value(), result.status());
+        } catch (Exception e) {
+            failed = true;
+            log.error("Async CreateOrderSaga failed for order: {}, leaving it to order recovery",
+                    order.getOrderId().value(), e);
+        } finally {
+            slot.release(failed);
+        }
+    }
+}
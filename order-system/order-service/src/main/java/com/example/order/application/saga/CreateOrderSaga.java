@@ -6,38 +6,61 @@ import com.example.order.application.port.outbound.PaymentServicePort;
 import com.example.order.domain.model.aggregate.Order;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * SAGA Orchestrator for order creation.
  *
  * Flow:
- * 1. Authorize Payment
- * 2. Deduct Inventory
+ * 1. Authorize Payment (once, for the order total)
+ * 2. Deduct Inventory (every line in one call, all or nothing)
  * 3. Capture Payment
  *
  * Compensation:
  * - If inventory deduction fails: void payment
  * - If capture fails: rollback inventory, void payment
+ *
+ * With {@code saga.parallel-steps=true} steps 1 and 2 run concurrently, which adds:
+ * - If authorization fails but inventory was deducted: rollback inventory
+ * - If both fail: nothing to compensate
+ * - If the deduction threw, it may still have been applied: rollback inventory as well
+ *
+ * The SAGA is deliberately not transactional: every state change is committed by its own
+ * short repository transaction, so no database connection is held while waiting on the
+ * payment or inventory service. If a step throws, the SAGA is {@link #resume resumed} from the
+ * order's last state, which compensates it into a terminal state; orders whose SAGA died with
+ * the process are resumed by the order recovery.
  */
 @Component
 public class CreateOrderSaga {
 
     private static final Logger log = LoggerFactory.getLogger(CreateOrderSaga.class);
 
+    static final String INTERRUPTED = "Order processing was interrupted";
+
     private final OrderRepository orderRepository;
     private final PaymentServicePort paymentServicePort;
     private final InventoryServicePort inventoryServicePort;
+    private final Executor sagaStepExecutor;
+    private final boolean parallelSteps;
 
     public CreateOrderSaga(
             OrderRepository orderRepository,
             PaymentServicePort paymentServicePort,
-            InventoryServicePort inventoryServicePort
+            InventoryServicePort inventoryServicePort,
+            @Qualifier("sagaStepExecutor") Executor sagaStepExecutor,
+            @Value("${saga.parallel-steps:false}") boolean parallelSteps
     ) {
         this.orderRepository = orderRepository;
         this.paymentServicePort = paymentServicePort;
         this.inventoryServicePort = inventoryServicePort;
+        this.sagaStepExecutor = sagaStepExecutor;
+        this.parallelSteps = parallelSteps;
     }
 
     /**
@@ -45,10 +68,55 @@ public class CreateOrderSaga {
      * @param order The order to process
      * @return The result of the SAGA execution
      */
-    @Transactional
     public SagaResult execute(Order order) {
         log.info("Starting CreateOrderSaga for order: {}", order.getOrderId().value());
 
+        try {
+            return parallelSteps ? executeParallel(order) : executeSequential(order);
+        } catch (RuntimeException e) {
+            log.error("CreateOrderSaga interrupted for order: {} in state {}, compensating",
+                    order.getOrderId().value(), order.getStatus(), e);
+            return resume(order);
+        }
+    }
+
+    /**
+     * Drive an order whose SAGA stopped part-way to a terminal state, from the last state it reached.
+     *
+     * CREATED fails the order (rolling back a deduction that may have run in parallel), PAYMENT_AUTHORIZED
+     * rolls back any deduction and voids the payment, INVENTORY_DEDUCTED captures the payment and
+     * compensates if the capture fails. The rollback is sent without knowing whether the deduction ran:
+     * the inventory service returns only what a deduction recorded for the order took, and only once.
+     */
+    public SagaResult resume(Order order) {
+        String orderId = order.getOrderId().value();
+        log.info("Resuming CreateOrderSaga for order: {} in state {}", orderId, order.getStatus());
+
+        switch (order.getStatus()) {
+            case CREATED -> {
+                if (parallelSteps) {
+                    compensateInventory(order);
+                }
+                order.fail(INTERRUPTED);
+                orderRepository.save(order);
+                return SagaResult.paymentFailed(INTERRUPTED);
+            }
+            case PAYMENT_AUTHORIZED -> {
+                compensateInventory(order);
+                compensatePayment(order, order.getPaymentId());
+                order.markRolledBack(INTERRUPTED);
+                orderRepository.save(order);
+                return SagaResult.inventoryFailed(INTERRUPTED);
+            }
+            case INVENTORY_DEDUCTED -> {
+                return captureAndComplete(order, order.getPaymentId());
+            }
+            default -> throw new IllegalStateException(
+                    "Order " + orderId + " already finished in state " + order.getStatus());
+        }
+    }
+
+    private SagaResult executeSequential(Order order) {
         // Step 1: Authorize Payment
         PaymentServicePort.AuthorizationResult authResult = authorizePayment(order);
         if (!authResult.success()) {
@@ -65,12 +133,12 @@ public class CreateOrderSaga {
 
         // Step 2: Deduct Inventory
         InventoryServicePort.DeductionResult deductResult = deductInventory(order);
-        if (!deductResult.success()) {
+        if (!deductResult.succeeded()) {
             log.warn("Inventory deduction failed for order: {}, starting compensation",
                     order.getOrderId().value());
 
             // Compensation: Void payment
-            compensatePayment(authResult.paymentId());
+            compensatePayment(order, authResult.paymentId());
             order.markRolledBack("Inventory deduction failed: " + deductResult.message());
             orderRepository.save(order);
             return SagaResult.inventoryFailed(deductResult.message());
@@ -81,14 +149,75 @@ public class CreateOrderSaga {
         log.info("Inventory deducted for order: {}", order.getOrderId().value());
 
         // Step 3: Capture Payment
-        PaymentServicePort.CaptureResult captureResult = capturePayment(authResult.paymentId());
+        return captureAndComplete(order, authResult.paymentId());
+    }
+
+    /**
+     * Steps 1 and 2 run concurrently: inventory deduction on the step executor,
+     * payment authorization on the calling thread. Partial failures are compensated
+     * before the order reaches a terminal state.
+     */
+    private SagaResult executeParallel(Order order) {
+        CompletableFuture<InventoryServicePort.DeductionResult> deduction = CompletableFuture
+                .supplyAsync(() -> deductInventory(order), sagaStepExecutor)
+                .exceptionally(e -> InventoryServicePort.DeductionResult.inDoubt(
+                        "Inventory deduction error: " + e.getMessage()));
+
+        PaymentServicePort.AuthorizationResult authResult;
+        try {
+            authResult = authorizePayment(order);
+        } catch (RuntimeException e) {
+            authResult = PaymentServicePort.AuthorizationResult.failure(
+                    "Payment authorization error: " + e.getMessage());
+        }
+        InventoryServicePort.DeductionResult deductResult = deduction.join();
+
+        if (!authResult.success()) {
+            log.warn("Payment authorization failed for order: {}", order.getOrderId().value());
+            if (deductResult.succeeded() || deductResult.inDoubt()) {
+                // Compensation: Rollback the inventory reserved in parallel
+                compensateInventory(order);
+            }
+            order.fail(authResult.message());
+            orderRepository.save(order);
+            return SagaResult.paymentFailed(authResult.message());
+        }
+
+        order.markPaymentAuthorized(authResult.paymentId());
+
+        if (!deductResult.succeeded()) {
+            log.warn("Inventory deduction failed for order: {}, starting compensation",
+                    order.getOrderId().value());
+
+            if (deductResult.inDoubt()) {
+                // Compensation: the deduction may have been applied; a rollback that arrives first makes it refused
+                compensateInventory(order);
+            }
+            // Compensation: Void payment
+            compensatePayment(order, authResult.paymentId());
+            order.markRolledBack("Inventory deduction failed: " + deductResult.message());
+            orderRepository.save(order);
+            return SagaResult.inventoryFailed(deductResult.message());
+        }
+
+        order.markInventoryDeducted();
+        orderRepository.save(order);
+        log.info("Payment authorized and inventory deducted for order: {}, paymentId: {}",
+                order.getOrderId().value(), authResult.paymentId());
+
+        // Step 3: Capture Payment
+        return captureAndComplete(order, authResult.paymentId());
+    }
+
+    private SagaResult captureAndComplete(Order order, String paymentId) {
+        PaymentServicePort.CaptureResult captureResult = capturePayment(order, paymentId);
         if (!captureResult.succeeded()) {
             log.warn("Payment capture failed for order: {}, starting full compensation",
                     order.getOrderId().value());
 
             // Full Compensation: Rollback inventory + void payment
             compensateInventory(order);
-            compensatePayment(authResult.paymentId());
+            compensatePayment(order, paymentId);
             order.markRolledBack("Payment capture failed: " + captureResult.message());
             orderRepository.save(order);
             return SagaResult.captureFailed(captureResult.message());
@@ -114,20 +243,17 @@ public class CreateOrderSaga {
     }
 
     private InventoryServicePort.DeductionResult deductInventory(Order order) {
-        return inventoryServicePort.deductStock(
-                order.getOrderId().value(),
-                order.getOrderItem().productId(),
-                order.getOrderItem().quantity()
-        );
+        return inventoryServicePort.deductStock(order.getOrderId().value(), order.getOrderItems());
     }
 
-    private PaymentServicePort.CaptureResult capturePayment(String paymentId) {
-        return paymentServicePort.capture(paymentId);
+    private PaymentServicePort.CaptureResult capturePayment(Order order, String paymentId) {
+        return paymentServicePort.capture(order.getOrderId().value(), paymentId);
     }
 
-    private void compensatePayment(String paymentId) {
+    private void compensatePayment(Order order, String paymentId) {
         try {
-            PaymentServicePort.VoidResult voidResult = paymentServicePort.voidPayment(paymentId);
+            PaymentServicePort.VoidResult voidResult =
+                    paymentServicePort.voidPayment(order.getOrderId().value(), paymentId);
             if (!voidResult.succeeded()) {
                 log.error("Payment void compensation failed: {}", voidResult.message());
             } else {
@@ -140,12 +266,9 @@ public class CreateOrderSaga {
 
     private void compensateInventory(Order order) {
         try {
-            InventoryServicePort.RollbackResult rollbackResult = inventoryServicePort.rollbackStock(
-                    order.getOrderId().value(),
-                    order.getOrderItem().productId(),
-                    order.getOrderItem().quantity()
-            );
-            if (!rollbackResult.success()) {
+            InventoryServicePort.RollbackResult rollbackResult =
+                    inventoryServicePort.rollbackStock(order.getOrderId().value(), order.getOrderItems());
+            if (!rollbackResult.succeeded()) {
                 log.error("Inventory rollback compensation failed: {}", rollbackResult.message());
             } else {
                 log.info("Inventory rolled back successfully for order: {}",
@@ -0,0 +1,61 @@
+package com.example.order.application.saga;
+
+import com.example.order.application.port.outbound.OrderRepository;
+import com.example.order.domain.model.aggregate.Order;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Resolves orders whose SAGA stopped before a terminal state, e.g. because the process died or the
+ * SAGA's own compensation failed.
+ *
+ * Each stale order is handed to {@link CreateOrderSaga#resume}. Saves are guarded by the order's
+ * version, so a SAGA that is still running after all wins or loses cleanly.
+ */
+@Service
+public class OrderRecoveryHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderRecoveryHandler.class);
+
+    /**
+     * Outcome of one recovery pass.
+     */
+    public record RecoveryResult(int resolved, int failed) {
+    }
+
+    private final OrderRepository orderRepository;
+    private final CreateOrderSaga createOrderSaga;
+
+    public OrderRecoveryHandler(
+            OrderRepository orderRepository,
+            CreateOrderSaga createOrderSaga
+    ) {
+        this.orderRepository = orderRepository;
+        this.createOrderSaga = createOrderSaga;
+    }
+
+    /**
+     * Resolve up to {@code limit} orders that have been in a non-terminal state since before the cutoff.
+     */
+    public RecoveryResult recover(LocalDateTime cutoff, int limit) {
+        List<Order> stuck = orderRepository.findInProgressUpdatedBefore(cutoff, limit);
+        int resolved = 0;
+        int failed = 0;
+        for (Order order : stuck) {
+            try {
+                CreateOrderSaga.SagaResult result = createOrderSaga.resume(order);
+                resolved++;
+                log.info("Recovered order {}: {}", order.getOrderId().value(), result.status());
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("Could not recover order {} in state {}, will retry: {}",
+                        order.getOrderId().value(), order.getStatus(), e.getMessage());
+            }
+        }
+        return new RecoveryResult(resolved, failed);
+    }
+}
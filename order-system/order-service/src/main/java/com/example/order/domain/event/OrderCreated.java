@@ -5,6 +5,7 @@ import com.example.order.domain.model.valueobject.OrderId;
 import com.example.order.domain.model.valueobject.OrderItem;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Domain event raised when an order is created.
@@ -12,11 +13,11 @@ import java.time.LocalDateTime;
 public record OrderCreated(
         OrderId orderId,
         Buyer buyer,
-        OrderItem orderItem,
+        List<OrderItem> orderItems,
         LocalDateTime occurredOn
 ) implements DomainEvent {
 
-    public static OrderCreated of(OrderId orderId, Buyer buyer, OrderItem orderItem) {
-        return new OrderCreated(orderId, buyer, orderItem, LocalDateTime.now());
+    public static OrderCreated of(OrderId orderId, Buyer buyer, List<OrderItem> orderItems) {
+        return new OrderCreated(orderId, buyer, List.copyOf(orderItems), LocalDateTime.now());
     }
 }
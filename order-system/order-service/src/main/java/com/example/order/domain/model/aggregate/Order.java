@@ -7,7 +7,9 @@ import com.example.order.domain.model.valueobject.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Order Aggregate Root - manages order lifecycle and state transitions.
@@ -17,13 +19,14 @@ public class Order {
     private OrderId orderId;
     private String idempotencyKey;
     private Buyer buyer;
-    private OrderItem orderItem;
+    private List<OrderItem> orderItems;
     private Money money;
     private PaymentInfo paymentInfo;
     private OrderStatus status;
     private String paymentId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long version;
     private final List<DomainEvent> domainEvents = new ArrayList<>();
 
     // Private constructor for factory method
@@ -31,12 +34,12 @@ public class Order {
     }
 
     /**
-     * Factory method to create a new Order.
+     * Factory method to create a new Order with one or more line items, at most one per product.
      */
     public static Order create(
             String idempotencyKey,
             Buyer buyer,
-            OrderItem orderItem,
+            List<OrderItem> orderItems,
             Money money,
             PaymentInfo paymentInfo
     ) {
@@ -44,14 +47,14 @@ public class Order {
         order.orderId = OrderId.generate();
         order.idempotencyKey = idempotencyKey;
         order.buyer = buyer;
-        order.orderItem = orderItem;
+        order.orderItems = validateItems(orderItems);
         order.money = money;
         order.paymentInfo = paymentInfo;
         order.status = OrderStatus.CREATED;
         order.createdAt = LocalDateTime.now();
         order.updatedAt = order.createdAt;
 
-        order.domainEvents.add(OrderCreated.of(order.orderId, buyer, orderItem));
+        order.domainEvents.add(OrderCreated.of(order.orderId, buyer, order.orderItems));
 
         return order;
     }
@@ -63,25 +66,27 @@ public class Order {
             OrderId orderId,
             String idempotencyKey,
             Buyer buyer,
-            OrderItem orderItem,
+            List<OrderItem> orderItems,
             Money money,
             PaymentInfo paymentInfo,
             OrderStatus status,
             String paymentId,
             LocalDateTime createdAt,
-            LocalDateTime updatedAt
+            LocalDateTime updatedAt,
+            long version
     ) {
         Order order = new Order();
         order.orderId = orderId;
         order.idempotencyKey = idempotencyKey;
         order.buyer = buyer;
-        order.orderItem = orderItem;
+        order.orderItems = List.copyOf(orderItems);
         order.money = money;
         order.paymentInfo = paymentInfo;
         order.status = status;
         order.paymentId = paymentId;
         order.createdAt = createdAt;
         order.updatedAt = updatedAt;
+        order.version = version;
         return order;
     }
 
@@ -144,6 +149,19 @@ public class Order {
         this.domainEvents.add(OrderRolledBack.of(this.orderId, reason));
     }
 
+    private static List<OrderItem> validateItems(List<OrderItem> orderItems) {
+        if (orderItems == null || orderItems.isEmpty()) {
+            throw new IllegalArgumentException("Order must have at least one item");
+        }
+        Set<String> productIds = new HashSet<>();
+        for (OrderItem item : orderItems) {
+            if (!productIds.add(item.productId())) {
+                throw new IllegalArgumentException("Duplicate order item for product: " + item.productId());
+            }
+        }
+        return List.copyOf(orderItems);
+    }
+
     private void validateStateTransition(OrderStatus expectedCurrent, OrderStatus target) {
         if (this.status != expectedCurrent) {
             throw OrderDomainException.invalidStateTransition(this.status.name(), target.name());
@@ -163,8 +181,11 @@ public class Order {
         return buyer;
     }
 
-    public OrderItem getOrderItem() {
-        return orderItem;
+    /**
+     * Line items in the order they were placed; never empty.
+     */
+    public List<OrderItem> getOrderItems() {
+        return orderItems;
     }
 
     public Money getMoney() {
@@ -191,6 +212,20 @@ public class Order {
         return updatedAt;
     }
 
+    /**
+     * Version of the stored row; 0 until the order is first saved.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Record the version written by the repository.
+     */
+    public void markPersisted(long version) {
+        this.version = version;
+    }
+
     public List<DomainEvent> getDomainEvents() {
         return Collections.unmodifiableList(domainEvents);
     }
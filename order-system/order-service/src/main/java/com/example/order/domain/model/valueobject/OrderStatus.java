@@ -32,5 +32,12 @@ public enum OrderStatus {
     /**
      * Compensation executed after partial failure.
      */
-    ROLLBACK_COMPLETED
+    ROLLBACK_COMPLETED;
+
+    /**
+     * Whether the order has reached a final state and the SAGA no longer advances it.
+     */
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED || this == ROLLBACK_COMPLETED;
+    }
 }
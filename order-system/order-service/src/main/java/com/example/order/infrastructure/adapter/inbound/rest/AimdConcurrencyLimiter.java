@@ -0,0 +1,135 @@
+package com.example.order.infrastructure.adapter.inbound.rest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency (additive increase, multiplicative decrease).
+ *
+ * A request is admitted while fewer than {@link #limit()} are in flight. When one finishes slower
+ * than the latency threshold, or failed, the limit is multiplied by the backoff ratio; otherwise,
+ * if the limiter was at least half used, it grows by one. The limit stays within [min, max] and is
+ * updated with a CAS, so releasing a permit never blocks.
+ * Publishes {@code orders.concurrency.limit}, {@code orders.concurrency.inflight} and
+ * {@code orders.concurrency.rejected}, tagged with the limiter name.
+ */
+public class AimdConcurrencyLimiter {
+
+    public static final String LIMIT_METRIC = "orders.concurrency.limit";
+    public static final String IN_FLIGHT_METRIC = "orders.concurrency.inflight";
+    public static final String REJECTED_METRIC = "orders.concurrency.rejected";
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger limit;
+    private final Counter rejected;
+
+    public AimdConcurrencyLimiter(
+            String name,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            Duration latencyThreshold,
+            double backoffRatio,
+            MeterRegistry meterRegistry
+    ) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = new AtomicInteger(initialLimit);
+        Gauge.builder(LIMIT_METRIC, limit, AtomicInteger::get)
+                .description("Current adaptive concurrency limit")
+                .tag("limiter", name)
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, inFlight, AtomicInteger::get)
+                .description("Requests currently admitted by the concurrency limiter")
+                .tag("limiter", name)
+                .register(meterRegistry);
+        this.rejected = Counter.builder(REJECTED_METRIC)
+                .description("Requests rejected because the concurrency limit was reached")
+                .tag("limiter", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Admits a request if the limit allows it; the returned permit must be released when it ends.
+     */
+    public Optional<Permit> tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                rejected.increment();
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(current + 1, System.nanoTime()));
+            }
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int limit() {
+        return limit.get();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private void onSample(long latencyNanos, int inFlightAtStart, boolean failed) {
+        boolean overloaded = failed || latencyNanos > latencyThresholdNanos;
+        limit.updateAndGet(current -> {
+            if (overloaded) {
+                return Math.max(minLimit, (int) (current * backoffRatio));
+            }
+            return inFlightAtStart * 2 >= current ? Math.min(maxLimit, current + 1) : current;
+        });
+    }
+
+    /**
+     * An admitted request.
+     */
+    public final class Permit {
+
+        private final int inFlightAtStart;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(int inFlightAtStart, long startNanos) {
+            this.inFlightAtStart = inFlightAtStart;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Ends the request and feeds its latency into the limit; {@code failed} counts as overload.
+         */
+        public void release(boolean failed) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            inFlight.decrementAndGet();
+            onSample(System.nanoTime() - startNanos, inFlightAtStart, failed);
+        }
+    }
+}
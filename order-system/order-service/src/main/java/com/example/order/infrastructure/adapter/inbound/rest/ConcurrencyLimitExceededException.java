@@ -0,0 +1,24 @@
+package com.example.order.infrastructure.adapter.inbound.rest;
+
+/**
+ * Exception thrown when a request is shed because its concurrency limit is reached.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final String limiter;
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitExceededException(String limiter, int limit, long retryAfterSeconds) {
+        super("Too many concurrent requests (" + limiter + " limit " + limit + "), retry later");
+        this.limiter = limiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getLimiter() {
+        return limiter;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
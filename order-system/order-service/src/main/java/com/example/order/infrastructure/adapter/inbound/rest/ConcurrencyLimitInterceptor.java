@@ -0,0 +1,65 @@
+package com.example.order.infrastructure.adapter.inbound.rest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Sheds order API requests beyond the adaptive concurrency limits.
+ *
+ * Order creation (POST) and reads (GET) have separate limiters, so a backlog of slow SAGAs cannot
+ * starve reads. A rejected request fails with {@link ConcurrencyLimitExceededException} (503 with
+ * Retry-After) before its handler runs; an admitted one holds its permit until the response is
+ * complete, and a 5xx other than 503 or an exception counts as overload. In async saga mode a
+ * create request ends once its SAGA is queued, so in-flight SAGAs are bounded separately by the
+ * saga limiter; its 503s are load shedding, not slowness, and leave this limit alone.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final AimdConcurrencyLimiter writeLimiter;
+    private final AimdConcurrencyLimiter readLimiter;
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitInterceptor(
+            AimdConcurrencyLimiter writeLimiter,
+            AimdConcurrencyLimiter readLimiter,
+            long retryAfterSeconds
+    ) {
+        this.writeLimiter = writeLimiter;
+        this.readLimiter = readLimiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        AimdConcurrencyLimiter limiter = limiterFor(request.getMethod());
+        if (limiter == null) {
+            return true;
+        }
+        AimdConcurrencyLimiter.Permit permit = limiter.tryAcquire()
+                .orElseThrow(() -> new ConcurrencyLimitExceededException(
+                        limiter.name(), limiter.limit(), retryAfterSeconds));
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof AimdConcurrencyLimiter.Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            int status = response.getStatus();
+            permit.release(ex != null || (status >= 500 && status != HttpServletResponse.SC_SERVICE_UNAVAILABLE));
+        }
+    }
+
+    private AimdConcurrencyLimiter limiterFor(String method) {
+        return switch (method) {
+            case "POST" -> writeLimiter;
+            case "GET", "HEAD" -> readLimiter;
+            default -> null;
+        };
+    }
+}
@@ -37,8 +37,10 @@ public class OrderCommandController {
     @Operation(summary = "Create a new order", description = "Creates a new order and processes payment and inventory")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Order created successfully"),
+            @ApiResponse(responseCode = "202", description = "Order accepted, SAGA running asynchronously"),
             @ApiResponse(responseCode = "400", description = "Invalid request"),
-            @ApiResponse(responseCode = "422", description = "Order processing failed")
+            @ApiResponse(responseCode = "422", description = "Order processing failed"),
+            @ApiResponse(responseCode = "503", description = "Concurrency limit reached, retry after Retry-After seconds")
     })
     public ResponseEntity<CreateOrderResponse> createOrder(
             @Valid @RequestBody CreateOrderRequest request,
@@ -53,9 +55,10 @@ public class OrderCommandController {
                 key,
                 request.buyer().name(),
                 request.buyer().email(),
-                request.orderItem().productId(),
-                request.orderItem().productName(),
-                request.orderItem().quantity(),
+                request.items().stream()
+                        .map(item -> new CreateOrderCommand.Item(
+                                item.productId(), item.productName(), item.quantity(), item.unitPrice()))
+                        .toList(),
                 request.payment().amount(),
                 request.payment().currency(),
                 request.payment().method(),
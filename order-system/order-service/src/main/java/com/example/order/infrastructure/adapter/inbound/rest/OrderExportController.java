@@ -0,0 +1,84 @@
+package com.example.order.infrastructure.adapter.inbound.rest;
+
+import com.example.order.application.port.inbound.ExportOrdersUseCase;
+import com.example.order.application.query.ExportOrdersQuery;
+import com.example.order.domain.model.valueobject.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * REST controller for bulk order exports.
+ *
+ * Rows are read through a database cursor and written to the response as they arrive, so an
+ * export of any size runs in constant memory. The response is streamed on the MVC async
+ * executor; {@code spring.mvc.async.request-timeout} bounds how long an export may run.
+ */
+@RestController
+@RequestMapping("/api/v1/orders")
+@Tag(name = "Orders", description = "Order management APIs")
+public class OrderExportController {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderExportController.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportOrdersUseCase exportOrdersUseCase;
+    private final ObjectMapper objectMapper;
+
+    public OrderExportController(ExportOrdersUseCase exportOrdersUseCase, ObjectMapper objectMapper) {
+        this.exportOrdersUseCase = exportOrdersUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export orders",
+            description = "Streams every matching order, oldest first, as NDJSON (default) or CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export stream"),
+            @ApiResponse(responseCode = "400", description = "Invalid format or filter")
+    })
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo
+    ) {
+        OrderExportWriter.Format exportFormat = OrderExportWriter.Format.parse(format);
+        ExportOrdersQuery query = new ExportOrdersQuery(status, createdFrom, createdTo);
+        log.info("Received order export request: format={}, {}", exportFormat, query);
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+            OrderExportWriter exportWriter = OrderExportWriter.of(exportFormat, writer, objectMapper);
+            exportWriter.start();
+            exportOrdersUseCase.execute(query, exportWriter);
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("orders." + exportFormat.extension)
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
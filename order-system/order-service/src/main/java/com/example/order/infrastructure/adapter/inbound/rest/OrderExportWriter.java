@@ -0,0 +1,142 @@
+package com.example.order.infrastructure.adapter.inbound.rest;
+
+import com.example.order.application.query.OrderSummary;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Writes each exported order to the response as soon as it is read, as NDJSON or CSV.
+ */
+abstract class OrderExportWriter implements Consumer<OrderSummary> {
+
+    enum Format {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+        CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+        final MediaType mediaType;
+        final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        static Format parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    static final String CSV_HEADER =
+            "orderId,status,buyerEmail,itemCount,totalQuantity,amount,currency,createdAt\n";
+
+    protected final Writer writer;
+
+    private OrderExportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    static OrderExportWriter of(Format format, Writer writer, ObjectMapper objectMapper) {
+        return switch (format) {
+            case NDJSON -> new Ndjson(writer, objectMapper);
+            case CSV -> new Csv(writer);
+        };
+    }
+
+    /**
+     * Called once before the first row.
+     */
+    void start() {
+    }
+
+    @Override
+    public void accept(OrderSummary summary) {
+        try {
+            write(summary);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    abstract void write(OrderSummary summary) throws IOException;
+
+    private static final class Ndjson extends OrderExportWriter {
+
+        private final ObjectMapper objectMapper;
+
+        Ndjson(Writer writer, ObjectMapper objectMapper) {
+            super(writer);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        void write(OrderSummary summary) throws IOException {
+            try {
+                writer.write(objectMapper.writeValueAsString(summary));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize order " + summary.orderId(), e);
+            }
+            writer.write('\n');
+        }
+    }
+
+    private static final class Csv extends OrderExportWriter {
+
+        Csv(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        void start() {
+            try {
+                writer.write(CSV_HEADER);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        void write(OrderSummary summary) throws IOException {
+            writer.write(field(summary.orderId()));
+            writer.write(',');
+            writer.write(field(summary.status()));
+            writer.write(',');
+            writer.write(field(summary.buyerEmail()));
+            writer.write(',');
+            writer.write(Integer.toString(summary.itemCount()));
+            writer.write(',');
+            writer.write(Integer.toString(summary.totalQuantity()));
+            writer.write(',');
+            writer.write(summary.amount().toPlainString());
+            writer.write(',');
+            writer.write(field(summary.currency()));
+            writer.write(',');
+            writer.write(summary.createdAt().toString());
+            writer.write('\n');
+        }
+
+        /**
+         * RFC 4180 quoting: fields containing a comma, quote or line break are quoted, quotes doubled.
+         */
+        static String field(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
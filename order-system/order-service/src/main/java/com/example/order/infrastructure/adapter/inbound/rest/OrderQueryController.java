@@ -2,19 +2,30 @@ package com.example.order.infrastructure.adapter.inbound.rest;
 
 import com.example.order.application.exception.OrderNotFoundException;
 import com.example.order.application.port.inbound.GetOrderUseCase;
+import com.example.order.application.port.inbound.SearchOrdersUseCase;
 import com.example.order.application.query.GetOrderQuery;
+import com.example.order.application.query.OrderPage;
 import com.example.order.application.query.OrderReadModel;
+import com.example.order.application.query.SearchOrdersQuery;
+import com.example.order.domain.model.valueobject.OrderStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
 /**
  * REST controller for order queries.
+ * Responses carry an ETag derived from the order's update time; a poll with a matching
+ * If-None-Match gets 304 Not Modified without a body.
  */
 @RestController
 @RequestMapping("/api/v1/orders")
@@ -24,23 +35,60 @@ public class OrderQueryController {
     private static final Logger log = LoggerFactory.getLogger(OrderQueryController.class);
 
     private final GetOrderUseCase getOrderUseCase;
+    private final SearchOrdersUseCase searchOrdersUseCase;
 
-    public OrderQueryController(GetOrderUseCase getOrderUseCase) {
+    public OrderQueryController(GetOrderUseCase getOrderUseCase, SearchOrdersUseCase searchOrdersUseCase) {
         this.getOrderUseCase = getOrderUseCase;
+        this.searchOrdersUseCase = searchOrdersUseCase;
+    }
+
+    @GetMapping
+    @Operation(summary = "List orders",
+            description = "Lists orders newest first, filtered by status, product, buyer email and creation time. "
+                    + "Pass the returned nextCursor as cursor to fetch the next page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of orders"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter, limit or cursor")
+    })
+    public ResponseEntity<OrderPage> searchOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String productId,
+            @RequestParam(required = false) String buyerEmail,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + SearchOrdersQuery.DEFAULT_LIMIT) int limit
+    ) {
+        SearchOrdersQuery query = new SearchOrdersQuery(
+                status, productId, buyerEmail, createdFrom, createdTo, cursor, limit);
+        return ResponseEntity.ok(searchOrdersUseCase.execute(query));
     }
 
     @GetMapping("/{orderId}")
     @Operation(summary = "Get order by ID", description = "Retrieves order details by order ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Order found"),
+            @ApiResponse(responseCode = "304", description = "Order unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Order not found")
     })
     public ResponseEntity<OrderReadModel> getOrder(@PathVariable String orderId) {
         log.info("Received get order request for: {}", orderId);
 
         GetOrderQuery query = new GetOrderQuery(orderId);
-        return getOrderUseCase.execute(query)
-                .map(ResponseEntity::ok)
+        OrderReadModel readModel = getOrderUseCase.execute(query)
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
+        // Spring answers 304 itself when If-None-Match matches this ETag
+        return ResponseEntity.ok()
+                .eTag(etagOf(readModel.updatedAt()))
+                .cacheControl(CacheControl.noCache())
+                .body(readModel);
+    }
+
+    /**
+     * Microsecond precision, as stored by the database, so cached and reloaded copies agree.
+     */
+    static String etagOf(LocalDateTime updatedAt) {
+        long micros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+        return "\"" + Long.toHexString(micros) + "\"";
     }
 }
@@ -0,0 +1,55 @@
+package com.example.order.infrastructure.adapter.inbound.scheduling;
+
+import com.example.order.application.saga.OrderRecoveryHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Periodically hands orders stuck in CREATED, PAYMENT_AUTHORIZED or INVENTORY_DEDUCTED to the
+ * {@link OrderRecoveryHandler}.
+ *
+ * Only orders untouched for {@code stale-after} are picked up; it must exceed the longest SAGA,
+ * including the time an async SAGA waits in the executor queue.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.recovery.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderRecoveryScheduler {
+
+    private final OrderRecoveryHandler recoveryHandler;
+    private final Duration staleAfter;
+    private final int batchSize;
+    private final Counter resolvedCounter;
+    private final Counter failedCounter;
+
+    public OrderRecoveryScheduler(
+            OrderRecoveryHandler recoveryHandler,
+            MeterRegistry meterRegistry,
+            @Value("${orders.recovery.stale-after:5m}") Duration staleAfter,
+            @Value("${orders.recovery.batch-size:50}") int batchSize
+    ) {
+        this.recoveryHandler = recoveryHandler;
+        this.staleAfter = staleAfter;
+        this.batchSize = batchSize;
+        this.resolvedCounter = Counter.builder("orders.recovery.resolved")
+                .description("Orders driven to a terminal state by recovery")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("orders.recovery.failed")
+                .description("Order recovery attempts that failed and will be retried")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${orders.recovery.poll-interval-ms:30000}")
+    public void poll() {
+        OrderRecoveryHandler.RecoveryResult result =
+                recoveryHandler.recover(LocalDateTime.now().minus(staleAfter), batchSize);
+        resolvedCounter.increment(result.resolved());
+        failedCounter.increment(result.failed());
+    }
+}
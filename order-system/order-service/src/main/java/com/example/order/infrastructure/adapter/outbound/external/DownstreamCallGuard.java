@@ -0,0 +1,102 @@
+package com.example.order.infrastructure.adapter.outbound.external;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Isolates the HTTP calls to each downstream service.
+ *
+ * Every downstream ({@code payment}, {@code inventory}) has its own semaphore bulkhead, so a slow
+ * service can only tie up its own share of request threads, and every endpoint has its own circuit
+ * breaker named {@code <downstream>-<operation>} that fails fast while open. Rejected calls are
+ * counted as {@code downstream.calls.rejected} and breaker transitions as
+ * {@code downstream.circuit.transitions}; resilience4j's own state and call metrics are published
+ * alongside.
+ */
+@Component
+public class DownstreamCallGuard {
+
+    public static final String REJECTED_METRIC = "downstream.calls.rejected";
+    public static final String TRANSITION_METRIC = "downstream.circuit.transitions";
+
+    private static final Logger log = LoggerFactory.getLogger(DownstreamCallGuard.class);
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+
+    public DownstreamCallGuard(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry
+    ) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.meterRegistry = meterRegistry;
+        circuitBreakerRegistry.getEventPublisher()
+                .onEntryAdded(added -> recordTransitions(added.getAddedEntry()));
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(this::recordTransitions);
+    }
+
+    /**
+     * Runs {@code call} inside the downstream's bulkhead and the endpoint's circuit breaker.
+     *
+     * A {@link RestClientException} counts as a breaker failure; it, a full bulkhead and an open
+     * breaker all return {@code unavailable} applied to the reason instead of throwing.
+     */
+    public <T> T call(String downstream, String operation, Supplier<T> call, Function<String, T> unavailable) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(downstream);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(downstream + "-" + operation);
+        try {
+            return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+        } catch (BulkheadFullException e) {
+            reject(downstream, operation, "bulkhead_full");
+            return unavailable.apply(e.getMessage());
+        } catch (CallNotPermittedException e) {
+            reject(downstream, operation, "circuit_open");
+            return unavailable.apply(e.getMessage());
+        } catch (RestClientException e) {
+            log.error("Call to {} {} failed", downstream, operation, e);
+            return unavailable.apply(e.getMessage());
+        }
+    }
+
+    private void reject(String downstream, String operation, String reason) {
+        log.warn("Call to {} {} rejected: {}", downstream, operation, reason);
+        Counter.builder(REJECTED_METRIC)
+                .description("Downstream calls rejected by a full bulkhead or an open circuit breaker")
+                .tag("downstream", downstream)
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void recordTransitions(CircuitBreaker circuitBreaker) {
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            log.warn("Circuit breaker {} moved from {} to {}",
+                    event.getCircuitBreakerName(), transition.getFromState(), transition.getToState());
+            Counter.builder(TRANSITION_METRIC)
+                    .description("Circuit breaker state transitions per downstream endpoint")
+                    .tag("name", event.getCircuitBreakerName())
+                    .tag("from", transition.getFromState().name())
+                    .tag("to", transition.getToState().name())
+                    .register(meterRegistry)
+                    .increment();
+        });
+    }
+}
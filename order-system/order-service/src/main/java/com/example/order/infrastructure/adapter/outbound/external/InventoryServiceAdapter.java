@@ -1,115 +1,126 @@
 package com.example.order.infrastructure.adapter.outbound.external;
 
 import com.example.order.application.port.outbound.InventoryServicePort;
+import com.example.order.domain.model.valueobject.OrderItem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
 import java.util.Map;
 
 /**
  * HTTP adapter for inventory service communication.
+ *
+ * Deductions go to {@code /reserve} (all lines of the order or none) and rollbacks to
+ * {@code /rollback-batch}, one request per order regardless of its number of lines. Calls run
+ * through {@link DownstreamCallGuard} in the {@code inventory} bulkhead, with one circuit breaker
+ * per endpoint.
  */
 @Component
+@ConditionalOnProperty(name = "saga.transport", havingValue = "http", matchIfMissing = true)
 public class InventoryServiceAdapter implements InventoryServicePort {
 
+    static final String DOWNSTREAM = "inventory";
+
     private static final Logger log = LoggerFactory.getLogger(InventoryServiceAdapter.class);
 
     private final RestTemplate restTemplate;
+    private final DownstreamCallGuard guard;
     private final String inventoryServiceUrl;
 
     public InventoryServiceAdapter(
             RestTemplate restTemplate,
+            DownstreamCallGuard guard,
             @Value("${services.inventory.url}") String inventoryServiceUrl
     ) {
         this.restTemplate = restTemplate;
+        this.guard = guard;
         this.inventoryServiceUrl = inventoryServiceUrl;
     }
 
     @Override
-    public DeductionResult deductStock(String orderId, String productId, int quantity) {
-        log.info("Calling inventory service to deduct stock: productId={}, quantity={}",
-                productId, quantity);
+    public DeductionResult deductStock(String orderId, List<OrderItem> items) {
+        log.info("Calling inventory service to reserve stock: orderId={}, {} lines", orderId, items.size());
 
-        try {
+        return guard.call(DOWNSTREAM, "deduct", () -> {
             Map<String, Object> request = Map.of(
                     "orderId", orderId,
-                    "productId", productId,
-                    "quantity", quantity
+                    "lines", items.stream()
+                            .map(item -> Map.of("productId", item.productId(), "quantity", item.quantity()))
+                            .toList()
             );
 
-            ResponseEntity<DeductResponse> response = restTemplate.postForEntity(
-                    inventoryServiceUrl + "/api/v1/inventory/deduct",
+            ResponseEntity<ReserveResponse> response = restTemplate.postForEntity(
+                    inventoryServiceUrl + "/api/v1/inventory/reserve",
                     request,
-                    DeductResponse.class
+                    ReserveResponse.class
             );
 
-            DeductResponse body = response.getBody();
+            ReserveResponse body = response.getBody();
             if (body == null) {
                 return DeductionResult.failure("Empty response from inventory service");
             }
 
             if (body.success()) {
-                return DeductionResult.success(body.remainingStock());
+                return DeductionResult.success();
             } else {
                 return DeductionResult.failure(body.message());
             }
-        } catch (RestClientException e) {
-            log.error("Inventory service deduction failed", e);
-            return DeductionResult.failure("Inventory service unavailable: " + e.getMessage());
-        }
+        }, reason -> DeductionResult.failure("Inventory service unavailable: " + reason));
     }
 
     @Override
-    public RollbackResult rollbackStock(String orderId, String productId, int quantity) {
-        log.info("Calling inventory service to rollback stock: productId={}, quantity={}",
-                productId, quantity);
+    public RollbackResult rollbackStock(String orderId, List<OrderItem> items) {
+        log.info("Calling inventory service to rollback stock: orderId={}, {} lines", orderId, items.size());
 
-        try {
+        return guard.call(DOWNSTREAM, "rollback", () -> {
             Map<String, Object> request = Map.of(
-                    "orderId", orderId,
-                    "productId", productId,
-                    "quantity", quantity
+                    "lines", items.stream()
+                            .map(item -> Map.of(
+                                    "orderId", orderId,
+                                    "productId", item.productId(),
+                                    "quantity", item.quantity()))
+                            .toList()
             );
 
-            ResponseEntity<RollbackResponse> response = restTemplate.postForEntity(
-                    inventoryServiceUrl + "/api/v1/inventory/rollback",
+            ResponseEntity<RollbackBatchResponse> response = restTemplate.postForEntity(
+                    inventoryServiceUrl + "/api/v1/inventory/rollback-batch",
                     request,
-                    RollbackResponse.class
+                    RollbackBatchResponse.class
             );
 
-            RollbackResponse body = response.getBody();
-            if (body == null) {
+            RollbackBatchResponse body = response.getBody();
+            if (body == null || body.results() == null) {
                 return RollbackResult.failure("Empty response from inventory service");
             }
 
-            if (body.success()) {
-                return RollbackResult.success(body.currentStock());
-            } else {
-                return RollbackResult.failure(body.message());
-            }
-        } catch (RestClientException e) {
-            log.error("Inventory service rollback failed", e);
-            return RollbackResult.failure("Inventory service unavailable: " + e.getMessage());
-        }
+            return body.results().stream()
+                    .filter(line -> !line.success())
+                    .findFirst()
+                    .map(line -> RollbackResult.failure(line.message()))
+                    .orElseGet(RollbackResult::success);
+        }, reason -> RollbackResult.failure("Inventory service unavailable: " + reason));
     }
 
     // Response DTOs for inventory service
-    private record DeductResponse(
-            String productId,
+    private record ReserveResponse(
+            String orderId,
             boolean success,
-            String message,
-            int remainingStock
+            String message
+    ) {}
+
+    private record RollbackBatchResponse(
+            List<RollbackLineResponse> results
     ) {}
 
-    private record RollbackResponse(
+    private record RollbackLineResponse(
             String productId,
             boolean success,
-            String message,
-            int currentStock
+            String message
     ) {}
 }
@@ -4,9 +4,9 @@ import com.example.order.application.port.outbound.PaymentServicePort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
@@ -14,20 +14,29 @@ import java.util.Map;
 
 /**
  * HTTP adapter for payment service communication.
+ *
+ * Calls run through {@link DownstreamCallGuard} in the {@code payment} bulkhead, with one circuit
+ * breaker per endpoint.
  */
 @Component
+@ConditionalOnProperty(name = "saga.transport", havingValue = "http", matchIfMissing = true)
 public class PaymentServiceAdapter implements PaymentServicePort {
 
+    static final String DOWNSTREAM = "payment";
+
     private static final Logger log = LoggerFactory.getLogger(PaymentServiceAdapter.class);
 
     private final RestTemplate restTemplate;
+    private final DownstreamCallGuard guard;
     private final String paymentServiceUrl;
 
     public PaymentServiceAdapter(
             RestTemplate restTemplate,
+            DownstreamCallGuard guard,
             @Value("${services.payment.url}") String paymentServiceUrl
     ) {
         this.restTemplate = restTemplate;
+        this.guard = guard;
         this.paymentServiceUrl = paymentServiceUrl;
     }
 
@@ -42,7 +51,7 @@ public class PaymentServiceAdapter implements PaymentServicePort {
     ) {
         log.info("Calling payment service to authorize payment for order: {}", orderId);
 
-        try {
+        return guard.call(DOWNSTREAM, "authorize", () -> {
             Map<String, Object> request = Map.of(
                     "orderId", orderId,
                     "amount", amount,
@@ -68,17 +77,14 @@ public class PaymentServiceAdapter implements PaymentServicePort {
             } else {
                 return AuthorizationResult.failure(body.message());
             }
-        } catch (RestClientException e) {
-            log.error("Payment service authorization failed", e);
-            return AuthorizationResult.failure("Payment service unavailable: " + e.getMessage());
-        }
+        }, reason -> AuthorizationResult.failure("Payment service unavailable: " + reason));
     }
 
     @Override
-    public CaptureResult capture(String paymentId) {
+    public CaptureResult capture(String orderId, String paymentId) {
         log.info("Calling payment service to capture payment: {}", paymentId);
 
-        try {
+        return guard.call(DOWNSTREAM, "capture", () -> {
             Map<String, Object> request = Map.of("paymentId", paymentId);
 
             ResponseEntity<CaptureResponse> response = restTemplate.postForEntity(
@@ -97,17 +103,14 @@ public class PaymentServiceAdapter implements PaymentServicePort {
             } else {
                 return CaptureResult.failure(body.message());
             }
-        } catch (RestClientException e) {
-            log.error("Payment service capture failed", e);
-            return CaptureResult.failure("Payment service unavailable: " + e.getMessage());
-        }
+        }, reason -> CaptureResult.failure("Payment service unavailable: " + reason));
     }
 
     @Override
-    public VoidResult voidPayment(String paymentId) {
+    public VoidResult voidPayment(String orderId, String paymentId) {
         log.info("Calling payment service to void payment: {}", paymentId);
 
-        try {
+        return guard.call(DOWNSTREAM, "void", () -> {
             Map<String, Object> request = Map.of("paymentId", paymentId);
 
             ResponseEntity<VoidResponse> response = restTemplate.postForEntity(
@@ -126,10 +129,7 @@ public class PaymentServiceAdapter implements PaymentServicePort {
             } else {
                 return VoidResult.failure(body.message());
             }
-        } catch (RestClientException e) {
-            log.error("Payment service void failed", e);
-            return VoidResult.failure("Payment service unavailable: " + e.getMessage());
-        }
+        }, reason -> VoidResult.failure("Payment service unavailable: " + reason));
     }
 
     // Response DTOs for payment service
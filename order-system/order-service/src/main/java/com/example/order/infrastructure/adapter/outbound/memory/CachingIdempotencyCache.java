@@ -0,0 +1,114 @@
+package com.example.order.infrastructure.adapter.outbound.memory;
+
+import com.example.order.application.dto.CreateOrderResponse;
+import com.example.order.application.port.outbound.IdempotencyCache;
+import com.example.order.application.port.outbound.OrderRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Idempotency fast path: a Bloom filter of every key in the orders table answers "definitely new"
+ * without a query, and a bounded LRU/TTL cache replays responses for retried keys.
+ *
+ * The filter is rebuilt from the orders table at startup and only knows keys used on this node, so
+ * with several nodes behind a load balancer the UNIQUE constraint on orders.idempotency_key remains
+ * the final guard. Lookups are counted as {@code orders.idempotency.lookups} tagged with the result.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.idempotency.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingIdempotencyCache implements IdempotencyCache {
+
+    public static final String LOOKUP_METRIC = "orders.idempotency.lookups";
+
+    private static final Logger log = LoggerFactory.getLogger(CachingIdempotencyCache.class);
+
+    private final OrderRepository orderRepository;
+    private final BloomFilter bloomFilter;
+    private final Cache<String, CreateOrderResponse> responses;
+    private final Counter cacheHits;
+    private final Counter definiteMisses;
+    private final Counter databaseHits;
+    private final Counter falsePositives;
+
+    public CachingIdempotencyCache(
+            OrderRepository orderRepository,
+            MeterRegistry meterRegistry,
+            @Value("${orders.idempotency.bloom.expected-keys:1000000}") long expectedKeys,
+            @Value("${orders.idempotency.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${orders.idempotency.cache.max-size:10000}") long maxSize,
+            @Value("${orders.idempotency.cache.ttl:10m}") Duration ttl
+    ) {
+        this.orderRepository = orderRepository;
+        this.bloomFilter = new BloomFilter(expectedKeys, falsePositiveRate);
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.cacheHits = lookupCounter(meterRegistry, "cache_hit");
+        this.definiteMisses = lookupCounter(meterRegistry, "definite_miss");
+        this.databaseHits = lookupCounter(meterRegistry, "db_hit");
+        this.falsePositives = lookupCounter(meterRegistry, "false_positive");
+    }
+
+    /**
+     * Load every stored idempotency key into the Bloom filter.
+     */
+    @PostConstruct
+    public void rebuild() {
+        AtomicLong keys = new AtomicLong();
+        orderRepository.forEachIdempotencyKey(key -> {
+            bloomFilter.add(key);
+            keys.incrementAndGet();
+        });
+        log.info("Idempotency Bloom filter loaded with {} keys ({} bits, {} hashes)",
+                keys.get(), bloomFilter.bitSize(), bloomFilter.hashCount());
+    }
+
+    @Override
+    public Optional<CreateOrderResponse> find(
+            String idempotencyKey, Function<String, Optional<CreateOrderResponse>> loader) {
+        CreateOrderResponse cached = responses.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            cacheHits.increment();
+            return Optional.of(cached);
+        }
+        if (!bloomFilter.mightContain(idempotencyKey)) {
+            definiteMisses.increment();
+            return Optional.empty();
+        }
+        Optional<CreateOrderResponse> loaded = loader.apply(idempotencyKey);
+        (loaded.isPresent() ? databaseHits : falsePositives).increment();
+        return loaded;
+    }
+
+    @Override
+    public void register(String idempotencyKey) {
+        bloomFilter.add(idempotencyKey);
+    }
+
+    @Override
+    public void remember(String idempotencyKey, CreateOrderResponse response) {
+        bloomFilter.add(idempotencyKey);
+        responses.put(idempotencyKey, response);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(LOOKUP_METRIC)
+                .description("Idempotency key lookups by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
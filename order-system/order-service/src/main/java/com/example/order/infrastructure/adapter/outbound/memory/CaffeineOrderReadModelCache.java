@@ -0,0 +1,89 @@
+package com.example.order.infrastructure.adapter.outbound.memory;
+
+import com.example.order.application.port.outbound.OrderReadModelCache;
+import com.example.order.application.query.OrderReadModel;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of order read models, refreshed by the repository after every committed state change.
+ *
+ * Orders still being processed expire after {@code ttl}, so a change written by another node is seen
+ * within that window; terminal orders no longer change and stay for {@code terminal-ttl}. Hit and miss
+ * counts are published as the Caffeine cache metrics with {@code cache=orders.read-model}.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.read-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CaffeineOrderReadModelCache implements OrderReadModelCache {
+
+    public static final String CACHE_NAME = "orders.read-model";
+
+    private final Cache<String, OrderReadModel> readModels;
+
+    @Autowired
+    public CaffeineOrderReadModelCache(
+            MeterRegistry meterRegistry,
+            @Value("${orders.read-cache.max-size:10000}") long maxSize,
+            @Value("${orders.read-cache.ttl:5s}") Duration ttl,
+            @Value("${orders.read-cache.terminal-ttl:30m}") Duration terminalTtl
+    ) {
+        this(meterRegistry, maxSize, ttl, terminalTtl, Ticker.systemTicker());
+    }
+
+    CaffeineOrderReadModelCache(
+            MeterRegistry meterRegistry, long maxSize, Duration ttl, Duration terminalTtl, Ticker ticker) {
+        this.readModels = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, OrderReadModel>() {
+                    @Override
+                    public long expireAfterCreate(String orderId, OrderReadModel readModel, long currentTime) {
+                        return (readModel.processing() ? ttl : terminalTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String orderId, OrderReadModel readModel,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(orderId, readModel, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String orderId, OrderReadModel readModel,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, readModels, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<OrderReadModel> find(String orderId, Function<String, Optional<OrderReadModel>> loader) {
+        OrderReadModel cached = readModels.getIfPresent(orderId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<OrderReadModel> loaded = loader.apply(orderId);
+        loaded.ifPresent(this::update);
+        return loaded;
+    }
+
+    @Override
+    public void update(OrderReadModel readModel) {
+        readModels.asMap().merge(readModel.orderId(), readModel,
+                (current, next) -> next.updatedAt().isBefore(current.updatedAt()) ? current : next);
+    }
+}
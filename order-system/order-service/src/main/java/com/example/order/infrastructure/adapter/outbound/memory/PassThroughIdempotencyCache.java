@@ -0,0 +1,31 @@
+package com.example.order.infrastructure.adapter.outbound.memory;
+
+import com.example.order.application.dto.CreateOrderResponse;
+import com.example.order.application.port.outbound.IdempotencyCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Used with orders.idempotency.cache.enabled=false: every lookup queries the orders table.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.idempotency.cache.enabled", havingValue = "false")
+public class PassThroughIdempotencyCache implements IdempotencyCache {
+
+    @Override
+    public Optional<CreateOrderResponse> find(
+            String idempotencyKey, Function<String, Optional<CreateOrderResponse>> loader) {
+        return loader.apply(idempotencyKey);
+    }
+
+    @Override
+    public void register(String idempotencyKey) {
+    }
+
+    @Override
+    public void remember(String idempotencyKey, CreateOrderResponse response) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.order.infrastructure.adapter.outbound.memory;
+
+import com.example.order.application.port.outbound.OrderReadModelCache;
+import com.example.order.application.query.OrderReadModel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Used with orders.read-cache.enabled=false: every query reads the orders table.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.read-cache.enabled", havingValue = "false")
+public class PassThroughOrderReadModelCache implements OrderReadModelCache {
+
+    @Override
+    public Optional<OrderReadModel> find(String orderId, Function<String, Optional<OrderReadModel>> loader) {
+        return loader.apply(orderId);
+    }
+
+    @Override
+    public void update(OrderReadModel readModel) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.order.infrastructure.adapter.outbound.messaging;
+
+import com.example.common.messaging.BrokerMessage;
+import com.example.order.application.port.outbound.InventoryServicePort;
+import com.example.order.domain.model.valueobject.OrderItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Messaging adapter for inventory service communication, enabled with saga.transport=messaging.
+ * One command covers every line of the order. A reservation that succeeds after its reply timed out
+ * is rolled back when the late reply arrives.
+ */
+@Component
+@ConditionalOnProperty(name = "saga.transport", havingValue = "messaging")
+public class MessagingInventoryServiceAdapter implements InventoryServicePort {
+
+    static final String DEDUCT = "ReserveStock";
+    static final String ROLLBACK = "RollbackStockBatch";
+
+    private static final Logger log = LoggerFactory.getLogger(MessagingInventoryServiceAdapter.class);
+
+    private final SagaCommandGateway gateway;
+    private final String destination;
+
+    public MessagingInventoryServiceAdapter(
+            SagaCommandGateway gateway,
+            @Value("${saga.messaging.inventory-destination:inventory.commands}") String destination
+    ) {
+        this.gateway = gateway;
+        this.destination = destination;
+        gateway.onLateReply(DEDUCT, DeductReply.class, this::rollbackLateReservation);
+    }
+
+    @Override
+    public DeductionResult deductStock(String orderId, List<OrderItem> items) {
+        log.info("Sending reserve command: orderId={}, {} lines", orderId, items.size());
+
+        try {
+            ReserveCommand command = new ReserveCommand(orderId, lines(items));
+            DeductReply reply = gateway.sendAndReceive(destination, orderId, DEDUCT, command, DeductReply.class);
+            if (reply.success()) {
+                return DeductionResult.success();
+            } else {
+                return DeductionResult.failure(reply.message());
+            }
+        } catch (SagaMessagingException e) {
+            log.error("Inventory deduction command failed", e);
+            return DeductionResult.failure("Inventory service unavailable: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public RollbackResult rollbackStock(String orderId, List<OrderItem> items) {
+        log.info("Sending rollback command: orderId={}, {} lines", orderId, items.size());
+
+        try {
+            RollbackReply reply = gateway.sendAndReceive(
+                    destination, orderId, ROLLBACK, rollbackCommand(orderId, lines(items)), RollbackReply.class);
+            return reply.results().stream()
+                    .filter(line -> !line.success())
+                    .findFirst()
+                    .map(line -> RollbackResult.failure(line.message()))
+                    .orElseGet(RollbackResult::success);
+        } catch (SagaMessagingException e) {
+            log.error("Inventory rollback command failed", e);
+            return RollbackResult.failure("Inventory service unavailable: " + e.getMessage());
+        }
+    }
+
+    private void rollbackLateReservation(String orderId, BrokerMessage command, DeductReply reply) {
+        if (!reply.success()) {
+            return;
+        }
+        List<ReserveLine> lines = gateway.read(command, ReserveCommand.class).lines();
+        log.warn("Rolling back stock reserved after order {} gave up waiting", orderId);
+        gateway.send(destination, orderId, ROLLBACK, rollbackCommand(orderId, lines), RollbackReply.class)
+                .whenComplete((rolledBack, error) -> {
+                    if (error != null || rolledBack.results().stream().anyMatch(line -> !line.success())) {
+                        log.error("Rollback of late reservation for order {} failed: {}", orderId,
+                                error != null ? error.getMessage() : rolledBack.results());
+                    }
+                });
+    }
+
+    private static List<ReserveLine> lines(List<OrderItem> items) {
+        return items.stream()
+                .map(item -> new ReserveLine(item.productId(), item.quantity()))
+                .toList();
+    }
+
+    private static Map<String, Object> rollbackCommand(String orderId, List<ReserveLine> lines) {
+        return Map.of(
+                "lines", lines.stream()
+                        .map(line -> Map.of(
+                                "orderId", orderId,
+                                "productId", line.productId(),
+                                "quantity", line.quantity()))
+                        .toList()
+        );
+    }
+
+    // Command DTOs for inventory service
+    record ReserveCommand(
+            String orderId,
+            List<ReserveLine> lines
+    ) {}
+
+    record ReserveLine(
+            String productId,
+            int quantity
+    ) {}
+
+    // Reply DTOs from inventory service
+    record DeductReply(
+            String orderId,
+            boolean success,
+            String message,
+            List<DeductLineReply> lines
+    ) {}
+
+    record DeductLineReply(
+            String productId,
+            int remainingStock
+    ) {}
+
+    record RollbackReply(
+            List<RollbackLineReply> results
+    ) {}
+
+    record RollbackLineReply(
+            String orderId,
+            String productId,
+            boolean success,
+            String message,
+            int currentStock
+    ) {}
+}
@@ -0,0 +1,145 @@
+package com.example.order.infrastructure.adapter.outbound.messaging;
+
+import com.example.common.messaging.BrokerMessage;
+import com.example.order.application.port.outbound.PaymentServicePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Messaging adapter for payment service communication, enabled with saga.transport=messaging.
+ *
+ * Sends payment commands to the payment service's command destination and maps the replies
+ * (same shape as the REST responses) to port results. A missing reply is a failed step; an
+ * authorization approved after its reply timed out is voided when the late reply arrives.
+ */
+@Component
+@ConditionalOnProperty(name = "saga.transport", havingValue = "messaging")
+public class MessagingPaymentServiceAdapter implements PaymentServicePort {
+
+    static final String AUTHORIZE = "AuthorizePayment";
+    static final String CAPTURE = "CapturePayment";
+    static final String VOID = "VoidPayment";
+
+    private static final Logger log = LoggerFactory.getLogger(MessagingPaymentServiceAdapter.class);
+
+    private final SagaCommandGateway gateway;
+    private final String destination;
+
+    public MessagingPaymentServiceAdapter(
+            SagaCommandGateway gateway,
+            @Value("${saga.messaging.payment-destination:payment.commands}") String destination
+    ) {
+        this.gateway = gateway;
+        this.destination = destination;
+        gateway.onLateReply(AUTHORIZE, AuthorizeReply.class, this::voidLateAuthorization);
+    }
+
+    @Override
+    public AuthorizationResult authorize(
+            String orderId,
+            BigDecimal amount,
+            String currency,
+            String cardNumber,
+            String expiryDate,
+            String cvv
+    ) {
+        log.info("Sending authorize command for order: {}", orderId);
+
+        try {
+            Map<String, Object> command = Map.of(
+                    "orderId", orderId,
+                    "amount", amount,
+                    "currency", currency,
+                    "cardNumber", cardNumber,
+                    "expiryDate", expiryDate,
+                    "cvv", cvv
+            );
+
+            AuthorizeReply reply = gateway.sendAndReceive(destination, orderId, AUTHORIZE, command, AuthorizeReply.class);
+            if (reply.authorized()) {
+                return AuthorizationResult.success(reply.paymentId(), reply.authorizationCode());
+            } else {
+                return AuthorizationResult.failure(reply.message());
+            }
+        } catch (SagaMessagingException e) {
+            log.error("Payment authorization command failed", e);
+            return AuthorizationResult.failure("Payment service unavailable: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public CaptureResult capture(String orderId, String paymentId) {
+        log.info("Sending capture command for order: {}, payment: {}", orderId, paymentId);
+
+        try {
+            CaptureReply reply = gateway.sendAndReceive(
+                    destination, orderId, CAPTURE, Map.of("paymentId", paymentId), CaptureReply.class);
+            if (reply.captured()) {
+                return CaptureResult.success();
+            } else {
+                return CaptureResult.failure(reply.message());
+            }
+        } catch (SagaMessagingException e) {
+            log.error("Payment capture command failed", e);
+            return CaptureResult.failure("Payment service unavailable: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public VoidResult voidPayment(String orderId, String paymentId) {
+        log.info("Sending void command for order: {}, payment: {}", orderId, paymentId);
+
+        try {
+            VoidReply reply = gateway.sendAndReceive(
+                    destination, orderId, VOID, Map.of("paymentId", paymentId), VoidReply.class);
+            if (reply.voided()) {
+                return VoidResult.success();
+            } else {
+                return VoidResult.failure(reply.message());
+            }
+        } catch (SagaMessagingException e) {
+            log.error("Payment void command failed", e);
+            return VoidResult.failure("Payment service unavailable: " + e.getMessage());
+        }
+    }
+
+    private void voidLateAuthorization(String orderId, BrokerMessage command, AuthorizeReply reply) {
+        if (!reply.authorized()) {
+            return;
+        }
+        log.warn("Voiding payment {} authorized after order {} gave up waiting", reply.paymentId(), orderId);
+        gateway.send(destination, orderId, VOID, Map.of("paymentId", reply.paymentId()), VoidReply.class)
+                .whenComplete((voided, error) -> {
+                    if (error != null || !voided.voided()) {
+                        log.error("Void of late authorization {} failed: {}", reply.paymentId(),
+                                error != null ? error.getMessage() : voided.message());
+                    }
+                });
+    }
+
+    // Reply DTOs from payment service
+    record AuthorizeReply(
+            String paymentId,
+            boolean authorized,
+            String authorizationCode,
+            String message
+    ) {}
+
+    record CaptureReply(
+            String paymentId,
+            boolean captured,
+            String message
+    ) {}
+
+    record VoidReply(
+            String paymentId,
+            boolean voided,
+            String message
+    ) {}
+}
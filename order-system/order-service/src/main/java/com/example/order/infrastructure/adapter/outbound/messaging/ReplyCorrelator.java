@@ -0,0 +1,135 @@
+package com.example.order.infrastructure.adapter.outbound.messaging;
+
+import com.example.common.messaging.BrokerMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+
+/**
+ * Matches SAGA replies to the commands waiting for them.
+ *
+ * Correlation ids are {@code orderId:commandType}, so a step that is re-sent for the same order
+ * shares the pending reply instead of waiting twice. A command that times out is remembered for
+ * the late-reply window: its reply is handed to the late-reply handler together with the command,
+ * so the step the participant did perform after all can be compensated. Other unexpected replies
+ * are dropped.
+ */
+public class ReplyCorrelator {
+
+    public static final String TIMEOUT_METRIC = "saga.messaging.reply.timeouts";
+    public static final String LATE_METRIC = "saga.messaging.replies.late";
+    public static final String PENDING_METRIC = "saga.messaging.replies.pending";
+
+    private static final Logger log = LoggerFactory.getLogger(ReplyCorrelator.class);
+
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    private final Map<String, BrokerMessage> timedOut = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final Duration lateReplyWindow;
+    private final BiConsumer<BrokerMessage, BrokerMessage> lateReplyHandler;
+    private final Counter timeoutCounter;
+    private final Counter lateCounter;
+
+    /**
+     * @param lateReplyHandler receives the timed-out command and its late reply
+     */
+    public ReplyCorrelator(Duration timeout, Duration lateReplyWindow,
+                           BiConsumer<BrokerMessage, BrokerMessage> lateReplyHandler, MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.lateReplyWindow = lateReplyWindow;
+        this.lateReplyHandler = lateReplyHandler;
+        this.timeoutCounter = Counter.builder(TIMEOUT_METRIC)
+                .description("SAGA commands whose reply did not arrive in time")
+                .register(meterRegistry);
+        this.lateCounter = Counter.builder(LATE_METRIC)
+                .description("Replies that arrived after their command timed out")
+                .register(meterRegistry);
+        Gauge.builder(PENDING_METRIC, pending, Map::size)
+                .description("SAGA commands waiting for a reply")
+                .register(meterRegistry);
+    }
+
+    public static String correlationId(String orderId, String commandType) {
+        return orderId + ":" + commandType;
+    }
+
+    public static String orderId(String correlationId) {
+        return correlationId.substring(0, correlationId.lastIndexOf(':'));
+    }
+
+    /**
+     * Register interest in the reply to a command. Must be called before the command is sent.
+     */
+    public CompletableFuture<BrokerMessage> expect(BrokerMessage command) {
+        timedOut.remove(command.correlationId());
+        return pending.computeIfAbsent(command.correlationId(), id -> {
+            Pending entry = new Pending(command, new CompletableFuture<>());
+            CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .execute(() -> expire(id, entry));
+            return entry;
+        }).reply();
+    }
+
+    /**
+     * Complete the command waiting for this reply, or hand a late reply over for compensation.
+     */
+    public void onReply(BrokerMessage reply) {
+        Pending entry = pending.remove(reply.correlationId());
+        if (entry != null) {
+            entry.reply().complete(reply);
+            return;
+        }
+        BrokerMessage command = timedOut.remove(reply.correlationId());
+        if (command == null) {
+            log.warn("Dropping unexpected reply: {} ({})", reply.correlationId(), reply.type());
+            return;
+        }
+        lateCounter.increment();
+        log.warn("Late reply for timed-out command: {} ({})", reply.correlationId(), reply.type());
+        lateReplyHandler.accept(command, reply);
+    }
+
+    /**
+     * Stop waiting for a reply, e.g. because the command could not be sent.
+     */
+    public void cancel(String correlationId) {
+        Pending entry = pending.remove(correlationId);
+        if (entry != null) {
+            entry.reply().cancel(false);
+        }
+    }
+
+    private void expire(String correlationId, Pending entry) {
+        // Remembered before it stops being pending, so a reply racing the timeout is never lost
+        timedOut.put(correlationId, entry.command());
+        if (!pending.remove(correlationId, entry)) {
+            timedOut.remove(correlationId, entry.command());
+            return;
+        }
+        timeoutCounter.increment();
+        log.warn("No reply for {} within {}ms", correlationId, timeout.toMillis());
+        CompletableFuture.delayedExecutor(lateReplyWindow.toMillis(), TimeUnit.MILLISECONDS)
+                .execute(() -> timedOut.remove(correlationId, entry.command()));
+        entry.reply().completeExceptionally(new TimeoutException("No reply for " + correlationId));
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    int timedOutCount() {
+        return timedOut.size();
+    }
+
+    private record Pending(BrokerMessage command, CompletableFuture<BrokerMessage> reply) {}
+}
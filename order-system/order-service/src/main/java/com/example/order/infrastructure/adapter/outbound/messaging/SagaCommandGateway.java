@@ -0,0 +1,145 @@
+package com.example.order.infrastructure.adapter.outbound.messaging;
+
+import com.example.common.messaging.BrokerMessage;
+import com.example.common.messaging.MessageBroker;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
+
+/**
+ * Request/reply over the {@link MessageBroker} for the messaging SAGA transport.
+ *
+ * Sends a command to the participant's destination and completes when the reply with the same
+ * {@code orderId:commandType} correlation id arrives on the reply destination, or the reply timeout
+ * expires. A reply that arrives after its command timed out goes to the late-reply handler registered
+ * for the command type, which compensates whatever the participant did after the SAGA gave up.
+ */
+@Component
+@ConditionalOnProperty(name = "saga.transport", havingValue = "messaging")
+public class SagaCommandGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(SagaCommandGateway.class);
+
+    private final MessageBroker messageBroker;
+    private final ObjectMapper objectMapper;
+    private final ReplyCorrelator replyCorrelator;
+    private final String replyDestination;
+    private final Map<String, BiConsumer<BrokerMessage, BrokerMessage>> lateReplyHandlers = new ConcurrentHashMap<>();
+
+    public SagaCommandGateway(
+            MessageBroker messageBroker,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${saga.messaging.reply-destination:order.saga.replies}") String replyDestination,
+            @Value("${saga.messaging.reply-timeout-ms:5000}") long replyTimeoutMs,
+            @Value("${saga.messaging.late-reply-window-ms:600000}") long lateReplyWindowMs
+    ) {
+        this.messageBroker = messageBroker;
+        this.objectMapper = objectMapper;
+        this.replyCorrelator = new ReplyCorrelator(Duration.ofMillis(replyTimeoutMs),
+                Duration.ofMillis(lateReplyWindowMs), this::onLateReply, meterRegistry);
+        this.replyDestination = replyDestination;
+    }
+
+    @PostConstruct
+    public void subscribeToReplies() {
+        messageBroker.subscribe(replyDestination, replyCorrelator::onReply);
+    }
+
+    /**
+     * Send a command for an order and wait for its reply.
+     *
+     * @throws SagaMessagingException if the command cannot be sent or no reply arrives in time
+     */
+    public <T> T sendAndReceive(String destination, String orderId, String commandType,
+                                Object command, Class<T> replyType) {
+        try {
+            return send(destination, orderId, commandType, command, replyType).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SagaMessagingException failure) {
+                throw failure;
+            }
+            throw new SagaMessagingException("No reply for " + commandType + " within timeout", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SagaMessagingException("Interrupted waiting for " + commandType + " reply", e);
+        }
+    }
+
+    /**
+     * Send a command for an order without waiting; the future completes with its reply.
+     */
+    public <T> CompletableFuture<T> send(String destination, String orderId, String commandType,
+                                         Object command, Class<T> replyType) {
+        String correlationId = ReplyCorrelator.correlationId(orderId, commandType);
+        try {
+            BrokerMessage message = BrokerMessage.command(
+                    correlationId, commandType, replyDestination, objectMapper.writeValueAsString(command));
+            CompletableFuture<BrokerMessage> reply = replyCorrelator.expect(message);
+            try {
+                messageBroker.send(destination, message);
+            } catch (RuntimeException e) {
+                replyCorrelator.cancel(correlationId);
+                throw e;
+            }
+            log.debug("Sent {} to {}", correlationId, destination);
+            return reply.thenApply(replyMessage -> read(replyMessage, replyType));
+        } catch (JsonProcessingException | RuntimeException e) {
+            return CompletableFuture.failedFuture(
+                    new SagaMessagingException(commandType + " failed: " + e.getMessage(), e));
+        }
+    }
+
+    /**
+     * Register the compensation for replies of the given command type that arrive after it timed out.
+     */
+    public <R> void onLateReply(String commandType, Class<R> replyType, LateReplyHandler<R> handler) {
+        lateReplyHandlers.put(commandType, (command, reply) -> handler.handle(
+                ReplyCorrelator.orderId(command.correlationId()), command, read(reply, replyType)));
+    }
+
+    /**
+     * Read a command or reply payload.
+     */
+    public <T> T read(BrokerMessage message, Class<T> type) {
+        try {
+            return objectMapper.readValue(message.payload(), type);
+        } catch (JsonProcessingException e) {
+            throw new SagaMessagingException("Unreadable " + message.type() + " payload", e);
+        }
+    }
+
+    private void onLateReply(BrokerMessage command, BrokerMessage reply) {
+        BiConsumer<BrokerMessage, BrokerMessage> handler = lateReplyHandlers.get(command.type());
+        if (handler == null) {
+            log.warn("No compensation for late {} reply: {}", command.type(), reply.correlationId());
+            return;
+        }
+        try {
+            handler.accept(command, reply);
+        } catch (RuntimeException e) {
+            log.error("Compensating late {} reply failed: {}", command.type(), reply.correlationId(), e);
+        }
+    }
+
+    /**
+     * Compensation for a late reply, given the order, the timed-out command and the reply.
+     */
+    @FunctionalInterface
+    public interface LateReplyHandler<R> {
+        void handle(String orderId, BrokerMessage command, R reply);
+    }
+}
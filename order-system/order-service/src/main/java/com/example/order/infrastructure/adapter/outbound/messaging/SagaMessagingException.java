@@ -0,0 +1,11 @@
+package com.example.order.infrastructure.adapter.outbound.messaging;
+
+/**
+ * Raised when a SAGA command cannot be sent or its reply does not arrive in time.
+ */
+public class SagaMessagingException extends RuntimeException {
+
+    public SagaMessagingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.order.infrastructure.adapter.outbound.persistence;
+
+import com.example.order.application.port.outbound.OrderSearchRepository;
+import com.example.order.application.query.ExportOrdersQuery;
+import com.example.order.application.query.OrderPage;
+import com.example.order.application.query.OrderSummary;
+import com.example.order.application.query.SearchOrdersQuery;
+import com.example.order.domain.model.valueobject.OrderStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JDBC implementation of OrderSearchRepository.
+ *
+ * Pages are read newest first with keyset pagination on (created_at, id): each page seeks past the
+ * last row of the previous one through idx_orders_created_at (or idx_orders_status when filtering by
+ * status), so the cost of a page does not grow with its depth. Rows are projected straight into
+ * {@link OrderSummary}. A non-terminal order's status comes from its latest order_status_events entry.
+ *
+ * Exports run the same projection through a forward-only, read-only cursor with a bounded fetch size
+ * and hand each row to the caller as it arrives, so memory does not grow with the number of rows.
+ * PostgreSQL only streams with a fetch size inside a transaction, hence the read-only transaction.
+ */
+@Component
+public class JdbcOrderSearchRepository implements OrderSearchRepository {
+
+    static final String CURRENT_STATUS = """
+            CASE WHEN o.status IN (:terminalStatuses) THEN o.status
+                 ELSE COALESCE((SELECT e.status FROM order_status_events e WHERE e.order_id = o.order_id
+                                ORDER BY e.version DESC LIMIT 1), o.status) END""";
+
+    static final String SELECT_SUMMARY = """
+            SELECT o.id, o.order_id, %s AS current_status, o.buyer_email, o.item_count,
+                   o.total_quantity, o.amount, o.currency, o.created_at
+            FROM orders o
+            WHERE 1 = 1""".formatted(CURRENT_STATUS);
+
+    private static final List<String> TERMINAL_STATUSES = statusNames(true);
+    private static final List<String> NON_TERMINAL_STATUSES = statusNames(false);
+
+    private static final RowMapper<SummaryRow> ROW_MAPPER =
+            (rs, rowNum) -> new SummaryRow(rs.getLong("id"), toSummary(rs));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate cursorTemplate;
+
+    public JdbcOrderSearchRepository(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${orders.export.fetch-size:1000}") int exportFetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        JdbcTemplate cursor = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+        cursor.setFetchSize(exportFetchSize);
+        this.cursorTemplate = new NamedParameterJdbcTemplate(cursor);
+    }
+
+    @Override
+    public OrderPage search(SearchOrdersQuery query) {
+        MapSqlParameterSource params = new MapSqlParameterSource("terminalStatuses", TERMINAL_STATUSES);
+        StringBuilder sql = new StringBuilder(SELECT_SUMMARY);
+        appendFilters(sql, params, query.status(), query.productId(), query.buyerEmail(),
+                query.createdFrom(), query.createdTo());
+        if (query.cursor() != null) {
+            Cursor after = Cursor.decode(query.cursor());
+            sql.append(" AND (o.created_at, o.id) < (:cursorCreatedAt, :cursorId)");
+            params.addValue("cursorCreatedAt", after.createdAt());
+            params.addValue("cursorId", after.id());
+        }
+        // One extra row tells whether there is a next page
+        sql.append(" ORDER BY o.created_at DESC, o.id DESC LIMIT :limit");
+        params.addValue("limit", query.limit() + 1);
+
+        List<SummaryRow> rows = jdbcTemplate.query(sql.toString(), params, ROW_MAPPER);
+        boolean hasMore = rows.size() > query.limit();
+        List<SummaryRow> page = hasMore ? rows.subList(0, query.limit()) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            SummaryRow last = page.get(page.size() - 1);
+            nextCursor = new Cursor(last.summary().createdAt(), last.id()).encode();
+        }
+        return new OrderPage(page.stream().map(SummaryRow::summary).toList(), nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(ExportOrdersQuery query, Consumer<OrderSummary> action) {
+        MapSqlParameterSource params = new MapSqlParameterSource("terminalStatuses", TERMINAL_STATUSES);
+        StringBuilder sql = new StringBuilder(SELECT_SUMMARY);
+        appendFilters(sql, params, query.status(), null, null, query.createdFrom(), query.createdTo());
+        sql.append(" ORDER BY o.created_at, o.id");
+
+        cursorTemplate.query(sql.toString(), params, rs -> {
+            action.accept(toSummary(rs));
+        });
+    }
+
+    private static void appendFilters(StringBuilder sql, MapSqlParameterSource params, OrderStatus status,
+                                      String productId, String buyerEmail,
+                                      LocalDateTime createdFrom, LocalDateTime createdTo) {
+        if (status != null) {
+            if (status.isTerminal()) {
+                sql.append(" AND o.status = :status");
+            } else {
+                // The orders row keeps its last terminal-or-initial status; the log holds the rest
+                sql.append(" AND o.status IN (:nonTerminalStatuses) AND ").append(CURRENT_STATUS).append(" = :status");
+                params.addValue("nonTerminalStatuses", NON_TERMINAL_STATUSES);
+            }
+            params.addValue("status", status.name());
+        }
+        if (productId != null) {
+            sql.append(" AND EXISTS (SELECT 1 FROM order_items i WHERE i.product_id = :productId"
+                    + " AND i.order_id = o.order_id)");
+            params.addValue("productId", productId);
+        }
+        if (buyerEmail != null) {
+            sql.append(" AND o.buyer_email = :buyerEmail");
+            params.addValue("buyerEmail", buyerEmail);
+        }
+        if (createdFrom != null) {
+            sql.append(" AND o.created_at >= :createdFrom");
+            params.addValue("createdFrom", createdFrom);
+        }
+        if (createdTo != null) {
+            sql.append(" AND o.created_at < :createdTo");
+            params.addValue("createdTo", createdTo);
+        }
+    }
+
+    private static OrderSummary toSummary(ResultSet rs) throws SQLException {
+        return new OrderSummary(
+                rs.getString("order_id"),
+                rs.getString("current_status"),
+                rs.getString("buyer_email"),
+                rs.getInt("item_count"),
+                rs.getInt("total_quantity"),
+                rs.getBigDecimal("amount"),
+                rs.getString("currency"),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        );
+    }
+
+    private static List<String> statusNames(boolean terminal) {
+        return Arrays.stream(OrderStatus.values())
+                .filter(status -> status.isTerminal() == terminal)
+                .map(OrderStatus::name)
+                .toList();
+    }
+
+    private record SummaryRow(long id, OrderSummary summary) {}
+
+    /**
+     * Position of the last row of a page, passed to clients as an opaque URL-safe token.
+     */
+    record Cursor(LocalDateTime createdAt, long id) {
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+        }
+    }
+}
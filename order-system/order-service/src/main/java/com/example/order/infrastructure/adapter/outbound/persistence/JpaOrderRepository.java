@@ -1,52 +1,163 @@
 package com.example.order.infrastructure.adapter.outbound.persistence;
 
+import com.example.common.outbox.OutboxEventWriter;
+import com.example.order.application.exception.IdempotencyKeyConflictException;
+import com.example.order.application.port.outbound.OrderReadModelCache;
 import com.example.order.application.port.outbound.OrderRepository;
+import com.example.order.application.query.OrderReadModel;
 import com.example.order.domain.model.aggregate.Order;
 import com.example.order.domain.model.valueobject.OrderId;
+import com.example.order.domain.model.valueobject.OrderStatus;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * JPA implementation of OrderRepository port.
+ * Each call runs in its own short transaction so callers never hold a connection across remote calls.
+ * Pending domain events are written to the outbox in the same transaction as the order.
+ * A new order is inserted; every later transition appends a row to the order_status_events log
+ * with the next version. The wide orders row is only rewritten when the order reaches a terminal
+ * state, so intermediate SAGA steps are small inserts. The UNIQUE (order_id, version) constraint on
+ * the log rejects a save from a stale copy of the order. Reads of a non-terminal order take the
+ * status from the latest log entry.
+ * Inserting a new order claims its idempotency key: the UNIQUE constraint rejects a second insert
+ * with the same key, on any node, before the caller starts the SAGA.
  */
 @Component
 public class JpaOrderRepository implements OrderRepository {
 
+    static final String AGGREGATE_TYPE = "Order";
+    static final long INITIAL_VERSION = 1;
+    static final List<String> TERMINAL_STATUSES = Arrays.stream(OrderStatus.values())
+            .filter(OrderStatus::isTerminal)
+            .map(OrderStatus::name)
+            .toList();
+
     private final SpringDataOrderRepository springDataRepository;
+    private final SpringDataOrderStatusEventRepository statusEventRepository;
     private final OrderMapper mapper;
+    private final OutboxEventWriter outboxEventWriter;
+    private final OrderReadModelCache readModelCache;
 
-    public JpaOrderRepository(SpringDataOrderRepository springDataRepository, OrderMapper mapper) {
+    public JpaOrderRepository(
+            SpringDataOrderRepository springDataRepository,
+            SpringDataOrderStatusEventRepository statusEventRepository,
+            OrderMapper mapper,
+            OutboxEventWriter outboxEventWriter,
+            OrderReadModelCache readModelCache
+    ) {
         this.springDataRepository = springDataRepository;
+        this.statusEventRepository = statusEventRepository;
         this.mapper = mapper;
+        this.outboxEventWriter = outboxEventWriter;
+        this.readModelCache = readModelCache;
     }
 
     @Override
+    @Transactional
     public Order save(Order order) {
-        Optional<OrderJpaEntity> existingEntity = springDataRepository
-                .findByOrderId(order.getOrderId().value());
-
-        OrderJpaEntity entity;
-        if (existingEntity.isPresent()) {
-            entity = existingEntity.get();
-            mapper.updateEntity(entity, order);
-        } else {
-            entity = mapper.toEntity(order);
-        }
-
-        OrderJpaEntity savedEntity = springDataRepository.save(entity);
-        return mapper.toDomain(savedEntity);
+        long version = order.getVersion() == 0 ? insert(order) : appendStatus(order);
+        outboxEventWriter.append(AGGREGATE_TYPE, order.getOrderId().value(),
+                List.copyOf(order.getDomainEvents()));
+        order.clearDomainEvents();
+        order.markPersisted(version);
+        updateReadModelAfterCommit(OrderReadModel.from(order));
+        return order;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Order> findById(OrderId orderId) {
         return springDataRepository.findByOrderId(orderId.value())
-                .map(mapper::toDomain);
+                .map(this::toDomain);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Order> findByIdempotencyKey(String idempotencyKey) {
         return springDataRepository.findByIdempotencyKey(idempotencyKey)
-                .map(mapper::toDomain);
+                .map(this::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> findInProgressUpdatedBefore(LocalDateTime cutoff, int limit) {
+        return springDataRepository
+                .findInProgressUpdatedBefore(TERMINAL_STATUSES, cutoff, PageRequest.of(0, limit))
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachIdempotencyKey(Consumer<String> action) {
+        try (Stream<String> keys = springDataRepository.streamAllIdempotencyKeys()) {
+            keys.forEach(action);
+        }
+    }
+
+    private long insert(Order order) {
+        try {
+            springDataRepository.save(mapper.toEntity(order));
+        } catch (DataIntegrityViolationException e) {
+            throw new IdempotencyKeyConflictException(order.getIdempotencyKey(),
+                    "Idempotency key already used: " + order.getIdempotencyKey(), e);
+        }
+        return INITIAL_VERSION;
+    }
+
+    private long appendStatus(Order order) {
+        long version = order.getVersion() + 1;
+        try {
+            statusEventRepository.save(mapper.toStatusEvent(order, version));
+        } catch (DataIntegrityViolationException e) {
+            throw new OptimisticLockingFailureException(
+                    "Order " + order.getOrderId().value() + " was modified concurrently (expected version "
+                            + order.getVersion() + ")", e);
+        }
+        if (order.getStatus().isTerminal()) {
+            springDataRepository.updateTerminalState(
+                    order.getOrderId().value(),
+                    version,
+                    order.getStatus().name(),
+                    order.getPaymentId(),
+                    order.getUpdatedAt()
+            );
+        }
+        return version;
+    }
+
+    private Order toDomain(OrderJpaEntity entity) {
+        if (OrderStatus.valueOf(entity.getStatus()).isTerminal()) {
+            return mapper.toDomain(entity);
+        }
+        return mapper.toDomain(entity,
+                statusEventRepository.findFirstByOrderIdOrderByVersionDesc(entity.getOrderId()).orElse(null));
+    }
+
+    private void updateReadModelAfterCommit(OrderReadModel readModel) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            readModelCache.update(readModel);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readModelCache.update(readModel);
+            }
+        });
     }
 }
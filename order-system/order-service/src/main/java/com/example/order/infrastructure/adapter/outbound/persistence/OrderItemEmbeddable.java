@@ -0,0 +1,35 @@
+package com.example.order.infrastructure.adapter.outbound.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * One row of the order_items table.
+ */
+@Embeddable
+public class OrderItemEmbeddable {
+
+    @Column(name = "product_id", nullable = false)
+    private String productId;
+
+    @Column(name = "product_name", nullable = false)
+    private String productName;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    protected OrderItemEmbeddable() {
+    }
+
+    public OrderItemEmbeddable(String productId, String productName, Integer quantity) {
+        this.productId = productId;
+        this.productName = productName;
+        this.quantity = quantity;
+    }
+
+    public String getProductId() { return productId; }
+
+    public String getProductName() { return productName; }
+
+    public Integer getQuantity() { return quantity; }
+}
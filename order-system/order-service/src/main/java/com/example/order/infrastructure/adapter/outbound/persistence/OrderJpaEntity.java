@@ -3,6 +3,8 @@ package com.example.order.infrastructure.adapter.outbound.persistence;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(name = "orders")
@@ -24,14 +26,18 @@ public class OrderJpaEntity {
     @Column(name = "buyer_email", nullable = false)
     private String buyerEmail;
 
-    @Column(name = "product_id", nullable = false)
-    private String productId;
+    @Column(name = "item_count", nullable = false)
+    private Integer itemCount;
 
-    @Column(name = "product_name", nullable = false)
-    private String productName;
+    @Column(name = "total_quantity", nullable = false)
+    private Integer totalQuantity;
 
-    @Column(nullable = false)
-    private Integer quantity;
+    // Line items never change after the order is created
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "order_items",
+            joinColumns = @JoinColumn(name = "order_id", referencedColumnName = "order_id"))
+    @OrderColumn(name = "line_no")
+    private List<OrderItemEmbeddable> items = new ArrayList<>();
 
     @Column(nullable = false)
     private BigDecimal amount;
@@ -57,6 +63,9 @@ public class OrderJpaEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Column(nullable = false)
+    private Long version;
+
     // Getters and setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -73,14 +82,14 @@ public class OrderJpaEntity {
     public String getBuyerEmail() { return buyerEmail; }
     public void setBuyerEmail(String buyerEmail) { this.buyerEmail = buyerEmail; }
 
-    public String getProductId() { return productId; }
-    public void setProductId(String productId) { this.productId = productId; }
+    public Integer getItemCount() { return itemCount; }
+    public void setItemCount(Integer itemCount) { this.itemCount = itemCount; }
 
-    public String getProductName() { return productName; }
-    public void setProductName(String productName) { this.productName = productName; }
+    public Integer getTotalQuantity() { return totalQuantity; }
+    public void setTotalQuantity(Integer totalQuantity) { this.totalQuantity = totalQuantity; }
 
-    public Integer getQuantity() { return quantity; }
-    public void setQuantity(Integer quantity) { this.quantity = quantity; }
+    public List<OrderItemEmbeddable> getItems() { return items; }
+    public void setItems(List<OrderItemEmbeddable> items) { this.items = items; }
 
     public BigDecimal getAmount() { return amount; }
     public void setAmount(BigDecimal amount) { this.amount = amount; }
@@ -105,4 +114,7 @@ public class OrderJpaEntity {
 
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
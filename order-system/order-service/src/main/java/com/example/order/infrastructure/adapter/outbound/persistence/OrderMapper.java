@@ -4,6 +4,9 @@ import com.example.order.domain.model.aggregate.Order;
 import com.example.order.domain.model.valueobject.*;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.stream.Collectors;
+
 /**
  * Mapper for converting between Order domain model and JPA entity.
  */
@@ -19,9 +22,11 @@ public class OrderMapper {
         entity.setIdempotencyKey(order.getIdempotencyKey());
         entity.setBuyerName(order.getBuyer().name());
         entity.setBuyerEmail(order.getBuyer().email());
-        entity.setProductId(order.getOrderItem().productId());
-        entity.setProductName(order.getOrderItem().productName());
-        entity.setQuantity(order.getOrderItem().quantity());
+        entity.setItemCount(order.getOrderItems().size());
+        entity.setTotalQuantity(order.getOrderItems().stream().mapToInt(OrderItem::quantity).sum());
+        entity.setItems(order.getOrderItems().stream()
+                .map(item -> new OrderItemEmbeddable(item.productId(), item.productName(), item.quantity()))
+                .collect(Collectors.toCollection(ArrayList::new)));
         entity.setAmount(order.getMoney().amount());
         entity.setCurrency(order.getMoney().currency());
         entity.setPaymentMethod(order.getPaymentInfo().method());
@@ -30,18 +35,43 @@ public class OrderMapper {
         entity.setPaymentId(order.getPaymentId());
         entity.setCreatedAt(order.getCreatedAt());
         entity.setUpdatedAt(order.getUpdatedAt());
+        entity.setVersion(JpaOrderRepository.INITIAL_VERSION);
         return entity;
     }
 
+    /**
+     * Convert domain Order to a status log entry for the given version.
+     */
+    public OrderStatusEventJpaEntity toStatusEvent(Order order, long version) {
+        OrderStatusEventJpaEntity event = new OrderStatusEventJpaEntity();
+        event.setOrderId(order.getOrderId().value());
+        event.setVersion(version);
+        event.setStatus(order.getStatus().name());
+        event.setPaymentId(order.getPaymentId());
+        event.setOccurredAt(order.getUpdatedAt());
+        return event;
+    }
+
     /**
      * Convert JPA entity to domain Order.
      */
     public Order toDomain(OrderJpaEntity entity) {
+        return toDomain(entity, null);
+    }
+
+    /**
+     * Convert JPA entity to domain Order, taking status, payment ID, update time and version from the
+     * latest status log entry when one is given.
+     */
+    public Order toDomain(OrderJpaEntity entity, OrderStatusEventJpaEntity latestStatus) {
+        boolean overlay = latestStatus != null;
         return Order.reconstitute(
                 OrderId.of(entity.getOrderId()),
                 entity.getIdempotencyKey(),
                 Buyer.of(entity.getBuyerName(), entity.getBuyerEmail()),
-                OrderItem.of(entity.getProductId(), entity.getProductName(), entity.getQuantity()),
+                entity.getItems().stream()
+                        .map(item -> OrderItem.of(item.getProductId(), item.getProductName(), item.getQuantity()))
+                        .toList(),
                 Money.of(entity.getAmount(), entity.getCurrency()),
                 // PaymentInfo is reconstructed with masked data for retrieval
                 PaymentInfo.of(
@@ -50,19 +80,11 @@ public class OrderMapper {
                         "12/99", // Placeholder - not stored
                         "000"    // Placeholder - not stored
                 ),
-                OrderStatus.valueOf(entity.getStatus()),
-                entity.getPaymentId(),
+                OrderStatus.valueOf(overlay ? latestStatus.getStatus() : entity.getStatus()),
+                overlay ? latestStatus.getPaymentId() : entity.getPaymentId(),
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                overlay ? latestStatus.getOccurredAt() : entity.getUpdatedAt(),
+                overlay ? latestStatus.getVersion() : entity.getVersion()
         );
     }
-
-    /**
-     * Update existing entity from domain Order.
-     */
-    public void updateEntity(OrderJpaEntity entity, Order order) {
-        entity.setStatus(order.getStatus().name());
-        entity.setPaymentId(order.getPaymentId());
-        entity.setUpdatedAt(order.getUpdatedAt());
-    }
 }
@@ -0,0 +1,50 @@
+package com.example.order.infrastructure.adapter.outbound.persistence;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One row of the append-only order status log: the state an order reached at a given version.
+ */
+@Entity
+@Table(name = "order_status_events")
+public class OrderStatusEventJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private String orderId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(name = "payment_id")
+    private String paymentId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getOrderId() { return orderId; }
+    public void setOrderId(String orderId) { this.orderId = orderId; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getPaymentId() { return paymentId; }
+    public void setPaymentId(String paymentId) { this.paymentId = paymentId; }
+
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(LocalDateTime occurredAt) { this.occurredAt = occurredAt; }
+}
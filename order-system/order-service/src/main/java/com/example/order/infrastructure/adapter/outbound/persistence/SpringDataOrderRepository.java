@@ -1,9 +1,17 @@
 package com.example.order.infrastructure.adapter.outbound.persistence;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface SpringDataOrderRepository extends JpaRepository<OrderJpaEntity, Long> {
@@ -11,4 +19,31 @@ public interface SpringDataOrderRepository extends JpaRepository<OrderJpaEntity,
     Optional<OrderJpaEntity> findByOrderId(String orderId);
 
     Optional<OrderJpaEntity> findByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * Write the final order state and the version of the status log entry that recorded it.
+     * @return 1 if updated, 0 if the order does not exist
+     */
+    @Modifying
+    @Query("UPDATE OrderJpaEntity o SET o.status = :status, o.paymentId = :paymentId, o.updatedAt = :updatedAt, "
+            + "o.version = :version WHERE o.orderId = :orderId")
+    int updateTerminalState(@Param("orderId") String orderId,
+                            @Param("version") long version,
+                            @Param("status") String status,
+                            @Param("paymentId") String paymentId,
+                            @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Orders whose row is not terminal and whose status log has no entry since the cutoff, oldest first.
+     */
+    @Query("SELECT o FROM OrderJpaEntity o WHERE o.status NOT IN :terminalStatuses AND o.createdAt < :cutoff "
+            + "AND NOT EXISTS (SELECT e FROM OrderStatusEventJpaEntity e "
+            + "WHERE e.orderId = o.orderId AND e.occurredAt >= :cutoff) "
+            + "ORDER BY o.createdAt")
+    List<OrderJpaEntity> findInProgressUpdatedBefore(@Param("terminalStatuses") Collection<String> terminalStatuses,
+                                                     @Param("cutoff") LocalDateTime cutoff,
+                                                     Pageable pageable);
+
+    @Query("SELECT o.idempotencyKey FROM OrderJpaEntity o")
+    Stream<String> streamAllIdempotencyKeys();
 }
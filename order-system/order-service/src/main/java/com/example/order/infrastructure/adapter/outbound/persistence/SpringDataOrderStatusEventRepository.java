@@ -0,0 +1,12 @@
+package com.example.order.infrastructure.adapter.outbound.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SpringDataOrderStatusEventRepository extends JpaRepository<OrderStatusEventJpaEntity, Long> {
+
+    Optional<OrderStatusEventJpaEntity> findFirstByOrderIdOrderByVersionDesc(String orderId);
+}
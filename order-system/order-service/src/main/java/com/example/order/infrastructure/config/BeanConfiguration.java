@@ -1,28 +1,101 @@
 package com.example.order.infrastructure.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 /**
  * Bean configuration for infrastructure components.
  */
 @Configuration
 public class BeanConfiguration {
 
-    @Value("${services.timeout:5000}")
-    private int timeoutMs;
+    /**
+     * RestTemplate for service-to-service communication, backed by the request factory from
+     * {@link HttpClientConfiguration}.
+     */
+    @Bean
+    public RestTemplate restTemplate(ClientHttpRequestFactory requestFactory) {
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * Bounded executor for asynchronous SAGA execution.
+     * When the queue is full the submitting thread runs the SAGA itself, which throttles intake.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor sagaExecutor(
+            @Value("${saga.executor.core-pool-size:16}") int corePoolSize,
+            @Value("${saga.executor.max-pool-size:64}") int maxPoolSize,
+            @Value("${saga.executor.queue-capacity:1000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("saga-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Virtual-thread executor for asynchronous SAGA execution (spring.threads.virtual.enabled=true on Java 21+).
+     * The concurrency limit keeps the number of in-flight SAGAs, and thus downstream calls, bounded.
+     */
+    @Bean(name = "sagaExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualSagaExecutor(
+            @Value("${saga.executor.virtual-concurrency-limit:1000}") int concurrencyLimit
+    ) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("saga-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
 
     /**
-     * RestTemplate with 5 second timeout for service-to-service communication.
+     * Executor for SAGA steps that run concurrently when saga.parallel-steps=true.
+     * When saturated the SAGA thread runs the step itself, i.e. falls back to sequential execution.
      */
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(timeoutMs);
-        factory.setReadTimeout(timeoutMs);
-        return new RestTemplate(factory);
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor sagaStepExecutor(
+            @Value("${saga.step-executor.core-pool-size:16}") int corePoolSize,
+            @Value("${saga.step-executor.max-pool-size:64}") int maxPoolSize,
+            @Value("${saga.step-executor.queue-capacity:0}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("saga-step-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Virtual-thread executor for concurrent SAGA steps.
+     */
+    @Bean(name = "sagaStepExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualSagaStepExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("saga-step-");
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
     }
 }
@@ -0,0 +1,81 @@
+package com.example.order.infrastructure.config;
+
+import com.example.order.application.exception.SagaCapacityExceededException;
+import com.example.order.application.port.outbound.SagaConcurrencyLimit;
+import com.example.order.infrastructure.adapter.inbound.rest.AimdConcurrencyLimiter;
+import com.example.order.infrastructure.adapter.inbound.rest.ConcurrencyLimitInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Adaptive load shedding for the order API, disabled with orders.concurrency-limit.enabled=false.
+ *
+ * Order creation and reads get their own AIMD limiter. The export stream is excluded: it runs
+ * asynchronously and is bounded by its own request timeout. With saga.mode=async a create request
+ * returns as soon as the SAGA is queued, so a third limiter bounds the SAGAs themselves and learns
+ * from their completion latency.
+ */
+@Configuration
+@ConditionalOnProperty(name = "orders.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfiguration implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitInterceptor interceptor;
+    private final MeterRegistry meterRegistry;
+    private final long retryAfterSeconds;
+    private final double backoffRatio;
+
+    public ConcurrencyLimitConfiguration(
+            MeterRegistry meterRegistry,
+            @Value("${orders.concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds,
+            @Value("${orders.concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${orders.concurrency-limit.create.initial:100}") int createInitial,
+            @Value("${orders.concurrency-limit.create.min:10}") int createMin,
+            @Value("${orders.concurrency-limit.create.max:400}") int createMax,
+            @Value("${orders.concurrency-limit.create.latency-threshold:3s}") Duration createLatencyThreshold,
+            @Value("${orders.concurrency-limit.read.initial:200}") int readInitial,
+            @Value("${orders.concurrency-limit.read.min:20}") int readMin,
+            @Value("${orders.concurrency-limit.read.max:1000}") int readMax,
+            @Value("${orders.concurrency-limit.read.latency-threshold:500ms}") Duration readLatencyThreshold
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.backoffRatio = backoffRatio;
+        this.interceptor = new ConcurrencyLimitInterceptor(
+                new AimdConcurrencyLimiter("orders-create", createInitial, createMin, createMax,
+                        createLatencyThreshold, backoffRatio, meterRegistry),
+                new AimdConcurrencyLimiter("orders-read", readInitial, readMin, readMax,
+                        readLatencyThreshold, backoffRatio, meterRegistry),
+                retryAfterSeconds
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "saga.mode", havingValue = "async")
+    public SagaConcurrencyLimit sagaConcurrencyLimit(
+            @Value("${orders.concurrency-limit.saga.initial:100}") int initial,
+            @Value("${orders.concurrency-limit.saga.min:10}") int min,
+            @Value("${orders.concurrency-limit.saga.max:400}") int max,
+            @Value("${orders.concurrency-limit.saga.latency-threshold:3s}") Duration latencyThreshold
+    ) {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter("orders-saga", initial, min, max,
+                latencyThreshold, backoffRatio, meterRegistry);
+        return () -> limiter.tryAcquire()
+                .<SagaConcurrencyLimit.Slot>map(permit -> permit::release)
+                .orElseThrow(() -> new SagaCapacityExceededException(
+                        limiter.name(), limiter.limit(), retryAfterSeconds));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor)
+                .addPathPatterns("/api/v1/orders", "/api/v1/orders/**")
+                .excludePathPatterns("/api/v1/orders/export");
+    }
+}
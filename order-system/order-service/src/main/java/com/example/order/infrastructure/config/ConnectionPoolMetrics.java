@@ -0,0 +1,64 @@
+package com.example.order.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Publishes the Hikari pool utilization (active / maximum connections) as
+ * {@code hikaricp.connections.utilization}.
+ *
+ * Together with Spring Boot's built-in {@code hikaricp.connections.usage} timer (connection hold time)
+ * this shows whether SAGA threads are still holding connections while waiting on remote services.
+ */
+@Component
+public class ConnectionPoolMetrics implements MeterBinder {
+
+    public static final String UTILIZATION_METRIC = "hikaricp.connections.utilization";
+
+    private final DataSource dataSource;
+
+    public ConnectionPoolMetrics(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        HikariDataSource hikari = unwrap(dataSource);
+        if (hikari == null) {
+            return;
+        }
+        Gauge.builder(UTILIZATION_METRIC, hikari, ConnectionPoolMetrics::utilization)
+                .description("Ratio of active connections to the maximum pool size")
+                .tag("pool", String.valueOf(hikari.getPoolName()))
+                .register(registry);
+    }
+
+    static double utilization(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        int max = hikari.getMaximumPoolSize();
+        if (pool == null || max <= 0) {
+            return 0.0;
+        }
+        return (double) pool.getActiveConnections() / max;
+    }
+
+    private static HikariDataSource unwrap(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari;
+        }
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class)
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
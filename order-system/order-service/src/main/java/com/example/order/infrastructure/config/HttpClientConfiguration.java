@@ -0,0 +1,99 @@
+package com.example.order.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * HTTP client configuration for calls to the payment and inventory services.
+ *
+ * HTTP/1.1 (default) uses a pooled keep-alive Apache client with per-route limits and separate
+ * connect, read and pool-acquire timeouts. HTTP/2 uses the JDK client, which multiplexes
+ * requests over a single connection per host and manages its own connections.
+ */
+@Configuration
+public class HttpClientConfiguration {
+
+    public static final String POOL_NAME = "downstream";
+
+    @Value("${services.http.connect-timeout:1000}")
+    private long connectTimeoutMs;
+
+    @Value("${services.http.read-timeout:5000}")
+    private long readTimeoutMs;
+
+    @Value("${services.http.pool-acquire-timeout:500}")
+    private long poolAcquireTimeoutMs;
+
+    @Value("${services.http.max-total:200}")
+    private int maxTotal;
+
+    @Value("${services.http.max-per-route:50}")
+    private int maxPerRoute;
+
+    @Value("${services.http.idle-timeout:30000}")
+    private long idleTimeoutMs;
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "services.http.version", havingValue = "HTTP_1_1", matchIfMissing = true)
+    public InstrumentedPoolingConnectionManager downstreamConnectionManager(MeterRegistry meterRegistry) {
+        InstrumentedPoolingConnectionManager connectionManager = new InstrumentedPoolingConnectionManager(meterRegistry);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build());
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    /**
+     * Pooled HTTP/1.1 keep-alive request factory.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "services.http.version", havingValue = "HTTP_1_1", matchIfMissing = true)
+    public ClientHttpRequestFactory pooledRequestFactory(InstrumentedPoolingConnectionManager connectionManager) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeoutMs))
+                .build();
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    /**
+     * HTTP/2 request factory (h2c upgrade on plain HTTP), enabled with services.http.version=HTTP_2.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "services.http.version", havingValue = "HTTP_2")
+    public ClientHttpRequestFactory http2RequestFactory() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return factory;
+    }
+}
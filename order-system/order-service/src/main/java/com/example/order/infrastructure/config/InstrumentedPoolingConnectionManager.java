@@ -0,0 +1,64 @@
+package com.example.order.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.Timeout;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Pooling connection manager that records how long callers wait to lease a connection.
+ *
+ * Publishes {@code http.client.pool.lease} tagged with the target host and outcome
+ * ({@code acquired}, {@code timeout}, {@code error}).
+ */
+public class InstrumentedPoolingConnectionManager extends PoolingHttpClientConnectionManager {
+
+    public static final String LEASE_METRIC = "http.client.pool.lease";
+
+    private final MeterRegistry meterRegistry;
+
+    public InstrumentedPoolingConnectionManager(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+        String target = route.getTargetHost().toHostString();
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                long start = System.nanoTime();
+                String outcome = "error";
+                try {
+                    ConnectionEndpoint endpoint = delegate.get(timeout);
+                    outcome = "acquired";
+                    return endpoint;
+                } catch (TimeoutException e) {
+                    outcome = "timeout";
+                    throw e;
+                } finally {
+                    Timer.builder(LEASE_METRIC)
+                            .description("Time spent waiting to lease a pooled HTTP connection")
+                            .tag("target", target)
+                            .tag("outcome", outcome)
+                            .register(meterRegistry)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return delegate.cancel();
+            }
+        };
+    }
+}
@@ -6,9 +6,8 @@ CREATE TABLE IF NOT EXISTS orders (
     idempotency_key VARCHAR(100) UNIQUE NOT NULL,
     buyer_name VARCHAR(100) NOT NULL,
     buyer_email VARCHAR(255) NOT NULL,
-    product_id VARCHAR(50) NOT NULL,
-    product_name VARCHAR(200) NOT NULL,
-    quantity INT NOT NULL,
+    item_count INT NOT NULL,
+    total_quantity INT NOT NULL,
     amount DECIMAL(12,2) NOT NULL,
     currency VARCHAR(3) NOT NULL,
     payment_method VARCHAR(20),
@@ -16,9 +15,71 @@ CREATE TABLE IF NOT EXISTS orders (
     status VARCHAR(30) NOT NULL,
     payment_id VARCHAR(50),
     created_at TIMESTAMP NOT NULL,
-    updated_at TIMESTAMP NOT NULL
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL DEFAULT 1
 );
 
-CREATE INDEX IF NOT EXISTS idx_orders_status ON orders(status);
-CREATE INDEX IF NOT EXISTS idx_orders_created_at ON orders(created_at);
+-- Both end in (created_at, id) so order listings seek to the next page instead of skipping rows
+CREATE INDEX IF NOT EXISTS idx_orders_status ON orders(status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_orders_created_at ON orders(created_at, id);
 CREATE INDEX IF NOT EXISTS idx_orders_idempotency_key ON orders(idempotency_key);
+
+-- Line items, written once with the order
+CREATE TABLE IF NOT EXISTS order_items (
+    order_id VARCHAR(50) NOT NULL,
+    line_no INT NOT NULL,
+    product_id VARCHAR(50) NOT NULL,
+    product_name VARCHAR(200) NOT NULL,
+    quantity INT NOT NULL,
+    PRIMARY KEY (order_id, line_no)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_items_product ON order_items(product_id, order_id);
+
+-- Orders from before line items kept their single product on the orders row: move it to line 1
+-- and drop the columns. Adding the old columns first makes this a no-op on a fresh schema.
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS item_count INT;
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS total_quantity INT;
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS product_id VARCHAR(50);
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS product_name VARCHAR(200);
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS quantity INT;
+INSERT INTO order_items (order_id, line_no, product_id, product_name, quantity)
+    SELECT o.order_id, 1, o.product_id, o.product_name, o.quantity FROM orders o
+    WHERE o.product_id IS NOT NULL
+      AND NOT EXISTS (SELECT 1 FROM order_items i WHERE i.order_id = o.order_id AND i.line_no = 1);
+UPDATE orders SET item_count = 1, total_quantity = quantity WHERE product_id IS NOT NULL AND item_count IS NULL;
+ALTER TABLE orders DROP COLUMN IF EXISTS product_id;
+ALTER TABLE orders DROP COLUMN IF EXISTS product_name;
+ALTER TABLE orders DROP COLUMN IF EXISTS quantity;
+ALTER TABLE orders ALTER COLUMN item_count SET NOT NULL;
+ALTER TABLE orders ALTER COLUMN total_quantity SET NOT NULL;
+
+-- Append-only status log; the orders row is only rewritten on terminal states
+CREATE TABLE IF NOT EXISTS order_status_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id VARCHAR(50) NOT NULL,
+    version BIGINT NOT NULL,
+    status VARCHAR(30) NOT NULL,
+    payment_id VARCHAR(50),
+    occurred_at TIMESTAMP NOT NULL,
+    UNIQUE (order_id, version)
+);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id VARCHAR(36) UNIQUE NOT NULL,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(50) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    published_at TIMESTAMP,
+    claimed_by VARCHAR(64),
+    claimed_until TIMESTAMP
+);
+
+-- Outbox rows are claimed by one relay instance at a time
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(64);
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_unpublished ON outbox_events(published_at, id);
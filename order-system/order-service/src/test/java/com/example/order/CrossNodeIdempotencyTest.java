@@ -0,0 +1,85 @@
+package com.example.order;
+
+import com.example.order.application.command.CreateOrderCommand;
+import com.example.order.application.dto.CreateOrderResponse;
+import com.example.order.application.port.inbound.CreateOrderUseCase;
+import com.example.order.application.port.outbound.OrderRepository;
+import com.example.order.application.saga.CreateOrderSaga;
+import com.example.order.domain.model.aggregate.Order;
+import com.example.order.domain.model.valueobject.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Regression test for an idempotency key first used on another node.
+ *
+ * This node's Bloom filter has never seen the key, so the handler skips the lookup and inserts; the
+ * UNIQUE constraint on orders.idempotency_key must surface as the existing order, not a 500.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.jpa.show-sql=false",
+                "outbox.relay.enabled=false"
+        }
+)
+@DisplayName("跨節點冪等鍵衝突測試")
+class CrossNodeIdempotencyTest {
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private CreateOrderSaga createOrderSaga;
+
+    @Test
+    @DisplayName("冪等鍵已由其他節點寫入時應返回既有訂單且不執行 SAGA")
+    void execute_keyInsertedByAnotherNode_shouldReturnExistingOrder() {
+        // Arrange: another node inserts the order directly, bypassing this node's idempotency cache
+        Order existing = Order.create(
+                "CROSS-NODE-001",
+                Buyer.of("王小明", "wang@example.com"),
+                List.of(OrderItem.of("IPHONE-17", "iPhone 17 Pro Max", 1)),
+                Money.of(new BigDecimal("39900"), "TWD"),
+                PaymentInfo.of("CREDIT_CARD", "4111111111111111", "12/26", "123")
+        );
+        orderRepository.save(existing);
+
+        // Act
+        CreateOrderResponse response = createOrderUseCase.execute(new CreateOrderCommand(
+                "CROSS-NODE-001",
+                "王小明",
+                "wang@example.com",
+                List.of(new CreateOrderCommand.Item("IPHONE-17", "iPhone 17 Pro Max", 1)),
+                new BigDecimal("39900"),
+                "TWD",
+                "CREDIT_CARD",
+                "4111111111111111",
+                "12/26",
+                "123"
+        ));
+
+        // Assert
+        assertEquals(existing.getOrderId().value(), response.orderId());
+        assertEquals("CREATED", response.status());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders WHERE idempotency_key = ?", Integer.class, "CROSS-NODE-001"));
+        verify(createOrderSaga, never()).execute(any());
+    }
+}
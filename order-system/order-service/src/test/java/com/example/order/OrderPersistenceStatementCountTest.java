@@ -0,0 +1,190 @@
+package com.example.order;
+
+import com.example.order.application.port.inbound.GetOrderUseCase;
+import com.example.order.application.port.outbound.OrderRepository;
+import com.example.order.application.query.GetOrderQuery;
+import com.example.order.application.query.OrderReadModel;
+import com.example.order.domain.model.aggregate.Order;
+import com.example.order.domain.model.valueobject.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the JDBC statements an order costs across the SAGA's state changes.
+ *
+ * An order is saved on creation and after each of its three transitions, and its two domain
+ * events go to the outbox. Its line items go in as one JDBC batch however many there are. Every
+ * transition appends one status log row with no SELECT before it; the orders row itself is only
+ * rewritten once, when the order completes.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "outbox.relay.enabled=false"
+        }
+)
+@DisplayName("訂單持久化 SQL 語句數量測試")
+class OrderPersistenceStatementCountTest {
+
+    /** 1 order INSERT, 1 batched line item INSERT, 3 status log INSERTs, 1 terminal UPDATE, 2 outbox INSERTs. */
+    static final long STATEMENTS_PER_ORDER = 8;
+
+    private static final Logger log = LoggerFactory.getLogger(OrderPersistenceStatementCountTest.class);
+
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private GetOrderUseCase getOrderUseCase;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("中間狀態轉換應只寫入狀態日誌，終態才更新訂單列，明細以單一批次寫入")
+    void sagaStateChanges_shouldAppendStatusAndUpdateRowOnlyWhenTerminal() {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Order order = Order.create(
+                "STMT-COUNT-001",
+                Buyer.of("王小明", "wang@example.com"),
+                List.of(OrderItem.of("IPHONE-17", "iPhone 17 Pro Max", 1),
+                        OrderItem.of("AIRPODS-PRO-3", "AirPods Pro 3", 2),
+                        OrderItem.of("MAGSAFE-CHARGER", "MagSafe Charger", 1)),
+                Money.of(new BigDecimal("39900"), "TWD"),
+                PaymentInfo.of("CREDIT_CARD", "4111111111111111", "12/26", "123")
+        );
+        statistics.clear();
+
+        // Act
+        orderRepository.save(order);
+        order.markPaymentAuthorized("PAY-001");
+        orderRepository.save(order);
+        order.markInventoryDeducted();
+        orderRepository.save(order);
+        order.complete();
+        orderRepository.save(order);
+
+        // Assert
+        long statements = statistics.getPrepareStatementCount() + outboxInserts(order.getOrderId().value());
+        log.info("Statements per order: {}", statements);
+        assertEquals(STATEMENTS_PER_ORDER, statements);
+        Order stored = orderRepository.findById(order.getOrderId()).orElseThrow();
+        assertEquals(OrderStatus.COMPLETED, stored.getStatus());
+        assertEquals("PAY-001", stored.getPaymentId());
+        assertEquals(4, stored.getVersion());
+        assertEquals(List.of("IPHONE-17", "AIRPODS-PRO-3", "MAGSAFE-CHARGER"),
+                stored.getOrderItems().stream().map(OrderItem::productId).toList());
+    }
+
+    @Test
+    @DisplayName("查詢進行中訂單應回傳狀態日誌中的最新狀態")
+    void getOrder_inProgress_shouldReturnLatestLoggedStatus() {
+        // Arrange
+        Order order = Order.create(
+                "STMT-COUNT-003",
+                Buyer.of("王小明", "wang@example.com"),
+                List.of(OrderItem.of("IPHONE-17", "iPhone 17 Pro Max", 1)),
+                Money.of(new BigDecimal("39900"), "TWD"),
+                PaymentInfo.of("CREDIT_CARD", "4111111111111111", "12/26", "123")
+        );
+        orderRepository.save(order);
+        order.markPaymentAuthorized("PAY-003");
+        orderRepository.save(order);
+        order.markInventoryDeducted();
+        orderRepository.save(order);
+
+        // Act
+        OrderReadModel readModel = getOrderUseCase
+                .execute(new GetOrderQuery(order.getOrderId().value()))
+                .orElseThrow();
+
+        // Assert
+        assertEquals("INVENTORY_DEDUCTED", readModel.status());
+        assertEquals("PAY-003", readModel.paymentId());
+        assertTrue(readModel.processing());
+        assertEquals("CREATED", jdbcTemplate.queryForObject(
+                "SELECT status FROM orders WHERE order_id = ?", String.class, order.getOrderId().value()));
+    }
+
+    @Test
+    @DisplayName("逾時未完成的訂單應被找出，近期有狀態變更或已結束的不應")
+    void findInProgressUpdatedBefore_shouldReturnOnlyStaleNonTerminalOrders() {
+        // Arrange
+        Order stale = Order.create(
+                "STMT-COUNT-004",
+                Buyer.of("王小明", "wang@example.com"),
+                List.of(OrderItem.of("IPHONE-17", "iPhone 17 Pro Max", 1)),
+                Money.of(new BigDecimal("39900"), "TWD"),
+                PaymentInfo.of("CREDIT_CARD", "4111111111111111", "12/26", "123")
+        );
+        orderRepository.save(stale);
+        stale.markPaymentAuthorized("PAY-004");
+        orderRepository.save(stale);
+        LocalDateTime cutoff = LocalDateTime.now().plusSeconds(1);
+
+        // Act
+        List<Order> found = orderRepository.findInProgressUpdatedBefore(cutoff, 100);
+        List<Order> recent = orderRepository.findInProgressUpdatedBefore(cutoff.minusMinutes(5), 100);
+
+        // Assert
+        Order recovered = found.stream()
+                .filter(order -> order.getOrderId().equals(stale.getOrderId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(OrderStatus.PAYMENT_AUTHORIZED, recovered.getStatus());
+        assertEquals("PAY-004", recovered.getPaymentId());
+        assertTrue(found.stream().noneMatch(order -> order.getStatus().isTerminal()));
+        assertTrue(recent.stream().noneMatch(order -> order.getOrderId().equals(stale.getOrderId())));
+    }
+
+    @Test
+    @DisplayName("以過期版本儲存應拋出樂觀鎖例外")
+    void save_shouldRejectStaleVersion() {
+        // Arrange
+        Order order = Order.create(
+                "STMT-COUNT-002",
+                Buyer.of("王小明", "wang@example.com"),
+                List.of(OrderItem.of("IPHONE-17", "iPhone 17 Pro Max", 1)),
+                Money.of(new BigDecimal("39900"), "TWD"),
+                PaymentInfo.of("CREDIT_CARD", "4111111111111111", "12/26", "123")
+        );
+        orderRepository.save(order);
+        Order stale = orderRepository.findById(order.getOrderId()).orElseThrow();
+        order.markPaymentAuthorized("PAY-002");
+        orderRepository.save(order);
+
+        // Act & Assert
+        stale.fail("Card declined");
+        assertThrows(OptimisticLockingFailureException.class, () -> orderRepository.save(stale));
+        assertEquals(OrderStatus.PAYMENT_AUTHORIZED,
+                orderRepository.findById(order.getOrderId()).orElseThrow().getStatus());
+    }
+
+    /**
+     * Outbox rows are written with JDBC, outside Hibernate's statistics; each transition appends one.
+     */
+    private long outboxInserts(String aggregateId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ?", Long.class, aggregateId);
+    }
+}
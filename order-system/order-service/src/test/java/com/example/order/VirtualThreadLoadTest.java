@@ -0,0 +1,110 @@
+package com.example.order;
+
+import com.example.order.application.port.outbound.InventoryServicePort;
+import com.example.order.application.port.outbound.PaymentServicePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Load test for the virtual-thread profile.
+ *
+ * Tomcat is capped at {@value #TOMCAT_MAX_THREADS} platform threads while every order waits
+ * {@value #DOWNSTREAM_LATENCY_MS}ms on the (mocked) payment service. With virtual threads the number
+ * of orders waiting concurrently must exceed the Tomcat thread cap.
+ */
+@Tag("load")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=true",
+                "server.tomcat.threads.max=" + VirtualThreadLoadTest.TOMCAT_MAX_THREADS,
+                "spring.jpa.show-sql=false"
+        }
+)
+@DisplayName("Virtual Thread 負載測試")
+class VirtualThreadLoadTest {
+
+    static final int TOMCAT_MAX_THREADS = 8;
+    static final long DOWNSTREAM_LATENCY_MS = 300;
+    private static final int CONCURRENT_ORDERS = 64;
+
+    private static final String ORDER_JSON = """
+            {"buyer":{"name":"王小明","email":"ming@example.com"},
+             "orderItem":{"productId":"IPHONE-17-PRO-MAX","productName":"iPhone 17 Pro Max","quantity":1},
+             "payment":{"method":"CREDIT_CARD","amount":35900,"currency":"TWD",
+                        "cardNumber":"4111111111111111","expiryDate":"12/28","cvv":"123"}}
+            """;
+
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private PaymentServicePort paymentServicePort;
+    @MockBean
+    private InventoryServicePort inventoryServicePort;
+
+    @Test
+    @DisplayName("並行等待中的訂單數應超過 Tomcat 執行緒上限")
+    void concurrentOrders_shouldNotBeCappedByTomcatThreadPool() {
+        // Arrange
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(paymentServicePort.authorize(anyString(), any(), anyString(), anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(DOWNSTREAM_LATENCY_MS);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                    return PaymentServicePort.AuthorizationResult.success("PAY-LOAD", "AUTH-LOAD");
+                });
+        when(inventoryServicePort.deductStock(anyString(), anyList()))
+                .thenReturn(InventoryServicePort.DeductionResult.success());
+        when(paymentServicePort.capture(anyString(), anyString()))
+                .thenReturn(PaymentServicePort.CaptureResult.success());
+
+        HttpClient client = HttpClient.newHttpClient();
+        client.sendAsync(orderRequest("warm-up"), HttpResponse.BodyHandlers.ofString()).join();
+        maxInFlight.set(0);
+
+        // Act
+        List<CompletableFuture<HttpResponse<String>>> responses = IntStream.range(0, CONCURRENT_ORDERS)
+                .mapToObj(i -> client.sendAsync(orderRequest("load-" + i), HttpResponse.BodyHandlers.ofString()))
+                .toList();
+        List<Integer> statuses = responses.stream().map(f -> f.join().statusCode()).toList();
+
+        // Assert
+        assertTrue(statuses.stream().allMatch(status -> status == 201), "statuses: " + statuses);
+        assertTrue(maxInFlight.get() > TOMCAT_MAX_THREADS,
+                "max in-flight " + maxInFlight.get() + " should exceed Tomcat max threads " + TOMCAT_MAX_THREADS);
+    }
+
+    private HttpRequest orderRequest(String idempotencyKey) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/orders"))
+                .header("Content-Type", "application/json")
+                .header("X-Idempotency-Key", idempotencyKey)
+                .POST(HttpRequest.BodyPublishers.ofString(ORDER_JSON))
+                .build();
+    }
+}
@@ -1,7 +1,12 @@
 package com.example.order.application.command;
 
 import com.example.order.application.dto.CreateOrderResponse;
+import com.example.order.application.exception.IdempotencyKeyConflictException;
+import com.example.order.application.exception.SagaCapacityExceededException;
+import com.example.order.application.port.outbound.IdempotencyCache;
 import com.example.order.application.port.outbound.OrderRepository;
+import com.example.order.application.port.outbound.SagaConcurrencyLimit;
+import com.example.order.application.saga.AsyncSagaLauncher;
 import com.example.order.application.saga.CreateOrderSaga;
 import com.example.order.domain.model.aggregate.Order;
 import com.example.order.domain.model.valueobject.*;
@@ -13,7 +18,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,22 +40,40 @@ class CreateOrderCommandHandlerTest {
     @Mock
     private CreateOrderSaga createOrderSaga;
 
+    @Mock
+    private AsyncSagaLauncher asyncSagaLauncher;
+
+    @Mock
+    private IdempotencyCache idempotencyCache;
+
+    @Mock
+    private SagaConcurrencyLimit.Slot sagaSlot;
+
     private CreateOrderCommandHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new CreateOrderCommandHandler(orderRepository, createOrderSaga);
+        handler = new CreateOrderCommandHandler(
+                orderRepository, createOrderSaga, asyncSagaLauncher, idempotencyCache, 5_000);
+        lenient().when(idempotencyCache.find(anyString(), any())).thenAnswer(invocation -> invocation
+                .<Function<String, Optional<CreateOrderResponse>>>getArgument(1)
+                .apply(invocation.getArgument(0)));
     }
 
     private CreateOrderCommand createCommand(String idempotencyKey) {
+        return createCommand(idempotencyKey,
+                List.of(new CreateOrderCommand.Item("IPHONE-17", "iPhone 17 Pro Max", 1)),
+                new BigDecimal("39900"));
+    }
+
+    private CreateOrderCommand createCommand(String idempotencyKey, List<CreateOrderCommand.Item> items,
+                                             BigDecimal amount) {
         return new CreateOrderCommand(
                 idempotencyKey,
                 "王小明",
                 "wang@example.com",
-                "IPHONE-17",
-                "iPhone 17 Pro Max",
-                1,
-                new BigDecimal("39900"),
+                items,
+                amount,
                 "TWD",
                 "CREDIT_CARD",
                 "4111111111111111",
@@ -86,7 +115,7 @@ class CreateOrderCommandHandlerTest {
         Order existingOrder = Order.create(
                 "IDEMP-001",
                 Buyer.of("王小明", "wang@example.com"),
-                OrderItem.of("IPHONE-17", "iPhone 17 Pro Max", 1),
+                List.of(OrderItem.of("IPHONE-17", "iPhone 17 Pro Max", 1)),
                 Money.of(new BigDecimal("39900"), "TWD"),
                 PaymentInfo.of("CREDIT_CARD", "4111111111111111", "12/26", "123")
         );
@@ -194,9 +223,244 @@ class CreateOrderCommandHandlerTest {
         verify(orderRepository).save(argThat(order ->
                 order.getBuyer().name().equals("王小明") &&
                 order.getBuyer().email().equals("wang@example.com") &&
-                order.getOrderItem().productId().equals("IPHONE-17") &&
+                order.getOrderItems().get(0).productId().equals("IPHONE-17") &&
                 order.getMoney().amount().compareTo(new BigDecimal("39900")) == 0 &&
                 order.getMoney().currency().equals("TWD")
         ));
     }
+
+    @Test
+    @DisplayName("非同步模式應儲存訂單並回傳處理中狀態")
+    void execute_shouldAcceptOrderInAsyncMode() {
+        // Arrange
+        CreateOrderCommand command = createCommand("IDEMP-006");
+
+        when(orderRepository.findByIdempotencyKey(any())).thenReturn(Optional.empty());
+        when(orderRepository.save(any(Order.class))).thenAnswer(i -> i.getArgument(0));
+        when(asyncSagaLauncher.isEnabled()).thenReturn(true);
+        when(asyncSagaLauncher.admit()).thenReturn(sagaSlot);
+
+        // Act
+        CreateOrderResponse response = handler.execute(command);
+
+        // Assert
+        assertEquals("CREATED", response.status());
+        assertEquals("訂單處理中", response.message());
+        assertNotNull(response.orderId());
+
+        verify(asyncSagaLauncher).launch(argThat(order ->
+                order.getStatus() == OrderStatus.CREATED &&
+                order.getOrderId().value().equals(response.orderId())
+        ), eq(sagaSlot));
+        verify(sagaSlot, never()).release(anyBoolean());
+        verify(createOrderSaga, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("非同步模式 SAGA 名額已滿時應拒絕且不儲存訂單")
+    void execute_shouldRejectBeforeSavingWhenSagaCapacityExceeded() {
+        // Arrange
+        when(orderRepository.findByIdempotencyKey(any())).thenReturn(Optional.empty());
+        when(asyncSagaLauncher.isEnabled()).thenReturn(true);
+        when(asyncSagaLauncher.admit()).thenThrow(new SagaCapacityExceededException("orders-saga", 10, 1));
+
+        // Act & Assert
+        assertThrows(SagaCapacityExceededException.class, () -> handler.execute(createCommand("IDEMP-014")));
+        verify(orderRepository, never()).save(any());
+        verify(asyncSagaLauncher, never()).launch(any(), any());
+    }
+
+    @Test
+    @DisplayName("非同步模式儲存失敗時應釋放 SAGA 名額")
+    void execute_shouldReleaseSagaSlotWhenSaveFails() {
+        // Arrange
+        when(orderRepository.findByIdempotencyKey(any())).thenReturn(Optional.empty());
+        when(asyncSagaLauncher.isEnabled()).thenReturn(true);
+        when(asyncSagaLauncher.admit()).thenReturn(sagaSlot);
+        when(orderRepository.save(any(Order.class))).thenThrow(new IllegalStateException("db down"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> handler.execute(createCommand("IDEMP-015")));
+        verify(sagaSlot).release(false);
+        verify(asyncSagaLauncher, never()).launch(any(), any());
+    }
+
+    @Test
+    @DisplayName("冪等快取命中時不應查詢資料庫")
+    void execute_shouldReplayCachedResponseWithoutQuery() {
+        // Arrange
+        CreateOrderResponse cached = CreateOrderResponse.fromExisting("ORD-12345678", "COMPLETED", LocalDateTime.now());
+        when(idempotencyCache.find(eq("IDEMP-001"), any())).thenReturn(Optional.of(cached));
+
+        // Act
+        CreateOrderResponse response = handler.execute(createCommand("IDEMP-001"));
+
+        // Assert
+        assertSame(cached, response);
+        verifyNoInteractions(orderRepository, createOrderSaga);
+    }
+
+    @Test
+    @DisplayName("SAGA 結束後應註冊冪等鍵並快取最終回應")
+    void execute_shouldRegisterKeyAndRememberFinishedOrder() {
+        // Arrange
+        when(orderRepository.findByIdempotencyKey(any())).thenReturn(Optional.empty());
+        when(orderRepository.save(any(Order.class))).thenAnswer(i -> i.getArgument(0));
+        when(createOrderSaga.execute(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            order.fail("Insufficient funds");
+            return CreateOrderSaga.SagaResult.paymentFailed("Insufficient funds");
+        });
+
+        // Act
+        CreateOrderResponse response = handler.execute(createCommand("IDEMP-009"));
+
+        // Assert
+        var inOrder = inOrder(idempotencyCache, orderRepository);
+        inOrder.verify(idempotencyCache).register("IDEMP-009");
+        inOrder.verify(orderRepository).save(any(Order.class));
+        verify(idempotencyCache).remember(eq("IDEMP-009"),
+                argThat(cached -> cached.orderId().equals(response.orderId()) && cached.status().equals("FAILED")));
+    }
+
+    @Test
+    @DisplayName("處理中的既有訂單不應被快取")
+    void execute_shouldNotRememberUnfinishedExistingOrder() {
+        // Arrange
+        Order existingOrder = Order.create(
+                "IDEMP-010",
+                Buyer.of("王小明", "wang@example.com"),
+                List.of(OrderItem.of("IPHONE-17", "iPhone 17 Pro Max", 1)),
+                Money.of(new BigDecimal("39900"), "TWD"),
+                PaymentInfo.of("CREDIT_CARD", "4111111111111111", "12/26", "123")
+        );
+        when(orderRepository.findByIdempotencyKey("IDEMP-010")).thenReturn(Optional.of(existingOrder));
+
+        // Act
+        CreateOrderResponse response = handler.execute(createCommand("IDEMP-010"));
+
+        // Assert
+        assertEquals("CREATED", response.status());
+        verify(idempotencyCache, never()).remember(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("同一冪等鍵的並行請求應等待第一個請求的結果")
+    void execute_shouldCoalesceConcurrentRequestsWithSameKey() throws Exception {
+        // Arrange
+        CountDownLatch sagaStarted = new CountDownLatch(1);
+        CountDownLatch releaseSaga = new CountDownLatch(1);
+        when(orderRepository.findByIdempotencyKey(any())).thenReturn(Optional.empty());
+        when(orderRepository.save(any(Order.class))).thenAnswer(i -> i.getArgument(0));
+        when(createOrderSaga.execute(any(Order.class))).thenAnswer(invocation -> {
+            sagaStarted.countDown();
+            assertTrue(releaseSaga.await(5, TimeUnit.SECONDS));
+            return CreateOrderSaga.SagaResult.success();
+        });
+
+        CompletableFuture<CreateOrderResponse> first =
+                CompletableFuture.supplyAsync(() -> handler.execute(createCommand("IDEMP-011")));
+        assertTrue(sagaStarted.await(5, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<CreateOrderResponse> duplicate =
+                CompletableFuture.supplyAsync(() -> handler.execute(createCommand("IDEMP-011")));
+        Thread.sleep(100);
+        releaseSaga.countDown();
+
+        // Assert
+        CreateOrderResponse firstResponse = first.get(5, TimeUnit.SECONDS);
+        assertSame(firstResponse, duplicate.get(5, TimeUnit.SECONDS));
+        verify(createOrderSaga, times(1)).execute(any(Order.class));
+        verify(orderRepository, times(1)).save(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("冪等鍵已被其他節點佔用時應返回既有訂單且不執行 SAGA")
+    void execute_shouldReturnExistingOrderWhenKeyClaimedElsewhere() {
+        // Arrange
+        Order existingOrder = Order.create(
+                "IDEMP-012",
+                Buyer.of("王小明", "wang@example.com"),
+                List.of(OrderItem.of("IPHONE-17", "iPhone 17 Pro Max", 1)),
+                Money.of(new BigDecimal("39900"), "TWD"),
+                PaymentInfo.of("CREDIT_CARD", "4111111111111111", "12/26", "123")
+        );
+        when(orderRepository.findByIdempotencyKey("IDEMP-012"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(existingOrder));
+        when(orderRepository.save(any(Order.class)))
+                .thenThrow(new IdempotencyKeyConflictException("IDEMP-012", "Idempotency key already used", null));
+
+        // Act
+        CreateOrderResponse response = handler.execute(createCommand("IDEMP-012"));
+
+        // Assert
+        assertEquals(existingOrder.getOrderId().value(), response.orderId());
+        assertEquals("CREATED", response.status());
+        verify(createOrderSaga, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("冪等鍵衝突但查無訂單時應拋出衝突例外")
+    void execute_shouldRethrowConflictWhenExistingOrderNotFound() {
+        // Arrange
+        when(orderRepository.findByIdempotencyKey(any())).thenReturn(Optional.empty());
+        when(orderRepository.save(any(Order.class)))
+                .thenThrow(new IdempotencyKeyConflictException("IDEMP-013", "Idempotency key already used", null));
+
+        // Act & Assert
+        assertThrows(IdempotencyKeyConflictException.class, () -> handler.execute(createCommand("IDEMP-013")));
+        verify(createOrderSaga, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("多筆明細的單價總和等於付款金額時應建立訂單")
+    void execute_shouldAcceptMultiLineOrderWhenAmountMatchesLines() {
+        // Arrange
+        CreateOrderCommand command = createCommand("IDEMP-016", List.of(
+                new CreateOrderCommand.Item("IPHONE-17", "iPhone 17 Pro Max", 1, new BigDecimal("35900")),
+                new CreateOrderCommand.Item("AIRPODS-PRO-3", "AirPods Pro 3", 2, new BigDecimal("7900.00"))
+        ), new BigDecimal("51700"));
+        when(orderRepository.findByIdempotencyKey(any())).thenReturn(Optional.empty());
+        when(orderRepository.save(any(Order.class))).thenAnswer(i -> i.getArgument(0));
+        when(createOrderSaga.execute(any(Order.class))).thenReturn(CreateOrderSaga.SagaResult.success());
+
+        // Act
+        CreateOrderResponse response = handler.execute(command);
+
+        // Assert
+        assertEquals("COMPLETED", response.status());
+    }
+
+    @Test
+    @DisplayName("付款金額與明細總額不符時應拒絕且不儲存訂單")
+    void execute_shouldRejectAmountNotMatchingLines() {
+        // Arrange
+        CreateOrderCommand command = createCommand("IDEMP-017", List.of(
+                new CreateOrderCommand.Item("IPHONE-17", "iPhone 17 Pro Max", 1, new BigDecimal("35900")),
+                new CreateOrderCommand.Item("AIRPODS-PRO-3", "AirPods Pro 3", 2, new BigDecimal("7900"))
+        ), new BigDecimal("35900"));
+        when(orderRepository.findByIdempotencyKey(any())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> handler.execute(command));
+        verify(orderRepository, never()).save(any());
+        verify(createOrderSaga, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("多筆明細缺少單價時應拒絕")
+    void execute_shouldRejectMultiLineOrderWithoutUnitPrices() {
+        // Arrange
+        CreateOrderCommand command = createCommand("IDEMP-018", List.of(
+                new CreateOrderCommand.Item("IPHONE-17", "iPhone 17 Pro Max", 1, new BigDecimal("35900")),
+                new CreateOrderCommand.Item("AIRPODS-PRO-3", "AirPods Pro 3", 2)
+        ), new BigDecimal("51700"));
+        when(orderRepository.findByIdempotencyKey(any())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> handler.execute(command));
+        verify(orderRepository, never()).save(any());
+    }
 }
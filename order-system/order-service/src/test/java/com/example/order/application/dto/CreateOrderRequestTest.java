@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,6 +33,30 @@ class CreateOrderRequestTest {
         assertEquals("TWD", request.payment().currency());
     }
 
+    @Test
+    @DisplayName("items 應取 orderItems，舊版 orderItem 視為單一明細")
+    void items_shouldPreferOrderItemsAndWrapLegacyOrderItem() {
+        CreateOrderRequest.BuyerDto buyer = new CreateOrderRequest.BuyerDto("張三", "zhang@example.com");
+        CreateOrderRequest.OrderItemDto iphone = new CreateOrderRequest.OrderItemDto("PROD-001", "iPhone 17", 1);
+        CreateOrderRequest.OrderItemDto airPods = new CreateOrderRequest.OrderItemDto("PROD-002", "AirPods", 2);
+        CreateOrderRequest.PaymentDto payment = new CreateOrderRequest.PaymentDto(
+                "CREDIT_CARD", new BigDecimal("43400"), "TWD",
+                "4111111111111111", "12/26", "123"
+        );
+
+        CreateOrderRequest multiLine = new CreateOrderRequest(buyer, null, List.of(iphone, airPods), payment);
+        CreateOrderRequest legacy = new CreateOrderRequest(buyer, iphone, payment);
+        CreateOrderRequest both = new CreateOrderRequest(buyer, iphone, List.of(airPods), payment);
+        CreateOrderRequest neither = new CreateOrderRequest(buyer, null, null, payment);
+
+        assertEquals(List.of(iphone, airPods), multiLine.items());
+        assertEquals(List.of(iphone), legacy.items());
+        assertTrue(multiLine.isItemsPresent());
+        assertTrue(legacy.isItemsPresent());
+        assertFalse(both.isItemsPresent());
+        assertFalse(neither.isItemsPresent());
+    }
+
     @Test
     @DisplayName("BuyerDto 應正確建立")
     void buyerDto_shouldCreateCorrectly() {
@@ -59,6 +59,19 @@ class CreateOrderResponseTest {
         assertEquals("支付確認失敗", response.message());
     }
 
+    @Test
+    @DisplayName("accepted 應建立處理中響應")
+    void accepted_shouldCreateAcceptedResponse() {
+        LocalDateTime now = LocalDateTime.now();
+
+        CreateOrderResponse response = CreateOrderResponse.accepted("ORD-12345678", now);
+
+        assertEquals("ORD-12345678", response.orderId());
+        assertEquals("CREATED", response.status());
+        assertEquals("訂單處理中", response.message());
+        assertEquals(now, response.createdAt());
+    }
+
     @Test
     @DisplayName("fromExisting 處理 COMPLETED 狀態")
     void fromExisting_shouldHandleCompletedStatus() {
@@ -0,0 +1,53 @@
+package com.example.order.application.query;
+
+import com.example.order.application.port.outbound.OrderSearchRepository;
+import com.example.order.domain.model.valueobject.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportOrdersQueryHandler 測試")
+class ExportOrdersQueryHandlerTest {
+
+    @Mock
+    private OrderSearchRepository orderSearchRepository;
+
+    private ExportOrdersQueryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new ExportOrdersQueryHandler(orderSearchRepository);
+    }
+
+    @Test
+    @DisplayName("應將查詢與接收端交給儲存庫逐筆串流")
+    void execute_shouldStreamFromRepository() {
+        // Arrange
+        ExportOrdersQuery query = new ExportOrdersQuery(OrderStatus.COMPLETED, null, null);
+        Consumer<OrderSummary> sink = summary -> {};
+
+        // Act
+        handler.execute(query, sink);
+
+        // Assert
+        verify(orderSearchRepository).forEach(query, sink);
+    }
+
+    @Test
+    @DisplayName("建立時間區間起點須早於終點")
+    void query_shouldRejectEmptyCreatedAtRange() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThrows(IllegalArgumentException.class, () -> new ExportOrdersQuery(null, now, now));
+    }
+}
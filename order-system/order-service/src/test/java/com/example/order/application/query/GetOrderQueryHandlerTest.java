@@ -1,5 +1,6 @@
 package com.example.order.application.query;
 
+import com.example.order.application.port.outbound.OrderReadModelCache;
 import com.example.order.application.port.outbound.OrderRepository;
 import com.example.order.domain.model.aggregate.Order;
 import com.example.order.domain.model.valueobject.*;
@@ -11,7 +12,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -24,18 +27,24 @@ class GetOrderQueryHandlerTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderReadModelCache readModelCache;
+
     private GetOrderQueryHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new GetOrderQueryHandler(orderRepository);
+        handler = new GetOrderQueryHandler(orderRepository, readModelCache);
+        lenient().when(readModelCache.find(anyString(), any())).thenAnswer(invocation -> invocation
+                .<Function<String, Optional<OrderReadModel>>>getArgument(1)
+                .apply(invocation.getArgument(0)));
     }
 
     private Order createOrder(String orderId) {
         Order order = Order.create(
                 "IDEMP-001",
                 Buyer.of("王小明", "wang@example.com"),
-                OrderItem.of("IPHONE-17", "iPhone 17 Pro Max", 1),
+                List.of(OrderItem.of("IPHONE-17", "iPhone 17 Pro Max", 1)),
                 Money.of(new BigDecimal("39900"), "TWD"),
                 PaymentInfo.of("CREDIT_CARD", "4111111111111111", "12/26", "123")
         );
@@ -74,11 +83,11 @@ class GetOrderQueryHandlerTest {
 
         assertEquals(orderId, readModel.orderId());
         assertEquals("COMPLETED", readModel.status());
+        assertFalse(readModel.processing());
         assertEquals("王小明", readModel.buyer().name());
         assertEquals("wang@example.com", readModel.buyer().email());
-        assertEquals("IPHONE-17", readModel.orderItem().productId());
-        assertEquals("iPhone 17 Pro Max", readModel.orderItem().productName());
-        assertEquals(1, readModel.orderItem().quantity());
+        assertEquals(List.of(new OrderReadModel.OrderItemInfo("IPHONE-17", "iPhone 17 Pro Max", 1)),
+                readModel.orderItems());
         assertEquals(new BigDecimal("39900"), readModel.totalAmount().amount());
         assertEquals("TWD", readModel.totalAmount().currency());
         assertNotNull(readModel.createdAt());
@@ -164,4 +173,40 @@ class GetOrderQueryHandlerTest {
         OrderReadModel readModel = result.get();
         assertEquals("PAY-123", readModel.paymentId());
     }
+
+    @Test
+    @DisplayName("SAGA 進行中的訂單應標記為處理中")
+    void execute_shouldReportProcessingForInFlightOrder() {
+        // Arrange
+        String orderId = "ORD-D4567890";
+        Order order = createOrder(orderId);
+        order.markPaymentAuthorized("PAY-001");
+
+        when(orderRepository.findById(any(OrderId.class)))
+                .thenReturn(Optional.of(order));
+
+        // Act
+        Optional<OrderReadModel> result = handler.execute(new GetOrderQuery(orderId));
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("PAYMENT_AUTHORIZED", result.get().status());
+        assertTrue(result.get().processing());
+    }
+
+    @Test
+    @DisplayName("快取命中時不應查詢資料庫")
+    void execute_cacheHit_shouldNotQueryRepository() {
+        // Arrange
+        String orderId = "ORD-E5678901";
+        OrderReadModel cached = OrderReadModel.from(createOrder(orderId));
+        when(readModelCache.find(eq(orderId), any())).thenReturn(Optional.of(cached));
+
+        // Act
+        Optional<OrderReadModel> result = handler.execute(new GetOrderQuery(orderId));
+
+        // Assert
+        assertEquals(Optional.of(cached), result);
+        verifyNoInteractions(orderRepository);
+    }
 }
@@ -0,0 +1,65 @@
+package com.example.order.application.query;
+
+import com.example.order.application.port.outbound.OrderSearchRepository;
+import com.example.order.domain.model.valueobject.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchOrdersQueryHandler 測試")
+class SearchOrdersQueryHandlerTest {
+
+    @Mock
+    private OrderSearchRepository orderSearchRepository;
+
+    private SearchOrdersQueryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new SearchOrdersQueryHandler(orderSearchRepository);
+    }
+
+    @Test
+    @DisplayName("應返回查詢到的訂單頁面")
+    void execute_shouldReturnPageFromRepository() {
+        // Arrange
+        SearchOrdersQuery query = new SearchOrdersQuery(
+                OrderStatus.COMPLETED, null, "wang@example.com", null, null, null, 20);
+        OrderPage page = new OrderPage(List.of(), null);
+        when(orderSearchRepository.search(query)).thenReturn(page);
+
+        // Act
+        OrderPage result = handler.execute(query);
+
+        // Assert
+        assertSame(page, result);
+    }
+
+    @Test
+    @DisplayName("頁面大小超出範圍應拒絕")
+    void query_shouldRejectLimitOutOfRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SearchOrdersQuery(null, null, null, null, null, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SearchOrdersQuery(null, null, null, null, null, null, SearchOrdersQuery.MAX_LIMIT + 1));
+    }
+
+    @Test
+    @DisplayName("建立時間區間起點須早於終點")
+    void query_shouldRejectEmptyCreatedAtRange() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new SearchOrdersQuery(null, null, null, now, now, null, 10));
+    }
+}
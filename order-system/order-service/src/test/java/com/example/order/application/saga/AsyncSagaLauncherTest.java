@@ -0,0 +1,163 @@
+package com.example.order.application.saga;
+
+import com.example.order.application.exception.SagaCapacityExceededException;
+import com.example.order.application.port.outbound.SagaConcurrencyLimit;
+import com.example.order.domain.model.aggregate.Order;
+import com.example.order.domain.model.valueobject.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsyncSagaLauncher 測試")
+class AsyncSagaLauncherTest {
+
+    @Mock
+    private CreateOrderSaga createOrderSaga;
+
+    private final List<Runnable> submitted = new ArrayList<>();
+    private final Executor recordingExecutor = submitted::add;
+
+    @Mock
+    private SagaConcurrencyLimit.Slot slot;
+
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        order = Order.create(
+                "idem-key-001",
+                Buyer.of("王小明", "ming@example.com"),
+                List.of(OrderItem.of("IPHONE-17", "iPhone 17 Pro Max", 1)),
+                Money.of(new BigDecimal("35900"), "TWD"),
+                PaymentInfo.of("CREDIT_CARD", "4111111111111111", "12/26", "123")
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("saga.mode=async 時應啟用")
+    void isEnabled_shouldFollowSagaMode() {
+        assertTrue(new AsyncSagaLauncher(createOrderSaga, recordingExecutor, Optional.empty(), "async").isEnabled());
+        assertFalse(new AsyncSagaLauncher(createOrderSaga, recordingExecutor, Optional.empty(), "sync").isEnabled());
+    }
+
+    @Test
+    @DisplayName("無交易時應立即提交至執行緒池")
+    void launch_withoutTransaction_shouldSubmitImmediately() {
+        AsyncSagaLauncher launcher = new AsyncSagaLauncher(createOrderSaga, recordingExecutor, Optional.empty(), "async");
+        when(createOrderSaga.execute(order)).thenReturn(CreateOrderSaga.SagaResult.success());
+
+        launcher.launch(order, slot);
+
+        assertEquals(1, submitted.size());
+        submitted.get(0).run();
+        verify(createOrderSaga).execute(order);
+    }
+
+    @Test
+    @DisplayName("交易中應於提交後才啟動 SAGA")
+    void launch_withinTransaction_shouldSubmitAfterCommit() {
+        AsyncSagaLauncher launcher = new AsyncSagaLauncher(createOrderSaga, recordingExecutor, Optional.empty(), "async");
+        TransactionSynchronizationManager.initSynchronization();
+
+        launcher.launch(order, slot);
+        assertTrue(submitted.isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertEquals(1, submitted.size());
+    }
+
+    @Test
+    @DisplayName("交易回滾時不應啟動 SAGA 並釋放名額")
+    void launch_whenTransactionRolledBack_shouldReleaseSlot() {
+        AsyncSagaLauncher launcher = new AsyncSagaLauncher(createOrderSaga, recordingExecutor, Optional.empty(), "async");
+        TransactionSynchronizationManager.initSynchronization();
+
+        launcher.launch(order, slot);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertTrue(submitted.isEmpty());
+        verify(slot).release(false);
+    }
+
+    @Test
+    @DisplayName("名額應持有至 SAGA 結束才釋放")
+    void launch_shouldReleaseSlotWhenSagaFinishes() {
+        AsyncSagaLauncher launcher = new AsyncSagaLauncher(createOrderSaga, recordingExecutor, Optional.empty(), "async");
+        when(createOrderSaga.execute(order)).thenReturn(CreateOrderSaga.SagaResult.success());
+
+        launcher.launch(order, slot);
+        verify(slot, never()).release(anyBoolean());
+
+        submitted.get(0).run();
+        verify(slot).release(false);
+    }
+
+    @Test
+    @DisplayName("執行緒池拒絕時應釋放名額並拋出例外")
+    void launch_whenExecutorRejects_shouldReleaseSlot() {
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("full");
+        };
+        AsyncSagaLauncher launcher = new AsyncSagaLauncher(createOrderSaga, rejecting, Optional.empty(), "async");
+
+        assertThrows(RejectedExecutionException.class, () -> launcher.launch(order, slot));
+        verify(slot).release(true);
+    }
+
+    @Test
+    @DisplayName("未設定限制時 admit 應回傳不限名額")
+    void admit_withoutLimit_shouldReturnUnlimited() {
+        AsyncSagaLauncher launcher = new AsyncSagaLauncher(createOrderSaga, recordingExecutor, Optional.empty(), "async");
+
+        assertSame(SagaConcurrencyLimit.Slot.UNLIMITED, launcher.admit());
+    }
+
+    @Test
+    @DisplayName("名額已滿時 admit 應拋出 SagaCapacityExceededException")
+    void admit_whenLimitReached_shouldThrow() {
+        SagaConcurrencyLimit full = () -> {
+            throw new SagaCapacityExceededException("orders-saga", 10, 1);
+        };
+        AsyncSagaLauncher launcher = new AsyncSagaLauncher(createOrderSaga, recordingExecutor, Optional.of(full), "async");
+
+        assertThrows(SagaCapacityExceededException.class, launcher::admit);
+    }
+
+    @Test
+    @DisplayName("SAGA 例外不應逸出執行緒")
+    void launch_shouldSwallowSagaException() {
+        AsyncSagaLauncher launcher = new AsyncSagaLauncher(createOrderSaga, recordingExecutor, Optional.empty(), "async");
+        when(createOrderSaga.execute(order)).thenThrow(new IllegalStateException("boom"));
+
+        launcher.launch(order, slot);
+
+        assertDoesNotThrow(() -> submitted.get(0).run());
+        verify(slot).release(true);
+    }
+}
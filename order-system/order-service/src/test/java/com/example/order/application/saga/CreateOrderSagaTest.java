@@ -13,6 +13,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -34,14 +40,14 @@ class CreateOrderSagaTest {
 
     @BeforeEach
     void setUp() {
-        saga = new CreateOrderSaga(orderRepository, paymentServicePort, inventoryServicePort);
+        saga = new CreateOrderSaga(orderRepository, paymentServicePort, inventoryServicePort, Runnable::run, false);
 
         Buyer buyer = Buyer.of("王小明", "ming@example.com");
         OrderItem orderItem = OrderItem.of("IPHONE-17", "iPhone 17 Pro Max", 1);
         Money money = Money.of(new BigDecimal("35900"), "TWD");
         PaymentInfo paymentInfo = PaymentInfo.of("CREDIT_CARD", "4111111111111111", "12/26", "123");
 
-        order = Order.create("idem-key-001", buyer, orderItem, money, paymentInfo);
+        order = Order.create("idem-key-001", buyer, List.of(orderItem), money, paymentInfo);
 
         when(orderRepository.save(any(Order.class))).thenReturn(order);
     }
@@ -52,9 +58,9 @@ class CreateOrderSagaTest {
         // Arrange
         when(paymentServicePort.authorize(anyString(), any(), anyString(), anyString(), anyString(), anyString()))
                 .thenReturn(PaymentServicePort.AuthorizationResult.success("PAY-123", "AUTH-456"));
-        when(inventoryServicePort.deductStock(anyString(), anyString(), anyInt()))
-                .thenReturn(InventoryServicePort.DeductionResult.success(9));
-        when(paymentServicePort.capture(anyString()))
+        when(inventoryServicePort.deductStock(anyString(), anyList()))
+                .thenReturn(InventoryServicePort.DeductionResult.success());
+        when(paymentServicePort.capture(anyString(), anyString()))
                 .thenReturn(PaymentServicePort.CaptureResult.success());
 
         // Act
@@ -66,6 +72,34 @@ class CreateOrderSagaTest {
         verify(orderRepository, atLeast(3)).save(any(Order.class));
     }
 
+    @Test
+    @DisplayName("多品項訂單：支付授權一次，所有明細以單一呼叫扣減庫存")
+    void execute_multiLineOrder_shouldAuthorizeOnceAndDeductAllLinesInOneCall() {
+        // Arrange
+        List<OrderItem> items = List.of(
+                OrderItem.of("IPHONE-17", "iPhone 17 Pro Max", 1),
+                OrderItem.of("AIRPODS-PRO-3", "AirPods Pro 3", 2),
+                OrderItem.of("MAGSAFE-CHARGER", "MagSafe Charger", 1));
+        Order multiLine = Order.create("idem-key-002", Buyer.of("王小明", "ming@example.com"), items,
+                Money.of(new BigDecimal("49800"), "TWD"),
+                PaymentInfo.of("CREDIT_CARD", "4111111111111111", "12/26", "123"));
+        when(paymentServicePort.authorize(anyString(), any(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(PaymentServicePort.AuthorizationResult.success("PAY-123", "AUTH-456"));
+        when(inventoryServicePort.deductStock(anyString(), anyList()))
+                .thenReturn(InventoryServicePort.DeductionResult.success());
+        when(paymentServicePort.capture(anyString(), anyString()))
+                .thenReturn(PaymentServicePort.CaptureResult.success());
+
+        // Act
+        CreateOrderSaga.SagaResult result = saga.execute(multiLine);
+
+        // Assert
+        assertTrue(result.succeeded());
+        verify(paymentServicePort, times(1)).authorize(anyString(), eq(new BigDecimal("49800")),
+                anyString(), anyString(), anyString(), anyString());
+        verify(inventoryServicePort, times(1)).deductStock(multiLine.getOrderId().value(), items);
+    }
+
     @Test
     @DisplayName("支付授權失敗：訂單標記為 FAILED")
     void execute_shouldFailWhenPaymentAuthorizationFails() {
@@ -79,8 +113,8 @@ class CreateOrderSagaTest {
         // Assert
         assertFalse(result.succeeded());
         assertEquals(CreateOrderSaga.SagaStatus.PAYMENT_FAILED, result.status());
-        verify(inventoryServicePort, never()).deductStock(anyString(), anyString(), anyInt());
-        verify(paymentServicePort, never()).capture(anyString());
+        verify(inventoryServicePort, never()).deductStock(anyString(), anyList());
+        verify(paymentServicePort, never()).capture(anyString(), anyString());
     }
 
     @Test
@@ -89,9 +123,9 @@ class CreateOrderSagaTest {
         // Arrange
         when(paymentServicePort.authorize(anyString(), any(), anyString(), anyString(), anyString(), anyString()))
                 .thenReturn(PaymentServicePort.AuthorizationResult.success("PAY-123", "AUTH-456"));
-        when(inventoryServicePort.deductStock(anyString(), anyString(), anyInt()))
+        when(inventoryServicePort.deductStock(anyString(), anyList()))
                 .thenReturn(InventoryServicePort.DeductionResult.failure("Insufficient stock"));
-        when(paymentServicePort.voidPayment(anyString()))
+        when(paymentServicePort.voidPayment(anyString(), anyString()))
                 .thenReturn(PaymentServicePort.VoidResult.success());
 
         // Act
@@ -100,8 +134,8 @@ class CreateOrderSagaTest {
         // Assert
         assertFalse(result.succeeded());
         assertEquals(CreateOrderSaga.SagaStatus.INVENTORY_FAILED, result.status());
-        verify(paymentServicePort).voidPayment("PAY-123");
-        verify(paymentServicePort, never()).capture(anyString());
+        verify(paymentServicePort).voidPayment(anyString(), eq("PAY-123"));
+        verify(paymentServicePort, never()).capture(anyString(), anyString());
     }
 
     @Test
@@ -110,13 +144,13 @@ class CreateOrderSagaTest {
         // Arrange
         when(paymentServicePort.authorize(anyString(), any(), anyString(), anyString(), anyString(), anyString()))
                 .thenReturn(PaymentServicePort.AuthorizationResult.success("PAY-123", "AUTH-456"));
-        when(inventoryServicePort.deductStock(anyString(), anyString(), anyInt()))
-                .thenReturn(InventoryServicePort.DeductionResult.success(9));
-        when(paymentServicePort.capture(anyString()))
+        when(inventoryServicePort.deductStock(anyString(), anyList()))
+                .thenReturn(InventoryServicePort.DeductionResult.success());
+        when(paymentServicePort.capture(anyString(), anyString()))
                 .thenReturn(PaymentServicePort.CaptureResult.failure("Capture failed"));
-        when(inventoryServicePort.rollbackStock(anyString(), anyString(), anyInt()))
-                .thenReturn(InventoryServicePort.RollbackResult.success(10));
-        when(paymentServicePort.voidPayment(anyString()))
+        when(inventoryServicePort.rollbackStock(anyString(), anyList()))
+                .thenReturn(InventoryServicePort.RollbackResult.success());
+        when(paymentServicePort.voidPayment(anyString(), anyString()))
                 .thenReturn(PaymentServicePort.VoidResult.success());
 
         // Act
@@ -125,8 +159,8 @@ class CreateOrderSagaTest {
         // Assert
         assertFalse(result.succeeded());
         assertEquals(CreateOrderSaga.SagaStatus.CAPTURE_FAILED, result.status());
-        verify(inventoryServicePort).rollbackStock(anyString(), eq("IPHONE-17"), eq(1));
-        verify(paymentServicePort).voidPayment("PAY-123");
+        verify(inventoryServicePort).rollbackStock(anyString(), eq(order.getOrderItems()));
+        verify(paymentServicePort).voidPayment(anyString(), eq("PAY-123"));
     }
 
     @Test
@@ -135,9 +169,9 @@ class CreateOrderSagaTest {
         // Arrange
         when(paymentServicePort.authorize(anyString(), any(), anyString(), anyString(), anyString(), anyString()))
                 .thenReturn(PaymentServicePort.AuthorizationResult.success("PAY-123", "AUTH-456"));
-        when(inventoryServicePort.deductStock(anyString(), anyString(), anyInt()))
+        when(inventoryServicePort.deductStock(anyString(), anyList()))
                 .thenReturn(InventoryServicePort.DeductionResult.failure("Insufficient stock"));
-        when(paymentServicePort.voidPayment(anyString()))
+        when(paymentServicePort.voidPayment(anyString(), anyString()))
                 .thenReturn(PaymentServicePort.VoidResult.failure("Void failed"));
 
         // Act
@@ -147,4 +181,267 @@ class CreateOrderSagaTest {
         assertFalse(result.succeeded());
         assertEquals(CreateOrderSaga.SagaStatus.INVENTORY_FAILED, result.status());
     }
+
+    @Test
+    @DisplayName("平行模式成功：授權與扣庫存皆成功後請款完成")
+    void executeParallel_shouldCompleteSuccessfully() {
+        // Arrange
+        CreateOrderSaga parallelSaga = parallelSaga(Runnable::run);
+        when(paymentServicePort.authorize(anyString(), any(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(PaymentServicePort.AuthorizationResult.success("PAY-123", "AUTH-456"));
+        when(inventoryServicePort.deductStock(anyString(), anyList()))
+                .thenReturn(InventoryServicePort.DeductionResult.success());
+        when(paymentServicePort.capture(anyString(), anyString()))
+                .thenReturn(PaymentServicePort.CaptureResult.success());
+
+        // Act
+        CreateOrderSaga.SagaResult result = parallelSaga.execute(order);
+
+        // Assert
+        assertTrue(result.succeeded());
+        assertEquals(OrderStatus.COMPLETED, order.getStatus());
+        assertEquals("PAY-123", order.getPaymentId());
+        verify(paymentServicePort).capture(anyString(), eq("PAY-123"));
+    }
+
+    @Test
+    @DisplayName("平行模式：授權與扣庫存應同時進行")
+    void executeParallel_shouldRunStepsConcurrently() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch deductionStarted = new CountDownLatch(1);
+        CreateOrderSaga parallelSaga = parallelSaga(executor);
+        when(inventoryServicePort.deductStock(anyString(), anyList()))
+                .thenAnswer(invocation -> {
+                    deductionStarted.countDown();
+                    return InventoryServicePort.DeductionResult.success();
+                });
+        when(paymentServicePort.authorize(anyString(), any(), anyString(), anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> deductionStarted.await(2, TimeUnit.SECONDS)
+                        ? PaymentServicePort.AuthorizationResult.success("PAY-123", "AUTH-456")
+                        : PaymentServicePort.AuthorizationResult.failure("deduction did not run concurrently"));
+        when(paymentServicePort.capture(anyString(), anyString()))
+                .thenReturn(PaymentServicePort.CaptureResult.success());
+
+        // Act
+        CreateOrderSaga.SagaResult result = parallelSaga.execute(order);
+        executor.shutdown();
+
+        // Assert
+        assertTrue(result.succeeded(), result.message());
+    }
+
+    @Test
+    @DisplayName("平行模式：授權失敗但已扣庫存，應回滾庫存且訂單為 FAILED")
+    void executeParallel_authorizationFailsAfterDeduction_shouldRollbackInventory() {
+        // Arrange
+        CreateOrderSaga parallelSaga = parallelSaga(Runnable::run);
+        when(paymentServicePort.authorize(anyString(), any(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(PaymentServicePort.AuthorizationResult.failure("Card declined"));
+        when(inventoryServicePort.deductStock(anyString(), anyList()))
+                .thenReturn(InventoryServicePort.DeductionResult.success());
+        when(inventoryServicePort.rollbackStock(anyString(), anyList()))
+                .thenReturn(InventoryServicePort.RollbackResult.success());
+
+        // Act
+        CreateOrderSaga.SagaResult result = parallelSaga.execute(order);
+
+        // Assert
+        assertEquals(CreateOrderSaga.SagaStatus.PAYMENT_FAILED, result.status());
+        assertEquals(OrderStatus.FAILED, order.getStatus());
+        verify(inventoryServicePort).rollbackStock(anyString(), eq(order.getOrderItems()));
+        verify(paymentServicePort, never()).voidPayment(anyString(), anyString());
+        verify(paymentServicePort, never()).capture(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("平行模式：扣庫存失敗但已授權，應取消授權且訂單為 ROLLBACK_COMPLETED")
+    void executeParallel_deductionFailsAfterAuthorization_shouldVoidPayment() {
+        // Arrange
+        CreateOrderSaga parallelSaga = parallelSaga(Runnable::run);
+        when(paymentServicePort.authorize(anyString(), any(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(PaymentServicePort.AuthorizationResult.success("PAY-123", "AUTH-456"));
+        when(inventoryServicePort.deductStock(anyString(), anyList()))
+                .thenReturn(InventoryServicePort.DeductionResult.failure("Insufficient stock"));
+        when(paymentServicePort.voidPayment(anyString(), anyString()))
+                .thenReturn(PaymentServicePort.VoidResult.success());
+
+        // Act
+        CreateOrderSaga.SagaResult result = parallelSaga.execute(order);
+
+        // Assert
+        assertEquals(CreateOrderSaga.SagaStatus.INVENTORY_FAILED, result.status());
+        assertEquals(OrderStatus.ROLLBACK_COMPLETED, order.getStatus());
+        verify(paymentServicePort).voidPayment(anyString(), eq("PAY-123"));
+        verify(inventoryServicePort, never()).rollbackStock(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("平行模式：授權與扣庫存皆失敗，不需補償且訂單為 FAILED")
+    void executeParallel_bothFail_shouldNotCompensate() {
+        // Arrange
+        CreateOrderSaga parallelSaga = parallelSaga(Runnable::run);
+        when(paymentServicePort.authorize(anyString(), any(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(PaymentServicePort.AuthorizationResult.failure("Card declined"));
+        when(inventoryServicePort.deductStock(anyString(), anyList()))
+                .thenReturn(InventoryServicePort.DeductionResult.failure("Insufficient stock"));
+
+        // Act
+        CreateOrderSaga.SagaResult result = parallelSaga.execute(order);
+
+        // Assert
+        assertEquals(CreateOrderSaga.SagaStatus.PAYMENT_FAILED, result.status());
+        assertEquals(OrderStatus.FAILED, order.getStatus());
+        verify(paymentServicePort, never()).voidPayment(anyString(), anyString());
+        verify(inventoryServicePort, never()).rollbackStock(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("平行模式：扣庫存拋出例外視為結果未知，應回滾庫存並取消授權")
+    void executeParallel_deductionThrows_shouldRollBackAndVoidPayment() {
+        // Arrange
+        CreateOrderSaga parallelSaga = parallelSaga(Runnable::run);
+        when(paymentServicePort.authorize(anyString(), any(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(PaymentServicePort.AuthorizationResult.success("PAY-123", "AUTH-456"));
+        when(inventoryServicePort.deductStock(anyString(), anyList()))
+                .thenThrow(new IllegalStateException("boom"));
+        when(inventoryServicePort.rollbackStock(anyString(), anyList()))
+                .thenReturn(InventoryServicePort.RollbackResult.success());
+        when(paymentServicePort.voidPayment(anyString(), anyString()))
+                .thenReturn(PaymentServicePort.VoidResult.success());
+
+        // Act
+        CreateOrderSaga.SagaResult result = parallelSaga.execute(order);
+
+        // Assert
+        assertEquals(CreateOrderSaga.SagaStatus.INVENTORY_FAILED, result.status());
+        assertEquals(OrderStatus.ROLLBACK_COMPLETED, order.getStatus());
+        verify(inventoryServicePort).rollbackStock(order.getOrderId().value(), order.getOrderItems());
+        verify(paymentServicePort).voidPayment(anyString(), eq("PAY-123"));
+    }
+
+    @Test
+    @DisplayName("平行模式：授權失敗且扣庫存拋出例外，應回滾可能已套用的扣減且訂單為 FAILED")
+    void executeParallel_authFailsAndDeductionThrows_shouldRollBackInventory() {
+        // Arrange
+        CreateOrderSaga parallelSaga = parallelSaga(Runnable::run);
+        when(paymentServicePort.authorize(anyString(), any(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(PaymentServicePort.AuthorizationResult.failure("Card declined"));
+        when(inventoryServicePort.deductStock(anyString(), anyList()))
+                .thenThrow(new IllegalStateException("Read timed out"));
+        when(inventoryServicePort.rollbackStock(anyString(), anyList()))
+                .thenReturn(InventoryServicePort.RollbackResult.success());
+
+        // Act
+        CreateOrderSaga.SagaResult result = parallelSaga.execute(order);
+
+        // Assert
+        assertEquals(CreateOrderSaga.SagaStatus.PAYMENT_FAILED, result.status());
+        assertEquals(OrderStatus.FAILED, order.getStatus());
+        verify(inventoryServicePort).rollbackStock(order.getOrderId().value(), order.getOrderItems());
+        verify(paymentServicePort, never()).voidPayment(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("平行模式：請款失敗應回滾庫存並取消授權")
+    void executeParallel_captureFails_shouldCompensateBoth() {
+        // Arrange
+        CreateOrderSaga parallelSaga = parallelSaga(Runnable::run);
+        when(paymentServicePort.authorize(anyString(), any(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(PaymentServicePort.AuthorizationResult.success("PAY-123", "AUTH-456"));
+        when(inventoryServicePort.deductStock(anyString(), anyList()))
+                .thenReturn(InventoryServicePort.DeductionResult.success());
+        when(paymentServicePort.capture(anyString(), anyString()))
+                .thenReturn(PaymentServicePort.CaptureResult.failure("Capture failed"));
+        when(inventoryServicePort.rollbackStock(anyString(), anyList()))
+                .thenReturn(InventoryServicePort.RollbackResult.success());
+        when(paymentServicePort.voidPayment(anyString(), anyString()))
+                .thenReturn(PaymentServicePort.VoidResult.success());
+
+        // Act
+        CreateOrderSaga.SagaResult result = parallelSaga.execute(order);
+
+        // Assert
+        assertEquals(CreateOrderSaga.SagaStatus.CAPTURE_FAILED, result.status());
+        assertEquals(OrderStatus.ROLLBACK_COMPLETED, order.getStatus());
+        verify(inventoryServicePort).rollbackStock(anyString(), eq(order.getOrderItems()));
+        verify(paymentServicePort).voidPayment(anyString(), eq("PAY-123"));
+    }
+
+    @Test
+    @DisplayName("步驟中拋出例外：應自目前狀態補償並結束訂單")
+    void execute_stepThrows_shouldCompensateFromCurrentState() {
+        // Arrange
+        when(paymentServicePort.authorize(anyString(), any(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(PaymentServicePort.AuthorizationResult.success("PAY-123", "AUTH-456"));
+        when(inventoryServicePort.deductStock(anyString(), anyList()))
+                .thenThrow(new IllegalStateException("boom"));
+        when(inventoryServicePort.rollbackStock(anyString(), anyList()))
+                .thenReturn(InventoryServicePort.RollbackResult.success());
+        when(paymentServicePort.voidPayment(anyString(), anyString()))
+                .thenReturn(PaymentServicePort.VoidResult.success());
+
+        // Act
+        CreateOrderSaga.SagaResult result = saga.execute(order);
+
+        // Assert
+        assertEquals(CreateOrderSaga.SagaStatus.INVENTORY_FAILED, result.status());
+        assertEquals(OrderStatus.ROLLBACK_COMPLETED, order.getStatus());
+        verify(inventoryServicePort).rollbackStock(anyString(), eq(order.getOrderItems()));
+        verify(paymentServicePort).voidPayment(anyString(), eq("PAY-123"));
+    }
+
+    @Test
+    @DisplayName("恢復 CREATED 訂單：應標記為 FAILED 且不呼叫外部服務")
+    void resume_created_shouldFailOrder() {
+        // Act
+        CreateOrderSaga.SagaResult result = saga.resume(order);
+
+        // Assert
+        assertEquals(CreateOrderSaga.SagaStatus.PAYMENT_FAILED, result.status());
+        assertEquals(OrderStatus.FAILED, order.getStatus());
+        verifyNoInteractions(paymentServicePort, inventoryServicePort);
+    }
+
+    @Test
+    @DisplayName("恢復已授權但未扣庫存的訂單：應送出回滾（庫存服務只歸還已記錄的扣減）並取消授權")
+    void resume_paymentAuthorizedWithoutDeduction_shouldRollBackAndVoid() {
+        // Arrange: the SAGA died after authorization, before the deduction reached the inventory service
+        order.markPaymentAuthorized("PAY-123");
+        when(inventoryServicePort.rollbackStock(anyString(), anyList()))
+                .thenReturn(InventoryServicePort.RollbackResult.success());
+        when(paymentServicePort.voidPayment(anyString(), eq("PAY-123")))
+                .thenReturn(PaymentServicePort.VoidResult.success());
+
+        // Act
+        CreateOrderSaga.SagaResult result = saga.resume(order);
+
+        // Assert
+        assertEquals(CreateOrderSaga.SagaStatus.INVENTORY_FAILED, result.status());
+        assertEquals(OrderStatus.ROLLBACK_COMPLETED, order.getStatus());
+        verify(inventoryServicePort).rollbackStock(order.getOrderId().value(), order.getOrderItems());
+        verify(paymentServicePort).voidPayment(order.getOrderId().value(), "PAY-123");
+        verify(inventoryServicePort, never()).deductStock(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("恢復已扣庫存訂單：應請款並完成訂單")
+    void resume_inventoryDeducted_shouldCaptureAndComplete() {
+        // Arrange
+        order.markPaymentAuthorized("PAY-123");
+        order.markInventoryDeducted();
+        when(paymentServicePort.capture(anyString(), eq("PAY-123")))
+                .thenReturn(PaymentServicePort.CaptureResult.success());
+
+        // Act
+        CreateOrderSaga.SagaResult result = saga.resume(order);
+
+        // Assert
+        assertEquals(CreateOrderSaga.SagaStatus.COMPLETED, result.status());
+        assertEquals(OrderStatus.COMPLETED, order.getStatus());
+    }
+
+    private CreateOrderSaga parallelSaga(Executor executor) {
+        return new CreateOrderSaga(orderRepository, paymentServicePort, inventoryServicePort, executor, true);
+    }
 }
@@ -0,0 +1,80 @@
+package com.example.order.application.saga;
+
+import com.example.order.application.port.outbound.OrderRepository;
+import com.example.order.domain.model.aggregate.Order;
+import com.example.order.domain.model.valueobject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderRecoveryHandler 測試")
+class OrderRecoveryHandlerTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private CreateOrderSaga createOrderSaga;
+
+    private OrderRecoveryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new OrderRecoveryHandler(orderRepository, createOrderSaga);
+    }
+
+    private Order createOrder(String idempotencyKey) {
+        return Order.create(
+                idempotencyKey,
+                Buyer.of("王小明", "ming@example.com"),
+                List.of(OrderItem.of("IPHONE-17", "iPhone 17 Pro Max", 1)),
+                Money.of(new BigDecimal("35900"), "TWD"),
+                PaymentInfo.of("CREDIT_CARD", "4111111111111111", "12/28", "123")
+        );
+    }
+
+    @Test
+    @DisplayName("逾時未完成的訂單應交由 SAGA 恢復")
+    void recover_shouldResumeStaleOrders() {
+        // Arrange
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(5);
+        Order order = createOrder("idem-key-001");
+        when(orderRepository.findInProgressUpdatedBefore(cutoff, 50)).thenReturn(List.of(order));
+        when(createOrderSaga.resume(order)).thenReturn(CreateOrderSaga.SagaResult.success());
+
+        // Act
+        OrderRecoveryHandler.RecoveryResult result = handler.recover(cutoff, 50);
+
+        // Assert
+        assertEquals(new OrderRecoveryHandler.RecoveryResult(1, 0), result);
+        verify(createOrderSaga).resume(order);
+    }
+
+    @Test
+    @DisplayName("單筆恢復失敗應計數並繼續處理其他訂單")
+    void recover_failure_shouldCountAndContinue() {
+        // Arrange
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(5);
+        Order failing = createOrder("idem-key-001");
+        Order next = createOrder("idem-key-002");
+        when(orderRepository.findInProgressUpdatedBefore(cutoff, 50)).thenReturn(List.of(failing, next));
+        when(createOrderSaga.resume(failing)).thenThrow(new IllegalStateException("payment service down"));
+        when(createOrderSaga.resume(next)).thenReturn(CreateOrderSaga.SagaResult.success());
+
+        // Act
+        OrderRecoveryHandler.RecoveryResult result = handler.recover(cutoff, 50);
+
+        // Assert
+        assertEquals(new OrderRecoveryHandler.RecoveryResult(1, 1), result);
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -18,13 +19,15 @@ class OrderCreatedTest {
     void of_shouldCreateEventWithAllFields() {
         OrderId orderId = OrderId.generate();
         Buyer buyer = Buyer.of("張三", "zhang@example.com");
-        OrderItem orderItem = OrderItem.of("PROD-001", "iPhone 17", 1);
+        List<OrderItem> orderItems = List.of(
+                OrderItem.of("PROD-001", "iPhone 17", 1),
+                OrderItem.of("PROD-002", "AirPods Pro", 2));
 
-        OrderCreated event = OrderCreated.of(orderId, buyer, orderItem);
+        OrderCreated event = OrderCreated.of(orderId, buyer, orderItems);
 
         assertEquals(orderId, event.orderId());
         assertEquals(buyer, event.buyer());
-        assertEquals(orderItem, event.orderItem());
+        assertEquals(orderItems, event.orderItems());
         assertNotNull(event.occurredOn());
     }
 
@@ -33,11 +36,11 @@ class OrderCreatedTest {
     void equals_shouldWorkCorrectly() {
         OrderId orderId = OrderId.of("ORD-12345678");
         Buyer buyer = Buyer.of("張三", "zhang@example.com");
-        OrderItem orderItem = OrderItem.of("PROD-001", "iPhone 17", 1);
+        List<OrderItem> orderItems = List.of(OrderItem.of("PROD-001", "iPhone 17", 1));
         LocalDateTime time = LocalDateTime.of(2024, 1, 1, 12, 0);
 
-        OrderCreated event1 = new OrderCreated(orderId, buyer, orderItem, time);
-        OrderCreated event2 = new OrderCreated(orderId, buyer, orderItem, time);
+        OrderCreated event1 = new OrderCreated(orderId, buyer, orderItems, time);
+        OrderCreated event2 = new OrderCreated(orderId, buyer, orderItems, time);
 
         assertEquals(event1, event2);
         assertEquals(event1.hashCode(), event2.hashCode());
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,7 +33,7 @@ class OrderTest {
     @Test
     @DisplayName("建立訂單應設定初始狀態為 CREATED")
     void create_shouldSetStatusToCreated() {
-        Order order = Order.create("idem-key-001", buyer, orderItem, money, paymentInfo);
+        Order order = Order.create("idem-key-001", buyer, List.of(orderItem), money, paymentInfo);
 
         assertEquals(OrderStatus.CREATED, order.getStatus());
         assertNotNull(order.getOrderId());
@@ -40,10 +41,43 @@ class OrderTest {
         assertNotNull(order.getCreatedAt());
     }
 
+    @Test
+    @DisplayName("建立多品項訂單應依序保留所有明細")
+    void create_withMultipleItems_shouldKeepAllLinesInOrder() {
+        OrderItem airPods = OrderItem.of("AIRPODS-PRO-3", "AirPods Pro 3", 2);
+
+        Order order = Order.create("idem-key-001", buyer, List.of(orderItem, airPods), money, paymentInfo);
+
+        assertEquals(List.of(orderItem, airPods), order.getOrderItems());
+        assertThrows(UnsupportedOperationException.class, () -> order.getOrderItems().add(airPods));
+    }
+
+    @Test
+    @DisplayName("訂單沒有明細或有重複商品應失敗")
+    void create_withEmptyOrDuplicateItems_shouldFail() {
+        OrderItem duplicate = OrderItem.of("IPHONE-17", "iPhone 17 Pro Max", 2);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> Order.create("idem-key-001", buyer, List.of(), money, paymentInfo));
+        assertThrows(IllegalArgumentException.class,
+                () -> Order.create("idem-key-001", buyer, List.of(orderItem, duplicate), money, paymentInfo));
+    }
+
+    @Test
+    @DisplayName("新訂單版本應為 0，儲存後記錄版本")
+    void markPersisted_shouldRecordVersion() {
+        Order order = Order.create("idem-key-001", buyer, List.of(orderItem), money, paymentInfo);
+        assertEquals(0, order.getVersion());
+
+        order.markPersisted(1);
+
+        assertEquals(1, order.getVersion());
+    }
+
     @Test
     @DisplayName("建立訂單應產生 OrderCreated 事件")
     void create_shouldRaiseOrderCreatedEvent() {
-        Order order = Order.create("idem-key-001", buyer, orderItem, money, paymentInfo);
+        Order order = Order.create("idem-key-001", buyer, List.of(orderItem), money, paymentInfo);
 
         assertEquals(1, order.getDomainEvents().size());
         assertInstanceOf(OrderCreated.class, order.getDomainEvents().get(0));
@@ -52,7 +86,7 @@ class OrderTest {
     @Test
     @DisplayName("標記支付授權成功")
     void markPaymentAuthorized_shouldTransitionToPaymentAuthorized() {
-        Order order = Order.create("idem-key-001", buyer, orderItem, money, paymentInfo);
+        Order order = Order.create("idem-key-001", buyer, List.of(orderItem), money, paymentInfo);
 
         order.markPaymentAuthorized("PAY-123");
 
@@ -63,7 +97,7 @@ class OrderTest {
     @Test
     @DisplayName("從非 CREATED 狀態標記支付授權應失敗")
     void markPaymentAuthorized_shouldFailFromWrongState() {
-        Order order = Order.create("idem-key-001", buyer, orderItem, money, paymentInfo);
+        Order order = Order.create("idem-key-001", buyer, List.of(orderItem), money, paymentInfo);
         order.markPaymentAuthorized("PAY-123");
 
         assertThrows(OrderDomainException.class,
@@ -73,7 +107,7 @@ class OrderTest {
     @Test
     @DisplayName("標記庫存扣減成功")
     void markInventoryDeducted_shouldTransitionToInventoryDeducted() {
-        Order order = Order.create("idem-key-001", buyer, orderItem, money, paymentInfo);
+        Order order = Order.create("idem-key-001", buyer, List.of(orderItem), money, paymentInfo);
         order.markPaymentAuthorized("PAY-123");
 
         order.markInventoryDeducted();
@@ -84,7 +118,7 @@ class OrderTest {
     @Test
     @DisplayName("從非 PAYMENT_AUTHORIZED 狀態標記庫存扣減應失敗")
     void markInventoryDeducted_shouldFailFromWrongState() {
-        Order order = Order.create("idem-key-001", buyer, orderItem, money, paymentInfo);
+        Order order = Order.create("idem-key-001", buyer, List.of(orderItem), money, paymentInfo);
 
         assertThrows(OrderDomainException.class, order::markInventoryDeducted);
     }
@@ -92,7 +126,7 @@ class OrderTest {
     @Test
     @DisplayName("完成訂單")
     void complete_shouldTransitionToCompleted() {
-        Order order = Order.create("idem-key-001", buyer, orderItem, money, paymentInfo);
+        Order order = Order.create("idem-key-001", buyer, List.of(orderItem), money, paymentInfo);
         order.markPaymentAuthorized("PAY-123");
         order.markInventoryDeducted();
 
@@ -104,7 +138,7 @@ class OrderTest {
     @Test
     @DisplayName("完成訂單應產生 OrderCompleted 事件")
     void complete_shouldRaiseOrderCompletedEvent() {
-        Order order = Order.create("idem-key-001", buyer, orderItem, money, paymentInfo);
+        Order order = Order.create("idem-key-001", buyer, List.of(orderItem), money, paymentInfo);
         order.clearDomainEvents();
         order.markPaymentAuthorized("PAY-123");
         order.markInventoryDeducted();
@@ -118,7 +152,7 @@ class OrderTest {
     @Test
     @DisplayName("標記訂單失敗")
     void fail_shouldTransitionToFailed() {
-        Order order = Order.create("idem-key-001", buyer, orderItem, money, paymentInfo);
+        Order order = Order.create("idem-key-001", buyer, List.of(orderItem), money, paymentInfo);
 
         order.fail("Payment declined");
 
@@ -128,7 +162,7 @@ class OrderTest {
     @Test
     @DisplayName("標記訂單失敗應產生 OrderFailed 事件")
     void fail_shouldRaiseOrderFailedEvent() {
-        Order order = Order.create("idem-key-001", buyer, orderItem, money, paymentInfo);
+        Order order = Order.create("idem-key-001", buyer, List.of(orderItem), money, paymentInfo);
         order.clearDomainEvents();
 
         order.fail("Payment declined");
@@ -140,7 +174,7 @@ class OrderTest {
     @Test
     @DisplayName("從 PAYMENT_AUTHORIZED 狀態回滾")
     void markRolledBack_shouldTransitionFromPaymentAuthorized() {
-        Order order = Order.create("idem-key-001", buyer, orderItem, money, paymentInfo);
+        Order order = Order.create("idem-key-001", buyer, List.of(orderItem), money, paymentInfo);
         order.markPaymentAuthorized("PAY-123");
 
         order.markRolledBack("Inventory deduction failed");
@@ -151,7 +185,7 @@ class OrderTest {
     @Test
     @DisplayName("從 INVENTORY_DEDUCTED 狀態回滾")
     void markRolledBack_shouldTransitionFromInventoryDeducted() {
-        Order order = Order.create("idem-key-001", buyer, orderItem, money, paymentInfo);
+        Order order = Order.create("idem-key-001", buyer, List.of(orderItem), money, paymentInfo);
         order.markPaymentAuthorized("PAY-123");
         order.markInventoryDeducted();
 
@@ -163,7 +197,7 @@ class OrderTest {
     @Test
     @DisplayName("從 CREATED 狀態回滾應失敗")
     void markRolledBack_shouldFailFromCreatedState() {
-        Order order = Order.create("idem-key-001", buyer, orderItem, money, paymentInfo);
+        Order order = Order.create("idem-key-001", buyer, List.of(orderItem), money, paymentInfo);
 
         assertThrows(OrderDomainException.class,
                 () -> order.markRolledBack("Some reason"));
@@ -172,7 +206,7 @@ class OrderTest {
     @Test
     @DisplayName("清除領域事件")
     void clearDomainEvents_shouldRemoveAllEvents() {
-        Order order = Order.create("idem-key-001", buyer, orderItem, money, paymentInfo);
+        Order order = Order.create("idem-key-001", buyer, List.of(orderItem), money, paymentInfo);
 
         assertFalse(order.getDomainEvents().isEmpty());
         order.clearDomainEvents();
@@ -60,4 +60,15 @@ class OrderStatusTest {
         assertEquals(OrderStatus.FAILED, OrderStatus.valueOf("FAILED"));
         assertEquals(OrderStatus.ROLLBACK_COMPLETED, OrderStatus.valueOf("ROLLBACK_COMPLETED"));
     }
+
+    @Test
+    @DisplayName("isTerminal 僅對最終狀態為真")
+    void isTerminal_shouldBeTrueOnlyForFinalStates() {
+        assertFalse(OrderStatus.CREATED.isTerminal());
+        assertFalse(OrderStatus.PAYMENT_AUTHORIZED.isTerminal());
+        assertFalse(OrderStatus.INVENTORY_DEDUCTED.isTerminal());
+        assertTrue(OrderStatus.COMPLETED.isTerminal());
+        assertTrue(OrderStatus.FAILED.isTerminal());
+        assertTrue(OrderStatus.ROLLBACK_COMPLETED.isTerminal());
+    }
 }
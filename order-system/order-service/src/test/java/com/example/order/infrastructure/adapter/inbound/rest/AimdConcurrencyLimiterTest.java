@@ -0,0 +1,139 @@
+package com.example.order.infrastructure.adapter.inbound.rest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AimdConcurrencyLimiter 測試")
+class AimdConcurrencyLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("進行中請求達上限時應拒絕並計數，釋放後可再取得")
+    void tryAcquire_atLimit_shouldRejectUntilReleased() {
+        // Arrange
+        AimdConcurrencyLimiter limiter = limiter(2, 1, 10, Duration.ofSeconds(1));
+        AimdConcurrencyLimiter.Permit first = limiter.tryAcquire().orElseThrow();
+        limiter.tryAcquire().orElseThrow();
+
+        // Act & Assert
+        assertTrue(limiter.tryAcquire().isEmpty());
+        first.release(false);
+        assertTrue(limiter.tryAcquire().isPresent());
+        assertEquals(1.0, meterRegistry.get(AimdConcurrencyLimiter.REJECTED_METRIC)
+                .tag("limiter", "test").counter().count());
+        assertEquals(2.0, meterRegistry.get(AimdConcurrencyLimiter.IN_FLIGHT_METRIC)
+                .tag("limiter", "test").gauge().value());
+    }
+
+    @Test
+    @DisplayName("使用率過半且延遲正常時上限應逐次加一，不超過最大值")
+    void release_fastAndBusy_shouldIncreaseLimitAdditively() {
+        // Arrange
+        AimdConcurrencyLimiter limiter = limiter(4, 1, 5, Duration.ofSeconds(1));
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            List<AimdConcurrencyLimiter.Permit> permits = IntStream.range(0, 3)
+                    .mapToObj(n -> limiter.tryAcquire().orElseThrow())
+                    .toList();
+            permits.forEach(permit -> permit.release(false));
+        }
+
+        // Assert
+        assertEquals(5, limiter.limit());
+        assertEquals(5.0, meterRegistry.get(AimdConcurrencyLimiter.LIMIT_METRIC)
+                .tag("limiter", "test").gauge().value());
+    }
+
+    @Test
+    @DisplayName("使用率低時延遲正常不應提高上限")
+    void release_fastButIdle_shouldKeepLimit() {
+        AimdConcurrencyLimiter limiter = limiter(10, 1, 20, Duration.ofSeconds(1));
+
+        limiter.tryAcquire().orElseThrow().release(false);
+
+        assertEquals(10, limiter.limit());
+    }
+
+    @Test
+    @DisplayName("失敗或延遲超過門檻時上限應依比例下降，不低於最小值")
+    void release_failedOrSlow_shouldDecreaseLimitMultiplicatively() throws Exception {
+        // Arrange
+        AimdConcurrencyLimiter limiter = limiter(10, 8, 20, Duration.ofMillis(1));
+
+        // Act
+        limiter.tryAcquire().orElseThrow().release(true);
+        int afterFailure = limiter.limit();
+        AimdConcurrencyLimiter.Permit slow = limiter.tryAcquire().orElseThrow();
+        Thread.sleep(5);
+        slow.release(false);
+
+        // Assert
+        assertEquals(9, afterFailure);
+        assertEquals(8, limiter.limit());
+    }
+
+    @Test
+    @DisplayName("重複釋放同一許可不應影響計數")
+    void release_twice_shouldReleaseOnce() {
+        AimdConcurrencyLimiter limiter = limiter(2, 1, 10, Duration.ofSeconds(1));
+        limiter.tryAcquire().orElseThrow();
+        AimdConcurrencyLimiter.Permit permit = limiter.tryAcquire().orElseThrow();
+
+        permit.release(false);
+        permit.release(false);
+
+        assertEquals(1, limiter.inFlight());
+    }
+
+    @Test
+    @DisplayName("並行釋放許可時上限更新不應遺失")
+    void release_concurrently_shouldApplyEverySample() throws Exception {
+        AimdConcurrencyLimiter sequential = limiter(400, 1, 400, Duration.ofSeconds(1));
+        AimdConcurrencyLimiter concurrent = limiter(400, 1, 400, Duration.ofSeconds(1));
+        List<AimdConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            sequential.tryAcquire().orElseThrow().release(true);
+            permits.add(concurrent.tryAcquire().orElseThrow());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        permits.forEach(permit -> executor.submit(() -> permit.release(true)));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(0, concurrent.inFlight());
+        assertEquals(sequential.limit(), concurrent.limit());
+        assertTrue(concurrent.limit() > 1);
+    }
+
+    @Test
+    @DisplayName("無效的上限或退避比例應拋出例外")
+    void constructor_invalidSettings_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> limiter(5, 10, 20, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new AimdConcurrencyLimiter(
+                "test", 5, 1, 10, Duration.ofSeconds(1), 1.0, meterRegistry));
+    }
+
+    private AimdConcurrencyLimiter limiter(int initial, int min, int max, Duration latencyThreshold) {
+        return new AimdConcurrencyLimiter("test", initial, min, max, latencyThreshold, 0.9, meterRegistry);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.order.infrastructure.adapter.inbound.rest;
+
+import com.example.order.application.dto.CreateOrderResponse;
+import com.example.order.application.exception.SagaCapacityExceededException;
+import com.example.order.application.port.inbound.CreateOrderUseCase;
+import com.example.order.application.port.inbound.GetOrderUseCase;
+import com.example.order.application.port.inbound.SearchOrdersUseCase;
+import com.example.order.application.query.GetOrderQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitInterceptor 測試")
+class ConcurrencyLimitInterceptorTest {
+
+    private static final String ORDER_JSON = """
+            {"buyer":{"name":"王小明","email":"ming@example.com"},
+             "orderItems":[{"productId":"IPHONE-17-PRO-MAX","productName":"iPhone 17 Pro Max","quantity":1}],
+             "payment":{"method":"CREDIT_CARD","amount":35900,"currency":"TWD",
+                        "cardNumber":"4111111111111111","expiryDate":"12/28","cvv":"123"}}
+            """;
+
+    @Mock
+    private CreateOrderUseCase createOrderUseCase;
+    @Mock
+    private GetOrderUseCase getOrderUseCase;
+    @Mock
+    private SearchOrdersUseCase searchOrdersUseCase;
+
+    private AimdConcurrencyLimiter writeLimiter;
+    private AimdConcurrencyLimiter readLimiter;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        writeLimiter = new AimdConcurrencyLimiter("orders-create", 1, 1, 10, Duration.ofSeconds(5), 0.5, meterRegistry);
+        readLimiter = new AimdConcurrencyLimiter("orders-read", 2, 1, 10, Duration.ofSeconds(5), 0.5, meterRegistry);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new OrderCommandController(createOrderUseCase),
+                        new OrderQueryController(getOrderUseCase, searchOrdersUseCase))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addInterceptors(new ConcurrencyLimitInterceptor(writeLimiter, readLimiter, 2))
+                .build();
+    }
+
+    @Test
+    @DisplayName("建立訂單達上限應返回 503 與 Retry-After，查詢不受影響")
+    void createOrder_overLimit_shouldReturn503WhileReadsProceed() throws Exception {
+        // Arrange
+        writeLimiter.tryAcquire().orElseThrow();
+        when(getOrderUseCase.execute(any(GetOrderQuery.class))).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/orders").contentType(MediaType.APPLICATION_JSON).content(ORDER_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.error").value("SERVICE_UNAVAILABLE"));
+        mockMvc.perform(get("/api/v1/orders/ORD-12345678"))
+                .andExpect(status().isNotFound());
+
+        verify(createOrderUseCase, never()).execute(any());
+        assertEquals(0, readLimiter.inFlight());
+    }
+
+    @Test
+    @DisplayName("完成的請求應釋放許可，5xx 應降低上限")
+    void admittedRequest_shouldReleasePermitAndShrinkLimitOnServerError() throws Exception {
+        // Arrange
+        when(createOrderUseCase.execute(any()))
+                .thenReturn(CreateOrderResponse.success("ORD-12345678", LocalDateTime.now()));
+        when(getOrderUseCase.execute(any(GetOrderQuery.class))).thenThrow(new IllegalStateException("DB down"));
+
+        // Act
+        mockMvc.perform(post("/api/v1/orders").contentType(MediaType.APPLICATION_JSON).content(ORDER_JSON))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/orders/ORD-12345678"))
+                .andExpect(status().isInternalServerError());
+
+        // Assert
+        assertEquals(0, writeLimiter.inFlight());
+        assertEquals(0, readLimiter.inFlight());
+        assertEquals(1, readLimiter.limit());
+    }
+
+    @Test
+    @DisplayName("SAGA 名額已滿的 503 應返回 Retry-After 且不降低建立訂單上限")
+    void createOrder_sagaCapacityExceeded_shouldReturn503WithoutShrinkingLimit() throws Exception {
+        // Arrange
+        when(createOrderUseCase.execute(any())).thenThrow(new SagaCapacityExceededException("orders-saga", 10, 3));
+
+        // Act
+        mockMvc.perform(post("/api/v1/orders").contentType(MediaType.APPLICATION_JSON).content(ORDER_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+                .andExpect(jsonPath("$.error").value("SERVICE_UNAVAILABLE"));
+
+        // Assert
+        assertEquals(0, writeLimiter.inFlight());
+        assertEquals(2, writeLimiter.limit());
+    }
+}
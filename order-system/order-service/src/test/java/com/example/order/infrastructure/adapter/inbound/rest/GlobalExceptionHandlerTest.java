@@ -1,9 +1,12 @@
 package com.example.order.infrastructure.adapter.inbound.rest;
 
+import com.example.order.application.exception.IdempotencyKeyConflictException;
 import com.example.order.application.exception.OrderNotFoundException;
+import com.example.order.application.exception.SagaCapacityExceededException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -34,6 +37,30 @@ class GlobalExceptionHandlerTest {
         assertEquals("VALIDATION_ERROR", response.getBody().get("error"));
     }
 
+    @Test
+    @DisplayName("處理冪等鍵衝突應返回 409")
+    void handleIdempotencyKeyConflict_shouldReturn409() {
+        IdempotencyKeyConflictException ex =
+                new IdempotencyKeyConflictException("IDEMP-001", "Request with idempotency key is still in progress", null);
+
+        ResponseEntity<Map<String, Object>> response = handler.handleIdempotencyKeyConflict(ex);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("CONFLICT", response.getBody().get("error"));
+    }
+
+    @Test
+    @DisplayName("處理 SAGA 名額已滿應返回 503 與 Retry-After")
+    void handleSagaCapacityExceeded_shouldReturn503() {
+        SagaCapacityExceededException ex = new SagaCapacityExceededException("orders-saga", 10, 2);
+
+        ResponseEntity<Map<String, Object>> response = handler.handleSagaCapacityExceeded(ex);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("2", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("SERVICE_UNAVAILABLE", response.getBody().get("error"));
+    }
+
     @Test
     @DisplayName("處理非法參數應返回 400")
     void handleIllegalArgument_shouldReturn400() {
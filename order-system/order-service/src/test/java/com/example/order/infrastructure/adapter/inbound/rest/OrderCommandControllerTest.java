@@ -179,4 +179,40 @@ class OrderCommandControllerTest {
                         .content(request))
                 .andExpect(status().isCreated());
     }
+
+    @Test
+    @DisplayName("非同步建立訂單應返回 202")
+    void createOrder_accepted_shouldReturn202() throws Exception {
+        when(createOrderUseCase.execute(any(CreateOrderCommand.class)))
+                .thenReturn(CreateOrderResponse.accepted("ORD-12345678", LocalDateTime.now()));
+
+        String request = """
+            {
+                "buyer": {
+                    "name": "張三",
+                    "email": "zhang@example.com"
+                },
+                "orderItem": {
+                    "productId": "PROD-001",
+                    "productName": "iPhone 17",
+                    "quantity": 1
+                },
+                "payment": {
+                    "method": "CREDIT_CARD",
+                    "amount": 35900,
+                    "currency": "TWD",
+                    "cardNumber": "4111111111111111",
+                    "expiryDate": "12/26",
+                    "cvv": "123"
+                }
+            }
+            """;
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.orderId").value("ORD-12345678"))
+                .andExpect(jsonPath("$.status").value("CREATED"));
+    }
 }
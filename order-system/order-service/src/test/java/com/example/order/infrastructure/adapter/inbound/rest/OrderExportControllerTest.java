@@ -0,0 +1,126 @@
+package com.example.order.infrastructure.adapter.inbound.rest;
+
+import com.example.order.application.port.inbound.ExportOrdersUseCase;
+import com.example.order.application.query.ExportOrdersQuery;
+import com.example.order.application.query.OrderSummary;
+import com.example.order.domain.model.valueobject.OrderStatus;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderExportController 測試")
+class OrderExportControllerTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    @Mock
+    private ExportOrdersUseCase exportOrdersUseCase;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // Same date handling as Spring Boot's auto-configured ObjectMapper
+        OrderExportController controller = new OrderExportController(exportOrdersUseCase,
+                Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("預設應以 NDJSON 每行輸出一筆訂單")
+    void exportOrders_defaultFormat_shouldStreamNdjson() throws Exception {
+        // Arrange
+        stubExport(summary("ORD-00000001", "wang@example.com"), summary("ORD-00000002", "lee@example.com"));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/export").param("status", "COMPLETED"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders.ndjson\""))
+                .andExpect(content().string(
+                        "{\"orderId\":\"ORD-00000001\",\"status\":\"COMPLETED\",\"buyerEmail\":\"wang@example.com\","
+                                + "\"itemCount\":2,\"totalQuantity\":3,"
+                                + "\"amount\":39900,\"currency\":\"TWD\",\"createdAt\":\"2026-01-01T10:00:00\"}\n"
+                                + "{\"orderId\":\"ORD-00000002\",\"status\":\"COMPLETED\",\"buyerEmail\":\"lee@example.com\","
+                                + "\"itemCount\":2,\"totalQuantity\":3,"
+                                + "\"amount\":39900,\"currency\":\"TWD\",\"createdAt\":\"2026-01-01T10:00:00\"}\n"));
+        verify(exportOrdersUseCase).execute(argThat(query -> query.status() == OrderStatus.COMPLETED), any());
+    }
+
+    @Test
+    @DisplayName("CSV 應輸出標題列並依 RFC 4180 處理逗號與引號")
+    void exportOrders_csv_shouldWriteHeaderAndQuoteFields() throws Exception {
+        // Arrange
+        stubExport(summary("ORD-00000001", "\"wang,ming\"@example.com"));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(content().string(OrderExportWriter.CSV_HEADER
+                        + "ORD-00000001,COMPLETED,\"\"\"wang,ming\"\"@example.com\",2,3,39900,TWD,2026-01-01T10:00\n"));
+    }
+
+    @Test
+    @DisplayName("不支援的格式或無效的時間區間應返回 400 且不開始匯出")
+    void exportOrders_invalidParameters_shouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/orders/export")
+                        .param("createdFrom", "2026-01-02T00:00:00")
+                        .param("createdTo", "2026-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+
+        verify(exportOrdersUseCase, never()).execute(any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubExport(OrderSummary... summaries) {
+        doAnswer(invocation -> {
+            Consumer<OrderSummary> sink = invocation.getArgument(1);
+            for (OrderSummary summary : summaries) {
+                sink.accept(summary);
+            }
+            return null;
+        }).when(exportOrdersUseCase).execute(any(ExportOrdersQuery.class), any(Consumer.class));
+    }
+
+    private static OrderSummary summary(String orderId, String buyerEmail) {
+        return new OrderSummary(orderId, "COMPLETED", buyerEmail, 2, 3, new BigDecimal("39900"), "TWD", CREATED_AT);
+    }
+}
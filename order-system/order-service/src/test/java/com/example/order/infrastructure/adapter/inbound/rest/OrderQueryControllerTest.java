@@ -0,0 +1,167 @@
+package com.example.order.infrastructure.adapter.inbound.rest;
+
+import com.example.order.application.port.inbound.GetOrderUseCase;
+import com.example.order.application.port.inbound.SearchOrdersUseCase;
+import com.example.order.application.query.GetOrderQuery;
+import com.example.order.application.query.OrderPage;
+import com.example.order.application.query.OrderReadModel;
+import com.example.order.application.query.OrderSummary;
+import com.example.order.application.query.SearchOrdersQuery;
+import com.example.order.domain.model.valueobject.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderQueryController 測試")
+class OrderQueryControllerTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 10, 0, 0, 123_456_789);
+
+    @Mock
+    private GetOrderUseCase getOrderUseCase;
+
+    @Mock
+    private SearchOrdersUseCase searchOrdersUseCase;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        OrderQueryController controller = new OrderQueryController(getOrderUseCase, searchOrdersUseCase);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("查詢訂單應返回 200 與 ETag")
+    void getOrder_shouldReturnOrderWithETag() throws Exception {
+        when(getOrderUseCase.execute(any(GetOrderQuery.class))).thenReturn(Optional.of(readModel()));
+
+        mockMvc.perform(get("/api/v1/orders/ORD-12345678"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, OrderQueryController.etagOf(UPDATED_AT)))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$.status").value("PAYMENT_AUTHORIZED"));
+    }
+
+    @Test
+    @DisplayName("ETag 相符時應返回 304 且無內容")
+    void getOrder_matchingETag_shouldReturn304() throws Exception {
+        when(getOrderUseCase.execute(any(GetOrderQuery.class))).thenReturn(Optional.of(readModel()));
+
+        mockMvc.perform(get("/api/v1/orders/ORD-12345678")
+                        .header(HttpHeaders.IF_NONE_MATCH, OrderQueryController.etagOf(UPDATED_AT)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("訂單已更新時舊 ETag 應返回 200")
+    void getOrder_staleETag_shouldReturn200() throws Exception {
+        when(getOrderUseCase.execute(any(GetOrderQuery.class))).thenReturn(Optional.of(readModel()));
+
+        mockMvc.perform(get("/api/v1/orders/ORD-12345678")
+                        .header(HttpHeaders.IF_NONE_MATCH, OrderQueryController.etagOf(UPDATED_AT.minusSeconds(1))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("訂單不存在應返回 404")
+    void getOrder_notFound_shouldReturn404() throws Exception {
+        when(getOrderUseCase.execute(any(GetOrderQuery.class))).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/orders/ORD-NOTFOUND"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("ETag 應只取到微秒精度")
+    void etagOf_shouldIgnoreSubMicrosecondDigits() {
+        assertEquals(OrderQueryController.etagOf(UPDATED_AT),
+                OrderQueryController.etagOf(UPDATED_AT.withNano(123_456_000)));
+        assertNotEquals(OrderQueryController.etagOf(UPDATED_AT),
+                OrderQueryController.etagOf(UPDATED_AT.withNano(123_457_000)));
+    }
+
+    @Test
+    @DisplayName("列出訂單應傳入篩選條件並返回下一頁游標")
+    void searchOrders_shouldPassFiltersAndReturnPage() throws Exception {
+        OrderSummary summary = new OrderSummary("ORD-12345678", "COMPLETED", "wang@example.com",
+                1, 1, new BigDecimal("39900"), "TWD", UPDATED_AT);
+        when(searchOrdersUseCase.execute(any(SearchOrdersQuery.class)))
+                .thenReturn(new OrderPage(List.of(summary), "NEXT"));
+
+        mockMvc.perform(get("/api/v1/orders")
+                        .param("status", "COMPLETED")
+                        .param("buyerEmail", "wang@example.com")
+                        .param("createdFrom", "2026-01-01T00:00:00")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders[0].orderId").value("ORD-12345678"))
+                .andExpect(jsonPath("$.nextCursor").value("NEXT"));
+
+        verify(searchOrdersUseCase).execute(argThat(query -> query.status() == OrderStatus.COMPLETED
+                && "wang@example.com".equals(query.buyerEmail())
+                && LocalDateTime.of(2026, 1, 1, 0, 0).equals(query.createdFrom())
+                && query.productId() == null
+                && query.limit() == 20));
+    }
+
+    @Test
+    @DisplayName("未指定筆數時應使用預設頁面大小")
+    void searchOrders_shouldUseDefaultLimit() throws Exception {
+        when(searchOrdersUseCase.execute(any(SearchOrdersQuery.class))).thenReturn(new OrderPage(List.of(), null));
+
+        mockMvc.perform(get("/api/v1/orders"))
+                .andExpect(status().isOk());
+
+        verify(searchOrdersUseCase).execute(argThat(query -> query.limit() == SearchOrdersQuery.DEFAULT_LIMIT));
+    }
+
+    @Test
+    @DisplayName("無效的狀態或筆數應返回 400")
+    void searchOrders_invalidParameters_shouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/orders").param("status", "SHIPPED"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/orders").param("limit", "1000"))
+                .andExpect(status().isBadRequest());
+
+        verify(searchOrdersUseCase, never()).execute(any());
+    }
+
+    private static OrderReadModel readModel() {
+        return new OrderReadModel(
+                "ORD-12345678",
+                "PAYMENT_AUTHORIZED",
+                true,
+                new OrderReadModel.BuyerInfo("王小明", "wang@example.com"),
+                List.of(new OrderReadModel.OrderItemInfo("IPHONE-17", "iPhone 17 Pro Max", 1)),
+                new OrderReadModel.MoneyInfo(new BigDecimal("39900"), "TWD"),
+                "PAY-001",
+                UPDATED_AT.minusSeconds(5),
+                UPDATED_AT
+        );
+    }
+}
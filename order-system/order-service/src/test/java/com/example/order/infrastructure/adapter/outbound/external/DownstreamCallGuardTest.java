@@ -0,0 +1,102 @@
+package com.example.order.infrastructure.adapter.outbound.external;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DownstreamCallGuard 測試")
+class DownstreamCallGuardTest {
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private SimpleMeterRegistry meterRegistry;
+    private DownstreamCallGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new DownstreamCallGuard(circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("同一下游的並行呼叫超過上限應被拒絕，其他下游不受影響")
+    void call_bulkheadFull_shouldRejectOnlyThatDownstream() throws Exception {
+        // Arrange
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> slowCall = CompletableFuture.supplyAsync(() ->
+                guard.call("payment", "authorize", () -> {
+                    entered.countDown();
+                    await(release);
+                    return "authorized";
+                }, reason -> "unavailable"));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // Act
+        String rejected = guard.call("payment", "capture", () -> "captured", reason -> "unavailable: " + reason);
+        String otherDownstream = guard.call("inventory", "deduct", () -> "deducted", reason -> "unavailable");
+        release.countDown();
+
+        // Assert
+        assertTrue(rejected.startsWith("unavailable: Bulkhead 'payment' is full"));
+        assertEquals("deducted", otherDownstream);
+        assertEquals("authorized", slowCall.get(5, TimeUnit.SECONDS));
+        assertEquals(1.0, meterRegistry.get(DownstreamCallGuard.REJECTED_METRIC)
+                .tag("downstream", "payment").tag("operation", "capture").tag("reason", "bulkhead_full")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("端點連續失敗應開啟斷路器並記錄狀態轉換，之後快速失敗")
+    void call_repeatedFailures_shouldOpenCircuitAndFailFast() {
+        // Act
+        for (int i = 0; i < 4; i++) {
+            guard.call("payment", "authorize", () -> {
+                throw new RestClientException("Read timed out");
+            }, reason -> "unavailable");
+        }
+        String rejected = guard.call("payment", "authorize", () -> "authorized", reason -> "unavailable: " + reason);
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN,
+                circuitBreakerRegistry.circuitBreaker("payment-authorize").getState());
+        assertEquals(CircuitBreaker.State.CLOSED,
+                circuitBreakerRegistry.circuitBreaker("payment-capture").getState());
+        assertTrue(rejected.startsWith("unavailable: CircuitBreaker 'payment-authorize' is OPEN"));
+        assertEquals(1.0, meterRegistry.get(DownstreamCallGuard.TRANSITION_METRIC)
+                .tag("name", "payment-authorize").tag("from", "CLOSED").tag("to", "OPEN")
+                .counter().count());
+        assertEquals(1.0, meterRegistry.get(DownstreamCallGuard.REJECTED_METRIC)
+                .tag("reason", "circuit_open").counter().count());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
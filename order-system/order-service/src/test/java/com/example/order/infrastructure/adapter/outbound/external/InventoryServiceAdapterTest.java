@@ -1,6 +1,10 @@
 package com.example.order.infrastructure.adapter.outbound.external;
 
 import com.example.order.application.port.outbound.InventoryServicePort;
+import com.example.order.domain.model.valueobject.OrderItem;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +15,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -22,11 +28,17 @@ class InventoryServiceAdapterTest {
     @Mock
     private RestTemplate restTemplate;
 
+    private static final List<OrderItem> ITEMS = List.of(
+            new OrderItem("PROD-001", "iPhone 17", 5),
+            new OrderItem("PROD-002", "AirPods", 1));
+
     private InventoryServiceAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new InventoryServiceAdapter(restTemplate, "http://inventory-service:8080");
+        DownstreamCallGuard guard = new DownstreamCallGuard(
+                CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), new SimpleMeterRegistry());
+        adapter = new InventoryServiceAdapter(restTemplate, guard, "http://inventory-service:8080");
     }
 
     @Test
@@ -35,9 +47,9 @@ class InventoryServiceAdapterTest {
         when(restTemplate.postForEntity(anyString(), any(), any()))
                 .thenThrow(new RestClientException("Connection refused"));
 
-        InventoryServicePort.DeductionResult result = adapter.deductStock("ORD-001", "PROD-001", 5);
+        InventoryServicePort.DeductionResult result = adapter.deductStock("ORD-001", ITEMS);
 
-        assertFalse(result.success());
+        assertFalse(result.succeeded());
         assertTrue(result.message().contains("unavailable"));
     }
 
@@ -47,9 +59,9 @@ class InventoryServiceAdapterTest {
         when(restTemplate.postForEntity(anyString(), any(), any()))
                 .thenReturn(ResponseEntity.ok(null));
 
-        InventoryServicePort.DeductionResult result = adapter.deductStock("ORD-001", "PROD-001", 5);
+        InventoryServicePort.DeductionResult result = adapter.deductStock("ORD-001", ITEMS);
 
-        assertFalse(result.success());
+        assertFalse(result.succeeded());
         assertTrue(result.message().contains("Empty response"));
     }
 
@@ -59,9 +71,9 @@ class InventoryServiceAdapterTest {
         when(restTemplate.postForEntity(anyString(), any(), any()))
                 .thenThrow(new RestClientException("Connection refused"));
 
-        InventoryServicePort.RollbackResult result = adapter.rollbackStock("ORD-001", "PROD-001", 5);
+        InventoryServicePort.RollbackResult result = adapter.rollbackStock("ORD-001", ITEMS);
 
-        assertFalse(result.success());
+        assertFalse(result.succeeded());
         assertTrue(result.message().contains("unavailable"));
     }
 
@@ -71,9 +83,9 @@ class InventoryServiceAdapterTest {
         when(restTemplate.postForEntity(anyString(), any(), any()))
                 .thenReturn(ResponseEntity.ok(null));
 
-        InventoryServicePort.RollbackResult result = adapter.rollbackStock("ORD-001", "PROD-001", 5);
+        InventoryServicePort.RollbackResult result = adapter.rollbackStock("ORD-001", ITEMS);
 
-        assertFalse(result.success());
+        assertFalse(result.succeeded());
         assertTrue(result.message().contains("Empty response"));
     }
 
@@ -83,10 +95,10 @@ class InventoryServiceAdapterTest {
         when(restTemplate.postForEntity(anyString(), any(), any()))
                 .thenReturn(ResponseEntity.ok(null));
 
-        adapter.deductStock("ORD-001", "PROD-001", 5);
+        adapter.deductStock("ORD-001", ITEMS);
 
         verify(restTemplate).postForEntity(
-                eq("http://inventory-service:8080/api/v1/inventory/deduct"),
+                eq("http://inventory-service:8080/api/v1/inventory/reserve"),
                 any(),
                 any()
         );
@@ -98,10 +110,10 @@ class InventoryServiceAdapterTest {
         when(restTemplate.postForEntity(anyString(), any(), any()))
                 .thenReturn(ResponseEntity.ok(null));
 
-        adapter.rollbackStock("ORD-001", "PROD-001", 5);
+        adapter.rollbackStock("ORD-001", ITEMS);
 
         verify(restTemplate).postForEntity(
-                eq("http://inventory-service:8080/api/v1/inventory/rollback"),
+                eq("http://inventory-service:8080/api/v1/inventory/rollback-batch"),
                 any(),
                 any()
         );
@@ -1,6 +1,9 @@
 package com.example.order.infrastructure.adapter.outbound.external;
 
 import com.example.order.application.port.outbound.PaymentServicePort;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -25,11 +28,15 @@ class PaymentServiceAdapterTest {
     @Mock
     private RestTemplate restTemplate;
 
+    private CircuitBreakerRegistry circuitBreakerRegistry;
     private PaymentServiceAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new PaymentServiceAdapter(restTemplate, "http://payment-service:8080");
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        DownstreamCallGuard guard = new DownstreamCallGuard(
+                circuitBreakerRegistry, BulkheadRegistry.ofDefaults(), new SimpleMeterRegistry());
+        adapter = new PaymentServiceAdapter(restTemplate, guard, "http://payment-service:8080");
     }
 
     @Test
@@ -86,7 +93,7 @@ class PaymentServiceAdapterTest {
         when(restTemplate.postForEntity(anyString(), any(), any()))
                 .thenThrow(new RestClientException("Connection refused"));
 
-        PaymentServicePort.CaptureResult result = adapter.capture("PAY-001");
+        PaymentServicePort.CaptureResult result = adapter.capture("ORD-001", "PAY-001");
 
         assertFalse(result.succeeded());
         assertTrue(result.message().contains("unavailable"));
@@ -98,7 +105,7 @@ class PaymentServiceAdapterTest {
         when(restTemplate.postForEntity(anyString(), any(), any()))
                 .thenReturn(ResponseEntity.ok(null));
 
-        PaymentServicePort.CaptureResult result = adapter.capture("PAY-001");
+        PaymentServicePort.CaptureResult result = adapter.capture("ORD-001", "PAY-001");
 
         assertFalse(result.succeeded());
         assertTrue(result.message().contains("Empty response"));
@@ -110,7 +117,7 @@ class PaymentServiceAdapterTest {
         when(restTemplate.postForEntity(anyString(), any(), any()))
                 .thenThrow(new RestClientException("Connection refused"));
 
-        PaymentServicePort.VoidResult result = adapter.voidPayment("PAY-001");
+        PaymentServicePort.VoidResult result = adapter.voidPayment("ORD-001", "PAY-001");
 
         assertFalse(result.succeeded());
         assertTrue(result.message().contains("unavailable"));
@@ -122,9 +129,28 @@ class PaymentServiceAdapterTest {
         when(restTemplate.postForEntity(anyString(), any(), any()))
                 .thenReturn(ResponseEntity.ok(null));
 
-        PaymentServicePort.VoidResult result = adapter.voidPayment("PAY-001");
+        PaymentServicePort.VoidResult result = adapter.voidPayment("ORD-001", "PAY-001");
 
         assertFalse(result.succeeded());
         assertTrue(result.message().contains("Empty response"));
     }
+
+    @Test
+    @DisplayName("授權斷路器開啟時應快速失敗，不影響請款端點")
+    void authorize_circuitOpen_shouldFailFastWithoutAffectingCapture() {
+        when(restTemplate.postForEntity(anyString(), any(), any()))
+                .thenReturn(ResponseEntity.ok(null));
+        circuitBreakerRegistry.circuitBreaker("payment-authorize").transitionToOpenState();
+
+        PaymentServicePort.AuthorizationResult authorization = adapter.authorize(
+                "ORD-001", new BigDecimal("35900"), "TWD", "4111111111111111", "12/26", "123");
+        adapter.capture("ORD-001", "PAY-001");
+
+        assertFalse(authorization.success());
+        assertTrue(authorization.message().contains("OPEN"));
+        verify(restTemplate, never()).postForEntity(
+                eq("http://payment-service:8080/api/v1/payments/authorize"), any(), any());
+        verify(restTemplate).postForEntity(
+                eq("http://payment-service:8080/api/v1/payments/capture"), any(), any());
+    }
 }
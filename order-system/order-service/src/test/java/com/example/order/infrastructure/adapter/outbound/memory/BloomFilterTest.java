@@ -0,0 +1,63 @@
+package com.example.order.infrastructure.adapter.outbound.memory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BloomFilter 測試")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("已加入的鍵必定命中")
+    void mightContain_shouldNeverMissAddedKeys() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("key-" + i);
+        }
+
+        // Act & Assert
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("key-" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("誤判率應接近設定值")
+    void mightContain_shouldKeepFalsePositiveRateNearTarget() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("key-" + i);
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("空的過濾器不應命中")
+    void mightContain_shouldMissOnEmptyFilter() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        assertFalse(filter.mightContain("IDEMP-001"));
+        assertTrue(filter.hashCount() >= 1);
+        assertTrue(filter.bitSize() >= 64);
+    }
+
+    @Test
+    @DisplayName("無效的大小設定應拋出例外")
+    void constructor_shouldRejectInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1.0));
+    }
+}
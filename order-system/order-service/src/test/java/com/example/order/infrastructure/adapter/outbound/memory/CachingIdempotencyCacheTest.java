@@ -0,0 +1,116 @@
+package com.example.order.infrastructure.adapter.outbound.memory;
+
+import com.example.order.application.dto.CreateOrderResponse;
+import com.example.order.application.port.outbound.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingIdempotencyCache 測試")
+class CachingIdempotencyCacheTest {
+
+    private static final CreateOrderResponse EXISTING =
+            CreateOrderResponse.fromExisting("ORD-12345678", "COMPLETED", LocalDateTime.now());
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private MeterRegistry meterRegistry;
+    private CachingIdempotencyCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(0);
+            action.accept("IDEMP-STORED");
+            return null;
+        }).when(orderRepository).forEachIdempotencyKey(any(Consumer.class));
+        cache = new CachingIdempotencyCache(orderRepository, meterRegistry, 1_000, 0.01, 100, Duration.ofMinutes(10));
+        cache.rebuild();
+    }
+
+    @Test
+    @DisplayName("從未使用的鍵應直接判定不存在且不查詢資料庫")
+    void find_shouldSkipLoaderForDefiniteMiss() {
+        // Act
+        Optional<CreateOrderResponse> result = cache.find("IDEMP-NEW", loader(Optional.of(EXISTING)));
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(0, loads.get());
+        assertEquals(1.0, lookups("definite_miss"));
+    }
+
+    @Test
+    @DisplayName("啟動時載入的鍵應查詢資料庫")
+    void find_shouldLoadKeysFromRebuild() {
+        // Act
+        Optional<CreateOrderResponse> result = cache.find("IDEMP-STORED", loader(Optional.of(EXISTING)));
+
+        // Assert
+        assertEquals(Optional.of(EXISTING), result);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, lookups("db_hit"));
+    }
+
+    @Test
+    @DisplayName("過濾器命中但資料庫不存在應計為誤判")
+    void find_shouldCountFalsePositive() {
+        // Arrange
+        cache.register("IDEMP-ABANDONED");
+
+        // Act
+        Optional<CreateOrderResponse> result = cache.find("IDEMP-ABANDONED", loader(Optional.empty()));
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, lookups("false_positive"));
+    }
+
+    @Test
+    @DisplayName("已快取的回應應直接重播")
+    void find_shouldReplayRememberedResponse() {
+        // Arrange
+        cache.remember("IDEMP-001", EXISTING);
+
+        // Act
+        Optional<CreateOrderResponse> result = cache.find("IDEMP-001", loader(Optional.empty()));
+
+        // Assert
+        assertEquals(Optional.of(EXISTING), result);
+        assertEquals(0, loads.get());
+        assertEquals(1.0, lookups("cache_hit"));
+    }
+
+    private Function<String, Optional<CreateOrderResponse>> loader(Optional<CreateOrderResponse> result) {
+        return key -> {
+            loads.incrementAndGet();
+            return result;
+        };
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get(CachingIdempotencyCache.LOOKUP_METRIC).tag("result", result).counter().count();
+    }
+}
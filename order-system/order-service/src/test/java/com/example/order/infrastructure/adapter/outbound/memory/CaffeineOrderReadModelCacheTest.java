@@ -0,0 +1,131 @@
+package com.example.order.infrastructure.adapter.outbound.memory;
+
+import com.example.order.application.query.OrderReadModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CaffeineOrderReadModelCache 測試")
+class CaffeineOrderReadModelCacheTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private CaffeineOrderReadModelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CaffeineOrderReadModelCache(new SimpleMeterRegistry(), 100,
+                Duration.ofSeconds(5), Duration.ofMinutes(30), nanos::get);
+    }
+
+    @Test
+    @DisplayName("未快取時應載入一次，之後直接命中")
+    void find_shouldLoadOnceThenHit() {
+        // Arrange
+        OrderReadModel stored = readModel("PAYMENT_AUTHORIZED", true, CREATED_AT.plusSeconds(1));
+
+        // Act
+        cache.find("ORD-12345678", loader(Optional.of(stored)));
+        Optional<OrderReadModel> result = cache.find("ORD-12345678", loader(Optional.of(stored)));
+
+        // Assert
+        assertEquals(Optional.of(stored), result);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("訂單不存在時不應快取")
+    void find_notFound_shouldNotCache() {
+        // Act
+        cache.find("ORD-12345678", loader(Optional.empty()));
+        cache.find("ORD-12345678", loader(Optional.empty()));
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("狀態轉換後應以新讀取模型取代快取")
+    void update_shouldReplaceWithNewerReadModel() {
+        // Arrange
+        cache.update(readModel("PAYMENT_AUTHORIZED", true, CREATED_AT.plusSeconds(1)));
+        OrderReadModel completed = readModel("COMPLETED", false, CREATED_AT.plusSeconds(2));
+
+        // Act
+        cache.update(completed);
+
+        // Assert
+        assertEquals(Optional.of(completed), cache.find("ORD-12345678", loader(Optional.empty())));
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    @DisplayName("較舊的讀取模型不應覆蓋較新的快取")
+    void update_shouldKeepNewerReadModel() {
+        // Arrange
+        OrderReadModel completed = readModel("COMPLETED", false, CREATED_AT.plusSeconds(2));
+        cache.update(completed);
+
+        // Act
+        cache.update(readModel("PAYMENT_AUTHORIZED", true, CREATED_AT.plusSeconds(1)));
+
+        // Assert
+        assertEquals(Optional.of(completed), cache.find("ORD-12345678", loader(Optional.empty())));
+    }
+
+    @Test
+    @DisplayName("處理中的訂單應較快過期，已結束的訂單保留較久")
+    void expiry_shouldKeepTerminalOrdersLonger() {
+        // Arrange
+        cache.update(readModel("ORD-11111111", "PAYMENT_AUTHORIZED", true, CREATED_AT));
+        cache.update(readModel("ORD-22222222", "COMPLETED", false, CREATED_AT));
+
+        // Act
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        // Assert
+        assertTrue(cache.find("ORD-11111111", loader(Optional.empty())).isEmpty());
+        assertTrue(cache.find("ORD-22222222", loader(Optional.empty())).isPresent());
+        assertEquals(1, loads.get());
+    }
+
+    private Function<String, Optional<OrderReadModel>> loader(Optional<OrderReadModel> result) {
+        return orderId -> {
+            loads.incrementAndGet();
+            return result;
+        };
+    }
+
+    private static OrderReadModel readModel(String status, boolean processing, LocalDateTime updatedAt) {
+        return readModel("ORD-12345678", status, processing, updatedAt);
+    }
+
+    private static OrderReadModel readModel(
+            String orderId, String status, boolean processing, LocalDateTime updatedAt) {
+        return new OrderReadModel(
+                orderId,
+                status,
+                processing,
+                new OrderReadModel.BuyerInfo("王小明", "wang@example.com"),
+                List.of(new OrderReadModel.OrderItemInfo("IPHONE-17", "iPhone 17 Pro Max", 1)),
+                new OrderReadModel.MoneyInfo(new BigDecimal("39900"), "TWD"),
+                "PAY-001",
+                CREATED_AT,
+                updatedAt
+        );
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.order.infrastructure.adapter.outbound.messaging;
+
+import com.example.common.messaging.BrokerMessage;
+import com.example.common.messaging.InMemoryMessageBroker;
+import com.example.order.application.port.outbound.InventoryServicePort;
+import com.example.order.domain.model.valueobject.OrderItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MessagingInventoryServiceAdapter 測試")
+class MessagingInventoryServiceAdapterTest {
+
+    private static final String ORDER_ID = "ORD-00000001";
+    private static final List<OrderItem> ITEMS = List.of(
+            new OrderItem("IPHONE-17-PRO-MAX", "iPhone 17 Pro Max", 1),
+            new OrderItem("AIRPODS-PRO-3", "AirPods Pro 3", 2));
+
+    private InMemoryMessageBroker broker;
+    private MessagingInventoryServiceAdapter adapter;
+    private final List<BrokerMessage> commands = new CopyOnWriteArrayList<>();
+    private final CountDownLatch rollbackSent = new CountDownLatch(1);
+    private volatile boolean holdReserveReply;
+
+    @BeforeEach
+    void setUp() {
+        broker = new InMemoryMessageBroker(Executors.newFixedThreadPool(2));
+        SagaCommandGateway gateway = new SagaCommandGateway(
+                broker, new ObjectMapper(), new SimpleMeterRegistry(), "order.saga.replies", 200, 60_000);
+        gateway.subscribeToReplies();
+        adapter = new MessagingInventoryServiceAdapter(gateway, "inventory.commands");
+        broker.subscribe("inventory.commands", command -> {
+            commands.add(command);
+            if (command.type().equals("RollbackStockBatch")) {
+                rollbackSent.countDown();
+            } else if (holdReserveReply) {
+                return;
+            }
+            String reply = command.type().equals("ReserveStock")
+                    ? "{\"orderId\":\"ORD-00000001\",\"success\":true,\"message\":\"ok\","
+                            + "\"lines\":[{\"productId\":\"IPHONE-17-PRO-MAX\",\"remainingStock\":9},"
+                            + "{\"productId\":\"AIRPODS-PRO-3\",\"remainingStock\":48}]}"
+                    : "{\"results\":[{\"orderId\":\"ORD-00000001\",\"productId\":\"IPHONE-17-PRO-MAX\","
+                            + "\"success\":true,\"message\":\"ok\",\"currentStock\":10},"
+                            + "{\"orderId\":\"ORD-00000001\",\"productId\":\"AIRPODS-PRO-3\","
+                            + "\"success\":false,\"message\":\"No deduction found\",\"currentStock\":50}]}";
+            broker.send(command.replyTo(), command.reply(command.type() + "Reply", reply));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.shutdown();
+    }
+
+    @Test
+    @DisplayName("扣減庫存應以單一命令送出訂單所有明細")
+    void deductStock_shouldSendAllLinesInOneCommand() {
+        // Act
+        InventoryServicePort.DeductionResult result = adapter.deductStock(ORDER_ID, ITEMS);
+
+        // Assert
+        assertTrue(result.succeeded());
+        assertEquals(1, commands.size());
+        assertEquals("ORD-00000001:ReserveStock", commands.get(0).correlationId());
+        assertTrue(commands.get(0).payload().contains("AIRPODS-PRO-3"));
+    }
+
+    @Test
+    @DisplayName("回滾庫存任一明細失敗應回傳失敗結果")
+    void rollbackStock_anyLineFailed_shouldReturnFailure() {
+        // Act
+        InventoryServicePort.RollbackResult result = adapter.rollbackStock(ORDER_ID, ITEMS);
+
+        // Assert
+        assertFalse(result.succeeded());
+        assertEquals("No deduction found", result.message());
+        assertEquals("ORD-00000001:RollbackStockBatch", commands.get(0).correlationId());
+    }
+
+    @Test
+    @DisplayName("逾時後才成功的預留應在回覆到達時回滾")
+    void deductStock_lateReservation_shouldRollBackStock() throws Exception {
+        // Arrange
+        holdReserveReply = true;
+        InventoryServicePort.DeductionResult result = adapter.deductStock(ORDER_ID, ITEMS);
+
+        // Act
+        broker.send("order.saga.replies", commands.get(0).reply("ReserveStockReply",
+                "{\"orderId\":\"ORD-00000001\",\"success\":true,\"message\":\"ok\",\"lines\":[]}"));
+
+        // Assert
+        assertFalse(result.succeeded());
+        assertTrue(rollbackSent.await(2, TimeUnit.SECONDS));
+        BrokerMessage rollback = commands.get(1);
+        assertEquals("ORD-00000001:RollbackStockBatch", rollback.correlationId());
+        assertTrue(rollback.payload().contains("\"productId\":\"AIRPODS-PRO-3\""));
+        assertTrue(rollback.payload().contains("\"quantity\":2"));
+    }
+}
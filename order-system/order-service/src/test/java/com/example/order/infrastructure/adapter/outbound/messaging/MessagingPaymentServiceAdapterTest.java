@@ -0,0 +1,151 @@
+package com.example.order.infrastructure.adapter.outbound.messaging;
+
+import com.example.common.messaging.BrokerMessage;
+import com.example.common.messaging.InMemoryMessageBroker;
+import com.example.order.application.port.outbound.PaymentServicePort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MessagingPaymentServiceAdapter 測試")
+class MessagingPaymentServiceAdapterTest {
+
+    private static final String ORDER_ID = "ORD-00000001";
+
+    private InMemoryMessageBroker broker;
+    private SimpleMeterRegistry registry;
+    private MessagingPaymentServiceAdapter adapter;
+    private final List<BrokerMessage> commands = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        broker = new InMemoryMessageBroker(Executors.newFixedThreadPool(2));
+        registry = new SimpleMeterRegistry();
+        SagaCommandGateway gateway = new SagaCommandGateway(
+                broker, new ObjectMapper(), registry, "order.saga.replies", 200, 60_000);
+        gateway.subscribeToReplies();
+        adapter = new MessagingPaymentServiceAdapter(gateway, "payment.commands");
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.shutdown();
+    }
+
+    @Test
+    @DisplayName("授權回覆成功應回傳授權結果")
+    void authorize_replyAuthorized_shouldReturnSuccess() {
+        // Arrange
+        respondWith(command -> """
+                {"paymentId":"PAY-001","authorized":true,"authorizationCode":"PAY-001","message":"Payment authorized"}
+                """);
+
+        // Act
+        PaymentServicePort.AuthorizationResult result = adapter.authorize(
+                ORDER_ID, new BigDecimal("35900"), "TWD", "4111111111111111", "12/28", "123");
+
+        // Assert
+        assertTrue(result.success());
+        assertEquals("PAY-001", result.paymentId());
+        BrokerMessage command = commands.get(0);
+        assertEquals("ORD-00000001:AuthorizePayment", command.correlationId());
+        assertEquals("order.saga.replies", command.replyTo());
+        assertTrue(command.payload().contains("\"cardNumber\":\"4111111111111111\""));
+    }
+
+    @Test
+    @DisplayName("授權被拒應回傳失敗原因")
+    void authorize_replyDeclined_shouldReturnFailure() {
+        // Arrange
+        respondWith(command -> """
+                {"paymentId":null,"authorized":false,"authorizationCode":null,"message":"Card declined"}
+                """);
+
+        // Act
+        PaymentServicePort.AuthorizationResult result = adapter.authorize(
+                ORDER_ID, new BigDecimal("35900"), "TWD", "4000000000000002", "12/28", "123");
+
+        // Assert
+        assertFalse(result.success());
+        assertEquals("Card declined", result.message());
+    }
+
+    @Test
+    @DisplayName("請款命令應以訂單編號關聯並帶付款編號")
+    void capture_shouldCorrelateOnOrderId() {
+        // Arrange
+        respondWith(command -> """
+                {"paymentId":"PAY-001","captured":true,"message":"Payment captured"}
+                """);
+
+        // Act
+        PaymentServicePort.CaptureResult result = adapter.capture(ORDER_ID, "PAY-001");
+
+        // Assert
+        assertTrue(result.succeeded());
+        assertEquals("ORD-00000001:CapturePayment", commands.get(0).correlationId());
+        assertEquals("{\"paymentId\":\"PAY-001\"}", commands.get(0).payload());
+    }
+
+    @Test
+    @DisplayName("未在逾時內回覆應回傳失敗")
+    void voidPayment_noReply_shouldReturnFailure() {
+        // Arrange
+        broker.subscribe("payment.commands", commands::add);
+
+        // Act
+        PaymentServicePort.VoidResult result = adapter.voidPayment(ORDER_ID, "PAY-001");
+
+        // Assert
+        assertFalse(result.succeeded());
+        assertTrue(result.message().startsWith("Payment service unavailable"));
+        assertEquals(1.0, registry.get(ReplyCorrelator.TIMEOUT_METRIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("逾時後才核准的授權應在回覆到達時作廢")
+    void authorize_lateApproval_shouldVoidPayment() throws Exception {
+        // Arrange
+        CountDownLatch voidSent = new CountDownLatch(1);
+        broker.subscribe("payment.commands", command -> {
+            commands.add(command);
+            if (command.type().equals("VoidPayment")) {
+                voidSent.countDown();
+            }
+        });
+        PaymentServicePort.AuthorizationResult result = adapter.authorize(
+                ORDER_ID, new BigDecimal("35900"), "TWD", "4111111111111111", "12/28", "123");
+
+        // Act
+        broker.send("order.saga.replies", commands.get(0).reply("AuthorizePaymentReply", """
+                {"paymentId":"PAY-001","authorized":true,"authorizationCode":"PAY-001","message":"Payment authorized"}
+                """));
+
+        // Assert
+        assertFalse(result.success());
+        assertTrue(voidSent.await(2, TimeUnit.SECONDS));
+        assertEquals("ORD-00000001:VoidPayment", commands.get(1).correlationId());
+        assertEquals("{\"paymentId\":\"PAY-001\"}", commands.get(1).payload());
+        assertEquals(1.0, registry.get(ReplyCorrelator.LATE_METRIC).counter().count());
+    }
+
+    private void respondWith(Function<BrokerMessage, String> replyPayload) {
+        broker.subscribe("payment.commands", command -> {
+            commands.add(command);
+            broker.send(command.replyTo(), command.reply(command.type() + "Reply", replyPayload.apply(command)));
+        });
+    }
+}
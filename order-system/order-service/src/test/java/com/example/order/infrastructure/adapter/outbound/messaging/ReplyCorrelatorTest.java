@@ -0,0 +1,110 @@
+package com.example.order.infrastructure.adapter.outbound.messaging;
+
+import com.example.common.messaging.BrokerMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReplyCorrelator 測試")
+class ReplyCorrelatorTest {
+
+    private static final String CORRELATION_ID = ReplyCorrelator.correlationId("ORD-00000001", "AuthorizePayment");
+    private static final BrokerMessage COMMAND =
+            BrokerMessage.command(CORRELATION_ID, "AuthorizePayment", "order.saga.replies", "{}");
+
+    private SimpleMeterRegistry registry;
+    private ReplyCorrelator correlator;
+    private final List<BrokerMessage> lateCommands = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        correlator = new ReplyCorrelator(Duration.ofMillis(100), Duration.ofMinutes(1),
+                (command, reply) -> lateCommands.add(command), registry);
+    }
+
+    @Test
+    @DisplayName("關聯鍵應由訂單編號與命令類型組成")
+    void correlationId_shouldCombineOrderIdAndCommandType() {
+        assertEquals("ORD-00000001:AuthorizePayment", CORRELATION_ID);
+        assertEquals("ORD-00000001", ReplyCorrelator.orderId(CORRELATION_ID));
+    }
+
+    @Test
+    @DisplayName("回覆應完成等待中的命令")
+    void onReply_shouldCompletePendingCommand() throws Exception {
+        // Arrange
+        CompletableFuture<BrokerMessage> pending = correlator.expect(COMMAND);
+        BrokerMessage reply = COMMAND.reply("AuthorizePaymentReply", "{\"authorized\":true}");
+
+        // Act
+        correlator.onReply(reply);
+
+        // Assert
+        assertSame(reply, pending.get());
+        assertEquals(0, correlator.pendingCount());
+    }
+
+    @Test
+    @DisplayName("同一訂單同一步驟應共用等待中的回覆")
+    void expect_sameCorrelationId_shouldShareReply() {
+        // Act
+        CompletableFuture<BrokerMessage> first = correlator.expect(COMMAND);
+        CompletableFuture<BrokerMessage> second = correlator.expect(COMMAND);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, correlator.pendingCount());
+    }
+
+    @Test
+    @DisplayName("逾時未回覆應失敗並計數")
+    void expect_noReply_shouldTimeOut() {
+        // Act
+        CompletableFuture<BrokerMessage> pending = correlator.expect(COMMAND);
+        ExecutionException error = assertThrows(ExecutionException.class, pending::get);
+
+        // Assert
+        assertInstanceOf(TimeoutException.class, error.getCause());
+        assertEquals(1.0, registry.get(ReplyCorrelator.TIMEOUT_METRIC).counter().count());
+        assertEquals(0, correlator.pendingCount());
+    }
+
+    @Test
+    @DisplayName("逾時後到達的回覆應連同原命令交給補償處理")
+    void onReply_afterTimeout_shouldHandOverForCompensation() {
+        // Arrange
+        CompletableFuture<BrokerMessage> pending = correlator.expect(COMMAND);
+        assertThrows(ExecutionException.class, pending::get);
+
+        // Act
+        correlator.onReply(new BrokerMessage("m-1", CORRELATION_ID, "AuthorizePaymentReply", null, "{}"));
+
+        // Assert
+        assertTrue(pending.isCompletedExceptionally());
+        assertEquals(List.of(COMMAND), lateCommands);
+        assertEquals(1.0, registry.get(ReplyCorrelator.LATE_METRIC).counter().count());
+        assertEquals(0, correlator.timedOutCount());
+    }
+
+    @Test
+    @DisplayName("無人等待的回覆應被丟棄")
+    void onReply_unexpected_shouldBeDropped() {
+        // Act
+        correlator.onReply(new BrokerMessage("m-1", CORRELATION_ID, "AuthorizePaymentReply", null, "{}"));
+
+        // Assert
+        assertTrue(lateCommands.isEmpty());
+        assertEquals(0.0, registry.get(ReplyCorrelator.LATE_METRIC).counter().count());
+    }
+}
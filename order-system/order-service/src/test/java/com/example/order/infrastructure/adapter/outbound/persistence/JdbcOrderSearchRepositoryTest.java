@@ -0,0 +1,178 @@
+package com.example.order.infrastructure.adapter.outbound.persistence;
+
+import com.example.order.application.query.ExportOrdersQuery;
+import com.example.order.application.query.OrderPage;
+import com.example.order.application.query.OrderSummary;
+import com.example.order.application.query.SearchOrdersQuery;
+import com.example.order.domain.model.valueobject.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@JdbcTest
+@DisplayName("JdbcOrderSearchRepository 測試")
+class JdbcOrderSearchRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private JdbcOrderSearchRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new JdbcOrderSearchRepository(namedParameterJdbcTemplate, 2);
+    }
+
+    @Test
+    @DisplayName("應依建立時間由新到舊分頁，游標接續不重複不遺漏")
+    void search_shouldPageNewestFirstWithoutGapsOrDuplicates() {
+        // Arrange: two orders share a created_at so the id breaks the tie
+        insertOrder("ORD-00000001", "COMPLETED", "a@example.com", "IPHONE-17", BASE);
+        insertOrder("ORD-00000002", "COMPLETED", "a@example.com", "IPHONE-17", BASE.plusMinutes(1));
+        insertOrder("ORD-00000003", "FAILED", "b@example.com", "IPHONE-17", BASE.plusMinutes(1));
+        insertOrder("ORD-00000004", "COMPLETED", "b@example.com", "IPAD-PRO", BASE.plusMinutes(2));
+        insertOrder("ORD-00000005", "COMPLETED", "a@example.com", "IPAD-PRO", BASE.plusMinutes(3));
+
+        // Act
+        List<String> seen = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            OrderPage page = repository.search(query(null, null, null, cursor, 2));
+            page.orders().forEach(summary -> seen.add(summary.orderId()));
+            pageSizes.add(page.orders().size());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(List.of("ORD-00000005", "ORD-00000004", "ORD-00000003", "ORD-00000002", "ORD-00000001"), seen);
+        assertEquals(List.of(2, 2, 1), pageSizes);
+    }
+
+    @Test
+    @DisplayName("應依商品、買家與建立時間區間篩選")
+    void search_shouldApplyFilters() {
+        // Arrange
+        insertOrder("ORD-00000001", "COMPLETED", "a@example.com", "IPHONE-17", BASE);
+        insertOrder("ORD-00000002", "COMPLETED", "a@example.com", "IPAD-PRO", BASE.plusMinutes(1));
+        insertOrder("ORD-00000003", "COMPLETED", "b@example.com", "IPHONE-17", BASE.plusMinutes(2));
+        insertOrder("ORD-00000004", "COMPLETED", "a@example.com", "IPHONE-17", BASE.plusMinutes(3));
+
+        // Act
+        OrderPage page = repository.search(new SearchOrdersQuery(null, "IPHONE-17", "a@example.com",
+                BASE, BASE.plusMinutes(3), null, 10));
+
+        // Assert
+        assertEquals(List.of("ORD-00000001"), page.orders().stream().map(OrderSummary::orderId).toList());
+        assertNull(page.nextCursor());
+        OrderSummary summary = page.orders().get(0);
+        assertEquals(1, summary.itemCount());
+        assertEquals(1, summary.totalQuantity());
+        assertEquals(0, summary.amount().compareTo(new BigDecimal("39900")));
+        assertEquals(BASE, summary.createdAt());
+    }
+
+    @Test
+    @DisplayName("進行中訂單應以狀態日誌的最新狀態顯示與篩選")
+    void search_shouldUseLatestLoggedStatusForInProgressOrders() {
+        // Arrange
+        insertOrder("ORD-00000001", "CREATED", "a@example.com", "IPHONE-17", BASE);
+        insertStatusEvent("ORD-00000001", 2, "PAYMENT_AUTHORIZED");
+        insertStatusEvent("ORD-00000001", 3, "INVENTORY_DEDUCTED");
+        insertOrder("ORD-00000002", "CREATED", "a@example.com", "IPHONE-17", BASE.plusMinutes(1));
+        insertOrder("ORD-00000003", "COMPLETED", "a@example.com", "IPHONE-17", BASE.plusMinutes(2));
+        insertStatusEvent("ORD-00000003", 2, "PAYMENT_AUTHORIZED");
+
+        // Act
+        OrderPage all = repository.search(query(null, null, null, null, 10));
+        OrderPage deducted = repository.search(query(OrderStatus.INVENTORY_DEDUCTED, null, null, null, 10));
+        OrderPage created = repository.search(query(OrderStatus.CREATED, null, null, null, 10));
+        OrderPage completed = repository.search(query(OrderStatus.COMPLETED, null, null, null, 10));
+
+        // Assert
+        assertEquals(List.of("COMPLETED", "CREATED", "INVENTORY_DEDUCTED"),
+                all.orders().stream().map(OrderSummary::status).toList());
+        assertEquals(List.of("ORD-00000001"), deducted.orders().stream().map(OrderSummary::orderId).toList());
+        assertEquals(List.of("ORD-00000002"), created.orders().stream().map(OrderSummary::orderId).toList());
+        assertEquals(List.of("ORD-00000003"), completed.orders().stream().map(OrderSummary::orderId).toList());
+    }
+
+    @Test
+    @DisplayName("匯出應依建立時間由舊到新逐筆回傳所有符合條件的訂單")
+    void forEach_shouldStreamMatchingOrdersOldestFirst() {
+        // Arrange
+        insertOrder("ORD-00000001", "COMPLETED", "a@example.com", "IPHONE-17", BASE);
+        insertOrder("ORD-00000002", "FAILED", "a@example.com", "IPHONE-17", BASE.plusMinutes(1));
+        insertOrder("ORD-00000003", "COMPLETED", "b@example.com", "IPAD-PRO", BASE.plusMinutes(1));
+        insertOrder("ORD-00000004", "COMPLETED", "a@example.com", "IPHONE-17", BASE.plusMinutes(2));
+        insertOrder("ORD-00000005", "COMPLETED", "a@example.com", "IPHONE-17", BASE.plusMinutes(3));
+        List<String> all = new ArrayList<>();
+        List<String> filtered = new ArrayList<>();
+
+        // Act
+        repository.forEach(new ExportOrdersQuery(null, null, null), summary -> all.add(summary.orderId()));
+        repository.forEach(new ExportOrdersQuery(OrderStatus.COMPLETED, BASE.plusMinutes(1), BASE.plusMinutes(3)),
+                summary -> filtered.add(summary.orderId()));
+
+        // Assert
+        assertEquals(List.of("ORD-00000001", "ORD-00000002", "ORD-00000003", "ORD-00000004", "ORD-00000005"), all);
+        assertEquals(List.of("ORD-00000003", "ORD-00000004"), filtered);
+    }
+
+    @Test
+    @DisplayName("格式錯誤的游標應拋出 IllegalArgumentException")
+    void search_malformedCursor_shouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.search(query(null, null, null, "not-a-cursor", 10)));
+    }
+
+    @Test
+    @DisplayName("游標應可往返編碼")
+    void cursor_shouldRoundTrip() {
+        JdbcOrderSearchRepository.Cursor cursor =
+                new JdbcOrderSearchRepository.Cursor(BASE.withNano(123_456_000), 42);
+
+        assertEquals(cursor, JdbcOrderSearchRepository.Cursor.decode(cursor.encode()));
+    }
+
+    private static SearchOrdersQuery query(
+            OrderStatus status, String productId, String buyerEmail, String cursor, int limit) {
+        return new SearchOrdersQuery(status, productId, buyerEmail, null, null, cursor, limit);
+    }
+
+    private void insertOrder(String orderId, String status, String buyerEmail, String productId,
+                             LocalDateTime createdAt) {
+        jdbcTemplate.update("""
+                INSERT INTO orders (order_id, idempotency_key, buyer_name, buyer_email, item_count, total_quantity,
+                                    amount, currency, payment_method, card_last_four, status,
+                                    created_at, updated_at)
+                VALUES (?, ?, '王小明', ?, 1, 1, 39900, 'TWD', 'CREDIT_CARD', '1111', ?, ?, ?)
+                """, orderId, "IDEMP-" + orderId, buyerEmail, status, createdAt, createdAt);
+        jdbcTemplate.update("""
+                INSERT INTO order_items (order_id, line_no, product_id, product_name, quantity)
+                VALUES (?, 0, ?, 'iPhone 17 Pro Max', 1)
+                """, orderId, productId);
+    }
+
+    private void insertStatusEvent(String orderId, long version, String status) {
+        jdbcTemplate.update("""
+                INSERT INTO order_status_events (order_id, version, status, occurred_at)
+                VALUES (?, ?, ?, ?)
+                """, orderId, version, status, BASE);
+    }
+}
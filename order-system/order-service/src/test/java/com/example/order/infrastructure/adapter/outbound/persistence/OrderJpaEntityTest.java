@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -22,9 +23,9 @@ class OrderJpaEntityTest {
         entity.setIdempotencyKey("IDEM-001");
         entity.setBuyerName("張三");
         entity.setBuyerEmail("zhang@example.com");
-        entity.setProductId("PROD-001");
-        entity.setProductName("iPhone 17");
-        entity.setQuantity(2);
+        entity.setItemCount(1);
+        entity.setTotalQuantity(2);
+        entity.setItems(List.of(new OrderItemEmbeddable("PROD-001", "iPhone 17", 2)));
         entity.setAmount(new BigDecimal("71800"));
         entity.setCurrency("TWD");
         entity.setPaymentMethod("CREDIT_CARD");
@@ -39,9 +40,11 @@ class OrderJpaEntityTest {
         assertEquals("IDEM-001", entity.getIdempotencyKey());
         assertEquals("張三", entity.getBuyerName());
         assertEquals("zhang@example.com", entity.getBuyerEmail());
-        assertEquals("PROD-001", entity.getProductId());
-        assertEquals("iPhone 17", entity.getProductName());
-        assertEquals(2, entity.getQuantity());
+        assertEquals(1, entity.getItemCount());
+        assertEquals(2, entity.getTotalQuantity());
+        assertEquals("PROD-001", entity.getItems().get(0).getProductId());
+        assertEquals("iPhone 17", entity.getItems().get(0).getProductName());
+        assertEquals(2, entity.getItems().get(0).getQuantity());
         assertEquals(new BigDecimal("71800"), entity.getAmount());
         assertEquals("TWD", entity.getCurrency());
         assertEquals("CREDIT_CARD", entity.getPaymentMethod());
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.DisplayName;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -27,7 +28,7 @@ class OrderMapperTest {
         Order order = Order.create(
                 "IDEM-001",
                 Buyer.of("張三", "zhang@example.com"),
-                OrderItem.of("PROD-001", "iPhone 17", 1),
+                List.of(OrderItem.of("PROD-001", "iPhone 17", 1), OrderItem.of("PROD-002", "AirPods", 2)),
                 Money.of(new BigDecimal("35900"), "TWD"),
                 PaymentInfo.of("CREDIT_CARD", "4111111111111111", "12/26", "123")
         );
@@ -38,14 +39,16 @@ class OrderMapperTest {
         assertEquals("IDEM-001", entity.getIdempotencyKey());
         assertEquals("張三", entity.getBuyerName());
         assertEquals("zhang@example.com", entity.getBuyerEmail());
-        assertEquals("PROD-001", entity.getProductId());
-        assertEquals("iPhone 17", entity.getProductName());
-        assertEquals(1, entity.getQuantity());
+        assertEquals(2, entity.getItemCount());
+        assertEquals(3, entity.getTotalQuantity());
+        assertEquals(List.of("PROD-001", "PROD-002"),
+                entity.getItems().stream().map(OrderItemEmbeddable::getProductId).toList());
         assertEquals(new BigDecimal("35900"), entity.getAmount());
         assertEquals("TWD", entity.getCurrency());
         assertEquals("CREDIT_CARD", entity.getPaymentMethod());
         assertEquals("1111", entity.getCardLastFour());
         assertEquals("CREATED", entity.getStatus());
+        assertEquals(1L, entity.getVersion());
     }
 
     @Test
@@ -56,9 +59,9 @@ class OrderMapperTest {
         entity.setIdempotencyKey("IDEM-001");
         entity.setBuyerName("張三");
         entity.setBuyerEmail("zhang@example.com");
-        entity.setProductId("PROD-001");
-        entity.setProductName("iPhone 17");
-        entity.setQuantity(1);
+        entity.setItemCount(1);
+        entity.setTotalQuantity(1);
+        entity.setItems(List.of(new OrderItemEmbeddable("PROD-001", "iPhone 17", 1)));
         entity.setAmount(new BigDecimal("35900"));
         entity.setCurrency("TWD");
         entity.setPaymentMethod("CREDIT_CARD");
@@ -66,6 +69,7 @@ class OrderMapperTest {
         entity.setStatus("CREATED");
         entity.setCreatedAt(LocalDateTime.now());
         entity.setUpdatedAt(LocalDateTime.now());
+        entity.setVersion(3L);
 
         Order order = mapper.toDomain(entity);
 
@@ -73,44 +77,64 @@ class OrderMapperTest {
         assertEquals("IDEM-001", order.getIdempotencyKey());
         assertEquals("張三", order.getBuyer().name());
         assertEquals("zhang@example.com", order.getBuyer().email());
-        assertEquals("PROD-001", order.getOrderItem().productId());
-        assertEquals(1, order.getOrderItem().quantity());
+        assertEquals(1, order.getOrderItems().size());
+        assertEquals("PROD-001", order.getOrderItems().get(0).productId());
+        assertEquals(1, order.getOrderItems().get(0).quantity());
         assertEquals(OrderStatus.CREATED, order.getStatus());
+        assertEquals(3L, order.getVersion());
     }
 
     @Test
-    @DisplayName("updateEntity 應正確更新 Entity")
-    void updateEntity_shouldUpdateEntityFromOrder() {
+    @DisplayName("toStatusEvent 應記錄訂單狀態與指定版本")
+    void toStatusEvent_shouldRecordStatusAndVersion() {
+        Order order = Order.create(
+                "IDEM-001",
+                Buyer.of("張三", "zhang@example.com"),
+                List.of(OrderItem.of("PROD-001", "iPhone 17", 1)),
+                Money.of(new BigDecimal("35900"), "TWD"),
+                PaymentInfo.of("CREDIT_CARD", "4111111111111111", "12/26", "123")
+        );
+        order.markPaymentAuthorized("PAY-001");
+
+        OrderStatusEventJpaEntity event = mapper.toStatusEvent(order, 2);
+
+        assertEquals(order.getOrderId().value(), event.getOrderId());
+        assertEquals(2L, event.getVersion());
+        assertEquals("PAYMENT_AUTHORIZED", event.getStatus());
+        assertEquals("PAY-001", event.getPaymentId());
+        assertEquals(order.getUpdatedAt(), event.getOccurredAt());
+    }
+
+    @Test
+    @DisplayName("toDomain 帶入最新狀態日誌時應以日誌覆蓋狀態與版本")
+    void toDomain_withLatestStatus_shouldOverlayStatusAndVersion() {
         OrderJpaEntity entity = new OrderJpaEntity();
         entity.setOrderId("ORD-12345678");
         entity.setIdempotencyKey("IDEM-001");
         entity.setBuyerName("張三");
         entity.setBuyerEmail("zhang@example.com");
-        entity.setProductId("PROD-001");
-        entity.setProductName("iPhone 17");
-        entity.setQuantity(1);
+        entity.setItemCount(1);
+        entity.setTotalQuantity(1);
+        entity.setItems(List.of(new OrderItemEmbeddable("PROD-001", "iPhone 17", 1)));
         entity.setAmount(new BigDecimal("35900"));
         entity.setCurrency("TWD");
+        entity.setPaymentMethod("CREDIT_CARD");
+        entity.setCardLastFour("1111");
         entity.setStatus("CREATED");
         entity.setCreatedAt(LocalDateTime.now());
         entity.setUpdatedAt(LocalDateTime.now());
-
-        Order order = Order.reconstitute(
-                OrderId.of("ORD-12345678"),
-                "IDEM-001",
-                Buyer.of("張三", "zhang@example.com"),
-                OrderItem.of("PROD-001", "iPhone 17", 1),
-                Money.of(new BigDecimal("35900"), "TWD"),
-                PaymentInfo.of("CREDIT_CARD", "************1111", "12/99", "000"),
-                OrderStatus.PAYMENT_AUTHORIZED,
-                "PAY-001",
-                LocalDateTime.now(),
-                LocalDateTime.now()
-        );
-
-        mapper.updateEntity(entity, order);
-
-        assertEquals("PAYMENT_AUTHORIZED", entity.getStatus());
-        assertEquals("PAY-001", entity.getPaymentId());
+        entity.setVersion(1L);
+        OrderStatusEventJpaEntity latest = new OrderStatusEventJpaEntity();
+        latest.setVersion(3L);
+        latest.setStatus("INVENTORY_DEDUCTED");
+        latest.setPaymentId("PAY-001");
+        latest.setOccurredAt(LocalDateTime.now());
+
+        Order order = mapper.toDomain(entity, latest);
+
+        assertEquals(OrderStatus.INVENTORY_DEDUCTED, order.getStatus());
+        assertEquals("PAY-001", order.getPaymentId());
+        assertEquals(latest.getOccurredAt(), order.getUpdatedAt());
+        assertEquals(3L, order.getVersion());
     }
 }
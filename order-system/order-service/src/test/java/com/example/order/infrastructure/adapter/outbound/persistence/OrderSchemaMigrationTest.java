@@ -0,0 +1,92 @@
+package com.example.order.infrastructure.adapter.outbound.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs schema.sql over the orders table as it was before line items. DDL commits, so the test runs
+ * outside the test transaction and removes its row afterwards.
+ */
+@JdbcTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("訂單 schema 遷移測試")
+class OrderSchemaMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM order_items WHERE order_id = 'ORD-LEGACY01'");
+        jdbcTemplate.update("DELETE FROM orders WHERE order_id = 'ORD-LEGACY01'");
+    }
+
+    @Test
+    @DisplayName("舊版單一商品訂單應搬移為第一筆明細並移除舊欄位")
+    void schema_shouldBackfillLegacySingleItemOrders() {
+        // Arrange: the orders table as it was before line items
+        jdbcTemplate.execute("DROP TABLE order_items");
+        jdbcTemplate.execute("DROP TABLE orders");
+        jdbcTemplate.execute("""
+                CREATE TABLE orders (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    order_id VARCHAR(50) UNIQUE NOT NULL,
+                    idempotency_key VARCHAR(100) UNIQUE NOT NULL,
+                    buyer_name VARCHAR(100) NOT NULL,
+                    buyer_email VARCHAR(255) NOT NULL,
+                    product_id VARCHAR(50) NOT NULL,
+                    product_name VARCHAR(200) NOT NULL,
+                    quantity INT NOT NULL,
+                    amount DECIMAL(12,2) NOT NULL,
+                    currency VARCHAR(3) NOT NULL,
+                    payment_method VARCHAR(20),
+                    card_last_four VARCHAR(4),
+                    status VARCHAR(30) NOT NULL,
+                    payment_id VARCHAR(50),
+                    created_at TIMESTAMP NOT NULL,
+                    updated_at TIMESTAMP NOT NULL,
+                    version BIGINT NOT NULL DEFAULT 1
+                )""");
+        jdbcTemplate.update("""
+                INSERT INTO orders (order_id, idempotency_key, buyer_name, buyer_email, product_id, product_name,
+                                    quantity, amount, currency, status, created_at, updated_at)
+                VALUES ('ORD-LEGACY01', 'legacy-key', '王小明', 'ming@example.com', 'IPHONE-17', 'iPhone 17 Pro Max',
+                        2, 71800, 'TWD', 'COMPLETED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)""");
+
+        // Act: run the schema twice, as two restarts would
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("schema.sql"));
+        populator.execute(dataSource);
+        populator.execute(dataSource);
+
+        // Assert
+        List<Map<String, Object>> lines = jdbcTemplate.queryForList(
+                "SELECT line_no, product_id, product_name, quantity FROM order_items WHERE order_id = 'ORD-LEGACY01'");
+        assertEquals(1, lines.size());
+        assertEquals(1, ((Number) lines.get(0).get("LINE_NO")).intValue());
+        assertEquals("IPHONE-17", lines.get(0).get("PRODUCT_ID"));
+        assertEquals("iPhone 17 Pro Max", lines.get(0).get("PRODUCT_NAME"));
+        assertEquals(2, ((Number) lines.get(0).get("QUANTITY")).intValue());
+        assertEquals(Map.of("ITEM_COUNT", 1, "TOTAL_QUANTITY", 2), jdbcTemplate.queryForMap(
+                "SELECT item_count, total_quantity FROM orders WHERE order_id = 'ORD-LEGACY01'"));
+        assertEquals(0, jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_name = 'ORDERS' AND column_name IN ('PRODUCT_ID', 'PRODUCT_NAME', 'QUANTITY')""",
+                Integer.class));
+    }
+}
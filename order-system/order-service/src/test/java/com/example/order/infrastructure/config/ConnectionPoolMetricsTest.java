@@ -0,0 +1,77 @@
+package com.example.order.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConnectionPoolMetrics 測試")
+class ConnectionPoolMetricsTest {
+
+    @Mock
+    private HikariDataSource hikariDataSource;
+    @Mock
+    private HikariPoolMXBean poolMXBean;
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("應發布連線池使用率 = active / maximum")
+    void bindTo_shouldPublishUtilization() {
+        // Arrange
+        when(hikariDataSource.getPoolName()).thenReturn("HikariPool-1");
+        when(hikariDataSource.getHikariPoolMXBean()).thenReturn(poolMXBean);
+        when(hikariDataSource.getMaximumPoolSize()).thenReturn(10);
+        when(poolMXBean.getActiveConnections()).thenReturn(4);
+
+        // Act
+        new ConnectionPoolMetrics(hikariDataSource).bindTo(registry);
+
+        // Assert
+        Gauge gauge = registry.get(ConnectionPoolMetrics.UTILIZATION_METRIC)
+                .tag("pool", "HikariPool-1").gauge();
+        assertEquals(0.4, gauge.value(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("連線池尚未啟動時使用率應為 0")
+    void utilization_poolNotStarted_shouldBeZero() {
+        // Arrange
+        when(hikariDataSource.getHikariPoolMXBean()).thenReturn(null);
+        when(hikariDataSource.getMaximumPoolSize()).thenReturn(10);
+
+        // Act & Assert
+        assertEquals(0.0, ConnectionPoolMetrics.utilization(hikariDataSource));
+    }
+
+    @Test
+    @DisplayName("非 Hikari 資料來源不應註冊指標")
+    void bindTo_nonHikariDataSource_shouldSkip() throws Exception {
+        // Arrange
+        DataSource other = mock(DataSource.class);
+        when(other.isWrapperFor(HikariDataSource.class)).thenReturn(false);
+
+        // Act
+        new ConnectionPoolMetrics(other).bindTo(registry);
+
+        // Assert
+        assertNull(registry.find(ConnectionPoolMetrics.UTILIZATION_METRIC).gauge());
+    }
+}
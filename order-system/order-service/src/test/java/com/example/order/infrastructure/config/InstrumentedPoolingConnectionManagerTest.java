@@ -0,0 +1,76 @@
+package com.example.order.infrastructure.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InstrumentedPoolingConnectionManager 測試")
+class InstrumentedPoolingConnectionManagerTest {
+
+    private static final HttpRoute ROUTE = new HttpRoute(new HttpHost("http", "payment-service", 8082));
+
+    private SimpleMeterRegistry registry;
+    private InstrumentedPoolingConnectionManager connectionManager;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        connectionManager = new InstrumentedPoolingConnectionManager(registry);
+        connectionManager.setMaxTotal(1);
+        connectionManager.setDefaultMaxPerRoute(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionManager.close();
+    }
+
+    @Test
+    @DisplayName("成功取得連線應記錄 acquired 的等待時間")
+    void lease_acquired_shouldRecordTimer() throws Exception {
+        // Act
+        ConnectionEndpoint endpoint = connectionManager.lease("1", ROUTE, Timeout.ofSeconds(1), null)
+                .get(Timeout.ofSeconds(1));
+
+        // Assert
+        Timer timer = registry.get(InstrumentedPoolingConnectionManager.LEASE_METRIC)
+                .tag("target", "payment-service:8082")
+                .tag("outcome", "acquired")
+                .timer();
+        assertEquals(1, timer.count());
+        connectionManager.release(endpoint, null, TimeValue.ZERO_MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("連線池耗盡時應記錄 timeout 並拋出 TimeoutException")
+    void lease_poolExhausted_shouldRecordTimeout() throws Exception {
+        // Arrange
+        ConnectionEndpoint first = connectionManager.lease("1", ROUTE, Timeout.ofSeconds(1), null)
+                .get(Timeout.ofSeconds(1));
+
+        // Act & Assert
+        assertThrows(TimeoutException.class, () ->
+                connectionManager.lease("2", ROUTE, Timeout.ofMilliseconds(50), null)
+                        .get(Timeout.ofMilliseconds(50)));
+
+        Timer timer = registry.get(InstrumentedPoolingConnectionManager.LEASE_METRIC)
+                .tag("outcome", "timeout")
+                .timer();
+        assertEquals(1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 40);
+        connectionManager.release(first, null, TimeValue.ZERO_MILLISECONDS);
+    }
+}
@@ -1,35 +1,93 @@
 package com.example.payment.application.command;
 
+import com.example.payment.application.exception.AuthorizationInProgressException;
+import com.example.payment.application.exception.AuthorizationMismatchException;
 import com.example.payment.application.port.inbound.AuthorizePaymentUseCase;
 import com.example.payment.application.port.outbound.AcquirerPort;
 import com.example.payment.application.port.outbound.PaymentRepository;
+import com.example.payment.application.port.outbound.PriorAuthorizationCache;
+import com.example.payment.application.port.outbound.PriorAuthorizationCache.PriorAuthorization;
 import com.example.payment.domain.model.aggregate.Payment;
+import com.example.payment.domain.model.valueobject.CardInfo;
 import com.example.payment.domain.model.valueobject.Money;
+import com.example.payment.domain.model.valueobject.PaymentStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Command handler for payment authorization.
+ *
+ * The PENDING payment is saved before the acquirer is called and the outcome is saved after it, each
+ * in its own short transaction, so no connection is held during the acquirer call. A payment left
+ * PENDING by a crash is resolved by {@link PaymentRecoveryHandler}.
+ *
+ * Authorization is idempotent per order: if the order already has a payment, its outcome is returned
+ * without calling the acquirer, provided the retry asks for the same amount and card; otherwise it
+ * fails with {@link AuthorizationMismatchException}. Attempts for the same order in this instance
+ * share one future, so a retry arriving while the first attempt is still with the acquirer waits up
+ * to {@code payment.idempotency.in-flight-wait} for it. A retry that finds a PENDING payment with no
+ * attempt in this instance, or that runs out of time, fails with {@link AuthorizationInProgressException}.
  */
 @Service
-@Transactional
 public class AuthorizePaymentCommandHandler implements AuthorizePaymentUseCase {
 
     private final PaymentRepository paymentRepository;
     private final AcquirerPort acquirerPort;
+    private final PriorAuthorizationCache priorAuthorizationCache;
+    private final Duration inFlightWait;
+    private final ConcurrentMap<String, CompletableFuture<PriorAuthorization>> inFlight = new ConcurrentHashMap<>();
 
     public AuthorizePaymentCommandHandler(
             PaymentRepository paymentRepository,
-            AcquirerPort acquirerPort
+            AcquirerPort acquirerPort,
+            PriorAuthorizationCache priorAuthorizationCache,
+            @Value("${payment.idempotency.in-flight-wait:5s}") Duration inFlightWait
     ) {
         this.paymentRepository = paymentRepository;
         this.acquirerPort = acquirerPort;
+        this.priorAuthorizationCache = priorAuthorizationCache;
+        this.inFlightWait = inFlightWait;
     }
 
     @Override
     public AuthorizeResult execute(AuthorizePaymentCommand command) {
-        // Create payment aggregate
         Money money = Money.of(command.amount(), command.currency());
+        CardInfo cardInfo = CardInfo.fromCardNumber(command.cardNumber(), command.expiryDate());
+
+        Optional<PriorAuthorization> prior = priorAuthorizationCache.find(command.orderId(), this::findPrior);
+        if (prior.isPresent()) {
+            return replay(command.orderId(), prior.get(), money, cardInfo);
+        }
+
+        CompletableFuture<PriorAuthorization> attempt = new CompletableFuture<>();
+        CompletableFuture<PriorAuthorization> running = inFlight.putIfAbsent(command.orderId(), attempt);
+        if (running != null) {
+            return replay(command.orderId(), await(command.orderId(), running), money, cardInfo);
+        }
+        try {
+            PriorAuthorization outcome = authorize(command, money, attempt);
+            attempt.complete(outcome);
+            return replay(command.orderId(), outcome, money, cardInfo);
+        } catch (RuntimeException e) {
+            attempt.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(command.orderId(), attempt);
+        }
+    }
+
+    private PriorAuthorization authorize(AuthorizePaymentCommand command, Money money,
+                                         CompletableFuture<PriorAuthorization> attempt) {
         Payment payment = Payment.create(
                 command.orderId(),
                 money,
@@ -37,8 +95,17 @@ public class AuthorizePaymentCommandHandler implements AuthorizePaymentUseCase {
                 command.expiryDate()
         );
 
+        // Record the intent first; an attempt for the same order on another instance fails here, before the acquirer is called
+        try {
+            paymentRepository.save(payment);
+        } catch (DataIntegrityViolationException e) {
+            inFlight.remove(command.orderId(), attempt);
+            return findPrior(command.orderId()).orElseThrow(() -> e);
+        }
+
         // Call acquirer for authorization
         AcquirerPort.AuthorizationResponse response = acquirerPort.authorize(
+                payment.getPaymentId().value(),
                 command.amount(),
                 command.currency(),
                 command.cardNumber(),
@@ -46,10 +113,11 @@ public class AuthorizePaymentCommandHandler implements AuthorizePaymentUseCase {
                 command.cvv()
         );
 
+        AuthorizeResult result;
         if (response.approved()) {
             payment.authorize(response.authorizationCode());
             paymentRepository.save(payment);
-            return new AuthorizeResult(
+            result = new AuthorizeResult(
                     payment.getPaymentId().value(),
                     true,
                     "Payment authorized"
@@ -57,11 +125,67 @@ public class AuthorizePaymentCommandHandler implements AuthorizePaymentUseCase {
         } else {
             payment.failAuthorization(response.declineReason());
             paymentRepository.save(payment);
-            return new AuthorizeResult(
+            result = new AuthorizeResult(
                     payment.getPaymentId().value(),
                     false,
                     response.declineReason()
             );
         }
+        PriorAuthorization outcome = new PriorAuthorization(result, payment.getMoney(), payment.getCardInfo());
+        priorAuthorizationCache.remember(command.orderId(), outcome);
+        return outcome;
+    }
+
+    /**
+     * Outcome of the order's existing payment; while it is still PENDING, the outcome of the attempt
+     * running in this instance.
+     */
+    private Optional<PriorAuthorization> findPrior(String orderId) {
+        Optional<Payment> existing = paymentRepository.findByOrderId(orderId);
+        if (existing.isEmpty()) {
+            return Optional.empty();
+        }
+        if (existing.get().getStatus() != PaymentStatus.PENDING) {
+            return Optional.of(toPrior(existing.get()));
+        }
+        CompletableFuture<PriorAuthorization> running = inFlight.get(orderId);
+        if (running != null) {
+            return Optional.of(await(orderId, running));
+        }
+        // The attempt may have finished between the read and the lookup
+        Payment payment = paymentRepository.findByOrderId(orderId).orElseThrow();
+        if (payment.getStatus() == PaymentStatus.PENDING) {
+            throw new AuthorizationInProgressException(orderId);
+        }
+        return Optional.of(toPrior(payment));
+    }
+
+    private PriorAuthorization await(String orderId, CompletableFuture<PriorAuthorization> running) {
+        try {
+            return running.get(inFlightWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AuthorizationInProgressException(orderId);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new AuthorizationInProgressException(orderId);
+        }
+    }
+
+    private static AuthorizeResult replay(String orderId, PriorAuthorization prior, Money money, CardInfo cardInfo) {
+        if (!prior.matches(money, cardInfo)) {
+            throw new AuthorizationMismatchException(orderId);
+        }
+        return prior.result();
+    }
+
+    private static PriorAuthorization toPrior(Payment payment) {
+        String paymentId = payment.getPaymentId().value();
+        AuthorizeResult result = switch (payment.getStatus()) {
+            case AUTHORIZED, CAPTURING, CAPTURED, SETTLEMENT_FAILED, MANUAL_REVIEW ->
+                    new AuthorizeResult(paymentId, true, "Payment authorized");
+            case VOIDING, VOIDED -> new AuthorizeResult(paymentId, false, "Payment voided");
+            default -> new AuthorizeResult(paymentId, false, "Payment declined");
+        };
+        return new PriorAuthorization(result, payment.getMoney(), payment.getCardInfo());
     }
 }
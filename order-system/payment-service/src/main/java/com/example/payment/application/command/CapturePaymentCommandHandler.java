@@ -2,28 +2,48 @@ package com.example.payment.application.command;
 
 import com.example.payment.application.port.inbound.CapturePaymentUseCase;
 import com.example.payment.application.port.outbound.AcquirerPort;
+import com.example.payment.application.port.outbound.CaptureSettlementPort;
 import com.example.payment.application.port.outbound.PaymentRepository;
 import com.example.payment.domain.model.aggregate.Payment;
 import com.example.payment.domain.model.valueobject.PaymentId;
+import com.example.payment.domain.model.valueobject.PaymentStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 /**
  * Command handler for payment capture.
+ *
+ * The payment is moved to CAPTURING before the acquirer is called and to CAPTURED (or back to
+ * AUTHORIZED) after it, each in its own short transaction. The versioned CAPTURING write also stops a
+ * concurrent capture of the same payment before it reaches the acquirer. If the acquirer call fails
+ * the capture's outcome is unknown: the payment stays CAPTURING and the capture is reported as not
+ * done, so the order compensates with a void, which {@link PaymentRecoveryHandler} then completes
+ * instead of re-sending the capture. A payment left CAPTURING by a crash is also resolved there.
+ *
+ * With deferred capture (payment.capture.mode=deferred) the handler stops after the CAPTURING write,
+ * hands the payment to the {@link CaptureSettlementPort} and reports the capture as accepted; the
+ * acquirer is called later by {@link CaptureSettlementHandler}.
  */
 @Service
-@Transactional
 public class CapturePaymentCommandHandler implements CapturePaymentUseCase {
 
+    private static final Logger log = LoggerFactory.getLogger(CapturePaymentCommandHandler.class);
+
     private final PaymentRepository paymentRepository;
     private final AcquirerPort acquirerPort;
+    private final Optional<CaptureSettlementPort> settlementPort;
 
     public CapturePaymentCommandHandler(
             PaymentRepository paymentRepository,
-            AcquirerPort acquirerPort
+            AcquirerPort acquirerPort,
+            Optional<CaptureSettlementPort> settlementPort
     ) {
         this.paymentRepository = paymentRepository;
         this.acquirerPort = acquirerPort;
+        this.settlementPort = settlementPort;
     }
 
     @Override
@@ -34,11 +54,45 @@ public class CapturePaymentCommandHandler implements CapturePaymentUseCase {
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Payment not found: " + command.paymentId()));
 
+        // A capture re-sent for a payment that was already captured (e.g. by a resumed order) succeeds
+        if (payment.getStatus() == PaymentStatus.CAPTURED) {
+            return new CaptureResult(
+                    payment.getPaymentId().value(),
+                    true,
+                    "Payment already captured"
+            );
+        }
+
+        // Record the intent first
+        payment.beginCapture();
+        paymentRepository.save(payment);
+
+        if (settlementPort.isPresent()) {
+            settlementPort.get().submit(paymentId);
+            return new CaptureResult(
+                    payment.getPaymentId().value(),
+                    true,
+                    "Capture accepted"
+            );
+        }
+
         // Call acquirer for capture
-        AcquirerPort.CaptureResponse response = acquirerPort.capture(
-                payment.getAuthorizationCode(),
-                payment.getMoney().amount()
-        );
+        AcquirerPort.CaptureResponse response;
+        try {
+            response = acquirerPort.capture(
+                    payment.getPaymentId().value(),
+                    payment.getAuthorizationCode(),
+                    payment.getMoney().amount()
+            );
+        } catch (RuntimeException e) {
+            log.warn("Capture outcome unknown for payment {}, left CAPTURING: {}",
+                    payment.getPaymentId().value(), e.getMessage());
+            return new CaptureResult(
+                    payment.getPaymentId().value(),
+                    false,
+                    "Capture outcome unknown: " + e.getMessage()
+            );
+        }
 
         if (response.succeeded()) {
             payment.capture();
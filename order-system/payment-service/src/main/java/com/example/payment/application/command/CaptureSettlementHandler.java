@@ -0,0 +1,90 @@
+package com.example.payment.application.command;
+
+import com.example.payment.application.port.outbound.AcquirerPort;
+import com.example.payment.application.port.outbound.PaymentRepository;
+import com.example.payment.domain.model.aggregate.Payment;
+import com.example.payment.domain.model.valueobject.PaymentId;
+import com.example.payment.domain.model.valueobject.PaymentStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Captures a batch of deferred payments with a single acquirer settlement call.
+ *
+ * Payments no longer CAPTURING (e.g. already settled by recovery) are skipped. Each outcome is saved
+ * in its own versioned transaction; if the settlement call or a save fails, the payment stays
+ * CAPTURING and is re-captured by {@link PaymentRecoveryHandler}. A capture the acquirer rejects
+ * moves the payment to SETTLEMENT_FAILED, and recovery retries it on the {@link SettlementRetryPolicy}
+ * schedule. The order service does not consume the PaymentSettlementFailed event; the order stays
+ * COMPLETED.
+ */
+@Service
+public class CaptureSettlementHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(CaptureSettlementHandler.class);
+
+    /**
+     * Outcome of one settlement batch.
+     */
+    public record SettlementResult(int captured, int failed) {
+    }
+
+    private final PaymentRepository paymentRepository;
+    private final AcquirerPort acquirerPort;
+    private final SettlementRetryPolicy retryPolicy;
+
+    public CaptureSettlementHandler(
+            PaymentRepository paymentRepository,
+            AcquirerPort acquirerPort,
+            SettlementRetryPolicy retryPolicy
+    ) {
+        this.paymentRepository = paymentRepository;
+        this.acquirerPort = acquirerPort;
+        this.retryPolicy = retryPolicy;
+    }
+
+    public SettlementResult settle(List<PaymentId> paymentIds) {
+        List<Payment> payments = paymentRepository.findAllById(paymentIds).stream()
+                .filter(payment -> payment.getStatus() == PaymentStatus.CAPTURING)
+                .toList();
+        if (payments.isEmpty()) {
+            return new SettlementResult(0, 0);
+        }
+
+        AcquirerPort.SettlementResponse settlement = acquirerPort.captureBatch(payments.stream()
+                .map(payment -> new AcquirerPort.CaptureRequest(
+                        payment.getPaymentId().value(),
+                        payment.getAuthorizationCode(),
+                        payment.getMoney().amount()))
+                .toList());
+        Map<String, AcquirerPort.CaptureResponse> results = settlement.results();
+
+        int captured = 0;
+        int failed = 0;
+        for (Payment payment : payments) {
+            AcquirerPort.CaptureResponse response = results.getOrDefault(payment.getPaymentId().value(),
+                    AcquirerPort.CaptureResponse.failure("Missing from settlement batch " + settlement.batchId()));
+            if (response.succeeded()) {
+                payment.capture();
+                captured++;
+            } else {
+                retryPolicy.recordFailure(payment, response.failureReason());
+                failed++;
+                log.error("Deferred capture of payment {} failed in batch {}: {}",
+                        payment.getPaymentId().value(), settlement.batchId(), response.failureReason());
+            }
+            try {
+                paymentRepository.save(payment);
+            } catch (RuntimeException e) {
+                log.warn("Could not record settlement of payment {}, left for recovery: {}",
+                        payment.getPaymentId().value(), e.getMessage());
+            }
+        }
+        log.info("Settled batch {}: {} captured, {} failed", settlement.batchId(), captured, failed);
+        return new SettlementResult(captured, failed);
+    }
+}
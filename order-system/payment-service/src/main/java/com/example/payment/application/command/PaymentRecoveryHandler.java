@@ -0,0 +1,143 @@
+package com.example.payment.application.command;
+
+import com.example.payment.application.port.outbound.AcquirerPort;
+import com.example.payment.application.port.outbound.CaptureSettlementPort;
+import com.example.payment.application.port.outbound.PaymentRepository;
+import com.example.payment.domain.model.aggregate.Payment;
+import com.example.payment.domain.model.valueobject.PaymentStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Resolves payments left in an intermediate state by a crash between the acquirer call and the
+ * outcome write.
+ *
+ * A PENDING payment was never reported authorized to its order (the reply is only sent after the
+ * AUTHORIZED write), so its order has already failed and will never capture it: an authorization
+ * the acquirer recorded for its reference is voided, otherwise the payment fails. A VOIDING payment
+ * has its void re-sent. A CAPTURING payment has its capture re-sent, which the acquirer treats as
+ * idempotent; a payment the order gave up on is VOIDING, never CAPTURING, so it is never captured
+ * here. With deferred capture the order is already completed, so a rejected capture goes to
+ * SETTLEMENT_FAILED instead of back to AUTHORIZED; SETTLEMENT_FAILED payments are picked up when their
+ * {@link SettlementRetryPolicy} backoff is due, not by age, and end in MANUAL_REVIEW once it gives up.
+ * Each payment is saved in its own transaction, guarded by its version, so a handler finishing late
+ * wins or loses cleanly.
+ */
+@Service
+public class PaymentRecoveryHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentRecoveryHandler.class);
+
+    static final List<PaymentStatus> INTERMEDIATE_STATES =
+            List.of(PaymentStatus.PENDING, PaymentStatus.CAPTURING, PaymentStatus.VOIDING);
+
+    /**
+     * Outcome of one recovery pass.
+     */
+    public record RecoveryResult(int resolved, int failed) {
+    }
+
+    private final PaymentRepository paymentRepository;
+    private final AcquirerPort acquirerPort;
+    private final SettlementRetryPolicy retryPolicy;
+    private final boolean deferredCapture;
+
+    public PaymentRecoveryHandler(
+            PaymentRepository paymentRepository,
+            AcquirerPort acquirerPort,
+            SettlementRetryPolicy retryPolicy,
+            Optional<CaptureSettlementPort> settlementPort
+    ) {
+        this.paymentRepository = paymentRepository;
+        this.acquirerPort = acquirerPort;
+        this.retryPolicy = retryPolicy;
+        this.deferredCapture = settlementPort.isPresent();
+    }
+
+    /**
+     * Resolve up to {@code limit} payments that have been in an intermediate state since before the
+     * cutoff, and up to {@code limit} settlement retries that are due.
+     */
+    public RecoveryResult recover(LocalDateTime cutoff, int limit) {
+        List<Payment> stuck = new ArrayList<>(
+                paymentRepository.findByStatusUpdatedBefore(INTERMEDIATE_STATES, cutoff, limit));
+        stuck.addAll(paymentRepository.findSettlementRetriesDue(LocalDateTime.now(), limit));
+        int resolved = 0;
+        int failed = 0;
+        for (Payment payment : stuck) {
+            try {
+                resolve(payment);
+                resolved++;
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("Could not recover payment {} in state {}, will retry: {}",
+                        payment.getPaymentId().value(), payment.getStatus(), e.getMessage());
+            }
+        }
+        return new RecoveryResult(resolved, failed);
+    }
+
+    private void resolve(Payment payment) {
+        PaymentStatus from = payment.getStatus();
+        switch (from) {
+            case PENDING -> {
+                AcquirerPort.AuthorizationResponse response =
+                        acquirerPort.findAuthorization(payment.getPaymentId().value());
+                if (!response.approved()) {
+                    payment.failAuthorization(response.declineReason());
+                    break;
+                }
+                // Release the hold: the order never learned of this authorization
+                payment.authorize(response.authorizationCode());
+                payment.requestVoid();
+                paymentRepository.save(payment);
+                voidAtAcquirer(payment);
+            }
+            case VOIDING -> voidAtAcquirer(payment);
+            default -> {
+                AcquirerPort.CaptureResponse response = acquirerPort.capture(
+                        payment.getPaymentId().value(),
+                        payment.getAuthorizationCode(),
+                        payment.getMoney().amount()
+                );
+                if (response.succeeded()) {
+                    payment.capture();
+                } else if (deferredCapture || from == PaymentStatus.SETTLEMENT_FAILED) {
+                    retryPolicy.recordFailure(payment, response.failureReason());
+                } else {
+                    payment.failCapture(response.failureReason());
+                }
+            }
+        }
+        paymentRepository.save(payment);
+        log.info("Recovered payment {}: {} -> {}", payment.getPaymentId().value(), from, payment.getStatus());
+    }
+
+    private void voidAtAcquirer(Payment payment) {
+        String authorizationCode = payment.getAuthorizationCode();
+        if (authorizationCode == null) {
+            // Void requested while authorizing: only an authorization the acquirer recorded needs voiding
+            AcquirerPort.AuthorizationResponse authorization =
+                    acquirerPort.findAuthorization(payment.getPaymentId().value());
+            if (!authorization.approved()) {
+                payment.voidPayment();
+                return;
+            }
+            authorizationCode = authorization.authorizationCode();
+        }
+        AcquirerPort.VoidResponse response = acquirerPort.voidAuthorization(
+                payment.getPaymentId().value(),
+                authorizationCode
+        );
+        if (!response.succeeded()) {
+            throw new IllegalStateException("Void rejected: " + response.failureReason());
+        }
+        payment.voidPayment();
+    }
+}
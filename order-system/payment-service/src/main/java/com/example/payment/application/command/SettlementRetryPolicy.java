@@ -0,0 +1,53 @@
+package com.example.payment.application.command;
+
+import com.example.payment.domain.model.aggregate.Payment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Retry schedule for deferred captures the acquirer rejected.
+ *
+ * The n-th failure schedules the next attempt after {@code initial-backoff * 2^(n-1)}, capped at
+ * {@code max-backoff}; the {@code max-attempts}-th failure moves the payment to MANUAL_REVIEW, which
+ * is never retried.
+ */
+@Component
+public class SettlementRetryPolicy {
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public SettlementRetryPolicy(
+            @Value("${payment.recovery.settlement.max-attempts:8}") int maxAttempts,
+            @Value("${payment.recovery.settlement.initial-backoff:2m}") Duration initialBackoff,
+            @Value("${payment.recovery.settlement.max-backoff:1h}") Duration maxBackoff
+    ) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("max-attempts must be at least 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Record a rejected capture: schedule the next retry, or hand the payment to an operator.
+     */
+    public void recordFailure(Payment payment, String reason) {
+        int attempts = payment.getSettlementAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            payment.requireManualReview(reason);
+        } else {
+            payment.failSettlement(reason, LocalDateTime.now().plus(backoff(attempts)));
+        }
+    }
+
+    Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
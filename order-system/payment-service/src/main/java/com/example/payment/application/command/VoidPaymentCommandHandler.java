@@ -5,16 +5,25 @@ import com.example.payment.application.port.outbound.AcquirerPort;
 import com.example.payment.application.port.outbound.PaymentRepository;
 import com.example.payment.domain.model.aggregate.Payment;
 import com.example.payment.domain.model.valueobject.PaymentId;
+import com.example.payment.domain.model.valueobject.PaymentStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for voiding payments.
+ *
+ * The payment's state is checked first: a voided or never-authorized payment needs nothing, a
+ * captured one can no longer be voided. Otherwise the void request is recorded as VOIDING before the
+ * acquirer is called, so a capture or authorization still in flight can no longer win and
+ * {@link PaymentRecoveryHandler} finishes the void if the acquirer call fails or the payment is still
+ * authorizing. No transaction is held during the acquirer call; the VOIDED state is saved afterwards.
  */
 @Service
-@Transactional
 public class VoidPaymentCommandHandler implements VoidPaymentUseCase {
 
+    private static final Logger log = LoggerFactory.getLogger(VoidPaymentCommandHandler.class);
+
     private final PaymentRepository paymentRepository;
     private final AcquirerPort acquirerPort;
 
@@ -34,10 +43,46 @@ public class VoidPaymentCommandHandler implements VoidPaymentUseCase {
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Payment not found: " + command.paymentId()));
 
+        switch (payment.getStatus()) {
+            case VOIDED -> {
+                return new VoidResult(payment.getPaymentId().value(), true, "Payment already voided");
+            }
+            case FAILED -> {
+                return new VoidResult(payment.getPaymentId().value(), true, "Payment not authorized, nothing to void");
+            }
+            case CAPTURED, SETTLEMENT_FAILED, MANUAL_REVIEW -> {
+                return new VoidResult(payment.getPaymentId().value(), false,
+                        "Payment already captured, cannot void");
+            }
+            default -> {
+            }
+        }
+
+        // Record the intent first
+        boolean authorizing = payment.getStatus() == PaymentStatus.PENDING;
+        payment.requestVoid();
+        paymentRepository.save(payment);
+        if (authorizing) {
+            // No authorization code yet; recovery voids whatever the acquirer recorded
+            return new VoidResult(payment.getPaymentId().value(), false, "Void requested, authorization in progress");
+        }
+
         // Call acquirer for void
-        AcquirerPort.VoidResponse response = acquirerPort.voidAuthorization(
-                payment.getAuthorizationCode()
-        );
+        AcquirerPort.VoidResponse response;
+        try {
+            response = acquirerPort.voidAuthorization(
+                    payment.getPaymentId().value(),
+                    payment.getAuthorizationCode()
+            );
+        } catch (RuntimeException e) {
+            log.warn("Void outcome unknown for payment {}, left VOIDING: {}",
+                    payment.getPaymentId().value(), e.getMessage());
+            return new VoidResult(
+                    payment.getPaymentId().value(),
+                    false,
+                    "Void outcome unknown: " + e.getMessage()
+            );
+        }
 
         if (response.succeeded()) {
             payment.voidPayment();
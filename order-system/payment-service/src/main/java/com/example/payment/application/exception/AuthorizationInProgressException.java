@@ -0,0 +1,18 @@
+package com.example.payment.application.exception;
+
+/**
+ * Exception thrown when an authorize retry finds the order's first attempt still waiting on the acquirer.
+ */
+public class AuthorizationInProgressException extends RuntimeException {
+
+    private final String orderId;
+
+    public AuthorizationInProgressException(String orderId) {
+        super("Authorization for order " + orderId + " is still in progress");
+        this.orderId = orderId;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+}
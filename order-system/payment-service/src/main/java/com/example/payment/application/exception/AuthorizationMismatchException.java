@@ -0,0 +1,19 @@
+package com.example.payment.application.exception;
+
+/**
+ * Exception thrown when an authorize retry for an order asks for a different amount or card than the
+ * order's existing payment.
+ */
+public class AuthorizationMismatchException extends RuntimeException {
+
+    private final String orderId;
+
+    public AuthorizationMismatchException(String orderId) {
+        super("Order " + orderId + " already has a payment for a different amount or card");
+        this.orderId = orderId;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+}
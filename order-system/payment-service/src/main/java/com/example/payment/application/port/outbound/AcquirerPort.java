@@ -1,6 +1,8 @@
 package com.example.payment.application.port.outbound;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Port for external payment acquirer/gateway operations.
@@ -56,10 +58,31 @@ public interface AcquirerPort {
         }
     }
 
+    /**
+     * One capture in a settlement batch.
+     */
+    record CaptureRequest(
+            String reference,
+            String authorizationCode,
+            BigDecimal amount
+    ) {
+    }
+
+    /**
+     * Result of a settlement batch: the acquirer's batch ID and the outcome of each capture by reference.
+     */
+    record SettlementResponse(
+            String batchId,
+            Map<String, CaptureResponse> results
+    ) {
+    }
+
     /**
      * Request payment authorization from acquirer.
+     * The reference identifies the request at the acquirer so its outcome can be looked up later.
      */
     AuthorizationResponse authorize(
+            String reference,
             BigDecimal amount,
             String currency,
             String cardNumber,
@@ -67,13 +90,26 @@ public interface AcquirerPort {
             String cvv
     );
 
+    /**
+     * Look up the outcome of an earlier authorization request by its reference.
+     * A request the acquirer never received is reported as declined.
+     */
+    AuthorizationResponse findAuthorization(String reference);
+
     /**
      * Request capture of authorized payment.
+     * Capturing an already captured authorization succeeds, so a capture may be retried.
+     */
+    CaptureResponse capture(String reference, String authorizationCode, BigDecimal amount);
+
+    /**
+     * Submit several captures to the acquirer in one settlement batch.
+     * Like {@link #capture}, re-submitting an already captured authorization succeeds.
      */
-    CaptureResponse capture(String authorizationCode, BigDecimal amount);
+    SettlementResponse captureBatch(List<CaptureRequest> captures);
 
     /**
      * Request void of authorized payment.
      */
-    VoidResponse voidAuthorization(String authorizationCode);
+    VoidResponse voidAuthorization(String reference, String authorizationCode);
 }
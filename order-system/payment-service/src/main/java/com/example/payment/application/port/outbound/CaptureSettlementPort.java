@@ -0,0 +1,15 @@
+package com.example.payment.application.port.outbound;
+
+import com.example.payment.domain.model.valueobject.PaymentId;
+
+/**
+ * Port for deferred capture: payments already moved to CAPTURING are handed over to be captured
+ * later in a settlement batch.
+ */
+public interface CaptureSettlementPort {
+
+    /**
+     * Schedule the payment for the next settlement batch.
+     */
+    void submit(PaymentId paymentId);
+}
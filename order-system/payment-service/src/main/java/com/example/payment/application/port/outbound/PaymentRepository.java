@@ -2,7 +2,11 @@ package com.example.payment.application.port.outbound;
 
 import com.example.payment.domain.model.aggregate.Payment;
 import com.example.payment.domain.model.valueobject.PaymentId;
+import com.example.payment.domain.model.valueobject.PaymentStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,8 +24,24 @@ public interface PaymentRepository {
      */
     Optional<Payment> findById(PaymentId paymentId);
 
+    /**
+     * Find the payments with the given IDs; unknown IDs are skipped.
+     */
+    List<Payment> findAllById(Collection<PaymentId> paymentIds);
+
     /**
      * Find a payment by order ID.
      */
     Optional<Payment> findByOrderId(String orderId);
+
+    /**
+     * Find up to {@code limit} payments in one of the given states not updated since the cutoff,
+     * oldest first.
+     */
+    List<Payment> findByStatusUpdatedBefore(Collection<PaymentStatus> statuses, LocalDateTime cutoff, int limit);
+
+    /**
+     * Find up to {@code limit} SETTLEMENT_FAILED payments whose next settlement retry is due, earliest first.
+     */
+    List<Payment> findSettlementRetriesDue(LocalDateTime now, int limit);
 }
@@ -0,0 +1,39 @@
+package com.example.payment.application.port.outbound;
+
+import com.example.payment.application.port.inbound.AuthorizePaymentUseCase.AuthorizeResult;
+import com.example.payment.domain.model.valueobject.CardInfo;
+import com.example.payment.domain.model.valueobject.Money;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Port for recent authorize outcomes by order ID, so retried authorizations skip the database.
+ */
+public interface PriorAuthorizationCache {
+
+    /**
+     * Outcome of an earlier authorization together with the amount and card it was made for.
+     */
+    record PriorAuthorization(AuthorizeResult result, Money money, CardInfo cardInfo) {
+
+        /**
+         * Whether a retry asks for the same amount on the same card.
+         */
+        public boolean matches(Money requested, CardInfo requestedCard) {
+            return money.currency().equals(requested.currency())
+                    && money.amount().compareTo(requested.amount()) == 0
+                    && cardInfo.equals(requestedCard);
+        }
+    }
+
+    /**
+     * Find the outcome of an earlier authorization for the order, calling the loader on a cache miss.
+     */
+    Optional<PriorAuthorization> find(String orderId, Function<String, Optional<PriorAuthorization>> loader);
+
+    /**
+     * Cache the outcome of an authorization.
+     */
+    void remember(String orderId, PriorAuthorization prior);
+}
@@ -0,0 +1,22 @@
+package com.example.payment.domain.event;
+
+import com.example.payment.domain.model.valueobject.PaymentId;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event raised when a captured order's settlement is given up after its last retry.
+ */
+public record PaymentManualReviewRequired(
+        PaymentId paymentId,
+        String orderId,
+        int settlementAttempts,
+        String reason,
+        LocalDateTime occurredOn
+) implements DomainEvent {
+
+    public static PaymentManualReviewRequired of(PaymentId paymentId, String orderId, int settlementAttempts,
+                                                 String reason) {
+        return new PaymentManualReviewRequired(paymentId, orderId, settlementAttempts, reason, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.payment.domain.event;
+
+import com.example.payment.domain.model.valueobject.PaymentId;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event raised when a deferred capture is rejected after the order was completed.
+ * The order service does not consume it: the order stays COMPLETED while recovery retries the capture.
+ */
+public record PaymentSettlementFailed(
+        PaymentId paymentId,
+        String orderId,
+        String reason,
+        LocalDateTime occurredOn
+) implements DomainEvent {
+
+    public static PaymentSettlementFailed of(PaymentId paymentId, String orderId, String reason) {
+        return new PaymentSettlementFailed(paymentId, orderId, reason, LocalDateTime.now());
+    }
+}
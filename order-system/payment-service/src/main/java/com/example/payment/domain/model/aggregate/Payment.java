@@ -20,8 +20,11 @@ public class Payment {
     private CardInfo cardInfo;
     private PaymentStatus status;
     private String authorizationCode;
+    private int settlementAttempts;
+    private LocalDateTime settlementRetryAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long version;
     private final List<DomainEvent> domainEvents = new ArrayList<>();
 
     // Private constructor for factory method
@@ -58,8 +61,11 @@ public class Payment {
             CardInfo cardInfo,
             PaymentStatus status,
             String authorizationCode,
+            int settlementAttempts,
+            LocalDateTime settlementRetryAt,
             LocalDateTime createdAt,
-            LocalDateTime updatedAt
+            LocalDateTime updatedAt,
+            long version
     ) {
         Payment payment = new Payment();
         payment.paymentId = paymentId;
@@ -68,8 +74,11 @@ public class Payment {
         payment.cardInfo = cardInfo;
         payment.status = status;
         payment.authorizationCode = authorizationCode;
+        payment.settlementAttempts = settlementAttempts;
+        payment.settlementRetryAt = settlementRetryAt;
         payment.createdAt = createdAt;
         payment.updatedAt = updatedAt;
+        payment.version = version;
         return payment;
     }
 
@@ -95,35 +104,105 @@ public class Payment {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Record that capture is being requested from the acquirer.
+     * Valid transition: AUTHORIZED -> CAPTURING
+     */
+    public void beginCapture() {
+        validateStateTransition(PaymentStatus.AUTHORIZED, PaymentStatus.CAPTURING);
+        this.status = PaymentStatus.CAPTURING;
+        this.updatedAt = LocalDateTime.now();
+    }
+
     /**
      * Capture the payment.
-     * Valid transition: AUTHORIZED -> CAPTURED
+     * Valid transitions: CAPTURING -> CAPTURED, SETTLEMENT_FAILED -> CAPTURED
      */
     public void capture() {
-        validateStateTransition(PaymentStatus.AUTHORIZED, PaymentStatus.CAPTURED);
+        if (this.status != PaymentStatus.SETTLEMENT_FAILED) {
+            validateStateTransition(PaymentStatus.CAPTURING, PaymentStatus.CAPTURED);
+        }
         this.status = PaymentStatus.CAPTURED;
+        this.settlementRetryAt = null;
         this.updatedAt = LocalDateTime.now();
         this.domainEvents.add(PaymentCaptured.of(this.paymentId));
     }
 
     /**
-     * Mark capture as failed (stays in AUTHORIZED state for void).
+     * Mark capture as failed (back to AUTHORIZED so it can be voided).
+     * Valid transition: CAPTURING -> AUTHORIZED
      */
     public void failCapture(String reason) {
-        if (this.status != PaymentStatus.AUTHORIZED) {
+        if (this.status != PaymentStatus.CAPTURING) {
             throw PaymentDomainException.invalidStateTransition(
                     this.status.name(), "CAPTURE_FAILED");
         }
-        // Status remains AUTHORIZED - can be voided
+        this.status = PaymentStatus.AUTHORIZED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Mark a deferred capture as failed. The order is already completed, so the payment is kept for a
+     * settlement retry at {@code retryAt} instead of going back to AUTHORIZED; only the first failure
+     * raises an event.
+     * Valid transitions: CAPTURING -> SETTLEMENT_FAILED, SETTLEMENT_FAILED -> SETTLEMENT_FAILED
+     */
+    public void failSettlement(String reason, LocalDateTime retryAt) {
+        if (this.status == PaymentStatus.CAPTURING) {
+            this.domainEvents.add(PaymentSettlementFailed.of(this.paymentId, this.orderId, reason));
+        } else if (this.status != PaymentStatus.SETTLEMENT_FAILED) {
+            throw PaymentDomainException.invalidStateTransition(
+                    this.status.name(), PaymentStatus.SETTLEMENT_FAILED.name());
+        }
+        this.status = PaymentStatus.SETTLEMENT_FAILED;
+        this.settlementAttempts++;
+        this.settlementRetryAt = retryAt;
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Give up on settling the payment after its last failed attempt and hand it to an operator.
+     * Valid transitions: CAPTURING -> MANUAL_REVIEW, SETTLEMENT_FAILED -> MANUAL_REVIEW
+     */
+    public void requireManualReview(String reason) {
+        if (this.status != PaymentStatus.CAPTURING && this.status != PaymentStatus.SETTLEMENT_FAILED) {
+            throw PaymentDomainException.invalidStateTransition(
+                    this.status.name(), PaymentStatus.MANUAL_REVIEW.name());
+        }
+        this.status = PaymentStatus.MANUAL_REVIEW;
+        this.settlementAttempts++;
+        this.settlementRetryAt = null;
+        this.updatedAt = LocalDateTime.now();
+        this.domainEvents.add(PaymentManualReviewRequired.of(
+                this.paymentId, this.orderId, this.settlementAttempts, reason));
+    }
+
+    /**
+     * Record that the order gave up on the payment, before the acquirer is asked to void it. From then
+     * on the payment is only ever voided, whatever a capture or authorization still in flight reports.
+     * Valid transitions: PENDING / AUTHORIZED / CAPTURING -> VOIDING, VOIDING -> VOIDING
+     */
+    public void requestVoid() {
+        switch (this.status) {
+            case PENDING, AUTHORIZED, CAPTURING -> {
+                this.status = PaymentStatus.VOIDING;
+                this.updatedAt = LocalDateTime.now();
+            }
+            case VOIDING -> {
+            }
+            default -> throw PaymentDomainException.invalidStateTransition(
+                    this.status.name(), PaymentStatus.VOIDING.name());
+        }
+    }
+
     /**
      * Void the payment.
-     * Valid transition: AUTHORIZED -> VOIDED
+     * Valid transitions: AUTHORIZED -> VOIDED, VOIDING -> VOIDED
      */
     public void voidPayment() {
-        validateStateTransition(PaymentStatus.AUTHORIZED, PaymentStatus.VOIDED);
+        if (this.status != PaymentStatus.VOIDING) {
+            validateStateTransition(PaymentStatus.AUTHORIZED, PaymentStatus.VOIDED);
+        }
         this.status = PaymentStatus.VOIDED;
         this.authorizationCode = null;
         this.updatedAt = LocalDateTime.now();
@@ -161,6 +240,20 @@ public class Payment {
         return authorizationCode;
     }
 
+    /**
+     * Failed settlement attempts so far.
+     */
+    public int getSettlementAttempts() {
+        return settlementAttempts;
+    }
+
+    /**
+     * When recovery next retries a SETTLEMENT_FAILED payment; null in any other state.
+     */
+    public LocalDateTime getSettlementRetryAt() {
+        return settlementRetryAt;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -169,6 +262,20 @@ public class Payment {
         return updatedAt;
     }
 
+    /**
+     * Version of the stored row; 0 until the payment is first saved.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Record the version written by the repository.
+     */
+    public void markPersisted(long version) {
+        this.version = version;
+    }
+
     public List<DomainEvent> getDomainEvents() {
         return Collections.unmodifiableList(domainEvents);
     }
@@ -5,7 +5,7 @@ package com.example.payment.domain.model.valueobject;
  */
 public enum PaymentStatus {
     /**
-     * Initial state - payment created but not processed.
+     * Initial state - payment created, authorization outcome not yet recorded.
      */
     PENDING,
 
@@ -14,16 +14,36 @@ public enum PaymentStatus {
      */
     AUTHORIZED,
 
+    /**
+     * Capture sent to the acquirer, outcome not yet recorded.
+     */
+    CAPTURING,
+
     /**
      * Payment confirmed - funds transferred.
      */
     CAPTURED,
 
+    /**
+     * Deferred capture rejected by the acquirer after the order completed - retried by recovery with backoff.
+     */
+    SETTLEMENT_FAILED,
+
+    /**
+     * Settlement retries exhausted - left for an operator, no longer retried.
+     */
+    MANUAL_REVIEW,
+
     /**
      * Authorization failed.
      */
     FAILED,
 
+    /**
+     * Void requested by the order, outcome not yet recorded - never captured, only voided by recovery.
+     */
+    VOIDING,
+
     /**
      * Authorization cancelled/voided.
      */
@@ -0,0 +1,173 @@
+package com.example.payment.infrastructure.adapter.inbound.messaging;
+
+import com.example.common.messaging.BrokerMessage;
+import com.example.common.messaging.MessageBroker;
+import com.example.payment.application.command.AuthorizePaymentCommand;
+import com.example.payment.application.command.CapturePaymentCommand;
+import com.example.payment.application.command.VoidPaymentCommand;
+import com.example.payment.application.port.inbound.AuthorizePaymentUseCase;
+import com.example.payment.application.port.inbound.CapturePaymentUseCase;
+import com.example.payment.application.port.inbound.VoidPaymentUseCase;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Messaging entry point for SAGA payment commands (the REST controller's counterpart).
+ *
+ * Every command gets exactly one reply on the command's reply destination, carrying the command's
+ * correlation id; a command that throws is answered with a failed reply. Enabled with
+ * saga.transport=messaging, matching the order service's transport.
+ */
+@Component
+@ConditionalOnProperty(name = "saga.transport", havingValue = "messaging")
+public class PaymentCommandListener {
+
+    static final String AUTHORIZE = "AuthorizePayment";
+    static final String CAPTURE = "CapturePayment";
+    static final String VOID = "VoidPayment";
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentCommandListener.class);
+
+    private final MessageBroker messageBroker;
+    private final ObjectMapper objectMapper;
+    private final AuthorizePaymentUseCase authorizePaymentUseCase;
+    private final CapturePaymentUseCase capturePaymentUseCase;
+    private final VoidPaymentUseCase voidPaymentUseCase;
+    private final String commandDestination;
+
+    public PaymentCommandListener(
+            MessageBroker messageBroker,
+            ObjectMapper objectMapper,
+            AuthorizePaymentUseCase authorizePaymentUseCase,
+            CapturePaymentUseCase capturePaymentUseCase,
+            VoidPaymentUseCase voidPaymentUseCase,
+            @Value("${saga.messaging.command-destination:payment.commands}") String commandDestination
+    ) {
+        this.messageBroker = messageBroker;
+        this.objectMapper = objectMapper;
+        this.authorizePaymentUseCase = authorizePaymentUseCase;
+        this.capturePaymentUseCase = capturePaymentUseCase;
+        this.voidPaymentUseCase = voidPaymentUseCase;
+        this.commandDestination = commandDestination;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        messageBroker.subscribe(commandDestination, this::onCommand);
+    }
+
+    void onCommand(BrokerMessage command) {
+        log.info("Received {} command: {}", command.type(), command.correlationId());
+
+        Object reply;
+        try {
+            reply = switch (command.type()) {
+                case AUTHORIZE -> authorize(read(command, AuthorizeCommand.class));
+                case CAPTURE -> capture(read(command, PaymentRef.class));
+                case VOID -> voidPayment(read(command, PaymentRef.class));
+                default -> throw new IllegalArgumentException("Unknown command type: " + command.type());
+            };
+        } catch (RuntimeException e) {
+            log.warn("{} command failed: {}", command.type(), e.getMessage());
+            reply = failure(command, e.getMessage());
+        }
+
+        if (command.replyTo() == null) {
+            log.warn("No reply destination on {} command: {}", command.type(), command.correlationId());
+            return;
+        }
+        messageBroker.send(command.replyTo(), command.reply(command.type() + "Reply", write(reply)));
+    }
+
+    private AuthorizeReply authorize(AuthorizeCommand request) {
+        AuthorizePaymentUseCase.AuthorizeResult result = authorizePaymentUseCase.execute(new AuthorizePaymentCommand(
+                request.orderId(),
+                request.amount(),
+                request.currency(),
+                request.cardNumber(),
+                request.expiryDate(),
+                request.cvv()
+        ));
+        return new AuthorizeReply(
+                result.paymentId(),
+                result.authorized(),
+                result.authorized() ? result.paymentId() : null, // authorizationCode stored with paymentId
+                result.message()
+        );
+    }
+
+    private CaptureReply capture(PaymentRef request) {
+        CapturePaymentUseCase.CaptureResult result =
+                capturePaymentUseCase.execute(new CapturePaymentCommand(request.paymentId()));
+        return new CaptureReply(request.paymentId(), result.captured(), result.message());
+    }
+
+    private VoidReply voidPayment(PaymentRef request) {
+        VoidPaymentUseCase.VoidResult result =
+                voidPaymentUseCase.execute(new VoidPaymentCommand(request.paymentId()));
+        return new VoidReply(request.paymentId(), result.voided(), result.message());
+    }
+
+    private Object failure(BrokerMessage command, String message) {
+        return switch (command.type()) {
+            case CAPTURE -> new CaptureReply(null, false, message);
+            case VOID -> new VoidReply(null, false, message);
+            default -> new AuthorizeReply(null, false, null, message);
+        };
+    }
+
+    private <T> T read(BrokerMessage message, Class<T> type) {
+        try {
+            return objectMapper.readValue(message.payload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed " + message.type() + " payload", e);
+        }
+    }
+
+    private String write(Object reply) {
+        try {
+            return objectMapper.writeValueAsString(reply);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize reply", e);
+        }
+    }
+
+    // Command/Reply DTOs (same shapes as the REST API)
+    record AuthorizeCommand(
+            String orderId,
+            BigDecimal amount,
+            String currency,
+            String cardNumber,
+            String expiryDate,
+            String cvv
+    ) {}
+
+    record PaymentRef(String paymentId) {}
+
+    record AuthorizeReply(
+            String paymentId,
+            boolean authorized,
+            String authorizationCode,
+            String message
+    ) {}
+
+    record CaptureReply(
+            String paymentId,
+            boolean captured,
+            String message
+    ) {}
+
+    record VoidReply(
+            String paymentId,
+            boolean voided,
+            String message
+    ) {}
+}
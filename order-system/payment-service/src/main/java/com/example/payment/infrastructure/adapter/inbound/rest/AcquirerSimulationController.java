@@ -0,0 +1,51 @@
+package com.example.payment.infrastructure.adapter.inbound.rest;
+
+import com.example.payment.infrastructure.adapter.outbound.external.AcquirerSimulationSettings;
+import com.example.payment.infrastructure.adapter.outbound.external.AcquirerSimulator;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Admin API to change the mock acquirer's latency, faults and concurrency cap during a load test.
+ * The endpoint is unauthenticated, so it only exists with acquirer.mock.admin.enabled=true, which the
+ * loadtest and test profiles set.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/acquirer-simulation")
+@ConditionalOnProperty(name = "acquirer.mock.admin.enabled", havingValue = "true")
+@Tag(name = "Acquirer simulation", description = "Mock acquirer behaviour for performance testing")
+public class AcquirerSimulationController {
+
+    private static final Logger log = LoggerFactory.getLogger(AcquirerSimulationController.class);
+
+    private final AcquirerSimulator simulator;
+
+    public AcquirerSimulationController(AcquirerSimulator simulator) {
+        this.simulator = simulator;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get simulation settings", description = "Returns the mock acquirer's current behaviour")
+    public ResponseEntity<AcquirerSimulationSettings> get() {
+        return ResponseEntity.ok(simulator.settings());
+    }
+
+    @PutMapping
+    @Operation(summary = "Replace simulation settings", description = "Applies to acquirer calls started afterwards")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Settings replaced"),
+            @ApiResponse(responseCode = "400", description = "Invalid settings")
+    })
+    public ResponseEntity<AcquirerSimulationSettings> put(@RequestBody AcquirerSimulationSettings settings) {
+        log.info("Acquirer simulation settings replaced: {}", settings);
+        simulator.update(settings);
+        return ResponseEntity.ok(simulator.settings());
+    }
+}
@@ -49,7 +49,8 @@ public class PaymentCommandController {
     @Operation(summary = "Authorize a payment", description = "Authorizes payment for an order")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Authorization processed"),
-            @ApiResponse(responseCode = "400", description = "Invalid request")
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "409", description = "Authorization for the order still in progress")
     })
     public ResponseEntity<AuthorizeResponse> authorize(@Valid @RequestBody AuthorizeRequest request) {
         log.info("Received authorize request for order: {}", request.orderId());
@@ -0,0 +1,55 @@
+package com.example.payment.infrastructure.adapter.inbound.scheduling;
+
+import com.example.payment.application.command.PaymentRecoveryHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Periodically hands payments stuck in PENDING, CAPTURING or VOIDING, and settlement retries that are
+ * due, to the {@link PaymentRecoveryHandler}.
+ *
+ * Only payments untouched for {@code stale-after} are picked up; it must exceed the longest acquirer
+ * call so that in-flight requests are left alone.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.recovery.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentRecoveryScheduler {
+
+    private final PaymentRecoveryHandler recoveryHandler;
+    private final Duration staleAfter;
+    private final int batchSize;
+    private final Counter resolvedCounter;
+    private final Counter failedCounter;
+
+    public PaymentRecoveryScheduler(
+            PaymentRecoveryHandler recoveryHandler,
+            MeterRegistry meterRegistry,
+            @Value("${payment.recovery.stale-after:2m}") Duration staleAfter,
+            @Value("${payment.recovery.batch-size:50}") int batchSize
+    ) {
+        this.recoveryHandler = recoveryHandler;
+        this.staleAfter = staleAfter;
+        this.batchSize = batchSize;
+        this.resolvedCounter = Counter.builder("payment.recovery.resolved")
+                .description("Payments moved out of an intermediate state by recovery")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("payment.recovery.failed")
+                .description("Recovery attempts that failed and will be retried")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.recovery.poll-interval-ms:30000}")
+    public void poll() {
+        PaymentRecoveryHandler.RecoveryResult result =
+                recoveryHandler.recover(LocalDateTime.now().minus(staleAfter), batchSize);
+        resolvedCounter.increment(result.resolved());
+        failedCounter.increment(result.failed());
+    }
+}
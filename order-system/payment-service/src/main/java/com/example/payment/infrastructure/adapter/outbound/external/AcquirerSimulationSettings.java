@@ -0,0 +1,47 @@
+package com.example.payment.infrastructure.adapter.outbound.external;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Behaviour of the mock acquirer: latency, per-operation faults, how long a timed-out call hangs,
+ * and the number of concurrent calls it accepts before throttling (0 = unlimited).
+ */
+public record AcquirerSimulationSettings(
+        LatencyModel latency,
+        Map<Operation, FaultModel> faults,
+        Duration timeout,
+        int maxConcurrentCalls
+) {
+
+    /**
+     * Acquirer operations that can be given their own fault rates.
+     */
+    public enum Operation {
+        AUTHORIZE,
+        LOOKUP,
+        CAPTURE,
+        CAPTURE_BATCH,
+        VOID
+    }
+
+    public AcquirerSimulationSettings {
+        if (latency == null || timeout == null || timeout.isNegative()) {
+            throw new IllegalArgumentException("Latency and a non-negative timeout are required");
+        }
+        if (maxConcurrentCalls < 0) {
+            throw new IllegalArgumentException("maxConcurrentCalls must be >= 0");
+        }
+        Map<Operation, FaultModel> complete = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            complete.put(operation, faults == null ? FaultModel.NONE : faults.getOrDefault(operation, FaultModel.NONE));
+        }
+        faults = Collections.unmodifiableMap(complete);
+    }
+
+    public FaultModel faultsFor(Operation operation) {
+        return faults.get(operation);
+    }
+}
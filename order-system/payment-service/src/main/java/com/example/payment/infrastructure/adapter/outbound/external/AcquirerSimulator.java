@@ -0,0 +1,107 @@
+package com.example.payment.infrastructure.adapter.outbound.external;
+
+import com.example.payment.infrastructure.adapter.outbound.external.AcquirerSimulationSettings.Operation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Simulates the network behaviour of the acquirer for {@link MockAcquirerAdapter}.
+ *
+ * Each call is first checked against the concurrency cap and rejected as throttled when the acquirer
+ * is saturated. Otherwise a timeout hangs for {@code timeout} and fails; any other call sleeps for a
+ * latency drawn from the model and then fails if it was picked as an error. The settings can be
+ * replaced at runtime; calls already in progress keep the settings they started with.
+ * Calls are counted as {@code acquirer.mock.calls} tagged with operation and outcome.
+ */
+public class AcquirerSimulator {
+
+    public static final String CALLS_METRIC = "acquirer.mock.calls";
+    public static final String IN_FLIGHT_METRIC = "acquirer.mock.inflight";
+
+    private final AtomicReference<AcquirerSimulationSettings> settings;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final MeterRegistry meterRegistry;
+
+    public AcquirerSimulator(AcquirerSimulationSettings settings, MeterRegistry meterRegistry) {
+        this.settings = new AtomicReference<>(settings);
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(IN_FLIGHT_METRIC, inFlight, AtomicInteger::get)
+                .description("Calls in progress at the simulated acquirer")
+                .register(meterRegistry);
+    }
+
+    public AcquirerSimulationSettings settings() {
+        return settings.get();
+    }
+
+    public void update(AcquirerSimulationSettings newSettings) {
+        settings.set(newSettings);
+    }
+
+    /**
+     * Simulate the round trip of one acquirer call.
+     * @throws SimulatedAcquirerException if the call is throttled, times out or fails
+     */
+    public void call(Operation operation) {
+        AcquirerSimulationSettings current = settings.get();
+        if (!tryEnter(current.maxConcurrentCalls())) {
+            count(operation, "throttled");
+            throw new SimulatedAcquirerException(
+                    "Acquirer throttled: more than " + current.maxConcurrentCalls() + " concurrent calls");
+        }
+        try {
+            FaultModel faults = current.faultsFor(operation);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            double roll = random.nextDouble();
+            if (roll < faults.timeoutRate()) {
+                sleep(current.timeout());
+                count(operation, "timeout");
+                throw new SimulatedAcquirerException("Acquirer timed out after " + current.timeout().toMillis() + "ms");
+            }
+            sleep(current.latency().sample(random));
+            if (roll < faults.timeoutRate() + faults.errorRate()) {
+                count(operation, "error");
+                throw new SimulatedAcquirerException("Acquirer error on " + operation);
+            }
+            count(operation, "ok");
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private boolean tryEnter(int maxConcurrentCalls) {
+        while (true) {
+            int current = inFlight.get();
+            if (maxConcurrentCalls > 0 && current >= maxConcurrentCalls) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void count(Operation operation, String outcome) {
+        meterRegistry.counter(CALLS_METRIC, "operation", operation.name(), "outcome", outcome).increment();
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis(), duration.toNanosPart() % 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
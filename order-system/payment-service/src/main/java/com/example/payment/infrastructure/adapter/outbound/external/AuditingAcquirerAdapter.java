@@ -0,0 +1,152 @@
+package com.example.payment.infrastructure.adapter.outbound.external;
+
+import com.example.payment.application.port.outbound.AcquirerPort;
+import com.example.payment.infrastructure.adapter.outbound.persistence.PaymentTransactionAuditQueue;
+import com.example.payment.infrastructure.adapter.outbound.persistence.PaymentTransactionRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Records every acquirer call in the payment_transactions audit trail via the
+ * {@link PaymentTransactionAuditQueue}, keyed by the payment reference.
+ *
+ * The request payload never contains the card number beyond its last four digits, or the CVV. A call
+ * that throws is recorded with status ERROR and the exception is rethrown.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "payment.audit.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditingAcquirerAdapter implements AcquirerPort {
+
+    static final String AUTHORIZE = "AUTHORIZE";
+    static final String LOOKUP = "LOOKUP";
+    static final String CAPTURE = "CAPTURE";
+    static final String VOID = "VOID";
+
+    private final AcquirerPort delegate;
+    private final PaymentTransactionAuditQueue auditQueue;
+
+    public AuditingAcquirerAdapter(MockAcquirerAdapter delegate, PaymentTransactionAuditQueue auditQueue) {
+        this.delegate = delegate;
+        this.auditQueue = auditQueue;
+    }
+
+    @Override
+    public AuthorizationResponse authorize(
+            String reference,
+            BigDecimal amount,
+            String currency,
+            String cardNumber,
+            String expiryDate,
+            String cvv
+    ) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("amount", amount);
+        request.put("currency", currency);
+        request.put("cardLastFour", cardNumber.substring(Math.max(0, cardNumber.length() - 4)));
+        return audited(reference, AUTHORIZE, request,
+                () -> delegate.authorize(reference, amount, currency, cardNumber, expiryDate, cvv),
+                response -> response.approved() ? "APPROVED" : "DECLINED");
+    }
+
+    @Override
+    public AuthorizationResponse findAuthorization(String reference) {
+        return audited(reference, LOOKUP, new LinkedHashMap<>(),
+                () -> delegate.findAuthorization(reference),
+                response -> response.approved() ? "APPROVED" : "DECLINED");
+    }
+
+    @Override
+    public CaptureResponse capture(String reference, String authorizationCode, BigDecimal amount) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("authorizationCode", authorizationCode);
+        request.put("amount", amount);
+        return audited(reference, CAPTURE, request,
+                () -> delegate.capture(reference, authorizationCode, amount),
+                response -> response.succeeded() ? "SUCCEEDED" : "FAILED");
+    }
+
+    /**
+     * Records one CAPTURE row per payment in the batch, each carrying the acquirer's batch ID.
+     */
+    @Override
+    public SettlementResponse captureBatch(List<CaptureRequest> captures) {
+        long start = System.nanoTime();
+        try {
+            SettlementResponse settlement = delegate.captureBatch(captures);
+            long latencyMs = elapsedMillis(start);
+            for (CaptureRequest capture : captures) {
+                CaptureResponse result = settlement.results().get(capture.reference());
+                Map<String, Object> response = new LinkedHashMap<>();
+                response.put("batchId", settlement.batchId());
+                response.put("result", result);
+                response.put("latencyMs", latencyMs);
+                auditQueue.record(new PaymentTransactionRecord(capture.reference(), CAPTURE,
+                        result != null && result.succeeded() ? "SUCCEEDED" : "FAILED",
+                        captureRequest(capture, captures.size()), response, LocalDateTime.now()));
+            }
+            return settlement;
+        } catch (RuntimeException e) {
+            long latencyMs = elapsedMillis(start);
+            for (CaptureRequest capture : captures) {
+                Map<String, Object> response = new LinkedHashMap<>();
+                response.put("error", e.getMessage());
+                response.put("latencyMs", latencyMs);
+                auditQueue.record(new PaymentTransactionRecord(capture.reference(), CAPTURE, "ERROR",
+                        captureRequest(capture, captures.size()), response, LocalDateTime.now()));
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public VoidResponse voidAuthorization(String reference, String authorizationCode) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("authorizationCode", authorizationCode);
+        return audited(reference, VOID, request,
+                () -> delegate.voidAuthorization(reference, authorizationCode),
+                response -> response.succeeded() ? "SUCCEEDED" : "FAILED");
+    }
+
+    private <T> T audited(String reference, String type, Map<String, Object> request,
+                          Supplier<T> call, Function<T, String> status) {
+        long start = System.nanoTime();
+        Map<String, Object> response = new LinkedHashMap<>();
+        try {
+            T result = call.get();
+            response.put("result", result);
+            response.put("latencyMs", elapsedMillis(start));
+            auditQueue.record(new PaymentTransactionRecord(
+                    reference, type, status.apply(result), request, response, LocalDateTime.now()));
+            return result;
+        } catch (RuntimeException e) {
+            response.put("error", e.getMessage());
+            response.put("latencyMs", elapsedMillis(start));
+            auditQueue.record(new PaymentTransactionRecord(
+                    reference, type, "ERROR", request, response, LocalDateTime.now()));
+            throw e;
+        }
+    }
+
+    private static Map<String, Object> captureRequest(CaptureRequest capture, int batchSize) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("authorizationCode", capture.authorizationCode());
+        request.put("amount", capture.amount());
+        request.put("batchSize", batchSize);
+        return request;
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
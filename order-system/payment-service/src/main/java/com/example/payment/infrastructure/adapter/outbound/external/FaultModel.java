@@ -0,0 +1,15 @@
+package com.example.payment.infrastructure.adapter.outbound.external;
+
+/**
+ * Fraction of simulated acquirer calls of one operation that fail with an error or time out.
+ */
+public record FaultModel(double errorRate, double timeoutRate) {
+
+    public static final FaultModel NONE = new FaultModel(0, 0);
+
+    public FaultModel {
+        if (errorRate < 0 || timeoutRate < 0 || errorRate + timeoutRate > 1) {
+            throw new IllegalArgumentException("Fault rates must be >= 0 and add up to at most 1");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.payment.infrastructure.adapter.outbound.external;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * Latency distribution of the simulated acquirer.
+ *
+ * CONSTANT always takes {@code base}; UNIFORM is uniform between {@code base} and {@code max};
+ * LOG_NORMAL has median {@code base} and shape {@code sigma}; BIMODAL is LOG_NORMAL around
+ * {@code base}, except that a {@code spikeRate} fraction of calls centre on {@code spike} instead.
+ * Every sample is capped at {@code max}.
+ */
+public record LatencyModel(
+        Distribution distribution,
+        Duration base,
+        Duration max,
+        double sigma,
+        double spikeRate,
+        Duration spike
+) {
+
+    public enum Distribution {
+        CONSTANT,
+        UNIFORM,
+        LOG_NORMAL,
+        BIMODAL
+    }
+
+    public LatencyModel {
+        if (distribution == null || base == null || max == null || spike == null) {
+            throw new IllegalArgumentException("Latency distribution, base, max and spike are required");
+        }
+        if (base.isNegative() || max.compareTo(base) < 0) {
+            throw new IllegalArgumentException("Latency must satisfy 0 <= base <= max");
+        }
+        if (sigma < 0 || spikeRate < 0 || spikeRate > 1) {
+            throw new IllegalArgumentException("Latency sigma must be >= 0 and spikeRate within [0, 1]");
+        }
+    }
+
+    public static LatencyModel constant(Duration latency) {
+        return new LatencyModel(Distribution.CONSTANT, latency, latency, 0, 0, latency);
+    }
+
+    /**
+     * Draw one latency.
+     */
+    public Duration sample(RandomGenerator random) {
+        long nanos = switch (distribution) {
+            case CONSTANT -> base.toNanos();
+            case UNIFORM -> base.toNanos() + (long) (random.nextDouble() * (max.toNanos() - base.toNanos()));
+            case LOG_NORMAL -> logNormal(base, random);
+            case BIMODAL -> logNormal(random.nextDouble() < spikeRate ? spike : base, random);
+        };
+        return Duration.ofNanos(Math.min(nanos, max.toNanos()));
+    }
+
+    private long logNormal(Duration median, RandomGenerator random) {
+        return (long) (median.toNanos() * Math.exp(sigma * random.nextGaussian()));
+    }
+}
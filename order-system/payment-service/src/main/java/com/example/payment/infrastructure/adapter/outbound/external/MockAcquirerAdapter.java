@@ -1,11 +1,19 @@
 package com.example.payment.infrastructure.adapter.outbound.external;
 
 import com.example.payment.application.port.outbound.AcquirerPort;
+import com.example.payment.infrastructure.adapter.outbound.external.AcquirerSimulationSettings.Operation;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -16,6 +24,10 @@ import java.util.UUID;
  * - Cards starting with "4000" are declined (insufficient funds)
  * - Cards starting with "5000" trigger capture failure
  * - All other cards are approved
+ * Authorization outcomes are kept by reference for {@link #findAuthorization} in a bounded cache
+ * (acquirer.mock.authorizations.max-size / ttl); a lookup after eviction reports the authorization as
+ * not found, like an acquirer whose authorizations have lapsed.
+ * Latency, faults and throttling of every call come from the {@link AcquirerSimulator}.
  */
 @Component
 public class MockAcquirerAdapter implements AcquirerPort {
@@ -25,8 +37,24 @@ public class MockAcquirerAdapter implements AcquirerPort {
     private static final String DECLINED_CARD_PREFIX = "4000";
     private static final String CAPTURE_FAIL_CARD_PREFIX = "5000";
 
+    private final Cache<String, AuthorizationResponse> authorizations;
+    private final AcquirerSimulator simulator;
+
+    public MockAcquirerAdapter(
+            AcquirerSimulator simulator,
+            @Value("${acquirer.mock.authorizations.max-size:100000}") long maxSize,
+            @Value("${acquirer.mock.authorizations.ttl:1h}") Duration ttl
+    ) {
+        this.simulator = simulator;
+        this.authorizations = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
     @Override
     public AuthorizationResponse authorize(
+            String reference,
             BigDecimal amount,
             String currency,
             String cardNumber,
@@ -36,29 +64,35 @@ public class MockAcquirerAdapter implements AcquirerPort {
         log.info("Mock acquirer: authorizing payment amount={} {} card={}****",
                 amount, currency, cardNumber.substring(0, 4));
 
-        // Simulate network delay
-        simulateNetworkDelay();
+        simulator.call(Operation.AUTHORIZE);
 
         // Check for declined card
         if (cardNumber.startsWith(DECLINED_CARD_PREFIX)) {
             log.info("Mock acquirer: card declined (insufficient funds)");
-            return AuthorizationResponse.declined("Insufficient funds");
+            return record(reference, AuthorizationResponse.declined("Insufficient funds"));
         }
 
         // Generate authorization code
         String authCode = "AUTH-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
         log.info("Mock acquirer: authorization approved, code={}", authCode);
 
-        return AuthorizationResponse.approved(authCode);
+        return record(reference, AuthorizationResponse.approved(authCode));
+    }
+
+    @Override
+    public AuthorizationResponse findAuthorization(String reference) {
+        log.info("Mock acquirer: looking up authorization reference={}", reference);
+        simulator.call(Operation.LOOKUP);
+        AuthorizationResponse response = authorizations.getIfPresent(reference);
+        return response != null ? response : AuthorizationResponse.declined("Authorization not found");
     }
 
     @Override
-    public CaptureResponse capture(String authorizationCode, BigDecimal amount) {
+    public CaptureResponse capture(String reference, String authorizationCode, BigDecimal amount) {
         log.info("Mock acquirer: capturing payment authCode={} amount={}",
                 authorizationCode, amount);
 
-        // Simulate network delay
-        simulateNetworkDelay();
+        simulator.call(Operation.CAPTURE);
 
         // Simulate capture failure for specific authorization codes
         // In real implementation, this would be based on card characteristics
@@ -73,21 +107,34 @@ public class MockAcquirerAdapter implements AcquirerPort {
     }
 
     @Override
-    public VoidResponse voidAuthorization(String authorizationCode) {
+    public SettlementResponse captureBatch(List<CaptureRequest> captures) {
+        String batchId = "BATCH-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        log.info("Mock acquirer: settling batch {} with {} captures", batchId, captures.size());
+
+        // One round trip for the whole batch
+        simulator.call(Operation.CAPTURE_BATCH);
+
+        Map<String, CaptureResponse> results = new LinkedHashMap<>();
+        for (CaptureRequest capture : captures) {
+            results.put(capture.reference(), capture.authorizationCode().contains("FAIL")
+                    ? CaptureResponse.failure("Capture failed - acquirer error")
+                    : CaptureResponse.success());
+        }
+        return new SettlementResponse(batchId, results);
+    }
+
+    @Override
+    public VoidResponse voidAuthorization(String reference, String authorizationCode) {
         log.info("Mock acquirer: voiding authorization code={}", authorizationCode);
 
-        // Simulate network delay
-        simulateNetworkDelay();
+        simulator.call(Operation.VOID);
 
         log.info("Mock acquirer: void successful");
         return VoidResponse.success();
     }
 
-    private void simulateNetworkDelay() {
-        try {
-            Thread.sleep(50); // 50ms simulated latency
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+    private AuthorizationResponse record(String reference, AuthorizationResponse response) {
+        authorizations.put(reference, response);
+        return response;
     }
 }
@@ -0,0 +1,11 @@
+package com.example.payment.infrastructure.adapter.outbound.external;
+
+/**
+ * Failure injected by the {@link AcquirerSimulator}: an error, a timeout or throttling.
+ */
+public class SimulatedAcquirerException extends RuntimeException {
+
+    public SimulatedAcquirerException(String message) {
+        super(message);
+    }
+}
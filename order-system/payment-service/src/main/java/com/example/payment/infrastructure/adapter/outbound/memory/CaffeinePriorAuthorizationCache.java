@@ -0,0 +1,77 @@
+package com.example.payment.infrastructure.adapter.outbound.memory;
+
+import com.example.payment.application.port.outbound.PriorAuthorizationCache;
+import com.example.payment.application.port.outbound.PriorAuthorizationCache.PriorAuthorization;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU/TTL cache of authorize outcomes by order ID.
+ *
+ * A cached outcome is the authorization result only: a payment captured or voided since then still
+ * replays as authorized until the entry expires. Lookups are counted as
+ * {@code payment.idempotency.lookups} tagged with the result.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.idempotency.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CaffeinePriorAuthorizationCache implements PriorAuthorizationCache {
+
+    public static final String LOOKUP_METRIC = "payment.idempotency.lookups";
+
+    private final Cache<String, PriorAuthorization> results;
+    private final Counter cacheHits;
+    private final Counter databaseHits;
+    private final Counter misses;
+
+    public CaffeinePriorAuthorizationCache(
+            MeterRegistry meterRegistry,
+            @Value("${payment.idempotency.cache.max-size:10000}") long maxSize,
+            @Value("${payment.idempotency.cache.ttl:10m}") Duration ttl
+    ) {
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.cacheHits = lookupCounter(meterRegistry, "cache_hit");
+        this.databaseHits = lookupCounter(meterRegistry, "db_hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+    }
+
+    @Override
+    public Optional<PriorAuthorization> find(String orderId, Function<String, Optional<PriorAuthorization>> loader) {
+        PriorAuthorization cached = results.getIfPresent(orderId);
+        if (cached != null) {
+            cacheHits.increment();
+            return Optional.of(cached);
+        }
+        Optional<PriorAuthorization> loaded = loader.apply(orderId);
+        if (loaded.isPresent()) {
+            databaseHits.increment();
+            results.put(orderId, loaded.get());
+        } else {
+            misses.increment();
+        }
+        return loaded;
+    }
+
+    @Override
+    public void remember(String orderId, PriorAuthorization prior) {
+        results.put(orderId, prior);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(LOOKUP_METRIC)
+                .description("Prior authorization lookups by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.payment.infrastructure.adapter.outbound.memory;
+
+import com.example.payment.application.port.outbound.PriorAuthorizationCache;
+import com.example.payment.application.port.outbound.PriorAuthorizationCache.PriorAuthorization;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Used with payment.idempotency.cache.enabled=false: every lookup queries the payments table.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.idempotency.cache.enabled", havingValue = "false")
+public class PassThroughPriorAuthorizationCache implements PriorAuthorizationCache {
+
+    @Override
+    public Optional<PriorAuthorization> find(String orderId, Function<String, Optional<PriorAuthorization>> loader) {
+        return loader.apply(orderId);
+    }
+
+    @Override
+    public void remember(String orderId, PriorAuthorization prior) {
+    }
+}
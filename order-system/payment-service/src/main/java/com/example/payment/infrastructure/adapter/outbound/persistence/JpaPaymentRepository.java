@@ -1,41 +1,55 @@
 package com.example.payment.infrastructure.adapter.outbound.persistence;
 
+import com.example.common.outbox.OutboxEventWriter;
 import com.example.payment.application.port.outbound.PaymentRepository;
 import com.example.payment.domain.model.aggregate.Payment;
 import com.example.payment.domain.model.valueobject.PaymentId;
+import com.example.payment.domain.model.valueobject.PaymentStatus;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * JPA implementation of PaymentRepository port.
+ * Pending domain events are written to the outbox in the same transaction as the payment.
+ * A new payment is inserted; later saves are a single UPDATE of the mutable columns guarded by the
+ * payment's version, with no read before the write and no re-mapping of the result.
  */
 @Component
 public class JpaPaymentRepository implements PaymentRepository {
 
+    static final String AGGREGATE_TYPE = "Payment";
+    static final long INITIAL_VERSION = 1;
+
     private final SpringDataPaymentRepository springDataRepository;
     private final PaymentMapper mapper;
+    private final OutboxEventWriter outboxEventWriter;
 
-    public JpaPaymentRepository(SpringDataPaymentRepository springDataRepository, PaymentMapper mapper) {
+    public JpaPaymentRepository(
+            SpringDataPaymentRepository springDataRepository,
+            PaymentMapper mapper,
+            OutboxEventWriter outboxEventWriter
+    ) {
         this.springDataRepository = springDataRepository;
         this.mapper = mapper;
+        this.outboxEventWriter = outboxEventWriter;
     }
 
     @Override
+    @Transactional
     public Payment save(Payment payment) {
-        Optional<PaymentJpaEntity> existingEntity = springDataRepository
-                .findByPaymentId(payment.getPaymentId().value());
-
-        PaymentJpaEntity entity;
-        if (existingEntity.isPresent()) {
-            entity = existingEntity.get();
-            mapper.updateEntity(entity, payment);
-        } else {
-            entity = mapper.toEntity(payment);
-        }
-
-        PaymentJpaEntity savedEntity = springDataRepository.save(entity);
-        return mapper.toDomain(savedEntity);
+        long version = payment.getVersion() == 0 ? insert(payment) : update(payment);
+        outboxEventWriter.append(AGGREGATE_TYPE, payment.getPaymentId().value(),
+                List.copyOf(payment.getDomainEvents()));
+        payment.clearDomainEvents();
+        payment.markPersisted(version);
+        return payment;
     }
 
     @Override
@@ -44,9 +58,61 @@ public class JpaPaymentRepository implements PaymentRepository {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Payment> findAllById(Collection<PaymentId> paymentIds) {
+        List<String> ids = paymentIds.stream().map(PaymentId::value).toList();
+        return springDataRepository.findByPaymentIdIn(ids).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Payment> findByOrderId(String orderId) {
         return springDataRepository.findByOrderId(orderId)
                 .map(mapper::toDomain);
     }
+
+    @Override
+    public List<Payment> findByStatusUpdatedBefore(Collection<PaymentStatus> statuses, LocalDateTime cutoff,
+                                                   int limit) {
+        List<String> statusNames = statuses.stream().map(PaymentStatus::name).toList();
+        return springDataRepository
+                .findByStatusInAndUpdatedAtBeforeOrderByUpdatedAtAsc(statusNames, cutoff, PageRequest.of(0, limit))
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Payment> findSettlementRetriesDue(LocalDateTime now, int limit) {
+        return springDataRepository
+                .findByStatusAndSettlementRetryAtLessThanEqualOrderBySettlementRetryAtAsc(
+                        PaymentStatus.SETTLEMENT_FAILED.name(), now, PageRequest.of(0, limit))
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    private long insert(Payment payment) {
+        springDataRepository.save(mapper.toEntity(payment));
+        return INITIAL_VERSION;
+    }
+
+    private long update(Payment payment) {
+        int updated = springDataRepository.updateState(
+                payment.getPaymentId().value(),
+                payment.getVersion(),
+                payment.getStatus().name(),
+                payment.getAuthorizationCode(),
+                payment.getSettlementAttempts(),
+                payment.getSettlementRetryAt(),
+                payment.getUpdatedAt()
+        );
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException(
+                    "Payment " + payment.getPaymentId().value() + " was modified concurrently (expected version "
+                            + payment.getVersion() + ")");
+        }
+        return payment.getVersion() + 1;
+    }
 }
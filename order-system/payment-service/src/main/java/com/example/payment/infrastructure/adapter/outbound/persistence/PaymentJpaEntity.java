@@ -33,12 +33,21 @@ public class PaymentJpaEntity {
     @Column(name = "authorization_code")
     private String authorizationCode;
 
+    @Column(name = "settlement_attempts", nullable = false)
+    private int settlementAttempts;
+
+    @Column(name = "settlement_retry_at")
+    private LocalDateTime settlementRetryAt;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Column(nullable = false)
+    private Long version;
+
     // Getters and setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -64,9 +73,18 @@ public class PaymentJpaEntity {
     public String getAuthorizationCode() { return authorizationCode; }
     public void setAuthorizationCode(String authorizationCode) { this.authorizationCode = authorizationCode; }
 
+    public int getSettlementAttempts() { return settlementAttempts; }
+    public void setSettlementAttempts(int settlementAttempts) { this.settlementAttempts = settlementAttempts; }
+
+    public LocalDateTime getSettlementRetryAt() { return settlementRetryAt; }
+    public void setSettlementRetryAt(LocalDateTime settlementRetryAt) { this.settlementRetryAt = settlementRetryAt; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
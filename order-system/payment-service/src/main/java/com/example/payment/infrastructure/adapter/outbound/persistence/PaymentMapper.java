@@ -22,8 +22,11 @@ public class PaymentMapper {
         entity.setCardLastFour(payment.getCardInfo().lastFour());
         entity.setStatus(payment.getStatus().name());
         entity.setAuthorizationCode(payment.getAuthorizationCode());
+        entity.setSettlementAttempts(payment.getSettlementAttempts());
+        entity.setSettlementRetryAt(payment.getSettlementRetryAt());
         entity.setCreatedAt(payment.getCreatedAt());
         entity.setUpdatedAt(payment.getUpdatedAt());
+        entity.setVersion(JpaPaymentRepository.INITIAL_VERSION);
         return entity;
     }
 
@@ -38,17 +41,12 @@ public class PaymentMapper {
                 CardInfo.of(entity.getCardLastFour(), "12/99"), // Expiry not stored
                 PaymentStatus.valueOf(entity.getStatus()),
                 entity.getAuthorizationCode(),
+                entity.getSettlementAttempts(),
+                entity.getSettlementRetryAt(),
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                entity.getVersion()
         );
     }
 
-    /**
-     * Update existing entity from domain Payment.
-     */
-    public void updateEntity(PaymentJpaEntity entity, Payment payment) {
-        entity.setStatus(payment.getStatus().name());
-        entity.setAuthorizationCode(payment.getAuthorizationCode());
-        entity.setUpdatedAt(payment.getUpdatedAt());
-    }
 }
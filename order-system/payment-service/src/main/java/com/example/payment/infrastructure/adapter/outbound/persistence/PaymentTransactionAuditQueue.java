@@ -0,0 +1,153 @@
+package com.example.payment.infrastructure.adapter.outbound.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded in-memory queue of acquirer audit records, written behind in batches by
+ * {@link PaymentTransactionWriter}; disabled with payment.audit.enabled=false.
+ *
+ * Recording only enqueues, so auditing adds no database work to authorize, capture or void. When the
+ * queue is full the overflow policy decides: DROP discards the record, WAIT blocks the caller for at
+ * most {@code max-wait} before discarding it, and CALLER_WRITES writes it on the caller's thread.
+ * Audit is best effort: a batch that fails to write is counted and discarded, as are records still
+ * queued when the process dies.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.audit.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentTransactionAuditQueue {
+
+    public static final String QUEUE_DEPTH_METRIC = "payment.audit.queue.depth";
+    public static final String WRITTEN_METRIC = "payment.audit.written";
+    public static final String DROPPED_METRIC = "payment.audit.dropped";
+    public static final String FAILED_METRIC = "payment.audit.failed";
+    public static final String BATCH_WRITE_METRIC = "payment.audit.batch.write";
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentTransactionAuditQueue.class);
+
+    /**
+     * What to do with a record when the queue is full.
+     */
+    public enum OverflowPolicy {
+        DROP,
+        WAIT,
+        CALLER_WRITES
+    }
+
+    private final PaymentTransactionWriter writer;
+    private final BlockingQueue<PaymentTransactionRecord> queue;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration maxWait;
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Timer batchWriteTimer;
+
+    public PaymentTransactionAuditQueue(
+            PaymentTransactionWriter writer,
+            MeterRegistry meterRegistry,
+            @Value("${payment.audit.queue-capacity:10000}") int capacity,
+            @Value("${payment.audit.batch-size:500}") int batchSize,
+            @Value("${payment.audit.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+            @Value("${payment.audit.max-wait:20ms}") Duration maxWait
+    ) {
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.maxWait = maxWait;
+        this.writtenCounter = Counter.builder(WRITTEN_METRIC)
+                .description("Acquirer audit records written to payment_transactions")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder(DROPPED_METRIC)
+                .description("Acquirer audit records discarded because the queue was full")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(FAILED_METRIC)
+                .description("Acquirer audit records discarded because their batch failed to write")
+                .register(meterRegistry);
+        this.batchWriteTimer = Timer.builder(BATCH_WRITE_METRIC)
+                .description("Time to write one batch of acquirer audit records")
+                .register(meterRegistry);
+        Gauge.builder(QUEUE_DEPTH_METRIC, queue, BlockingQueue::size)
+                .description("Acquirer audit records waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a record for writing, applying the overflow policy if the queue is full.
+     */
+    public void record(PaymentTransactionRecord record) {
+        if (queue.offer(record)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case DROP -> droppedCounter.increment();
+            case WAIT -> {
+                try {
+                    if (!queue.offer(record, maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                        droppedCounter.increment();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedCounter.increment();
+                }
+            }
+            case CALLER_WRITES -> write(List.of(record));
+        }
+    }
+
+    /**
+     * Write queued records to the database in batches.
+     */
+    @Scheduled(fixedDelayString = "${payment.audit.flush-interval-ms:200}")
+    public void drain() {
+        drainLock.lock();
+        try {
+            List<PaymentTransactionRecord> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drain();
+    }
+
+    int depth() {
+        return queue.size();
+    }
+
+    private void write(List<PaymentTransactionRecord> batch) {
+        try {
+            batchWriteTimer.record(() -> writer.write(batch));
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            log.error("Failed to write {} acquirer audit records, discarding them", batch.size(), e);
+        }
+    }
+}
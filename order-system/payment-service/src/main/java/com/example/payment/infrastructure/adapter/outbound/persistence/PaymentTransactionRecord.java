@@ -0,0 +1,18 @@
+package com.example.payment.infrastructure.adapter.outbound.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * One acquirer interaction for the payment_transactions audit table.
+ * Payloads are serialized by {@link PaymentTransactionWriter}, off the request thread.
+ */
+public record PaymentTransactionRecord(
+        String paymentId,
+        String transactionType,
+        String status,
+        Map<String, Object> request,
+        Map<String, Object> response,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,53 @@
+package com.example.payment.infrastructure.adapter.outbound.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a batch of acquirer audit records to payment_transactions with one JDBC batch INSERT.
+ */
+@Component
+public class PaymentTransactionWriter {
+
+    static final String INSERT_SQL = """
+            INSERT INTO payment_transactions
+                (payment_id, transaction_type, status, request_payload, response_payload, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public PaymentTransactionWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void write(List<PaymentTransactionRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), (ps, record) -> {
+            ps.setString(1, record.paymentId());
+            ps.setString(2, record.transactionType());
+            ps.setString(3, record.status());
+            ps.setString(4, toJson(record.request()));
+            ps.setString(5, toJson(record.response()));
+            ps.setTimestamp(6, Timestamp.valueOf(record.createdAt()));
+        });
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            return String.valueOf(payload);
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package com.example.payment.infrastructure.adapter.outbound.persistence;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -10,5 +17,30 @@ public interface SpringDataPaymentRepository extends JpaRepository<PaymentJpaEnt
 
     Optional<PaymentJpaEntity> findByPaymentId(String paymentId);
 
+    List<PaymentJpaEntity> findByPaymentIdIn(Collection<String> paymentIds);
+
     Optional<PaymentJpaEntity> findByOrderId(String orderId);
+
+    List<PaymentJpaEntity> findByStatusInAndUpdatedAtBeforeOrderByUpdatedAtAsc(
+            Collection<String> statuses, LocalDateTime cutoff, Pageable pageable);
+
+    List<PaymentJpaEntity> findByStatusAndSettlementRetryAtLessThanEqualOrderBySettlementRetryAtAsc(
+            String status, LocalDateTime now, Pageable pageable);
+
+    /**
+     * Write the mutable payment state if the row still has the expected version.
+     * @return 1 if updated, 0 if the version no longer matches
+     */
+    @Modifying
+    @Query("UPDATE PaymentJpaEntity p SET p.status = :status, p.authorizationCode = :authorizationCode, "
+            + "p.settlementAttempts = :settlementAttempts, p.settlementRetryAt = :settlementRetryAt, "
+            + "p.updatedAt = :updatedAt, p.version = p.version + 1 "
+            + "WHERE p.paymentId = :paymentId AND p.version = :version")
+    int updateState(@Param("paymentId") String paymentId,
+                    @Param("version") long version,
+                    @Param("status") String status,
+                    @Param("authorizationCode") String authorizationCode,
+                    @Param("settlementAttempts") int settlementAttempts,
+                    @Param("settlementRetryAt") LocalDateTime settlementRetryAt,
+                    @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,156 @@
+package com.example.payment.infrastructure.adapter.outbound.settlement;
+
+import com.example.payment.application.command.CaptureSettlementHandler;
+import com.example.payment.application.port.outbound.CaptureSettlementPort;
+import com.example.payment.domain.model.valueobject.PaymentId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects deferred captures and settles them in batches, enabled with payment.capture.mode=deferred.
+ *
+ * A background thread starts a batch with the first queued payment and sends it to the
+ * {@link CaptureSettlementHandler} once it reaches {@code batch-size} or {@code window} has passed,
+ * whichever comes first. The queue itself is not durable: payments queued when the process dies are
+ * still CAPTURING in the database and are captured by recovery.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.capture.mode", havingValue = "deferred")
+public class CaptureSettlementBatcher implements CaptureSettlementPort {
+
+    public static final String QUEUE_DEPTH_METRIC = "payment.settlement.queue.depth";
+    public static final String BATCH_SIZE_METRIC = "payment.settlement.batch.size";
+    public static final String FAILED_METRIC = "payment.settlement.failed";
+
+    private static final Logger log = LoggerFactory.getLogger(CaptureSettlementBatcher.class);
+
+    private final CaptureSettlementHandler settlementHandler;
+    private final int batchSize;
+    private final Duration window;
+    private final BlockingQueue<PaymentId> queue = new LinkedBlockingQueue<>();
+    private final DistributionSummary batchSizeSummary;
+    private final Counter failedCounter;
+    private volatile boolean running;
+    private Thread worker;
+
+    public CaptureSettlementBatcher(
+            CaptureSettlementHandler settlementHandler,
+            MeterRegistry meterRegistry,
+            @Value("${payment.capture.settlement.batch-size:500}") int batchSize,
+            @Value("${payment.capture.settlement.window:1s}") Duration window
+    ) {
+        this.settlementHandler = settlementHandler;
+        this.batchSize = batchSize;
+        this.window = window;
+        this.batchSizeSummary = DistributionSummary.builder(BATCH_SIZE_METRIC)
+                .description("Captures per acquirer settlement call")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(FAILED_METRIC)
+                .description("Settlement batches that failed and were left for recovery")
+                .register(meterRegistry);
+        Gauge.builder(QUEUE_DEPTH_METRIC, queue, BlockingQueue::size)
+                .description("Deferred captures waiting for a settlement batch")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "capture-settlement");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void submit(PaymentId paymentId) {
+        queue.add(paymentId);
+    }
+
+    /**
+     * Stop the worker, then settle whatever is still queued on the calling thread.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        worker.join(window.toMillis() * 2 + 1000);
+        List<PaymentId> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            settle(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    int depth() {
+        return queue.size();
+    }
+
+    /**
+     * Take the next batch: wait up to one window for the first payment, then until the batch is full
+     * or the window since the first payment has passed.
+     */
+    List<PaymentId> nextBatch() throws InterruptedException {
+        List<PaymentId> batch = new ArrayList<>(batchSize);
+        PaymentId first = queue.poll(window.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + window.toNanos();
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PaymentId next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+        return batch;
+    }
+
+    void settle(List<PaymentId> batch) {
+        try {
+            CaptureSettlementHandler.SettlementResult result = settlementHandler.settle(batch);
+            int settled = result.captured() + result.failed();
+            if (settled > 0) {
+                batchSizeSummary.record(settled);
+            }
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.error("Settlement of {} captures failed, left CAPTURING for recovery", batch.size(), e);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<PaymentId> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    settle(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.payment.infrastructure.config;
+
+import com.example.payment.infrastructure.adapter.outbound.external.AcquirerSimulationSettings;
+import com.example.payment.infrastructure.adapter.outbound.external.AcquirerSimulationSettings.Operation;
+import com.example.payment.infrastructure.adapter.outbound.external.AcquirerSimulator;
+import com.example.payment.infrastructure.adapter.outbound.external.FaultModel;
+import com.example.payment.infrastructure.adapter.outbound.external.LatencyModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Initial behaviour of the mock acquirer from acquirer.mock.*; the defaults keep the fixed 50ms
+ * round trip without faults. The settings can be replaced at runtime through the admin API.
+ */
+@Configuration
+public class AcquirerSimulationConfiguration {
+
+    @Bean
+    public AcquirerSimulator acquirerSimulator(
+            MeterRegistry meterRegistry,
+            @Value("${acquirer.mock.latency.distribution:CONSTANT}") LatencyModel.Distribution distribution,
+            @Value("${acquirer.mock.latency.base:50ms}") Duration base,
+            @Value("${acquirer.mock.latency.max:30s}") Duration max,
+            @Value("${acquirer.mock.latency.sigma:0.5}") double sigma,
+            @Value("${acquirer.mock.latency.spike-rate:0.01}") double spikeRate,
+            @Value("${acquirer.mock.latency.spike:2s}") Duration spike,
+            @Value("${acquirer.mock.timeout:10s}") Duration timeout,
+            @Value("${acquirer.mock.max-concurrent-calls:0}") int maxConcurrentCalls,
+            @Value("${acquirer.mock.faults.authorize.error-rate:0}") double authorizeErrorRate,
+            @Value("${acquirer.mock.faults.authorize.timeout-rate:0}") double authorizeTimeoutRate,
+            @Value("${acquirer.mock.faults.lookup.error-rate:0}") double lookupErrorRate,
+            @Value("${acquirer.mock.faults.lookup.timeout-rate:0}") double lookupTimeoutRate,
+            @Value("${acquirer.mock.faults.capture.error-rate:0}") double captureErrorRate,
+            @Value("${acquirer.mock.faults.capture.timeout-rate:0}") double captureTimeoutRate,
+            @Value("${acquirer.mock.faults.capture-batch.error-rate:0}") double captureBatchErrorRate,
+            @Value("${acquirer.mock.faults.capture-batch.timeout-rate:0}") double captureBatchTimeoutRate,
+            @Value("${acquirer.mock.faults.void.error-rate:0}") double voidErrorRate,
+            @Value("${acquirer.mock.faults.void.timeout-rate:0}") double voidTimeoutRate
+    ) {
+        AcquirerSimulationSettings settings = new AcquirerSimulationSettings(
+                new LatencyModel(distribution, base, max, sigma, spikeRate, spike),
+                Map.of(
+                        Operation.AUTHORIZE, new FaultModel(authorizeErrorRate, authorizeTimeoutRate),
+                        Operation.LOOKUP, new FaultModel(lookupErrorRate, lookupTimeoutRate),
+                        Operation.CAPTURE, new FaultModel(captureErrorRate, captureTimeoutRate),
+                        Operation.CAPTURE_BATCH, new FaultModel(captureBatchErrorRate, captureBatchTimeoutRate),
+                        Operation.VOID, new FaultModel(voidErrorRate, voidTimeoutRate)
+                ),
+                timeout,
+                maxConcurrentCalls
+        );
+        return new AcquirerSimulator(settings, meterRegistry);
+    }
+}
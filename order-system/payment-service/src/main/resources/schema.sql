@@ -10,9 +10,20 @@ CREATE TABLE IF NOT EXISTS payments (
     status VARCHAR(30) NOT NULL,
     authorization_code VARCHAR(50),
     created_at TIMESTAMP NOT NULL,
-    updated_at TIMESTAMP NOT NULL
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL DEFAULT 1
 );
 
+-- Recovery scan for payments left PENDING or CAPTURING
+CREATE INDEX IF NOT EXISTS idx_payments_status_updated ON payments(status, updated_at);
+
+-- Rejected deferred captures are retried with backoff until they go to MANUAL_REVIEW
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS settlement_attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS settlement_retry_at TIMESTAMP;
+UPDATE payments SET settlement_retry_at = updated_at
+WHERE status = 'SETTLEMENT_FAILED' AND settlement_retry_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_payments_status_retry ON payments(status, settlement_retry_at);
+
 CREATE TABLE IF NOT EXISTS payment_transactions (
     id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     payment_id VARCHAR(50) NOT NULL,
@@ -25,3 +36,22 @@ CREATE TABLE IF NOT EXISTS payment_transactions (
 );
 
 CREATE INDEX IF NOT EXISTS idx_transactions_payment ON payment_transactions(payment_id);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id VARCHAR(36) UNIQUE NOT NULL,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(50) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    published_at TIMESTAMP,
+    claimed_by VARCHAR(64),
+    claimed_until TIMESTAMP
+);
+
+-- Outbox rows are claimed by one relay instance at a time
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(64);
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_unpublished ON outbox_events(published_at, id);
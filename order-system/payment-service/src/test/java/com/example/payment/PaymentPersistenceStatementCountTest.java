@@ -0,0 +1,87 @@
+package com.example.payment;
+
+import com.example.payment.application.port.outbound.PaymentRepository;
+import com.example.payment.domain.model.aggregate.Payment;
+import com.example.payment.domain.model.valueobject.Money;
+import com.example.payment.domain.model.valueobject.PaymentStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the JDBC statements a payment costs from creation to capture.
+ *
+ * The payment is saved as PENDING, AUTHORIZED, CAPTURING and CAPTURED, and its two domain events go
+ * to the outbox. Every transition must be a single UPDATE with no SELECT before it.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "outbox.relay.enabled=false"
+        }
+)
+@DisplayName("支付持久化 SQL 語句數量測試")
+class PaymentPersistenceStatementCountTest {
+
+    /** 1 INSERT, 3 versioned UPDATEs, 2 outbox INSERTs. */
+    static final long STATEMENTS_PER_PAYMENT = 6;
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentPersistenceStatementCountTest.class);
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("每次狀態轉換應只執行一條 UPDATE 語句")
+    void paymentStateChanges_shouldCostOneStatementEach() {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Payment payment = Payment.create("ORD-STMT0001", Money.of(new BigDecimal("35900"), "TWD"),
+                "4111111111111111", "12/28");
+        statistics.clear();
+
+        // Act
+        paymentRepository.save(payment);
+        payment.authorize("AUTH-001");
+        paymentRepository.save(payment);
+        payment.beginCapture();
+        paymentRepository.save(payment);
+        payment.capture();
+        paymentRepository.save(payment);
+
+        // Assert
+        long statements = statistics.getPrepareStatementCount() + outboxInserts(payment.getPaymentId().value());
+        log.info("Statements per payment: {}", statements);
+        assertEquals(STATEMENTS_PER_PAYMENT, statements);
+        Payment stored = paymentRepository.findById(payment.getPaymentId()).orElseThrow();
+        assertEquals(PaymentStatus.CAPTURED, stored.getStatus());
+        assertEquals("AUTH-001", stored.getAuthorizationCode());
+    }
+
+    /**
+     * Outbox rows are written with JDBC, outside Hibernate's statistics; each transition appends one.
+     */
+    private long outboxInserts(String aggregateId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ?", Long.class, aggregateId);
+    }
+}
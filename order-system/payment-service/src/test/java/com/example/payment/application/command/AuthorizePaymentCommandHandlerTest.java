@@ -1,9 +1,15 @@
 package com.example.payment.application.command;
 
+import com.example.payment.application.exception.AuthorizationInProgressException;
+import com.example.payment.application.exception.AuthorizationMismatchException;
 import com.example.payment.application.port.inbound.AuthorizePaymentUseCase;
 import com.example.payment.application.port.outbound.AcquirerPort;
 import com.example.payment.application.port.outbound.PaymentRepository;
+import com.example.payment.application.port.outbound.PriorAuthorizationCache;
 import com.example.payment.domain.model.aggregate.Payment;
+import com.example.payment.domain.model.valueobject.CardInfo;
+import com.example.payment.domain.model.valueobject.Money;
+import com.example.payment.infrastructure.adapter.outbound.memory.PassThroughPriorAuthorizationCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -12,7 +18,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.dao.DataIntegrityViolationException;
+
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -32,7 +48,8 @@ class AuthorizePaymentCommandHandlerTest {
 
     @BeforeEach
     void setUp() {
-        handler = new AuthorizePaymentCommandHandler(paymentRepository, acquirerPort);
+        handler = new AuthorizePaymentCommandHandler(paymentRepository, acquirerPort,
+                new PassThroughPriorAuthorizationCache(), Duration.ofMillis(100));
     }
 
     @Test
@@ -48,7 +65,7 @@ class AuthorizePaymentCommandHandlerTest {
                 "123"
         );
 
-        when(acquirerPort.authorize(any(), any(), any(), any(), any()))
+        when(acquirerPort.authorize(any(), any(), any(), any(), any(), any()))
                 .thenReturn(AcquirerPort.AuthorizationResponse.approved("AUTH-123"));
         when(paymentRepository.save(any(Payment.class))).thenAnswer(i -> i.getArgument(0));
 
@@ -61,7 +78,7 @@ class AuthorizePaymentCommandHandlerTest {
         assertNotNull(result.paymentId());
 
         ArgumentCaptor<Payment> paymentCaptor = ArgumentCaptor.forClass(Payment.class);
-        verify(paymentRepository).save(paymentCaptor.capture());
+        verify(paymentRepository, times(2)).save(paymentCaptor.capture());
         assertEquals("AUTHORIZED", paymentCaptor.getValue().getStatus().name());
     }
 
@@ -78,7 +95,7 @@ class AuthorizePaymentCommandHandlerTest {
                 "123"
         );
 
-        when(acquirerPort.authorize(any(), any(), any(), any(), any()))
+        when(acquirerPort.authorize(any(), any(), any(), any(), any(), any()))
                 .thenReturn(AcquirerPort.AuthorizationResponse.declined("Insufficient funds"));
         when(paymentRepository.save(any(Payment.class))).thenAnswer(i -> i.getArgument(0));
 
@@ -90,7 +107,7 @@ class AuthorizePaymentCommandHandlerTest {
         assertEquals("Insufficient funds", result.message());
 
         ArgumentCaptor<Payment> paymentCaptor = ArgumentCaptor.forClass(Payment.class);
-        verify(paymentRepository).save(paymentCaptor.capture());
+        verify(paymentRepository, times(2)).save(paymentCaptor.capture());
         assertEquals("FAILED", paymentCaptor.getValue().getStatus().name());
     }
 
@@ -107,7 +124,7 @@ class AuthorizePaymentCommandHandlerTest {
                 "456"
         );
 
-        when(acquirerPort.authorize(any(), any(), any(), any(), any()))
+        when(acquirerPort.authorize(any(), any(), any(), any(), any(), any()))
                 .thenReturn(AcquirerPort.AuthorizationResponse.approved("AUTH-456"));
         when(paymentRepository.save(any(Payment.class))).thenAnswer(i -> i.getArgument(0));
 
@@ -116,6 +133,7 @@ class AuthorizePaymentCommandHandlerTest {
 
         // Assert
         verify(acquirerPort).authorize(
+                startsWith("PAY-"),
                 eq(new BigDecimal("1500.00")),
                 eq("USD"),
                 eq("5500000000000004"),
@@ -123,4 +141,165 @@ class AuthorizePaymentCommandHandlerTest {
                 eq("456")
         );
     }
+
+    @Test
+    @DisplayName("應先儲存 PENDING 付款再呼叫收單行")
+    void execute_shouldPersistPendingPaymentBeforeCallingAcquirer() {
+        // Arrange
+        AuthorizePaymentCommand command = new AuthorizePaymentCommand(
+                "ORD-001",
+                new BigDecimal("999.99"),
+                "TWD",
+                "4111111111111111",
+                "12/26",
+                "123"
+        );
+        List<String> savedStatuses = new ArrayList<>();
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(i -> {
+            Payment payment = i.getArgument(0);
+            savedStatuses.add(payment.getStatus().name());
+            return payment;
+        });
+        when(acquirerPort.authorize(any(), any(), any(), any(), any(), any())).thenAnswer(i -> {
+            assertEquals(List.of("PENDING"), savedStatuses);
+            return AcquirerPort.AuthorizationResponse.approved("AUTH-123");
+        });
+
+        // Act
+        AuthorizePaymentUseCase.AuthorizeResult result = handler.execute(command);
+
+        // Assert
+        assertEquals(List.of("PENDING", "AUTHORIZED"), savedStatuses);
+        verify(acquirerPort).authorize(eq(result.paymentId()), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("訂單已有付款時應返回先前結果，不呼叫收單行")
+    void execute_existingPayment_shouldReturnPriorOutcomeWithoutAcquirer() {
+        // Arrange
+        Payment existing = authorizedPayment("ORD-001");
+        when(paymentRepository.findByOrderId("ORD-001")).thenReturn(Optional.of(existing));
+
+        // Act
+        AuthorizePaymentUseCase.AuthorizeResult result = handler.execute(command("ORD-001"));
+
+        // Assert
+        assertTrue(result.authorized());
+        assertEquals(existing.getPaymentId().value(), result.paymentId());
+        verifyNoInteractions(acquirerPort);
+        verify(paymentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("並行請求搶先寫入時應等待並返回其結果")
+    void execute_concurrentFirstAttempt_shouldReturnWinnerOutcome() {
+        // Arrange
+        Payment winner = authorizedPayment("ORD-001");
+        when(paymentRepository.findByOrderId("ORD-001"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(winner));
+        when(paymentRepository.save(any(Payment.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate order_id"));
+
+        // Act
+        AuthorizePaymentUseCase.AuthorizeResult result = handler.execute(command("ORD-001"));
+
+        // Assert
+        assertEquals(winner.getPaymentId().value(), result.paymentId());
+        assertTrue(result.authorized());
+        verifyNoInteractions(acquirerPort);
+    }
+
+    @Test
+    @DisplayName("本實例內的並行請求應等待同一次授權結果，只呼叫收單行一次")
+    void execute_concurrentLocalAttempts_shouldShareOneAuthorization() throws Exception {
+        // Arrange
+        handler = new AuthorizePaymentCommandHandler(paymentRepository, acquirerPort,
+                new PassThroughPriorAuthorizationCache(), Duration.ofSeconds(5));
+        AtomicReference<Payment> saved = new AtomicReference<>();
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> {
+            saved.set(invocation.getArgument(0));
+            return saved.get();
+        });
+        CountDownLatch retryLookedUp = new CountDownLatch(1);
+        when(paymentRepository.findByOrderId("ORD-001")).thenAnswer(invocation -> {
+            if (saved.get() == null) {
+                return Optional.empty();
+            }
+            retryLookedUp.countDown();
+            return Optional.of(saved.get());
+        });
+        CountDownLatch acquirerCalled = new CountDownLatch(1);
+        when(acquirerPort.authorize(any(), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            acquirerCalled.countDown();
+            assertTrue(retryLookedUp.await(5, TimeUnit.SECONDS));
+            return AcquirerPort.AuthorizationResponse.approved("AUTH-123");
+        });
+
+        // Act
+        CompletableFuture<AuthorizePaymentUseCase.AuthorizeResult> first =
+                CompletableFuture.supplyAsync(() -> handler.execute(command("ORD-001")));
+        assertTrue(acquirerCalled.await(5, TimeUnit.SECONDS));
+        AuthorizePaymentUseCase.AuthorizeResult retry = handler.execute(command("ORD-001"));
+
+        // Assert
+        assertEquals(first.get(5, TimeUnit.SECONDS), retry);
+        assertTrue(retry.authorized());
+        verify(acquirerPort, times(1)).authorize(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("重送的金額或卡片與既有付款不同時應拋出衝突例外")
+    void execute_retryWithDifferentAmount_shouldThrowMismatch() {
+        // Arrange
+        when(paymentRepository.findByOrderId("ORD-001")).thenReturn(Optional.of(authorizedPayment("ORD-001")));
+        AuthorizePaymentCommand differentAmount = new AuthorizePaymentCommand("ORD-001", new BigDecimal("1.00"),
+                "TWD", "4111111111111111", "12/26", "123");
+        AuthorizePaymentCommand differentCard = new AuthorizePaymentCommand("ORD-001", new BigDecimal("999.990"),
+                "TWD", "5555555555554444", "12/26", "123");
+
+        // Act & Assert
+        assertThrows(AuthorizationMismatchException.class, () -> handler.execute(differentAmount));
+        assertThrows(AuthorizationMismatchException.class, () -> handler.execute(differentCard));
+        verifyNoInteractions(acquirerPort);
+    }
+
+    @Test
+    @DisplayName("先前請求仍為 PENDING 且不在本實例處理時應立即拋出處理中例外")
+    void execute_priorStillPending_shouldThrowInProgress() {
+        Payment pending = Payment.create("ORD-001", Money.of(new BigDecimal("999.99"), "TWD"),
+                "4111111111111111", "12/26");
+        when(paymentRepository.findByOrderId("ORD-001")).thenReturn(Optional.of(pending));
+
+        assertThrows(AuthorizationInProgressException.class, () -> handler.execute(command("ORD-001")));
+        verifyNoInteractions(acquirerPort);
+    }
+
+    @Test
+    @DisplayName("快取命中時不應查詢資料庫或收單行")
+    void execute_cachedOutcome_shouldSkipDatabaseAndAcquirer() {
+        // Arrange
+        PriorAuthorizationCache cache = mock(PriorAuthorizationCache.class);
+        AuthorizePaymentUseCase.AuthorizeResult cached =
+                new AuthorizePaymentUseCase.AuthorizeResult("PAY-001", true, "Payment authorized");
+        when(cache.find(eq("ORD-001"), any())).thenReturn(Optional.of(new PriorAuthorizationCache.PriorAuthorization(
+                cached, Money.of(new BigDecimal("999.99"), "TWD"), CardInfo.of("1111", "12/26"))));
+        handler = new AuthorizePaymentCommandHandler(paymentRepository, acquirerPort, cache, Duration.ZERO);
+
+        // Act & Assert
+        assertSame(cached, handler.execute(command("ORD-001")));
+        verifyNoInteractions(paymentRepository, acquirerPort);
+    }
+
+    private static AuthorizePaymentCommand command(String orderId) {
+        return new AuthorizePaymentCommand(orderId, new BigDecimal("999.99"), "TWD",
+                "4111111111111111", "12/26", "123");
+    }
+
+    private static Payment authorizedPayment(String orderId) {
+        Payment payment = Payment.create(orderId, Money.of(new BigDecimal("999.99"), "TWD"),
+                "4111111111111111", "12/26");
+        payment.authorize("AUTH-123");
+        return payment;
+    }
 }
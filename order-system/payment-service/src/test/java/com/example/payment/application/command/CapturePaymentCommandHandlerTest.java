@@ -2,10 +2,12 @@ package com.example.payment.application.command;
 
 import com.example.payment.application.port.inbound.CapturePaymentUseCase;
 import com.example.payment.application.port.outbound.AcquirerPort;
+import com.example.payment.application.port.outbound.CaptureSettlementPort;
 import com.example.payment.application.port.outbound.PaymentRepository;
 import com.example.payment.domain.model.aggregate.Payment;
 import com.example.payment.domain.model.valueobject.Money;
 import com.example.payment.domain.model.valueobject.PaymentId;
+import com.example.payment.domain.model.valueobject.PaymentStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -31,11 +33,14 @@ class CapturePaymentCommandHandlerTest {
     @Mock
     private AcquirerPort acquirerPort;
 
+    @Mock
+    private CaptureSettlementPort settlementPort;
+
     private CapturePaymentCommandHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new CapturePaymentCommandHandler(paymentRepository, acquirerPort);
+        handler = new CapturePaymentCommandHandler(paymentRepository, acquirerPort, Optional.empty());
     }
 
     private Payment createAuthorizedPayment(String paymentId) {
@@ -66,7 +71,7 @@ class CapturePaymentCommandHandlerTest {
 
         when(paymentRepository.findById(any(PaymentId.class)))
                 .thenReturn(Optional.of(payment));
-        when(acquirerPort.capture(any(), any()))
+        when(acquirerPort.capture(any(), any(), any()))
                 .thenReturn(AcquirerPort.CaptureResponse.success());
         when(paymentRepository.save(any(Payment.class))).thenAnswer(i -> i.getArgument(0));
 
@@ -81,10 +86,29 @@ class CapturePaymentCommandHandlerTest {
         assertEquals(paymentId, result.paymentId());
 
         ArgumentCaptor<Payment> paymentCaptor = ArgumentCaptor.forClass(Payment.class);
-        verify(paymentRepository).save(paymentCaptor.capture());
+        verify(paymentRepository, times(2)).save(paymentCaptor.capture());
         assertEquals("CAPTURED", paymentCaptor.getValue().getStatus().name());
     }
 
+    @Test
+    @DisplayName("已請款的付款重送請款應直接回報成功")
+    void execute_alreadyCaptured_shouldSucceedWithoutCallingAcquirer() {
+        // Arrange
+        Payment payment = createAuthorizedPayment("PAY-001");
+        payment.beginCapture();
+        payment.capture();
+        when(paymentRepository.findById(any(PaymentId.class))).thenReturn(Optional.of(payment));
+
+        // Act
+        CapturePaymentUseCase.CaptureResult result = handler.execute(new CapturePaymentCommand("PAY-001"));
+
+        // Assert
+        assertTrue(result.captured());
+        assertEquals("Payment already captured", result.message());
+        verifyNoInteractions(acquirerPort);
+        verify(paymentRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("請款失敗應返回失敗結果")
     void execute_shouldReturnFailureWhenCaptureFails() {
@@ -94,7 +118,7 @@ class CapturePaymentCommandHandlerTest {
 
         when(paymentRepository.findById(any(PaymentId.class)))
                 .thenReturn(Optional.of(payment));
-        when(acquirerPort.capture(any(), any()))
+        when(acquirerPort.capture(any(), any(), any()))
                 .thenReturn(AcquirerPort.CaptureResponse.failure("Capture failed"));
         when(paymentRepository.save(any(Payment.class))).thenAnswer(i -> i.getArgument(0));
 
@@ -106,6 +130,26 @@ class CapturePaymentCommandHandlerTest {
         // Assert
         assertFalse(result.captured());
         assertEquals("Capture failed", result.message());
+        assertEquals(PaymentStatus.AUTHORIZED, payment.getStatus());
+    }
+
+    @Test
+    @DisplayName("收單行呼叫前應先儲存 CAPTURING，呼叫失敗時回報未請款並保留 CAPTURING")
+    void execute_acquirerError_shouldReportNotCapturedAndKeepCapturing() {
+        // Arrange
+        Payment payment = createAuthorizedPayment("PAY-001");
+        when(paymentRepository.findById(any(PaymentId.class))).thenReturn(Optional.of(payment));
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(i -> i.getArgument(0));
+        when(acquirerPort.capture(any(), any(), any())).thenThrow(new IllegalStateException("Acquirer timeout"));
+
+        // Act
+        CapturePaymentUseCase.CaptureResult result = handler.execute(new CapturePaymentCommand("PAY-001"));
+
+        // Assert
+        assertFalse(result.captured());
+        assertTrue(result.message().startsWith("Capture outcome unknown"));
+        verify(paymentRepository, times(1)).save(payment);
+        assertEquals(PaymentStatus.CAPTURING, payment.getStatus());
     }
 
     @Test
@@ -130,7 +174,7 @@ class CapturePaymentCommandHandlerTest {
 
         when(paymentRepository.findById(any(PaymentId.class)))
                 .thenReturn(Optional.of(payment));
-        when(acquirerPort.capture(any(), any()))
+        when(acquirerPort.capture(any(), any(), any()))
                 .thenReturn(AcquirerPort.CaptureResponse.success());
         when(paymentRepository.save(any(Payment.class))).thenAnswer(i -> i.getArgument(0));
 
@@ -140,6 +184,26 @@ class CapturePaymentCommandHandlerTest {
         handler.execute(command);
 
         // Assert
-        verify(acquirerPort).capture(eq("AUTH-123"), eq(new BigDecimal("999.99")));
+        verify(acquirerPort).capture(eq("PAY-001"), eq("AUTH-123"), eq(new BigDecimal("999.99")));
+    }
+
+    @Test
+    @DisplayName("延後請款模式應儲存 CAPTURING 並排入結算批次，不呼叫收單行")
+    void execute_deferredMode_shouldAcceptAndSubmitForSettlement() {
+        // Arrange
+        handler = new CapturePaymentCommandHandler(paymentRepository, acquirerPort, Optional.of(settlementPort));
+        Payment payment = createAuthorizedPayment("PAY-001");
+        when(paymentRepository.findById(any(PaymentId.class))).thenReturn(Optional.of(payment));
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(i -> i.getArgument(0));
+
+        // Act
+        CapturePaymentUseCase.CaptureResult result = handler.execute(new CapturePaymentCommand("PAY-001"));
+
+        // Assert
+        assertTrue(result.captured());
+        assertEquals("Capture accepted", result.message());
+        assertEquals(PaymentStatus.CAPTURING, payment.getStatus());
+        verify(settlementPort).submit(PaymentId.of("PAY-001"));
+        verifyNoInteractions(acquirerPort);
     }
 }
@@ -0,0 +1,107 @@
+package com.example.payment.application.command;
+
+import com.example.payment.application.port.outbound.AcquirerPort;
+import com.example.payment.application.port.outbound.PaymentRepository;
+import com.example.payment.domain.model.aggregate.Payment;
+import com.example.payment.domain.model.valueobject.CardInfo;
+import com.example.payment.domain.model.valueobject.Money;
+import com.example.payment.domain.model.valueobject.PaymentId;
+import com.example.payment.domain.model.valueobject.PaymentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CaptureSettlementHandler 測試")
+class CaptureSettlementHandlerTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private AcquirerPort acquirerPort;
+
+    private CaptureSettlementHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new CaptureSettlementHandler(paymentRepository, acquirerPort,
+                new SettlementRetryPolicy(3, Duration.ofMinutes(2), Duration.ofHours(1)));
+    }
+
+    private Payment payment(String paymentId, PaymentStatus status, String authorizationCode) {
+        return Payment.reconstitute(
+                PaymentId.of(paymentId),
+                "ORD-" + paymentId,
+                Money.of(new BigDecimal("999.99"), "TWD"),
+                CardInfo.fromCardNumber("4111111111111111", "12/26"),
+                status,
+                authorizationCode,
+                0,
+                null,
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                2
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("應以一次結算呼叫請款整批付款並記錄各自結果")
+    void settle_shouldCaptureWholeBatchInOneAcquirerCall() {
+        // Arrange
+        Payment ok = payment("PAY-001", PaymentStatus.CAPTURING, "AUTH-001");
+        Payment failing = payment("PAY-002", PaymentStatus.CAPTURING, "AUTH-FAIL");
+        Payment alreadyCaptured = payment("PAY-003", PaymentStatus.CAPTURED, "AUTH-003");
+        List<PaymentId> ids = List.of(PaymentId.of("PAY-001"), PaymentId.of("PAY-002"), PaymentId.of("PAY-003"));
+        when(paymentRepository.findAllById(ids)).thenReturn(List.of(ok, failing, alreadyCaptured));
+        when(acquirerPort.captureBatch(anyList())).thenReturn(new AcquirerPort.SettlementResponse("BATCH-1", Map.of(
+                "PAY-001", AcquirerPort.CaptureResponse.success(),
+                "PAY-002", AcquirerPort.CaptureResponse.failure("Capture failed"))));
+
+        // Act
+        CaptureSettlementHandler.SettlementResult result = handler.settle(ids);
+
+        // Assert
+        assertEquals(new CaptureSettlementHandler.SettlementResult(1, 1), result);
+        ArgumentCaptor<List<AcquirerPort.CaptureRequest>> requests = ArgumentCaptor.forClass(List.class);
+        verify(acquirerPort).captureBatch(requests.capture());
+        assertEquals(List.of(
+                new AcquirerPort.CaptureRequest("PAY-001", "AUTH-001", new BigDecimal("999.99")),
+                new AcquirerPort.CaptureRequest("PAY-002", "AUTH-FAIL", new BigDecimal("999.99"))
+        ), requests.getValue());
+        assertEquals(PaymentStatus.CAPTURED, ok.getStatus());
+        assertEquals(PaymentStatus.SETTLEMENT_FAILED, failing.getStatus());
+        assertEquals("PaymentSettlementFailed", failing.getDomainEvents().get(0).getClass().getSimpleName());
+        verify(paymentRepository).save(ok);
+        verify(paymentRepository).save(failing);
+        verify(paymentRepository, never()).save(alreadyCaptured);
+        verify(acquirerPort, never()).capture(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("無待請款付款時不應呼叫收單行")
+    void settle_nothingCapturing_shouldNotCallAcquirer() {
+        when(paymentRepository.findAllById(anyList()))
+                .thenReturn(List.of(payment("PAY-001", PaymentStatus.CAPTURED, "AUTH-001")));
+
+        CaptureSettlementHandler.SettlementResult result = handler.settle(List.of(PaymentId.of("PAY-001")));
+
+        assertEquals(new CaptureSettlementHandler.SettlementResult(0, 0), result);
+        verifyNoInteractions(acquirerPort);
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.payment.application.command;
+
+import com.example.payment.application.port.outbound.AcquirerPort;
+import com.example.payment.application.port.outbound.CaptureSettlementPort;
+import com.example.payment.application.port.outbound.PaymentRepository;
+import com.example.payment.domain.event.PaymentManualReviewRequired;
+import com.example.payment.domain.model.aggregate.Payment;
+import com.example.payment.domain.model.valueobject.CardInfo;
+import com.example.payment.domain.model.valueobject.Money;
+import com.example.payment.domain.model.valueobject.PaymentId;
+import com.example.payment.domain.model.valueobject.PaymentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentRecoveryHandler 測試")
+class PaymentRecoveryHandlerTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 1, 1, 12, 0);
+    private static final SettlementRetryPolicy RETRY_POLICY =
+            new SettlementRetryPolicy(3, Duration.ofMinutes(2), Duration.ofHours(1));
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private AcquirerPort acquirerPort;
+
+    private PaymentRecoveryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new PaymentRecoveryHandler(paymentRepository, acquirerPort, RETRY_POLICY, Optional.empty());
+    }
+
+    private Payment stuckPayment(String paymentId, PaymentStatus status, String authorizationCode) {
+        return stuckPayment(paymentId, status, authorizationCode, 0);
+    }
+
+    private Payment stuckPayment(String paymentId, PaymentStatus status, String authorizationCode,
+                                 int settlementAttempts) {
+        return Payment.reconstitute(
+                PaymentId.of(paymentId),
+                "ORD-" + paymentId,
+                Money.of(new BigDecimal("999.99"), "TWD"),
+                CardInfo.fromCardNumber("4111111111111111", "12/26"),
+                status,
+                authorizationCode,
+                settlementAttempts,
+                status == PaymentStatus.SETTLEMENT_FAILED ? CUTOFF : null,
+                CUTOFF.minusMinutes(10),
+                CUTOFF.minusMinutes(10),
+                2
+        );
+    }
+
+    @Test
+    @DisplayName("PENDING 付款的訂單已失敗：收單行已授權者應作廢，查無授權者轉為 FAILED")
+    void recover_pendingPayments_shouldVoidApprovedAndFailUnknown() {
+        // Arrange
+        Payment approved = stuckPayment("PAY-001", PaymentStatus.PENDING, null);
+        Payment unknown = stuckPayment("PAY-002", PaymentStatus.PENDING, null);
+        when(paymentRepository.findByStatusUpdatedBefore(
+                List.of(PaymentStatus.PENDING, PaymentStatus.CAPTURING, PaymentStatus.VOIDING), CUTOFF, 50))
+                .thenReturn(List.of(approved, unknown));
+        when(acquirerPort.findAuthorization("PAY-001"))
+                .thenReturn(AcquirerPort.AuthorizationResponse.approved("AUTH-123"));
+        when(acquirerPort.findAuthorization("PAY-002"))
+                .thenReturn(AcquirerPort.AuthorizationResponse.declined("Authorization not found"));
+        when(acquirerPort.voidAuthorization("PAY-001", "AUTH-123")).thenReturn(AcquirerPort.VoidResponse.success());
+
+        // Act
+        PaymentRecoveryHandler.RecoveryResult result = handler.recover(CUTOFF, 50);
+
+        // Assert
+        assertEquals(new PaymentRecoveryHandler.RecoveryResult(2, 0), result);
+        assertEquals(PaymentStatus.VOIDED, approved.getStatus());
+        assertEquals(PaymentStatus.FAILED, unknown.getStatus());
+        verify(paymentRepository, times(2)).save(approved);
+        verify(paymentRepository).save(unknown);
+        verify(acquirerPort, never()).capture(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("PENDING 付款作廢遭拒時應保留 VOIDING 待下次重試")
+    void recover_pendingPaymentVoidRejected_shouldStayVoiding() {
+        // Arrange
+        Payment payment = stuckPayment("PAY-001", PaymentStatus.PENDING, null);
+        when(paymentRepository.findByStatusUpdatedBefore(any(), any(), anyInt())).thenReturn(List.of(payment));
+        when(acquirerPort.findAuthorization("PAY-001"))
+                .thenReturn(AcquirerPort.AuthorizationResponse.approved("AUTH-123"));
+        when(acquirerPort.voidAuthorization("PAY-001", "AUTH-123"))
+                .thenReturn(AcquirerPort.VoidResponse.failure("Acquirer unavailable"));
+
+        // Act
+        PaymentRecoveryHandler.RecoveryResult result = handler.recover(CUTOFF, 50);
+
+        // Assert
+        assertEquals(new PaymentRecoveryHandler.RecoveryResult(0, 1), result);
+        assertEquals(PaymentStatus.VOIDING, payment.getStatus());
+        verify(paymentRepository).save(payment);
+    }
+
+    @Test
+    @DisplayName("VOIDING 付款應重送作廢，不可請款")
+    void recover_voidingPayment_shouldRetryVoidAndNeverCapture() {
+        // Arrange
+        Payment payment = stuckPayment("PAY-001", PaymentStatus.VOIDING, "AUTH-123");
+        when(paymentRepository.findByStatusUpdatedBefore(any(), any(), anyInt())).thenReturn(List.of(payment));
+        when(acquirerPort.voidAuthorization("PAY-001", "AUTH-123")).thenReturn(AcquirerPort.VoidResponse.success());
+
+        // Act
+        handler.recover(CUTOFF, 50);
+
+        // Assert
+        assertEquals(PaymentStatus.VOIDED, payment.getStatus());
+        verify(paymentRepository).save(payment);
+        verify(acquirerPort, never()).capture(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("授權中即要求作廢的付款：收單行查無授權時直接轉為 VOIDED")
+    void recover_voidingWithoutAuthorization_shouldVoidOnlyWhatAcquirerRecorded() {
+        // Arrange
+        Payment payment = stuckPayment("PAY-001", PaymentStatus.VOIDING, null);
+        when(paymentRepository.findByStatusUpdatedBefore(any(), any(), anyInt())).thenReturn(List.of(payment));
+        when(acquirerPort.findAuthorization("PAY-001"))
+                .thenReturn(AcquirerPort.AuthorizationResponse.declined("Authorization not found"));
+
+        // Act
+        handler.recover(CUTOFF, 50);
+
+        // Assert
+        assertEquals(PaymentStatus.VOIDED, payment.getStatus());
+        verify(acquirerPort, never()).voidAuthorization(any(), any());
+    }
+
+    @Test
+    @DisplayName("請款拋出例外後訂單作廢，復原應完成作廢且不再請款")
+    void captureThrows_thenVoid_thenRecovery_shouldNeverCapture() {
+        // Arrange
+        Payment payment = stuckPayment("PAY-001", PaymentStatus.AUTHORIZED, "AUTH-123");
+        when(paymentRepository.findById(PaymentId.of("PAY-001"))).thenReturn(Optional.of(payment));
+        when(paymentRepository.findByStatusUpdatedBefore(any(), any(), anyInt())).thenReturn(List.of(payment));
+        when(acquirerPort.capture(any(), any(), any())).thenThrow(new IllegalStateException("Acquirer timeout"));
+        when(acquirerPort.voidAuthorization("PAY-001", "AUTH-123"))
+                .thenThrow(new IllegalStateException("Acquirer timeout"))
+                .thenReturn(AcquirerPort.VoidResponse.success());
+        CapturePaymentCommandHandler captureHandler =
+                new CapturePaymentCommandHandler(paymentRepository, acquirerPort, Optional.empty());
+        VoidPaymentCommandHandler voidHandler = new VoidPaymentCommandHandler(paymentRepository, acquirerPort);
+
+        // Act: capture outcome unknown, the SAGA compensates with a void that also times out
+        boolean captured = captureHandler.execute(new CapturePaymentCommand("PAY-001")).captured();
+        boolean voided = voidHandler.execute(new VoidPaymentCommand("PAY-001")).voided();
+        handler.recover(CUTOFF, 50);
+
+        // Assert
+        assertFalse(captured);
+        assertFalse(voided);
+        assertEquals(PaymentStatus.VOIDED, payment.getStatus());
+        verify(acquirerPort, times(1)).capture(any(), any(), any());
+        verify(acquirerPort, times(2)).voidAuthorization("PAY-001", "AUTH-123");
+    }
+
+    @Test
+    @DisplayName("CAPTURING 付款應重送請款並記錄結果")
+    void recover_capturingPayment_shouldRetryCapture() {
+        // Arrange
+        Payment payment = stuckPayment("PAY-001", PaymentStatus.CAPTURING, "AUTH-123");
+        when(paymentRepository.findByStatusUpdatedBefore(any(), any(), anyInt())).thenReturn(List.of(payment));
+        when(acquirerPort.capture("PAY-001", "AUTH-123", new BigDecimal("999.99")))
+                .thenReturn(AcquirerPort.CaptureResponse.success());
+
+        // Act
+        handler.recover(CUTOFF, 50);
+
+        // Assert
+        assertEquals(PaymentStatus.CAPTURED, payment.getStatus());
+        verify(paymentRepository).save(payment);
+        verify(acquirerPort, never()).findAuthorization(any());
+    }
+
+    @Test
+    @DisplayName("到期的 SETTLEMENT_FAILED 付款應重試請款，仍失敗時以指數退避排定下次重試")
+    void recover_settlementRetriesDue_shouldRetryCaptureWithBackoff() {
+        // Arrange
+        Payment settles = stuckPayment("PAY-001", PaymentStatus.SETTLEMENT_FAILED, "AUTH-123", 1);
+        Payment stillFailing = stuckPayment("PAY-002", PaymentStatus.SETTLEMENT_FAILED, "AUTH-FAIL", 1);
+        when(paymentRepository.findSettlementRetriesDue(any(), eq(50))).thenReturn(List.of(settles, stillFailing));
+        when(acquirerPort.capture("PAY-001", "AUTH-123", new BigDecimal("999.99")))
+                .thenReturn(AcquirerPort.CaptureResponse.success());
+        when(acquirerPort.capture("PAY-002", "AUTH-FAIL", new BigDecimal("999.99")))
+                .thenReturn(AcquirerPort.CaptureResponse.failure("Capture failed"));
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        handler.recover(CUTOFF, 50);
+
+        // Assert
+        assertEquals(PaymentStatus.CAPTURED, settles.getStatus());
+        assertNull(settles.getSettlementRetryAt());
+        assertEquals(PaymentStatus.SETTLEMENT_FAILED, stillFailing.getStatus());
+        assertEquals(2, stillFailing.getSettlementAttempts());
+        assertFalse(stillFailing.getSettlementRetryAt().isBefore(before.plusMinutes(4)));
+        verify(paymentRepository).save(stillFailing);
+    }
+
+    @Test
+    @DisplayName("SETTLEMENT_FAILED 付款最後一次重試仍失敗應轉為 MANUAL_REVIEW，不再重試")
+    void recover_settlementRetriesExhausted_shouldRequireManualReview() {
+        // Arrange
+        Payment payment = stuckPayment("PAY-001", PaymentStatus.SETTLEMENT_FAILED, "AUTH-FAIL", 2);
+        when(paymentRepository.findSettlementRetriesDue(any(), anyInt())).thenReturn(List.of(payment));
+        when(acquirerPort.capture("PAY-001", "AUTH-FAIL", new BigDecimal("999.99")))
+                .thenReturn(AcquirerPort.CaptureResponse.failure("Capture failed"));
+
+        // Act
+        handler.recover(CUTOFF, 50);
+
+        // Assert
+        assertEquals(PaymentStatus.MANUAL_REVIEW, payment.getStatus());
+        assertEquals(3, payment.getSettlementAttempts());
+        assertNull(payment.getSettlementRetryAt());
+        assertInstanceOf(PaymentManualReviewRequired.class, payment.getDomainEvents().get(0));
+        verify(paymentRepository).save(payment);
+    }
+
+    @Test
+    @DisplayName("延後請款模式下 CAPTURING 付款請款失敗應轉為 SETTLEMENT_FAILED")
+    void recover_deferredCaptureRejected_shouldNotReturnToAuthorized() {
+        // Arrange
+        handler = new PaymentRecoveryHandler(paymentRepository, acquirerPort, RETRY_POLICY,
+                Optional.of(mock(CaptureSettlementPort.class)));
+        Payment payment = stuckPayment("PAY-001", PaymentStatus.CAPTURING, "AUTH-FAIL");
+        when(paymentRepository.findByStatusUpdatedBefore(any(), any(), anyInt())).thenReturn(List.of(payment));
+        when(acquirerPort.capture("PAY-001", "AUTH-FAIL", new BigDecimal("999.99")))
+                .thenReturn(AcquirerPort.CaptureResponse.failure("Capture failed"));
+
+        // Act
+        handler.recover(CUTOFF, 50);
+
+        // Assert
+        assertEquals(PaymentStatus.SETTLEMENT_FAILED, payment.getStatus());
+        assertEquals(1, payment.getDomainEvents().size());
+    }
+
+    @Test
+    @DisplayName("單筆復原失敗不應中斷其他付款")
+    void recover_oneFailure_shouldContinueWithOthers() {
+        // Arrange
+        Payment conflicting = stuckPayment("PAY-001", PaymentStatus.CAPTURING, "AUTH-123");
+        Payment pending = stuckPayment("PAY-002", PaymentStatus.PENDING, null);
+        when(paymentRepository.findByStatusUpdatedBefore(any(), any(), anyInt()))
+                .thenReturn(List.of(conflicting, pending));
+        when(acquirerPort.capture(any(), any(), any())).thenReturn(AcquirerPort.CaptureResponse.success());
+        when(acquirerPort.findAuthorization("PAY-002"))
+                .thenReturn(AcquirerPort.AuthorizationResponse.approved("AUTH-456"));
+        when(acquirerPort.voidAuthorization("PAY-002", "AUTH-456")).thenReturn(AcquirerPort.VoidResponse.success());
+        when(paymentRepository.save(conflicting))
+                .thenThrow(new OptimisticLockingFailureException("modified concurrently"));
+
+        // Act
+        PaymentRecoveryHandler.RecoveryResult result = handler.recover(CUTOFF, 50);
+
+        // Assert
+        assertEquals(new PaymentRecoveryHandler.RecoveryResult(1, 1), result);
+        assertEquals(PaymentStatus.VOIDED, pending.getStatus());
+    }
+}
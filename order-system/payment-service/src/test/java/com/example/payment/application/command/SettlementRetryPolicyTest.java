@@ -0,0 +1,33 @@
+package com.example.payment.application.command;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SettlementRetryPolicy 測試")
+class SettlementRetryPolicyTest {
+
+    @Test
+    @DisplayName("退避時間應每次加倍並以上限封頂")
+    void backoff_shouldDoubleUpToMax() {
+        // Arrange
+        SettlementRetryPolicy policy = new SettlementRetryPolicy(100, Duration.ofMinutes(2), Duration.ofHours(1));
+
+        // Act & Assert
+        assertEquals(Duration.ofMinutes(2), policy.backoff(1));
+        assertEquals(Duration.ofMinutes(4), policy.backoff(2));
+        assertEquals(Duration.ofMinutes(32), policy.backoff(5));
+        assertEquals(Duration.ofHours(1), policy.backoff(6));
+        assertEquals(Duration.ofHours(1), policy.backoff(99));
+    }
+
+    @Test
+    @DisplayName("最大嘗試次數小於 1 應拒絕")
+    void constructor_shouldRejectNonPositiveMaxAttempts() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SettlementRetryPolicy(0, Duration.ofMinutes(2), Duration.ofHours(1)));
+    }
+}
@@ -6,11 +6,11 @@ import com.example.payment.application.port.outbound.PaymentRepository;
 import com.example.payment.domain.model.aggregate.Payment;
 import com.example.payment.domain.model.valueobject.Money;
 import com.example.payment.domain.model.valueobject.PaymentId;
+import com.example.payment.domain.model.valueobject.PaymentStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -66,7 +66,7 @@ class VoidPaymentCommandHandlerTest {
 
         when(paymentRepository.findById(any(PaymentId.class)))
                 .thenReturn(Optional.of(payment));
-        when(acquirerPort.voidAuthorization(any()))
+        when(acquirerPort.voidAuthorization(any(), any()))
                 .thenReturn(AcquirerPort.VoidResponse.success());
         when(paymentRepository.save(any(Payment.class))).thenAnswer(i -> i.getArgument(0));
 
@@ -80,9 +80,8 @@ class VoidPaymentCommandHandlerTest {
         assertEquals("Payment voided", result.message());
         assertEquals(paymentId, result.paymentId());
 
-        ArgumentCaptor<Payment> paymentCaptor = ArgumentCaptor.forClass(Payment.class);
-        verify(paymentRepository).save(paymentCaptor.capture());
-        assertEquals("VOIDED", paymentCaptor.getValue().getStatus().name());
+        verify(paymentRepository, times(2)).save(payment);
+        assertEquals(PaymentStatus.VOIDED, payment.getStatus());
     }
 
     @Test
@@ -94,7 +93,7 @@ class VoidPaymentCommandHandlerTest {
 
         when(paymentRepository.findById(any(PaymentId.class)))
                 .thenReturn(Optional.of(payment));
-        when(acquirerPort.voidAuthorization(any()))
+        when(acquirerPort.voidAuthorization(any(), any()))
                 .thenReturn(AcquirerPort.VoidResponse.failure("Void failed"));
 
         VoidPaymentCommand command = new VoidPaymentCommand(paymentId);
@@ -105,6 +104,49 @@ class VoidPaymentCommandHandlerTest {
         // Assert
         assertFalse(result.voided());
         assertEquals("Void failed", result.message());
+        verify(paymentRepository, times(1)).save(payment);
+        assertEquals(PaymentStatus.VOIDING, payment.getStatus());
+    }
+
+    @Test
+    @DisplayName("請款結果未知的 CAPTURING 付款應可作廢，收單行失敗時保留 VOIDING")
+    void execute_capturingPayment_shouldRecordVoidRequestBeforeCallingAcquirer() {
+        // Arrange
+        Payment payment = createAuthorizedPayment("PAY-001");
+        payment.beginCapture();
+        when(paymentRepository.findById(any(PaymentId.class))).thenReturn(Optional.of(payment));
+        when(acquirerPort.voidAuthorization(any(), any())).thenThrow(new IllegalStateException("Acquirer timeout"));
+
+        // Act
+        VoidPaymentUseCase.VoidResult result = handler.execute(new VoidPaymentCommand("PAY-001"));
+
+        // Assert
+        assertFalse(result.voided());
+        assertEquals(PaymentStatus.VOIDING, payment.getStatus());
+        verify(paymentRepository, times(1)).save(payment);
+    }
+
+    @Test
+    @DisplayName("已作廢或未授權的付款應直接回報成功，已請款的付款不可作廢，皆不呼叫收單行")
+    void execute_finishedPayment_shouldNotCallAcquirer() {
+        // Arrange
+        Payment voided = createAuthorizedPayment("PAY-001");
+        voided.voidPayment();
+        Payment declined = Payment.create("ORD-002", Money.of(new BigDecimal("999.99"), "TWD"), "4000111122223333", "12/26");
+        declined.failAuthorization("Insufficient funds");
+        Payment captured = createAuthorizedPayment("PAY-003");
+        captured.beginCapture();
+        captured.capture();
+        when(paymentRepository.findById(any(PaymentId.class)))
+                .thenReturn(Optional.of(voided))
+                .thenReturn(Optional.of(declined))
+                .thenReturn(Optional.of(captured));
+
+        // Act & Assert
+        assertTrue(handler.execute(new VoidPaymentCommand("PAY-001")).voided());
+        assertTrue(handler.execute(new VoidPaymentCommand("PAY-002")).voided());
+        assertFalse(handler.execute(new VoidPaymentCommand("PAY-003")).voided());
+        verifyNoInteractions(acquirerPort);
         verify(paymentRepository, never()).save(any());
     }
 
@@ -130,7 +172,7 @@ class VoidPaymentCommandHandlerTest {
 
         when(paymentRepository.findById(any(PaymentId.class)))
                 .thenReturn(Optional.of(payment));
-        when(acquirerPort.voidAuthorization(any()))
+        when(acquirerPort.voidAuthorization(any(), any()))
                 .thenReturn(AcquirerPort.VoidResponse.success());
         when(paymentRepository.save(any(Payment.class))).thenAnswer(i -> i.getArgument(0));
 
@@ -140,6 +182,6 @@ class VoidPaymentCommandHandlerTest {
         handler.execute(command);
 
         // Assert
-        verify(acquirerPort).voidAuthorization(eq("AUTH-123"));
+        verify(acquirerPort).voidAuthorization(eq("PAY-001"), eq("AUTH-123"));
     }
 }
@@ -2,6 +2,8 @@ package com.example.payment.domain.model.aggregate;
 
 import com.example.payment.domain.event.PaymentAuthorized;
 import com.example.payment.domain.event.PaymentCaptured;
+import com.example.payment.domain.event.PaymentManualReviewRequired;
+import com.example.payment.domain.event.PaymentSettlementFailed;
 import com.example.payment.domain.event.PaymentVoided;
 import com.example.payment.domain.exception.PaymentDomainException;
 import com.example.payment.domain.model.valueobject.Money;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -79,6 +82,7 @@ class PaymentTest {
         Money money = Money.of(new BigDecimal("35900"), "TWD");
         Payment payment = Payment.create("ORD-123", money, "4111111111111111", "12/26");
         payment.authorize("AUTH-CODE-123");
+        payment.beginCapture();
 
         payment.capture();
 
@@ -91,6 +95,7 @@ class PaymentTest {
         Money money = Money.of(new BigDecimal("35900"), "TWD");
         Payment payment = Payment.create("ORD-123", money, "4111111111111111", "12/26");
         payment.authorize("AUTH-CODE-123");
+        payment.beginCapture();
         payment.clearDomainEvents();
 
         payment.capture();
@@ -105,21 +110,95 @@ class PaymentTest {
         Money money = Money.of(new BigDecimal("35900"), "TWD");
         Payment payment = Payment.create("ORD-123", money, "4111111111111111", "12/26");
 
+        assertThrows(PaymentDomainException.class, payment::beginCapture);
         assertThrows(PaymentDomainException.class, payment::capture);
     }
 
     @Test
-    @DisplayName("請款失敗應保持 AUTHORIZED 狀態")
-    void failCapture_shouldStayInAuthorizedState() {
+    @DisplayName("開始請款應轉換狀態為 CAPTURING，且不可重複開始")
+    void beginCapture_shouldTransitionToCapturingOnce() {
         Money money = Money.of(new BigDecimal("35900"), "TWD");
         Payment payment = Payment.create("ORD-123", money, "4111111111111111", "12/26");
         payment.authorize("AUTH-CODE-123");
 
+        payment.beginCapture();
+
+        assertEquals(PaymentStatus.CAPTURING, payment.getStatus());
+        assertThrows(PaymentDomainException.class, payment::beginCapture);
+    }
+
+    @Test
+    @DisplayName("請款失敗應回到 AUTHORIZED 狀態")
+    void failCapture_shouldReturnToAuthorizedState() {
+        Money money = Money.of(new BigDecimal("35900"), "TWD");
+        Payment payment = Payment.create("ORD-123", money, "4111111111111111", "12/26");
+        payment.authorize("AUTH-CODE-123");
+        payment.beginCapture();
+
         payment.failCapture("Capture error");
 
         assertEquals(PaymentStatus.AUTHORIZED, payment.getStatus());
     }
 
+    @Test
+    @DisplayName("結算失敗應轉為 SETTLEMENT_FAILED 並只在首次失敗產生事件")
+    void failSettlement_shouldKeepPaymentForRetryAndRaiseEventOnce() {
+        Money money = Money.of(new BigDecimal("35900"), "TWD");
+        Payment payment = Payment.create("ORD-123", money, "4111111111111111", "12/26");
+        payment.authorize("AUTH-CODE-123");
+        payment.beginCapture();
+        payment.clearDomainEvents();
+
+        LocalDateTime retryAt = LocalDateTime.now().plusMinutes(4);
+        payment.failSettlement("Capture error", LocalDateTime.now().plusMinutes(2));
+        payment.failSettlement("Capture error", retryAt);
+
+        assertEquals(PaymentStatus.SETTLEMENT_FAILED, payment.getStatus());
+        assertEquals(2, payment.getSettlementAttempts());
+        assertEquals(retryAt, payment.getSettlementRetryAt());
+        assertEquals(1, payment.getDomainEvents().size());
+        PaymentSettlementFailed event = (PaymentSettlementFailed) payment.getDomainEvents().get(0);
+        assertEquals("ORD-123", event.orderId());
+        assertEquals("Capture error", event.reason());
+    }
+
+    @Test
+    @DisplayName("結算失敗的付款重試成功應轉為 CAPTURED")
+    void capture_afterSettlementFailed_shouldTransitionToCaptured() {
+        Money money = Money.of(new BigDecimal("35900"), "TWD");
+        Payment payment = Payment.create("ORD-123", money, "4111111111111111", "12/26");
+        payment.authorize("AUTH-CODE-123");
+        payment.beginCapture();
+        payment.failSettlement("Capture error", LocalDateTime.now());
+
+        payment.capture();
+
+        assertEquals(PaymentStatus.CAPTURED, payment.getStatus());
+        assertNull(payment.getSettlementRetryAt());
+        assertThrows(PaymentDomainException.class, () -> payment.failSettlement("late", LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("結算重試用盡應轉為 MANUAL_REVIEW 並產生事件，之後不可再請款")
+    void requireManualReview_shouldStopRetriesAndRaiseEvent() {
+        Money money = Money.of(new BigDecimal("35900"), "TWD");
+        Payment payment = Payment.create("ORD-123", money, "4111111111111111", "12/26");
+        payment.authorize("AUTH-CODE-123");
+        payment.beginCapture();
+        payment.failSettlement("Capture error", LocalDateTime.now());
+        payment.clearDomainEvents();
+
+        payment.requireManualReview("Capture error");
+
+        assertEquals(PaymentStatus.MANUAL_REVIEW, payment.getStatus());
+        assertEquals(2, payment.getSettlementAttempts());
+        assertNull(payment.getSettlementRetryAt());
+        PaymentManualReviewRequired event = (PaymentManualReviewRequired) payment.getDomainEvents().get(0);
+        assertEquals("ORD-123", event.orderId());
+        assertEquals(2, event.settlementAttempts());
+        assertThrows(PaymentDomainException.class, payment::capture);
+    }
+
     @Test
     @DisplayName("取消授權應轉換狀態為 VOIDED")
     void voidPayment_shouldTransitionToVoided() {
@@ -155,4 +234,45 @@ class PaymentTest {
 
         assertThrows(PaymentDomainException.class, payment::voidPayment);
     }
+
+    @Test
+    @DisplayName("請款中的付款要求作廢應轉為 VOIDING，之後可作廢但不可請款")
+    void requestVoid_fromCapturing_shouldBlockCaptureAndAllowVoid() {
+        Money money = Money.of(new BigDecimal("35900"), "TWD");
+        Payment payment = Payment.create("ORD-123", money, "4111111111111111", "12/26");
+        payment.authorize("AUTH-CODE-123");
+        payment.beginCapture();
+
+        payment.requestVoid();
+        payment.requestVoid();
+
+        assertEquals(PaymentStatus.VOIDING, payment.getStatus());
+        assertThrows(PaymentDomainException.class, payment::capture);
+        payment.voidPayment();
+        assertEquals(PaymentStatus.VOIDED, payment.getStatus());
+    }
+
+    @Test
+    @DisplayName("已請款的付款不可要求作廢")
+    void requestVoid_fromCaptured_shouldFail() {
+        Money money = Money.of(new BigDecimal("35900"), "TWD");
+        Payment payment = Payment.create("ORD-123", money, "4111111111111111", "12/26");
+        payment.authorize("AUTH-CODE-123");
+        payment.beginCapture();
+        payment.capture();
+
+        assertThrows(PaymentDomainException.class, payment::requestVoid);
+    }
+
+    @Test
+    @DisplayName("新付款版本應為 0，儲存後記錄版本")
+    void markPersisted_shouldRecordVersion() {
+        Money money = Money.of(new BigDecimal("35900"), "TWD");
+        Payment payment = Payment.create("ORD-123", money, "4111111111111111", "12/26");
+        assertEquals(0, payment.getVersion());
+
+        payment.markPersisted(1);
+
+        assertEquals(1, payment.getVersion());
+    }
 }
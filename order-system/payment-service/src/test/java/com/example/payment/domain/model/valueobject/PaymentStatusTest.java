@@ -39,9 +39,33 @@ class PaymentStatusTest {
     }
 
     @Test
-    @DisplayName("應有五種狀態")
-    void shouldHaveFiveStatuses() {
-        assertEquals(5, PaymentStatus.values().length);
+    @DisplayName("應有 CAPTURING 狀態")
+    void shouldHaveCapturingStatus() {
+        assertEquals("CAPTURING", PaymentStatus.CAPTURING.name());
+    }
+
+    @Test
+    @DisplayName("應有 SETTLEMENT_FAILED 狀態")
+    void shouldHaveSettlementFailedStatus() {
+        assertEquals("SETTLEMENT_FAILED", PaymentStatus.SETTLEMENT_FAILED.name());
+    }
+
+    @Test
+    @DisplayName("應有 VOIDING 狀態")
+    void shouldHaveVoidingStatus() {
+        assertEquals("VOIDING", PaymentStatus.VOIDING.name());
+    }
+
+    @Test
+    @DisplayName("應有 MANUAL_REVIEW 狀態")
+    void shouldHaveManualReviewStatus() {
+        assertEquals("MANUAL_REVIEW", PaymentStatus.MANUAL_REVIEW.name());
+    }
+
+    @Test
+    @DisplayName("應有九種狀態")
+    void shouldHaveNineStatuses() {
+        assertEquals(9, PaymentStatus.values().length);
     }
 
     @Test
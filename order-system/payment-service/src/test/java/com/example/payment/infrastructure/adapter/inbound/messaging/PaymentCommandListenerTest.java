@@ -0,0 +1,113 @@
+package com.example.payment.infrastructure.adapter.inbound.messaging;
+
+import com.example.common.messaging.BrokerMessage;
+import com.example.common.messaging.MessageBroker;
+import com.example.payment.application.command.AuthorizePaymentCommand;
+import com.example.payment.application.command.CapturePaymentCommand;
+import com.example.payment.application.port.inbound.AuthorizePaymentUseCase;
+import com.example.payment.application.port.inbound.CapturePaymentUseCase;
+import com.example.payment.application.port.inbound.VoidPaymentUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentCommandListener 測試")
+class PaymentCommandListenerTest {
+
+    @Mock
+    private MessageBroker messageBroker;
+    @Mock
+    private AuthorizePaymentUseCase authorizePaymentUseCase;
+    @Mock
+    private CapturePaymentUseCase capturePaymentUseCase;
+    @Mock
+    private VoidPaymentUseCase voidPaymentUseCase;
+
+    private PaymentCommandListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new PaymentCommandListener(messageBroker, new ObjectMapper(),
+                authorizePaymentUseCase, capturePaymentUseCase, voidPaymentUseCase, "payment.commands");
+    }
+
+    @Test
+    @DisplayName("啟動時應訂閱付款命令佇列")
+    void subscribe_shouldListenOnCommandDestination() {
+        // Act
+        listener.subscribe();
+
+        // Assert
+        verify(messageBroker).subscribe(eq("payment.commands"), any());
+    }
+
+    @Test
+    @DisplayName("授權命令應執行授權並以相同關聯鍵回覆")
+    void onCommand_authorize_shouldReplyWithCorrelationId() {
+        // Arrange
+        when(authorizePaymentUseCase.execute(any(AuthorizePaymentCommand.class)))
+                .thenReturn(new AuthorizePaymentUseCase.AuthorizeResult("PAY-001", true, "Payment authorized"));
+        BrokerMessage command = BrokerMessage.command("ORD-00000001:AuthorizePayment", "AuthorizePayment",
+                "order.saga.replies", """
+                        {"orderId":"ORD-00000001","amount":35900,"currency":"TWD",
+                         "cardNumber":"4111111111111111","expiryDate":"12/28","cvv":"123"}
+                        """);
+
+        // Act
+        listener.onCommand(command);
+
+        // Assert
+        BrokerMessage reply = sentReply();
+        assertEquals("ORD-00000001:AuthorizePayment", reply.correlationId());
+        assertEquals("AuthorizePaymentReply", reply.type());
+        assertTrue(reply.payload().contains("\"authorized\":true"));
+        assertTrue(reply.payload().contains("\"paymentId\":\"PAY-001\""));
+    }
+
+    @Test
+    @DisplayName("請款命令應執行請款")
+    void onCommand_capture_shouldCapturePayment() {
+        // Arrange
+        when(capturePaymentUseCase.execute(new CapturePaymentCommand("PAY-001")))
+                .thenReturn(new CapturePaymentUseCase.CaptureResult("PAY-001", true, "Payment captured"));
+
+        // Act
+        listener.onCommand(BrokerMessage.command("ORD-00000001:CapturePayment", "CapturePayment",
+                "order.saga.replies", "{\"paymentId\":\"PAY-001\"}"));
+
+        // Assert
+        assertTrue(sentReply().payload().contains("\"captured\":true"));
+    }
+
+    @Test
+    @DisplayName("命令執行失敗應回覆失敗結果")
+    void onCommand_useCaseThrows_shouldReplyFailure() {
+        // Arrange
+        when(voidPaymentUseCase.execute(any())).thenThrow(new IllegalArgumentException("Payment not found"));
+
+        // Act
+        listener.onCommand(BrokerMessage.command("ORD-00000001:VoidPayment", "VoidPayment",
+                "order.saga.replies", "{\"paymentId\":\"PAY-404\"}"));
+
+        // Assert
+        BrokerMessage reply = sentReply();
+        assertTrue(reply.payload().contains("\"voided\":false"));
+        assertTrue(reply.payload().contains("Payment not found"));
+    }
+
+    private BrokerMessage sentReply() {
+        ArgumentCaptor<BrokerMessage> captor = ArgumentCaptor.forClass(BrokerMessage.class);
+        verify(messageBroker).send(eq("order.saga.replies"), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.payment.infrastructure.adapter.inbound.rest;
+
+import com.example.payment.infrastructure.adapter.outbound.external.AcquirerSimulationSettings;
+import com.example.payment.infrastructure.adapter.outbound.external.AcquirerSimulationSettings.Operation;
+import com.example.payment.infrastructure.adapter.outbound.external.AcquirerSimulator;
+import com.example.payment.infrastructure.adapter.outbound.external.FaultModel;
+import com.example.payment.infrastructure.adapter.outbound.external.LatencyModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("AcquirerSimulationController 測試")
+class AcquirerSimulationControllerTest {
+
+    private static final String SETTINGS_JSON = """
+            {"latency":{"distribution":"BIMODAL","base":"PT0.02S","max":"PT10S",
+                        "sigma":0.3,"spikeRate":0.02,"spike":"PT1.5S"},
+             "faults":{"AUTHORIZE":{"errorRate":0.05,"timeoutRate":0.01}},
+             "timeout":"PT5S",
+             "maxConcurrentCalls":64}
+            """;
+
+    private AcquirerSimulator simulator;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        simulator = new AcquirerSimulator(new AcquirerSimulationSettings(
+                LatencyModel.constant(Duration.ofMillis(50)), Map.of(), Duration.ofSeconds(10), 0),
+                new SimpleMeterRegistry());
+        mockMvc = MockMvcBuilders.standaloneSetup(new AcquirerSimulationController(simulator))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("查詢應返回目前設定，含所有操作的故障率")
+    void get_shouldReturnCurrentSettings() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/acquirer-simulation"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.latency.distribution").value("CONSTANT"))
+                .andExpect(jsonPath("$.faults.CAPTURE_BATCH.errorRate").value(0.0))
+                .andExpect(jsonPath("$.maxConcurrentCalls").value(0));
+    }
+
+    @Test
+    @DisplayName("更新設定應立即套用至模擬器")
+    void put_shouldReplaceSettings() throws Exception {
+        // Act
+        mockMvc.perform(put("/api/v1/admin/acquirer-simulation")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(SETTINGS_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.latency.distribution").value("BIMODAL"))
+                .andExpect(jsonPath("$.faults.VOID.timeoutRate").value(0.0));
+
+        // Assert
+        AcquirerSimulationSettings settings = simulator.settings();
+        assertEquals(Duration.ofMillis(1500), settings.latency().spike());
+        assertEquals(new FaultModel(0.05, 0.01), settings.faultsFor(Operation.AUTHORIZE));
+        assertEquals(64, settings.maxConcurrentCalls());
+    }
+
+    @Test
+    @DisplayName("無效的設定應返回 400 且不變更模擬器")
+    void put_invalidSettings_shouldReturn400() throws Exception {
+        mockMvc.perform(put("/api/v1/admin/acquirer-simulation")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(SETTINGS_JSON.replace("\"errorRate\":0.05", "\"errorRate\":1.5")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("BAD_REQUEST"));
+
+        assertEquals(LatencyModel.Distribution.CONSTANT, simulator.settings().latency().distribution());
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.payment.infrastructure.adapter.inbound.rest;
 
+import com.example.payment.application.exception.AuthorizationInProgressException;
+import com.example.payment.application.exception.AuthorizationMismatchException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import java.util.Map;
@@ -45,6 +49,39 @@ class GlobalExceptionHandlerTest {
         assertEquals("Invalid parameter", response.getBody().get("message"));
     }
 
+    @Test
+    @DisplayName("無法解析的請求內容應返回 400")
+    void handleUnreadableBody_shouldReturn400() {
+        HttpMessageNotReadableException ex = new HttpMessageNotReadableException(
+                "JSON parse error", new IllegalArgumentException("Fault rates must be >= 0"),
+                mock(HttpInputMessage.class));
+
+        ResponseEntity<Map<String, Object>> response = handler.handleUnreadableBody(ex);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Fault rates must be >= 0", response.getBody().get("message"));
+    }
+
+    @Test
+    @DisplayName("授權仍在處理中應返回 409")
+    void handleAuthorizationInProgress_shouldReturn409() {
+        ResponseEntity<Map<String, Object>> response =
+                handler.handleAuthorizationInProgress(new AuthorizationInProgressException("ORD-001"));
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("CONFLICT", response.getBody().get("error"));
+    }
+
+    @Test
+    @DisplayName("重送授權與既有付款不符應返回 409")
+    void handleAuthorizationMismatch_shouldReturn409() {
+        ResponseEntity<Map<String, Object>> response =
+                handler.handleAuthorizationMismatch(new AuthorizationMismatchException("ORD-001"));
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertTrue(response.getBody().get("message").toString().contains("ORD-001"));
+    }
+
     @Test
     @DisplayName("處理一般錯誤應返回 500")
     void handleGenericError_shouldReturn500() {
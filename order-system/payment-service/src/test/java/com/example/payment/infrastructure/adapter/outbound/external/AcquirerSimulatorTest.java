@@ -0,0 +1,135 @@
+package com.example.payment.infrastructure.adapter.outbound.external;
+
+import com.example.payment.infrastructure.adapter.outbound.external.AcquirerSimulationSettings.Operation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AcquirerSimulator 測試")
+class AcquirerSimulatorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("無故障設定時呼叫應成功並計數")
+    void call_withoutFaults_shouldSucceed() {
+        AcquirerSimulator simulator = simulator(Map.of(), Duration.ZERO, 0);
+
+        simulator.call(Operation.AUTHORIZE);
+
+        assertEquals(1.0, calls(Operation.AUTHORIZE, "ok"));
+        assertEquals(0, simulator.inFlight());
+    }
+
+    @Test
+    @DisplayName("錯誤率應只影響所設定的操作")
+    void call_withErrorRate_shouldFailOnlyConfiguredOperation() {
+        AcquirerSimulator simulator = simulator(
+                Map.of(Operation.CAPTURE, new FaultModel(1.0, 0)), Duration.ZERO, 0);
+
+        assertThrows(SimulatedAcquirerException.class, () -> simulator.call(Operation.CAPTURE));
+        simulator.call(Operation.AUTHORIZE);
+
+        assertEquals(1.0, calls(Operation.CAPTURE, "error"));
+        assertEquals(1.0, calls(Operation.AUTHORIZE, "ok"));
+    }
+
+    @Test
+    @DisplayName("逾時應等待 timeout 後拋出例外")
+    void call_withTimeoutRate_shouldHangThenThrow() {
+        // Arrange
+        AcquirerSimulator simulator = simulator(
+                Map.of(Operation.VOID, new FaultModel(0, 1.0)), Duration.ofMillis(30), 0);
+
+        // Act
+        long start = System.nanoTime();
+        SimulatedAcquirerException ex = assertThrows(SimulatedAcquirerException.class,
+                () -> simulator.call(Operation.VOID));
+
+        // Assert
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(30).toNanos());
+        assertTrue(ex.getMessage().contains("timed out"));
+        assertEquals(1.0, calls(Operation.VOID, "timeout"));
+    }
+
+    @Test
+    @DisplayName("同時呼叫數超過上限應被節流")
+    void call_overConcurrencyCap_shouldBeThrottled() throws Exception {
+        // Arrange
+        AcquirerSimulator simulator = new AcquirerSimulator(new AcquirerSimulationSettings(
+                LatencyModel.constant(Duration.ofMillis(500)), Map.of(), Duration.ZERO, 1), meterRegistry);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+
+        try {
+            // Act
+            Future<?> slowCall = executor.submit(() -> {
+                started.countDown();
+                simulator.call(Operation.AUTHORIZE);
+            });
+            started.await(1, TimeUnit.SECONDS);
+            while (simulator.inFlight() == 0) {
+                Thread.onSpinWait();
+            }
+            SimulatedAcquirerException ex = assertThrows(SimulatedAcquirerException.class,
+                    () -> simulator.call(Operation.AUTHORIZE));
+            slowCall.get(2, TimeUnit.SECONDS);
+
+            // Assert
+            assertTrue(ex.getMessage().contains("throttled"));
+            assertEquals(1.0, calls(Operation.AUTHORIZE, "throttled"));
+            assertEquals(0, simulator.inFlight());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("更新設定後應套用至之後的呼叫")
+    void update_shouldApplyToLaterCalls() {
+        AcquirerSimulator simulator = simulator(Map.of(), Duration.ZERO, 0);
+
+        simulator.update(new AcquirerSimulationSettings(LatencyModel.constant(Duration.ZERO),
+                Map.of(Operation.LOOKUP, new FaultModel(1.0, 0)), Duration.ZERO, 0));
+
+        assertThrows(SimulatedAcquirerException.class, () -> simulator.call(Operation.LOOKUP));
+        assertEquals(FaultModel.NONE, simulator.settings().faultsFor(Operation.AUTHORIZE));
+    }
+
+    @Test
+    @DisplayName("無效的故障率或上限應拋出例外")
+    void settings_invalidValues_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new FaultModel(0.6, 0.6));
+        assertThrows(IllegalArgumentException.class, () -> new FaultModel(-0.1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AcquirerSimulationSettings(
+                LatencyModel.constant(Duration.ZERO), Map.of(), Duration.ZERO, -1));
+    }
+
+    private AcquirerSimulator simulator(Map<Operation, FaultModel> faults, Duration timeout, int maxConcurrentCalls) {
+        return new AcquirerSimulator(new AcquirerSimulationSettings(
+                LatencyModel.constant(Duration.ZERO), faults, timeout, maxConcurrentCalls), meterRegistry);
+    }
+
+    private double calls(Operation operation, String outcome) {
+        return meterRegistry.get(AcquirerSimulator.CALLS_METRIC)
+                .tag("operation", operation.name())
+                .tag("outcome", outcome)
+                .counter().count();
+    }
+}
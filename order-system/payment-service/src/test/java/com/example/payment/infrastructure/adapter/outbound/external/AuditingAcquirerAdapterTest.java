@@ -0,0 +1,78 @@
+package com.example.payment.infrastructure.adapter.outbound.external;
+
+import com.example.payment.application.port.outbound.AcquirerPort;
+import com.example.payment.infrastructure.adapter.outbound.persistence.PaymentTransactionAuditQueue;
+import com.example.payment.infrastructure.adapter.outbound.persistence.PaymentTransactionRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditingAcquirerAdapter 測試")
+class AuditingAcquirerAdapterTest {
+
+    @Mock
+    private MockAcquirerAdapter delegate;
+
+    @Mock
+    private PaymentTransactionAuditQueue auditQueue;
+
+    private AuditingAcquirerAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new AuditingAcquirerAdapter(delegate, auditQueue);
+    }
+
+    @Test
+    @DisplayName("授權應記錄稽核紀錄，且不包含完整卡號與 CVV")
+    void authorize_shouldRecordAuditWithoutCardSecrets() {
+        // Arrange
+        AcquirerPort.AuthorizationResponse approved = AcquirerPort.AuthorizationResponse.approved("AUTH-123");
+        when(delegate.authorize("PAY-001", new BigDecimal("999.99"), "TWD", "4111111111111111", "12/26", "123"))
+                .thenReturn(approved);
+
+        // Act
+        AcquirerPort.AuthorizationResponse response = adapter.authorize(
+                "PAY-001", new BigDecimal("999.99"), "TWD", "4111111111111111", "12/26", "123");
+
+        // Assert
+        assertSame(approved, response);
+        ArgumentCaptor<PaymentTransactionRecord> captor = ArgumentCaptor.forClass(PaymentTransactionRecord.class);
+        verify(auditQueue).record(captor.capture());
+        PaymentTransactionRecord record = captor.getValue();
+        assertEquals("PAY-001", record.paymentId());
+        assertEquals(AuditingAcquirerAdapter.AUTHORIZE, record.transactionType());
+        assertEquals("APPROVED", record.status());
+        assertEquals("1111", record.request().get("cardLastFour"));
+        assertFalse(record.request().toString().contains("4111111111111111"));
+        assertFalse(record.request().containsValue("123"));
+        assertSame(approved, record.response().get("result"));
+    }
+
+    @Test
+    @DisplayName("收單行拋出例外時應記錄 ERROR 並重新拋出")
+    void capture_acquirerThrows_shouldRecordErrorAndRethrow() {
+        // Arrange
+        when(delegate.capture("PAY-001", "AUTH-123", new BigDecimal("999.99")))
+                .thenThrow(new IllegalStateException("Acquirer timeout"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> adapter.capture("PAY-001", "AUTH-123", new BigDecimal("999.99")));
+        ArgumentCaptor<PaymentTransactionRecord> captor = ArgumentCaptor.forClass(PaymentTransactionRecord.class);
+        verify(auditQueue).record(captor.capture());
+        assertEquals(AuditingAcquirerAdapter.CAPTURE, captor.getValue().transactionType());
+        assertEquals("ERROR", captor.getValue().status());
+        assertEquals("Acquirer timeout", captor.getValue().response().get("error"));
+    }
+}
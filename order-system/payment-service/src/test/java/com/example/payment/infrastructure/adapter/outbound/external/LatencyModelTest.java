@@ -0,0 +1,89 @@
+package com.example.payment.infrastructure.adapter.outbound.external;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LatencyModel 測試")
+class LatencyModelTest {
+
+    private static final int SAMPLES = 10_000;
+
+    @Test
+    @DisplayName("固定延遲應每次相同")
+    void sample_constant_shouldAlwaysReturnBase() {
+        LatencyModel model = LatencyModel.constant(Duration.ofMillis(50));
+
+        assertEquals(Duration.ofMillis(50), model.sample(new Random(1)));
+        assertEquals(Duration.ofMillis(50), model.sample(new Random(2)));
+    }
+
+    @Test
+    @DisplayName("均勻分布應落在 base 與 max 之間")
+    void sample_uniform_shouldStayWithinBounds() {
+        LatencyModel model = new LatencyModel(LatencyModel.Distribution.UNIFORM,
+                Duration.ofMillis(10), Duration.ofMillis(30), 0, 0, Duration.ZERO);
+
+        long[] millis = samples(model);
+
+        assertTrue(Arrays.stream(millis).allMatch(ms -> ms >= 10 && ms <= 30));
+        assertEquals(20, Arrays.stream(millis).average().orElseThrow(), 1);
+    }
+
+    @Test
+    @DisplayName("對數常態分布的中位數應接近 base 且不超過 max")
+    void sample_logNormal_shouldHaveMedianBaseAndBeCapped() {
+        LatencyModel model = new LatencyModel(LatencyModel.Distribution.LOG_NORMAL,
+                Duration.ofMillis(100), Duration.ofMillis(400), 1.0, 0, Duration.ZERO);
+
+        long[] millis = samples(model);
+
+        assertEquals(100, percentile(millis, 0.5), 5);
+        assertEquals(400, Arrays.stream(millis).max().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("雙峰分布應有依 spikeRate 比例出現的尾端尖峰")
+    void sample_bimodal_shouldProduceTailSpikesAtSpikeRate() {
+        // Arrange
+        LatencyModel model = new LatencyModel(LatencyModel.Distribution.BIMODAL,
+                Duration.ofMillis(20), Duration.ofSeconds(10), 0.1, 0.05, Duration.ofSeconds(1));
+
+        // Act
+        long[] millis = samples(model);
+
+        // Assert
+        double spikeShare = Arrays.stream(millis).filter(ms -> ms > 500).count() / (double) SAMPLES;
+        assertEquals(0.05, spikeShare, 0.01);
+        assertEquals(20, percentile(millis, 0.5), 2);
+        assertTrue(percentile(millis, 0.99) > 500);
+    }
+
+    @Test
+    @DisplayName("無效的延遲設定應拋出例外")
+    void constructor_invalidSettings_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyModel(LatencyModel.Distribution.UNIFORM,
+                Duration.ofMillis(30), Duration.ofMillis(10), 0, 0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyModel(LatencyModel.Distribution.BIMODAL,
+                Duration.ofMillis(10), Duration.ofMillis(30), 0.5, 1.5, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyModel(null,
+                Duration.ofMillis(10), Duration.ofMillis(30), 0, 0, Duration.ZERO));
+    }
+
+    private static long[] samples(LatencyModel model) {
+        Random random = new Random(42);
+        return IntStream.range(0, SAMPLES).mapToLong(i -> model.sample(random).toMillis()).toArray();
+    }
+
+    private static long percentile(long[] values, double quantile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) (quantile * (sorted.length - 1))];
+    }
+}
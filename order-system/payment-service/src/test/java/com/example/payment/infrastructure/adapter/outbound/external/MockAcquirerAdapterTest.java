@@ -0,0 +1,53 @@
+package com.example.payment.infrastructure.adapter.outbound.external;
+
+import com.example.payment.application.port.outbound.AcquirerPort.AuthorizationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MockAcquirerAdapter 測試")
+class MockAcquirerAdapterTest {
+
+    @Test
+    @DisplayName("保留期間內應可依參考編號查到授權結果")
+    void findAuthorization_withinTtl_shouldReturnRecordedOutcome() {
+        // Arrange
+        MockAcquirerAdapter adapter = adapter(Duration.ofHours(1));
+        AuthorizationResponse authorized = adapter.authorize(
+                "PAY-001", new BigDecimal("35900"), "TWD", "4111111111111111", "12/26", "123");
+
+        // Act
+        AuthorizationResponse found = adapter.findAuthorization("PAY-001");
+
+        // Assert
+        assertTrue(found.approved());
+        assertEquals(authorized.authorizationCode(), found.authorizationCode());
+    }
+
+    @Test
+    @DisplayName("授權結果逾期後應視為查無授權")
+    void findAuthorization_afterTtl_shouldReportNotFound() {
+        // Arrange
+        MockAcquirerAdapter adapter = adapter(Duration.ZERO);
+        adapter.authorize("PAY-002", new BigDecimal("35900"), "TWD", "4111111111111111", "12/26", "123");
+
+        // Act
+        AuthorizationResponse found = adapter.findAuthorization("PAY-002");
+
+        // Assert
+        assertFalse(found.approved());
+    }
+
+    private static MockAcquirerAdapter adapter(Duration ttl) {
+        AcquirerSimulator simulator = new AcquirerSimulator(new AcquirerSimulationSettings(
+                LatencyModel.constant(Duration.ZERO), Map.of(), Duration.ofSeconds(10), 0),
+                new SimpleMeterRegistry());
+        return new MockAcquirerAdapter(simulator, 100, ttl);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.payment.infrastructure.adapter.outbound.memory;
+
+import com.example.payment.application.port.inbound.AuthorizePaymentUseCase.AuthorizeResult;
+import com.example.payment.application.port.outbound.PriorAuthorizationCache.PriorAuthorization;
+import com.example.payment.domain.model.valueobject.CardInfo;
+import com.example.payment.domain.model.valueobject.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CaffeinePriorAuthorizationCache 測試")
+class CaffeinePriorAuthorizationCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CaffeinePriorAuthorizationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CaffeinePriorAuthorizationCache(meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("資料庫查得的結果應快取，重試時不再呼叫 loader")
+    void find_loadedResult_shouldBeCachedForRetries() {
+        // Arrange
+        PriorAuthorization result = prior(new AuthorizeResult("PAY-001", true, "Payment authorized"));
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        cache.find("ORD-001", orderId -> {
+            loads.incrementAndGet();
+            return Optional.of(result);
+        });
+        Optional<PriorAuthorization> retried = cache.find("ORD-001", orderId -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // Assert
+        assertEquals(Optional.of(result), retried);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, lookups("db_hit"));
+        assertEquals(1.0, lookups("cache_hit"));
+    }
+
+    @Test
+    @DisplayName("新訂單應計為 miss，記錄後可直接命中")
+    void find_newOrder_shouldMissUntilRemembered() {
+        PriorAuthorization result = prior(new AuthorizeResult("PAY-002", false, "Insufficient funds"));
+
+        assertTrue(cache.find("ORD-002", orderId -> Optional.empty()).isEmpty());
+        cache.remember("ORD-002", result);
+
+        assertEquals(Optional.of(result), cache.find("ORD-002", orderId -> Optional.empty()));
+        assertEquals(1.0, lookups("miss"));
+    }
+
+    private static PriorAuthorization prior(AuthorizeResult result) {
+        return new PriorAuthorization(result, Money.of(new BigDecimal("999.99"), "TWD"), CardInfo.of("1111", "12/26"));
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get(CaffeinePriorAuthorizationCache.LOOKUP_METRIC).tag("result", result).counter().count();
+    }
+}
@@ -37,6 +37,7 @@ class PaymentMapperTest {
         assertEquals("PENDING", entity.getStatus());
         assertNotNull(entity.getCreatedAt());
         assertNotNull(entity.getUpdatedAt());
+        assertEquals(1L, entity.getVersion());
     }
 
     @Test
@@ -51,6 +52,7 @@ class PaymentMapperTest {
         entity.setStatus("PENDING");
         entity.setCreatedAt(LocalDateTime.now());
         entity.setUpdatedAt(LocalDateTime.now());
+        entity.setVersion(2L);
 
         Payment payment = mapper.toDomain(entity);
 
@@ -59,35 +61,6 @@ class PaymentMapperTest {
         assertEquals(new BigDecimal("35900"), payment.getMoney().amount());
         assertEquals("TWD", payment.getMoney().currency());
         assertEquals(PaymentStatus.PENDING, payment.getStatus());
-    }
-
-    @Test
-    @DisplayName("updateEntity 應正確更新 Entity")
-    void updateEntity_shouldUpdateEntityFromPayment() {
-        PaymentJpaEntity entity = new PaymentJpaEntity();
-        entity.setPaymentId("PAY-001");
-        entity.setOrderId("ORD-001");
-        entity.setAmount(new BigDecimal("35900"));
-        entity.setCurrency("TWD");
-        entity.setCardLastFour("1111");
-        entity.setStatus("PENDING");
-        entity.setCreatedAt(LocalDateTime.now());
-        entity.setUpdatedAt(LocalDateTime.now());
-
-        Payment payment = Payment.reconstitute(
-                PaymentId.of("PAY-001"),
-                "ORD-001",
-                Money.of(new BigDecimal("35900"), "TWD"),
-                CardInfo.of("1111", "12/26"),
-                PaymentStatus.AUTHORIZED,
-                "AUTH-123",
-                LocalDateTime.now(),
-                LocalDateTime.now()
-        );
-
-        mapper.updateEntity(entity, payment);
-
-        assertEquals("AUTHORIZED", entity.getStatus());
-        assertEquals("AUTH-123", entity.getAuthorizationCode());
+        assertEquals(2L, payment.getVersion());
     }
 }
@@ -0,0 +1,130 @@
+package com.example.payment.infrastructure.adapter.outbound.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentTransactionAuditQueue 測試")
+class PaymentTransactionAuditQueueTest {
+
+    @Mock
+    private PaymentTransactionWriter writer;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("應依批次大小分批寫入佇列中的紀錄")
+    void drain_shouldWriteQueuedRecordsInBatches() {
+        // Arrange
+        PaymentTransactionAuditQueue queue = queue(10, 2, PaymentTransactionAuditQueue.OverflowPolicy.DROP);
+        for (int i = 0; i < 5; i++) {
+            queue.record(record("PAY-00" + i));
+        }
+
+        // Act
+        queue.drain();
+
+        // Assert
+        ArgumentCaptor<List<PaymentTransactionRecord>> batches = ArgumentCaptor.forClass(List.class);
+        verify(writer, times(3)).write(batches.capture());
+        assertEquals(List.of(2, 2, 1), batches.getAllValues().stream().map(List::size).toList());
+        assertEquals(0, queue.depth());
+        assertEquals(5.0, meterRegistry.get(PaymentTransactionAuditQueue.WRITTEN_METRIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("佇列已滿且策略為 DROP 時應丟棄並計數，不寫入資料庫")
+    void record_fullQueueWithDropPolicy_shouldDiscard() {
+        // Arrange
+        PaymentTransactionAuditQueue queue = queue(1, 10, PaymentTransactionAuditQueue.OverflowPolicy.DROP);
+        queue.record(record("PAY-001"));
+
+        // Act
+        queue.record(record("PAY-002"));
+
+        // Assert
+        assertEquals(1, queue.depth());
+        assertEquals(1.0, meterRegistry.get(PaymentTransactionAuditQueue.DROPPED_METRIC).counter().count());
+        assertEquals(1.0, meterRegistry.get(PaymentTransactionAuditQueue.QUEUE_DEPTH_METRIC).gauge().value());
+        verifyNoInteractions(writer);
+    }
+
+    @Test
+    @DisplayName("佇列已滿且策略為 WAIT 時應於等待逾時後丟棄")
+    void record_fullQueueWithWaitPolicy_shouldDiscardAfterTimeout() {
+        PaymentTransactionAuditQueue queue = queue(1, 10, PaymentTransactionAuditQueue.OverflowPolicy.WAIT);
+        queue.record(record("PAY-001"));
+
+        queue.record(record("PAY-002"));
+
+        assertEquals(1.0, meterRegistry.get(PaymentTransactionAuditQueue.DROPPED_METRIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("佇列已滿且策略為 CALLER_WRITES 時應由呼叫端直接寫入")
+    void record_fullQueueWithCallerWritesPolicy_shouldWriteInline() {
+        // Arrange
+        PaymentTransactionAuditQueue queue = queue(1, 10, PaymentTransactionAuditQueue.OverflowPolicy.CALLER_WRITES);
+        queue.record(record("PAY-001"));
+        PaymentTransactionRecord overflow = record("PAY-002");
+
+        // Act
+        queue.record(overflow);
+
+        // Assert
+        verify(writer).write(List.of(overflow));
+        assertEquals(1, queue.depth());
+        assertEquals(0.0, meterRegistry.get(PaymentTransactionAuditQueue.DROPPED_METRIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("批次寫入失敗應計數並丟棄，不重試")
+    void drain_writeFailure_shouldCountAndDiscardBatch() {
+        // Arrange
+        PaymentTransactionAuditQueue queue = queue(10, 10, PaymentTransactionAuditQueue.OverflowPolicy.DROP);
+        queue.record(record("PAY-001"));
+        queue.record(record("PAY-002"));
+        doThrow(new IllegalStateException("DB down")).when(writer).write(anyList());
+
+        // Act
+        queue.drain();
+        queue.drain();
+
+        // Assert
+        verify(writer, times(1)).write(anyList());
+        assertEquals(2.0, meterRegistry.get(PaymentTransactionAuditQueue.FAILED_METRIC).counter().count());
+        assertEquals(0, queue.depth());
+    }
+
+    private PaymentTransactionAuditQueue queue(int capacity, int batchSize,
+                                               PaymentTransactionAuditQueue.OverflowPolicy policy) {
+        return new PaymentTransactionAuditQueue(writer, meterRegistry, capacity, batchSize, policy,
+                Duration.ofMillis(5));
+    }
+
+    private static PaymentTransactionRecord record(String paymentId) {
+        return new PaymentTransactionRecord(paymentId, "AUTHORIZE", "APPROVED",
+                Map.of("amount", 100), Map.of("latencyMs", 50), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.payment.infrastructure.adapter.outbound.settlement;
+
+import com.example.payment.application.command.CaptureSettlementHandler;
+import com.example.payment.domain.model.valueobject.PaymentId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CaptureSettlementBatcher 測試")
+class CaptureSettlementBatcherTest {
+
+    @Mock
+    private CaptureSettlementHandler settlementHandler;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("批次達上限時應立即結束，不等待時間窗")
+    void nextBatch_fullBatch_shouldNotWaitForWindow() throws Exception {
+        // Arrange
+        CaptureSettlementBatcher batcher = batcher(3, Duration.ofSeconds(10));
+        IntStream.range(0, 5).forEach(i -> batcher.submit(PaymentId.of("PAY-00" + i)));
+
+        // Act
+        long start = System.nanoTime();
+        List<PaymentId> batch = batcher.nextBatch();
+
+        // Assert
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) < 0);
+        assertEquals(List.of(PaymentId.of("PAY-000"), PaymentId.of("PAY-001"), PaymentId.of("PAY-002")), batch);
+        assertEquals(2, batcher.depth());
+        assertEquals(2.0, meterRegistry.get(CaptureSettlementBatcher.QUEUE_DEPTH_METRIC).gauge().value());
+    }
+
+    @Test
+    @DisplayName("批次未滿時應於時間窗結束後送出已收集的付款")
+    void nextBatch_partialBatch_shouldCloseAfterWindow() throws Exception {
+        CaptureSettlementBatcher batcher = batcher(100, Duration.ofMillis(20));
+        batcher.submit(PaymentId.of("PAY-001"));
+
+        assertEquals(List.of(PaymentId.of("PAY-001")), batcher.nextBatch());
+        assertTrue(batcher.nextBatch().isEmpty());
+    }
+
+    @Test
+    @DisplayName("結算應記錄批次大小，失敗時計數而不拋出")
+    void settle_shouldRecordBatchSizeAndCountFailures() {
+        // Arrange
+        CaptureSettlementBatcher batcher = batcher(100, Duration.ofMillis(20));
+        List<PaymentId> batch = List.of(PaymentId.of("PAY-001"), PaymentId.of("PAY-002"));
+        when(settlementHandler.settle(batch))
+                .thenReturn(new CaptureSettlementHandler.SettlementResult(2, 0))
+                .thenThrow(new IllegalStateException("Acquirer down"));
+
+        // Act
+        batcher.settle(batch);
+        batcher.settle(batch);
+
+        // Assert
+        assertEquals(1, meterRegistry.get(CaptureSettlementBatcher.BATCH_SIZE_METRIC).summary().count());
+        assertEquals(2.0, meterRegistry.get(CaptureSettlementBatcher.BATCH_SIZE_METRIC).summary().totalAmount());
+        assertEquals(1.0, meterRegistry.get(CaptureSettlementBatcher.FAILED_METRIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("停止時應結算佇列中剩餘的付款")
+    void shutdown_shouldSettleRemainingCaptures() throws Exception {
+        // Arrange
+        CaptureSettlementBatcher batcher = batcher(100, Duration.ofMillis(20));
+        when(settlementHandler.settle(anyList())).thenReturn(new CaptureSettlementHandler.SettlementResult(1, 0));
+        batcher.start();
+
+        // Act
+        batcher.shutdown();
+        batcher.submit(PaymentId.of("PAY-001"));
+        batcher.shutdown();
+
+        // Assert
+        verify(settlementHandler).settle(List.of(PaymentId.of("PAY-001")));
+        assertEquals(0, batcher.depth());
+    }
+
+    private CaptureSettlementBatcher batcher(int batchSize, Duration window) {
+        return new CaptureSettlementBatcher(settlementHandler, meterRegistry, batchSize, window);
+    }
+}